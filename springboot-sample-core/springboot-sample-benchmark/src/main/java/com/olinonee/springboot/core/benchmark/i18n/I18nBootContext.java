@@ -0,0 +1,44 @@
+package com.olinonee.springboot.core.benchmark.i18n;
+
+import com.olinonee.springboot.core.internationalization.util.I18nBootUtil;
+import com.olinonee.springboot.core.internationalization.util.I18nUtil;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.MessageSource;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Collections;
+
+/**
+ * 只包含 messageSource 与 I18nBootUtil 的最小容器，I18nBootUtil 的消息来源由 backend 决定：
+ * MESSAGE_SOURCE 为与 I18nUtil 共享的消息源，CATALOG 为构建时编译的内存映射消息目录
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+public class I18nBootContext {
+
+    private static final String CATALOG_LOCATION = "classpath:i18n/messages.catalog";
+
+    @Param({"MESSAGE_SOURCE", "CATALOG"})
+    public String backend;
+
+    private AnnotationConfigApplicationContext applicationContext;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        applicationContext = new AnnotationConfigApplicationContext();
+        applicationContext.getEnvironment().getPropertySources().addFirst(new MapPropertySource("benchmark",
+                Collections.singletonMap("i18n.catalog.location", "CATALOG".equals(backend) ? CATALOG_LOCATION : "")));
+        applicationContext.registerBean("messageSource", MessageSource.class, I18nUtil::getMessageSource);
+        applicationContext.registerBean(I18nBootUtil.class);
+        applicationContext.refresh();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        applicationContext.close();
+    }
+}
@@ -0,0 +1,103 @@
+package com.olinonee.springboot.core.benchmark.i18n;
+
+import com.olinonee.springboot.core.internationalization.support.MessageKey;
+import com.olinonee.springboot.core.internationalization.util.I18nBootUtil;
+import com.olinonee.springboot.core.internationalization.util.I18nUtil;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.util.StringUtils;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 消息查找路径的对比：I18nUtil（共享消息源）与 I18nBootUtil（预编译模板缓存，字符串消息键或生成的 MessageKey），
+ * 不带参数与带参数的消息，以及不存在的消息键；语言环境与请求处理时一样通过 LocaleContextHolder 的线程变量传递，
+ * fr_FR 没有对应的资源包，走回退路径
+ * <p>
+ * 同时测量吞吐量和延迟分布（SampleTime），分配速率需要加上 GC 分析器运行：-prof gc
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class I18nLookupBenchmark {
+
+    private static final String PLAIN_KEY = "operation.success";
+    private static final String PARAMETERIZED_KEY = "start.ge.end";
+    private static final String MISSING_KEY = "no.such.key";
+
+    @Param({"zh_CN", "en_US", "zh_TW", "fr_FR"})
+    public String locale;
+
+    private Object[] params;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        // 在执行基准测试的线程中设置，与请求线程中 LocaleChangeInterceptor 设置的方式一致
+        LocaleContextHolder.setLocale(StringUtils.parseLocale(locale));
+        params = new Object[]{"20230224", "20230228"};
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        LocaleContextHolder.resetLocaleContext();
+    }
+
+    @Benchmark
+    public Locale localeContextHolder() {
+        return LocaleContextHolder.getLocale();
+    }
+
+    @Benchmark
+    public String i18nUtilPlain() {
+        return I18nUtil.get(PLAIN_KEY);
+    }
+
+    @Benchmark
+    public String i18nUtilParameterized() {
+        return I18nUtil.get(PARAMETERIZED_KEY, params);
+    }
+
+    /**
+     * 每次都会抛出并捕获 NoSuchMessageException（异常日志在 logback.xml 中关闭，只测量查找和异常的开销）
+     */
+    @Benchmark
+    public String i18nUtilMissing() {
+        return I18nUtil.get(MISSING_KEY);
+    }
+
+    @Benchmark
+    public String bootUtilPlain(I18nBootContext context) {
+        return I18nBootUtil.get(PLAIN_KEY);
+    }
+
+    @Benchmark
+    public String bootUtilParameterized(I18nBootContext context) {
+        return I18nBootUtil.get(PARAMETERIZED_KEY, params);
+    }
+
+    @Benchmark
+    public String bootUtilTypedKeyPlain(I18nBootContext context) {
+        return I18nBootUtil.get(MessageKey.OPERATION_SUCCESS);
+    }
+
+    @Benchmark
+    public String bootUtilTypedKeyParameterized(I18nBootContext context) {
+        return I18nBootUtil.get(MessageKey.START_GE_END, params);
+    }
+
+    /**
+     * 负缓存命中，只累加计数
+     */
+    @Benchmark
+    public String bootUtilMissing(I18nBootContext context) {
+        return I18nBootUtil.get(MISSING_KEY);
+    }
+}
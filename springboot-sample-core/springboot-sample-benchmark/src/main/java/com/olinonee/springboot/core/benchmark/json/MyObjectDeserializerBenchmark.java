@@ -0,0 +1,75 @@
+package com.olinonee.springboot.core.benchmark.json;
+
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.olinonee.springboot.core.json.MyJSONObjectComponent;
+import com.olinonee.springboot.core.json.MyJsonComponent;
+import com.olinonee.springboot.core.json.MyObject;
+import com.olinonee.springboot.core.json.MyStreamingJsonComponent;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MyObject 三种反序列化器的对比：MyJsonComponent（readTree）、MyJSONObjectComponent（JsonObjectDeserializer，同样构建 JsonNode 树）
+ * 与 MyStreamingJsonComponent（直接读取 token），每次分配的字节数需要加上 GC 分析器运行：-prof gc
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MyObjectDeserializerBenchmark {
+
+    private static final String KNOWN_FIELDS = "{\"name\":\"olinH\",\"age\":18}";
+
+    private static final String UNKNOWN_FIELDS = "{\"id\":1024,\"name\":\"olinH\",\"email\":\"olinone666@gmail.com\","
+            + "\"tags\":[\"java\",\"spring\",\"jackson\"],\"address\":{\"city\":\"Shenzhen\",\"zip\":\"518000\"},\"age\":18}";
+
+    @Param({"TREE", "JSON_OBJECT", "STREAMING"})
+    public String deserializer;
+
+    /**
+     * KNOWN 只有 name 和 age，UNKNOWN 额外包含标量、数组和嵌套对象等未知字段
+     */
+    @Param({"KNOWN", "UNKNOWN"})
+    public String payload;
+
+    private ObjectReader objectReader;
+
+    private byte[] bytes;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final SimpleModule module = new SimpleModule().addDeserializer(MyObject.class, deserializer());
+        objectReader = new ObjectMapper().registerModule(module).readerFor(MyObject.class);
+        bytes = ("KNOWN".equals(payload) ? KNOWN_FIELDS : UNKNOWN_FIELDS).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public MyObject deserialize() throws IOException {
+        return objectReader.readValue(bytes);
+    }
+
+    private JsonDeserializer<MyObject> deserializer() {
+        switch (deserializer) {
+            case "TREE":
+                return new MyJsonComponent.Deserializer();
+            case "JSON_OBJECT":
+                return new MyJSONObjectComponent.Deserializer();
+            case "STREAMING":
+                return new MyStreamingJsonComponent.Deserializer();
+            default:
+                throw new IllegalArgumentException("未知的反序列化器：" + deserializer);
+        }
+    }
+}
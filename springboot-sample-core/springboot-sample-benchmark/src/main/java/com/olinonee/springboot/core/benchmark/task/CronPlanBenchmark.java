@@ -0,0 +1,69 @@
+package com.olinonee.springboot.core.benchmark.task;
+
+import com.olinonee.springboot.core.task.cron.CronPlanCache;
+import com.olinonee.springboot.core.task.cron.CronPlanTrigger;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.scheduling.support.CronTrigger;
+import org.springframework.scheduling.support.SimpleTriggerContext;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * cron 表达式的解析与下一次触发时间计算：每次 new CronTrigger 与从 CronPlanCache 获取编译后的 CronPlanTrigger 对比，
+ * 以及 CronTrigger（CronExpression 逐字段时间运算）与 CronPlanTrigger（位图扫描）计算下一次触发时间的对比
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CronPlanBenchmark {
+
+    @Param({"0/5 * * * * ?", "0 */15 9-17 * * MON-FRI"})
+    public String expression;
+
+    private final CronPlanCache cronPlanCache = new CronPlanCache();
+
+    private CronTrigger cronTrigger;
+
+    private CronPlanTrigger cronPlanTrigger;
+
+    /**
+     * 上一次触发时间固定不变，每次调用计算的都是同一个下一次触发时间
+     */
+    private final SimpleTriggerContext triggerContext = new SimpleTriggerContext();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        cronTrigger = new CronTrigger(expression);
+        cronPlanTrigger = cronPlanCache.getTrigger(expression);
+        final Date last = new Date();
+        triggerContext.update(last, last, last);
+    }
+
+    @Benchmark
+    public CronTrigger parseCronTrigger() {
+        return new CronTrigger(expression);
+    }
+
+    @Benchmark
+    public CronPlanTrigger cachedCronPlanTrigger() {
+        return cronPlanCache.getTrigger(expression);
+    }
+
+    @Benchmark
+    public Date cronTriggerNextExecutionTime() {
+        return cronTrigger.nextExecutionTime(triggerContext);
+    }
+
+    @Benchmark
+    public Date cronPlanNextExecutionTime() {
+        return cronPlanTrigger.nextExecutionTime(triggerContext);
+    }
+}
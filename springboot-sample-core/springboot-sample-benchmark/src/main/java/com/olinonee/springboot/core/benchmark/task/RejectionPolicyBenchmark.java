@@ -0,0 +1,65 @@
+package com.olinonee.springboot.core.benchmark.task;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 线程池饱和时 AbortPolicy 与 CallerRunsPolicy 的对比：两个线程池除拒绝策略外配置相同，
+ * 附加指标 rejected 为被丢弃的任务数，callerRuns 为回退到提交线程执行的任务数
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RejectionPolicyBenchmark {
+
+    private static final int BATCH_SIZE = 256;
+    private static final long WORK_TOKENS = 1_000;
+
+    @Param({"ABORT", "CALLER_RUNS"})
+    public String policy;
+
+    /**
+     * 两次提交之间消耗的 CPU 量：0 为突发提交，此时线程池必然饱和
+     */
+    @Param({"0", "250"})
+    public long submitIntervalTokens;
+
+    private ThreadPoolTaskExecutor threadPoolTaskExecutor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+        threadPoolTaskExecutor.setCorePoolSize(2);
+        threadPoolTaskExecutor.setMaxPoolSize(4);
+        threadPoolTaskExecutor.setQueueCapacity(16);
+        threadPoolTaskExecutor.setThreadNamePrefix("rejectionBenchmark-");
+        threadPoolTaskExecutor.setRejectedExecutionHandler(rejectedExecutionHandler());
+        threadPoolTaskExecutor.initialize();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        threadPoolTaskExecutor.shutdown();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void submit(TaskCounters counters) throws InterruptedException {
+        counters.submitBatch(threadPoolTaskExecutor, BATCH_SIZE, submitIntervalTokens, WORK_TOKENS);
+    }
+
+    private RejectedExecutionHandler rejectedExecutionHandler() {
+        return "ABORT".equals(policy) ? new ThreadPoolExecutor.AbortPolicy() : new ThreadPoolExecutor.CallerRunsPolicy();
+    }
+}
@@ -0,0 +1,84 @@
+package com.olinonee.springboot.core.benchmark.task;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 任务提交计数器：按照指定的提交间隔向执行器提交一批任务并等待全部结束，
+ * 同时统计被拒绝的任务数和由提交线程自己执行（CallerRunsPolicy）的任务数，作为附加指标输出到结果中
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.EVENTS)
+public class TaskCounters {
+
+    private final AtomicLong completed = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong callerRuns = new AtomicLong();
+
+    @Setup(Level.Iteration)
+    public void reset() {
+        completed.set(0);
+        rejected.set(0);
+        callerRuns.set(0);
+    }
+
+    public long completed() {
+        return completed.get();
+    }
+
+    public long rejected() {
+        return rejected.get();
+    }
+
+    public long callerRuns() {
+        return callerRuns.get();
+    }
+
+    /**
+     * 提交一批任务并等待全部结束（执行完成或被拒绝）
+     *
+     * @param executor       执行器
+     * @param batchSize      一批的任务数
+     * @param intervalTokens 两次提交之间消耗的 CPU 量（Blackhole.consumeCPU），用于控制提交速率，为 0 时突发提交
+     * @param workTokens     每个任务消耗的 CPU 量
+     * @throws InterruptedException 等待时被中断
+     */
+    void submitBatch(Executor executor, int batchSize, long intervalTokens, long workTokens) throws InterruptedException {
+        final Thread submitter = Thread.currentThread();
+        final CountDownLatch latch = new CountDownLatch(batchSize);
+        final Runnable task = () -> {
+            Blackhole.consumeCPU(workTokens);
+            if (Thread.currentThread() == submitter) {
+                callerRuns.incrementAndGet();
+            }
+            completed.incrementAndGet();
+            latch.countDown();
+        };
+        for (int i = 0; i < batchSize; i++) {
+            if (intervalTokens > 0) {
+                Blackhole.consumeCPU(intervalTokens);
+            }
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                // Spring 的 ThreadPoolTaskExecutor 会把拒绝包装为 TaskRejectedException（RejectedExecutionException 的子类）
+                rejected.incrementAndGet();
+                latch.countDown();
+            }
+        }
+        latch.await();
+    }
+}
@@ -0,0 +1,65 @@
+package com.olinonee.springboot.core.benchmark.task;
+
+import com.olinonee.springboot.core.task.config.TaskExecutionProperties;
+import com.olinonee.springboot.core.task.config.TaskExecutorDemoConfig;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TaskExecutorDemoConfig 中 defaultTask-（AbortPolicy）与 customTask-（CallerRunsPolicy）执行器在不同提交速率下的吞吐量，
+ * 执行器与应用中的 Bean 使用同一个工厂方法创建
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskExecutorBenchmark {
+
+    private static final int BATCH_SIZE = 256;
+
+    /**
+     * 每个任务消耗的 CPU 量，约数微秒
+     */
+    private static final long WORK_TOKENS = 1_000;
+
+    @Param({"defaultTask", "customTask"})
+    public String executor;
+
+    /**
+     * 两次提交之间消耗的 CPU 量：0 为突发提交，数值越大提交速率越低
+     */
+    @Param({"0", "250", "2500"})
+    public long submitIntervalTokens;
+
+    private Executor taskExecutor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final TaskExecutorDemoConfig taskExecutorDemoConfig = new TaskExecutorDemoConfig(new TaskExecutionProperties());
+        taskExecutor = "defaultTask".equals(executor)
+                ? taskExecutorDemoConfig.getAsyncExecutor()
+                : taskExecutorDemoConfig.getCustomizerAsyncExecutor();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        if (taskExecutor instanceof DisposableBean) {
+            ((DisposableBean) taskExecutor).destroy();
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH_SIZE)
+    public void submit(TaskCounters counters) throws InterruptedException {
+        counters.submitBatch(taskExecutor, BATCH_SIZE, submitIntervalTokens, WORK_TOKENS);
+    }
+}
@@ -0,0 +1,91 @@
+package com.olinonee.springboot.core.benchmark.task;
+
+import com.olinonee.springboot.core.task.config.TaskExecutionProperties;
+import com.olinonee.springboot.core.task.config.TaskScheduleExtendedDemoConfig;
+import com.olinonee.springboot.core.task.config.TaskScheduleProperties;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.support.CronTrigger;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * threadPoolTaskScheduler Bean 的调度/取消吞吐量：分别在空队列和已有大量待触发任务的情况下，
+ * 对比 ThreadPoolTaskScheduler（thread-pool）与时间轮（timing-wheel）两种实现
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskSchedulerBenchmark {
+
+    /**
+     * 一年只触发一次，基准测试期间不会真正执行
+     */
+    private static final String RARE_CRON_EXPRESSION = "0 0 0 1 1 ?";
+
+    private static final Runnable NO_OP = () -> {
+    };
+
+    @Param({"THREAD_POOL", "TIMING_WHEEL"})
+    public TaskScheduleProperties.Backend backend;
+
+    /**
+     * 预先调度的待触发任务数
+     */
+    @Param({"0", "10000"})
+    public int pending;
+
+    private TaskScheduler taskScheduler;
+
+    private CronTrigger cronTrigger;
+
+    private final List<ScheduledFuture<?>> pendingFutures = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        final TaskScheduleProperties taskScheduleProperties = new TaskScheduleProperties();
+        taskScheduleProperties.setBackend(backend);
+        taskScheduler = new TaskScheduleExtendedDemoConfig(taskScheduleProperties, new TaskExecutionProperties()).threadPoolTaskScheduler();
+        cronTrigger = new CronTrigger(RARE_CRON_EXPRESSION);
+        for (int i = 0; i < pending; i++) {
+            pendingFutures.add(taskScheduler.schedule(NO_OP, cronTrigger));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        pendingFutures.forEach(future -> future.cancel(false));
+        pendingFutures.clear();
+        if (taskScheduler instanceof DisposableBean) {
+            ((DisposableBean) taskScheduler).destroy();
+        }
+    }
+
+    @Benchmark
+    public boolean scheduleCronAndCancel() {
+        return taskScheduler.schedule(NO_OP, cronTrigger).cancel(false);
+    }
+
+    @Benchmark
+    public boolean scheduleDelayedAndCancel() {
+        return taskScheduler.schedule(NO_OP, new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1))).cancel(false);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public boolean scheduleCronAndCancelContended() {
+        return taskScheduler.schedule(NO_OP, cronTrigger).cancel(false);
+    }
+}
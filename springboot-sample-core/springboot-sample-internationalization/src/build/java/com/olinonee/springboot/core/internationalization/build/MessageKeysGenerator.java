@@ -0,0 +1,189 @@
+package com.olinonee.springboot.core.internationalization.build;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.text.MessageFormat;
+import java.util.*;
+
+/**
+ * 消息键生成器：根据基础资源包（messages.properties）生成类型安全的消息键枚举，枚举的序号即消息键的下标
+ * <p>
+ * 在构建的 generate-sources 阶段以单文件源码程序的方式执行（java MessageKeysGenerator.java ...，见 pom.xml），
+ * 不依赖模块本身的编译结果。同时校验所有语言环境的资源包，以下情况以非零状态退出，使构建失败：
+ * <ul>
+ *     <li>某个语言环境缺少基础资源包中的消息键，或者包含基础资源包中没有的消息键；</li>
+ *     <li>某个语言环境的消息参数个数与基础资源包不一致；</li>
+ *     <li>消息不是合法的 MessageFormat 模式，或者两个消息键生成了相同的常量名。</li>
+ * </ul>
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class MessageKeysGenerator {
+
+    private static final String PROPERTIES_SUFFIX = ".properties";
+
+    /**
+     * 用法：MessageKeysGenerator 资源包目录 资源包名称 输出源码目录 枚举全限定名
+     *
+     * @param args 参数
+     * @throws IOException 读取或写入失败
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 4) {
+            throw new IllegalArgumentException("usage: MessageKeysGenerator <bundle directory> <basename> <output directory> <enum class name>");
+        }
+        final Path directory = Paths.get(args[0]);
+        final String basename = args[1];
+        final Map<String, Properties> bundles = readBundles(directory, basename);
+        final Properties base = bundles.get(basename);
+        if (base == null) {
+            fail(Collections.singletonList("基础资源包 " + directory.resolve(basename + PROPERTIES_SUFFIX) + " 不存在"));
+        }
+
+        final List<String> errors = new ArrayList<>();
+        final Map<String, Integer> argumentCounts = new TreeMap<>();
+        for (String key : base.stringPropertyNames()) {
+            argumentCounts.put(key, argumentCount(basename, key, base.getProperty(key), errors));
+        }
+        for (Map.Entry<String, Properties> bundle : bundles.entrySet()) {
+            if (bundle.getKey().equals(basename)) {
+                continue;
+            }
+            final Properties translations = bundle.getValue();
+            for (Map.Entry<String, Integer> entry : argumentCounts.entrySet()) {
+                final String message = translations.getProperty(entry.getKey());
+                if (message == null) {
+                    errors.add(bundle.getKey() + ": 缺少消息键 [" + entry.getKey() + "] 的翻译");
+                    continue;
+                }
+                final int count = argumentCount(bundle.getKey(), entry.getKey(), message, errors);
+                if (count >= 0 && entry.getValue() >= 0 && count != entry.getValue()) {
+                    errors.add(bundle.getKey() + ": 消息键 [" + entry.getKey() + "] 有 " + count + " 个参数，基础资源包中有 " + entry.getValue() + " 个");
+                }
+            }
+            for (String key : translations.stringPropertyNames()) {
+                if (!argumentCounts.containsKey(key)) {
+                    errors.add(bundle.getKey() + ": 消息键 [" + key + "] 不在基础资源包中");
+                }
+            }
+        }
+        final Map<String, String> constants = new LinkedHashMap<>();
+        for (String key : argumentCounts.keySet()) {
+            final String previous = constants.put(constantName(key), key);
+            if (previous != null) {
+                errors.add("消息键 [" + previous + "] 和 [" + key + "] 生成了相同的常量名 " + constantName(key));
+            }
+        }
+        if (!errors.isEmpty()) {
+            fail(errors);
+        }
+
+        final String className = args[3];
+        final Path output = Paths.get(args[2]).resolve(className.replace('.', '/') + ".java");
+        Files.createDirectories(output.getParent());
+        final String source = generate(className, base, argumentCounts);
+        // 内容没有变化时不重写，避免触发增量编译
+        if (!Files.exists(output) || !source.equals(Files.readString(output, StandardCharsets.UTF_8))) {
+            try (Writer writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+                writer.write(source);
+            }
+        }
+        System.out.println("[MessageKeysGenerator] - generated " + argumentCounts.size() + " keys into " + output
+                + ", checked " + bundles.keySet());
+    }
+
+    private static Map<String, Properties> readBundles(Path directory, String basename) throws IOException {
+        final Map<String, Properties> bundles = new TreeMap<>();
+        try (DirectoryStream<Path> paths = Files.newDirectoryStream(directory, basename + "*" + PROPERTIES_SUFFIX)) {
+            for (Path path : paths) {
+                final String filename = path.getFileName().toString();
+                final String bundleName = filename.substring(0, filename.length() - PROPERTIES_SUFFIX.length());
+                if (!bundleName.equals(basename) && !bundleName.startsWith(basename + "_")) {
+                    continue;
+                }
+                final Properties properties = new Properties();
+                try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                    properties.load(reader);
+                }
+                bundles.put(bundleName, properties);
+            }
+        }
+        return bundles;
+    }
+
+    /**
+     * 消息的参数个数（最大参数下标 + 1），不是合法的 MessageFormat 模式时记录错误并返回 -1
+     */
+    private static int argumentCount(String bundleName, String key, String message, List<String> errors) {
+        try {
+            return new MessageFormat(message, Locale.ROOT).getFormatsByArgumentIndex().length;
+        } catch (IllegalArgumentException e) {
+            errors.add(bundleName + ": 消息键 [" + key + "] 不是合法的 MessageFormat 模式：" + e.getMessage());
+            return -1;
+        }
+    }
+
+    private static String constantName(String key) {
+        final String name = key.replaceAll("[^A-Za-z0-9]+", "_").toUpperCase(Locale.ROOT);
+        return Character.isJavaIdentifierStart(name.charAt(0)) ? name : "_" + name;
+    }
+
+    private static String generate(String className, Properties base, Map<String, Integer> argumentCounts) {
+        final int lastDot = className.lastIndexOf('.');
+        final StringBuilder source = new StringBuilder();
+        if (lastDot > 0) {
+            source.append("package ").append(className, 0, lastDot).append(";\n\n");
+        }
+        source.append("/**\n")
+                .append(" * 消息键（由 MessageKeysGenerator 根据 messages.properties 生成，请勿手工修改）\n")
+                .append(" * <p>\n")
+                .append(" * 枚举的序号即消息键的下标，I18nBootUtil 按照语言环境把消息保存在以序号为下标的数组中。\n")
+                .append(" */\n")
+                .append("public enum ").append(className.substring(lastDot + 1)).append(" {\n");
+        final Iterator<Map.Entry<String, Integer>> iterator = argumentCounts.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<String, Integer> entry = iterator.next();
+            source.append("\n    /**\n     * ").append(escapeJavadoc(base.getProperty(entry.getKey()))).append("\n     */\n")
+                    .append("    ").append(constantName(entry.getKey()))
+                    .append("(\"").append(escapeJava(entry.getKey())).append("\", ").append(entry.getValue()).append(")")
+                    .append(iterator.hasNext() ? ",\n" : ";\n");
+        }
+        if (argumentCounts.isEmpty()) {
+            source.append("    ;\n");
+        }
+        source.append("\n    private final String key;\n")
+                .append("    private final int argumentCount;\n\n")
+                .append("    ").append(className.substring(lastDot + 1)).append("(String key, int argumentCount) {\n")
+                .append("        this.key = key;\n")
+                .append("        this.argumentCount = argumentCount;\n")
+                .append("    }\n\n")
+                .append("    /**\n     * 资源包中的消息键\n     */\n")
+                .append("    public String getKey() {\n        return key;\n    }\n\n")
+                .append("    /**\n     * 消息的参数个数\n     */\n")
+                .append("    public int getArgumentCount() {\n        return argumentCount;\n    }\n")
+                .append("}\n");
+        return source.toString();
+    }
+
+    private static String escapeJava(String value) {
+        return value.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    private static String escapeJavadoc(String value) {
+        return value.replace("*/", "*&#47;").replace("@", "{@literal @}").replace("\n", " ").replace("\\u", "\\\\u");
+    }
+
+    private static void fail(List<String> errors) {
+        System.err.println("[MessageKeysGenerator] - 资源包校验失败：");
+        errors.forEach(error -> System.err.println("  " + error));
+        System.exit(1);
+    }
+}
@@ -0,0 +1,37 @@
+package com.olinonee.springboot.core.internationalization.catalog;
+
+import org.springframework.context.support.AbstractMessageSource;
+
+import java.text.MessageFormat;
+import java.util.Locale;
+
+/**
+ * 基于内存映射消息目录的消息源
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class CatalogMessageSource extends AbstractMessageSource {
+
+    private final MessageCatalog messageCatalog;
+
+    public CatalogMessageSource(MessageCatalog messageCatalog) {
+        this.messageCatalog = messageCatalog;
+    }
+
+    public MessageCatalog getMessageCatalog() {
+        return messageCatalog;
+    }
+
+    @Override
+    protected String resolveCodeWithoutArguments(String code, Locale locale) {
+        return messageCatalog.get(code, locale);
+    }
+
+    @Override
+    protected MessageFormat resolveCode(String code, Locale locale) {
+        final String message = messageCatalog.get(code, locale);
+        return message == null ? null : createMessageFormat(message, locale);
+    }
+}
@@ -0,0 +1,230 @@
+package com.olinonee.springboot.core.internationalization.catalog;
+
+import org.springframework.core.io.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 内存映射的二进制消息目录（由 {@link MessageCatalogCompiler} 编译生成，格式见 {@link MessageCatalogFormat}）
+ * <p>
+ * 消息内容保存在堆外，查找时通过完美哈希直接定位槽位，只在命中时把 UTF-8 值解码为字符串；
+ * 目录只读，可以被多个线程同时访问（每次读取都使用绝对位置，不修改缓冲区的状态）。
+ * <p>
+ * 打开时校验文件头和各个偏移量是否位于文件范围内，不通过时抛出 {@link IllegalArgumentException}。
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public final class MessageCatalog {
+
+    private final ByteBuffer buffer;
+    private final int size;
+    private final Map<String, Integer> valueTables;
+    private final int baseValueTable;
+    private final ConcurrentMap<Locale, int[]> localeValueTables = new ConcurrentHashMap<>();
+
+    private boolean fallbackToSystemLocale = true;
+
+    private MessageCatalog(ByteBuffer buffer) {
+        this.buffer = buffer;
+        if (buffer.limit() < MessageCatalogFormat.HEADER_SIZE || buffer.getInt(0) != MessageCatalogFormat.MAGIC) {
+            throw new IllegalArgumentException("不是消息目录文件");
+        }
+        if (buffer.getInt(4) != MessageCatalogFormat.VERSION) {
+            throw new IllegalArgumentException("不支持的消息目录版本：" + buffer.getInt(4));
+        }
+        this.size = buffer.getInt(8);
+        final int localeCount = buffer.getInt(12);
+        final long localeDirectoryStart = MessageCatalogFormat.HEADER_SIZE + size * 8L;
+        if (size <= 0 || localeCount < 0 || localeDirectoryStart + localeCount * 8L > buffer.limit()) {
+            throw new IllegalArgumentException("消息目录文件已损坏：消息键数量 " + size + "，语言环境数量 " + localeCount);
+        }
+        final Map<String, Integer> tables = new HashMap<>(localeCount * 2);
+        try {
+            for (int i = 0; i < localeCount; i++) {
+                final int entry = (int) localeDirectoryStart + i * 8;
+                final int valueTable = buffer.getInt(entry + 4);
+                if (valueTable < 0 || valueTable + size * 4L > buffer.limit()) {
+                    throw new IllegalArgumentException("消息目录文件已损坏：值表偏移量 " + valueTable + " 超出范围");
+                }
+                tables.put(readUtf8(buffer.getInt(entry)), valueTable);
+            }
+        } catch (IndexOutOfBoundsException | BufferUnderflowException | NegativeArraySizeException e) {
+            throw new IllegalArgumentException("消息目录文件已损坏：语言环境名称偏移量超出范围", e);
+        }
+        this.valueTables = Collections.unmodifiableMap(tables);
+        this.baseValueTable = tables.getOrDefault("", -1);
+    }
+
+    /**
+     * 以只读方式映射消息目录文件
+     *
+     * @param path 文件路径
+     * @return MessageCatalog
+     * @throws IOException 读取失败
+     */
+    public static MessageCatalog open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new MessageCatalog(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * 加载消息目录：资源是文件时内存映射，位于 jar 包内时读入堆外缓冲区
+     *
+     * @param resource 资源
+     * @return MessageCatalog
+     * @throws IOException 读取失败
+     */
+    public static MessageCatalog load(Resource resource) throws IOException {
+        if (resource.isFile()) {
+            return open(resource.getFile().toPath());
+        }
+        try (InputStream inputStream = resource.getInputStream()) {
+            final byte[] bytes = inputStream.readAllBytes();
+            final ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+            buffer.put(bytes).flip();
+            return new MessageCatalog(buffer);
+        }
+    }
+
+    /**
+     * 找不到指定语言环境时是否回退到系统语言环境，与 ReloadableResourceBundleMessageSource 的默认行为一致
+     */
+    public void setFallbackToSystemLocale(boolean fallbackToSystemLocale) {
+        this.fallbackToSystemLocale = fallbackToSystemLocale;
+        localeValueTables.clear();
+    }
+
+    /**
+     * 目录中的语言环境，基础资源包为空字符串
+     */
+    public Set<String> getLocaleTags() {
+        return valueTables.keySet();
+    }
+
+    /**
+     * 查找消息
+     *
+     * @param key    消息键
+     * @param locale 语言环境
+     * @return 消息，不存在时为空
+     */
+    public String get(String key, Locale locale) {
+        final int[] tables = localeValueTables.computeIfAbsent(locale, this::valueTablesFor);
+        if (tables.length == 0) {
+            return null;
+        }
+        final int slot = slotOf(key);
+        if (slot < 0) {
+            return null;
+        }
+        int valueOffset = valueOffset(tables[0], slot);
+        if (tables.length > 1 && (valueOffset < 0 || valueOffset == valueOffset(baseValueTable, slot))) {
+            // 语言环境自身的资源包都没有该消息（值来自基础资源包或不存在），先回退到系统语言环境
+            final int systemValueOffset = valueOffset(tables[1], slot);
+            if (systemValueOffset >= 0) {
+                valueOffset = systemValueOffset;
+            }
+        }
+        return valueOffset < 0 ? null : readUtf8(valueOffset);
+    }
+
+    /**
+     * 按照目录中的语言环境名称查找消息（不再回退）
+     *
+     * @param key       消息键
+     * @param localeTag 语言环境名称，例如 zh_CN，基础资源包为空字符串
+     * @return 消息，不存在时为空
+     */
+    public String get(String key, String localeTag) {
+        final Integer valueTable = valueTables.get(localeTag);
+        return valueTable == null ? null : get(key, valueTable);
+    }
+
+    private String get(String key, int valueTable) {
+        final int slot = slotOf(key);
+        if (slot < 0) {
+            return null;
+        }
+        final int valueOffset = valueOffset(valueTable, slot);
+        return valueOffset < 0 ? null : readUtf8(valueOffset);
+    }
+
+    private int valueOffset(int valueTable, int slot) {
+        return valueTable < 0 ? -1 : buffer.getInt(valueTable + slot * 4);
+    }
+
+    /**
+     * 通过完美哈希定位槽位，并比较槽位上的消息键，消息键不存在时返回 -1
+     */
+    private int slotOf(String key) {
+        final int displacement = buffer.getInt(MessageCatalogFormat.HEADER_SIZE + MessageCatalogFormat.slot(0, key, size) * 4);
+        final int slot = displacement < 0 ? -displacement - 1 : MessageCatalogFormat.slot(displacement, key, size);
+        final int keyOffset = buffer.getInt(MessageCatalogFormat.HEADER_SIZE + size * 4 + slot * 4);
+        if (keyOffset < 0 || buffer.getInt(keyOffset) != key.length()) {
+            return -1;
+        }
+        for (int i = 0, position = keyOffset + 4; i < key.length(); i++, position += 2) {
+            if (buffer.getChar(position) != key.charAt(i)) {
+                return -1;
+            }
+        }
+        return slot;
+    }
+
+    /**
+     * 语言环境对应的值表：依次尝试 语言_国家_变体、语言_国家、语言，然后是系统语言环境，最后是基础资源包；
+     * 每张值表已经包含了到基础资源包的回退结果。语言环境自身有值表且需要回退到系统语言环境时返回两张值表，
+     * 查找时按照消息键在两者之间回退（与 ReloadableResourceBundleMessageSource 的查找链一致）
+     */
+    private int[] valueTablesFor(Locale locale) {
+        final Integer valueTable = valueTableOf(locale);
+        final Integer systemValueTable = fallbackToSystemLocale && !locale.equals(Locale.getDefault())
+                ? valueTableOf(Locale.getDefault()) : null;
+        if (valueTable == null) {
+            final Integer fallback = systemValueTable != null ? systemValueTable : valueTables.get("");
+            return fallback == null ? new int[0] : new int[]{fallback};
+        }
+        return systemValueTable == null || systemValueTable.equals(valueTable) ? new int[]{valueTable} : new int[]{valueTable, systemValueTable};
+    }
+
+    private Integer valueTableOf(Locale locale) {
+        final List<String> tags = new ArrayList<>(3);
+        if (!locale.getVariant().isEmpty()) {
+            tags.add(locale.getLanguage() + "_" + locale.getCountry() + "_" + locale.getVariant());
+        }
+        if (!locale.getCountry().isEmpty()) {
+            tags.add(locale.getLanguage() + "_" + locale.getCountry());
+        }
+        if (!locale.getLanguage().isEmpty()) {
+            tags.add(locale.getLanguage());
+        }
+        for (String tag : tags) {
+            final Integer valueTable = valueTables.get(tag);
+            if (valueTable != null) {
+                return valueTable;
+            }
+        }
+        return null;
+    }
+
+    private String readUtf8(int offset) {
+        final int length = buffer.getInt(offset);
+        final byte[] bytes = new byte[length];
+        // 使用副本读取，避免修改共享缓冲区的位置
+        buffer.duplicate().position(offset + 4).get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
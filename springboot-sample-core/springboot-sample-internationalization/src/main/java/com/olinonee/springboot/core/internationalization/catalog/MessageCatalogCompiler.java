@@ -0,0 +1,284 @@
+package com.olinonee.springboot.core.internationalization.catalog;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+
+/**
+ * 消息目录编译器：把一组资源包（messages.properties、messages_zh_CN.properties ……）编译为一个二进制消息目录，
+ * 在构建的 process-classes 阶段执行（见 pom.xml）
+ * <p>
+ * 所有语言环境共用一个基于消息键的最小完美哈希（hash and displace），每个语言环境一张值表；
+ * 值表按照“语言_国家_变体 → 语言_国家 → 语言 → 基础资源包”的回退链在编译时展开，运行时一次查找即可得到结果。
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class MessageCatalogCompiler {
+
+    private static final String PROPERTIES_SUFFIX = ".properties";
+
+    /**
+     * 用法：MessageCatalogCompiler 资源包目录 资源包名称 输出文件
+     *
+     * @param args 参数
+     * @throws IOException 读取或写入失败
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 3) {
+            throw new IllegalArgumentException("usage: MessageCatalogCompiler <bundle directory> <basename> <output file>");
+        }
+        final Map<String, Map<String, String>> bundles = readBundles(Paths.get(args[0]), args[1]);
+        final Path output = Paths.get(args[2]);
+        compile(bundles, output);
+        System.out.println("[MessageCatalogCompiler] - compiled " + bundles.keySet() + " into " + output + " (" + Files.size(output) + " bytes)");
+    }
+
+    /**
+     * 读取目录下的所有资源包
+     *
+     * @param directory 资源包目录
+     * @param basename  资源包名称，例如 messages
+     * @return 语言环境（基础资源包为空字符串）与资源包内容
+     * @throws IOException 读取失败
+     */
+    public static Map<String, Map<String, String>> readBundles(Path directory, String basename) throws IOException {
+        final Map<String, Map<String, String>> bundles = new TreeMap<>();
+        try (DirectoryStream<Path> paths = Files.newDirectoryStream(directory, basename + "*" + PROPERTIES_SUFFIX)) {
+            for (Path path : paths) {
+                final String filename = path.getFileName().toString();
+                final String bundleName = filename.substring(0, filename.length() - PROPERTIES_SUFFIX.length());
+                final String localeTag;
+                if (bundleName.equals(basename)) {
+                    localeTag = "";
+                } else if (bundleName.startsWith(basename + "_")) {
+                    localeTag = bundleName.substring(basename.length() + 1);
+                } else {
+                    continue;
+                }
+                final Properties properties = new Properties();
+                try (Reader reader = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+                    properties.load(reader);
+                }
+                final Map<String, String> entries = new HashMap<>();
+                properties.forEach((key, value) -> entries.put((String) key, (String) value));
+                bundles.put(localeTag, entries);
+            }
+        }
+        return bundles;
+    }
+
+    /**
+     * 编译消息目录，先写入临时文件再原子替换，运行中的进程映射的旧文件不受影响
+     *
+     * @param bundles 语言环境（基础资源包为空字符串）与资源包内容
+     * @param output  输出文件
+     * @throws IOException 写入失败
+     */
+    public static void compile(Map<String, Map<String, String>> bundles, Path output) throws IOException {
+        final Path temp = output.resolveSibling(output.getFileName() + ".tmp");
+        Files.write(temp, compile(bundles));
+        Files.move(temp, output, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * 编译消息目录
+     *
+     * @param bundles 语言环境（基础资源包为空字符串）与资源包内容
+     * @return 消息目录的字节内容
+     */
+    public static byte[] compile(Map<String, Map<String, String>> bundles) {
+        final Set<String> keySet = new TreeSet<>();
+        bundles.values().forEach(entries -> keySet.addAll(entries.keySet()));
+        final String[] keys = keySet.toArray(new String[0]);
+        final int size = Math.max(keys.length, 1);
+        final int[] displacements = new int[size];
+        final String[] slots = buildPerfectHash(keys, size, displacements);
+
+        final List<String> localeTags = new ArrayList<>(bundles.keySet());
+        try {
+            // 先计算各部分的偏移量
+            final int keyOffsetsStart = MessageCatalogFormat.HEADER_SIZE + size * 4;
+            final int localeDirectoryStart = keyOffsetsStart + size * 4;
+            int position = localeDirectoryStart + localeTags.size() * 8;
+
+            final ByteArrayOutputStream body = new ByteArrayOutputStream();
+            final DataOutputStream bodyOut = new DataOutputStream(body);
+            final int[] keyOffsets = new int[size];
+            for (int slot = 0; slot < size; slot++) {
+                if (slots[slot] == null) {
+                    keyOffsets[slot] = -1;
+                    continue;
+                }
+                keyOffsets[slot] = position + bodyOut.size();
+                bodyOut.writeInt(slots[slot].length());
+                bodyOut.writeChars(slots[slot]);
+            }
+            final int[] localeNameOffsets = new int[localeTags.size()];
+            for (int i = 0; i < localeTags.size(); i++) {
+                localeNameOffsets[i] = position + bodyOut.size();
+                writeUtf8(bodyOut, localeTags.get(i));
+            }
+            // 值表之后是值记录，值表大小固定，先确定值记录的起始位置
+            final int valueTablesStart = position + bodyOut.size();
+            final int valuesStart = valueTablesStart + localeTags.size() * size * 4;
+            final ByteArrayOutputStream values = new ByteArrayOutputStream();
+            final DataOutputStream valuesOut = new DataOutputStream(values);
+            final Map<String, Integer> valueOffsets = new HashMap<>();
+            final int[] valueTableOffsets = new int[localeTags.size()];
+            for (int i = 0; i < localeTags.size(); i++) {
+                valueTableOffsets[i] = valueTablesStart + i * size * 4;
+                final List<Map<String, String>> chain = fallbackChain(bundles, localeTags.get(i));
+                for (int slot = 0; slot < size; slot++) {
+                    final String value = slots[slot] == null ? null : resolve(chain, slots[slot]);
+                    if (value == null) {
+                        bodyOut.writeInt(-1);
+                        continue;
+                    }
+                    Integer offset = valueOffsets.get(value);
+                    if (offset == null) {
+                        offset = valuesStart + valuesOut.size();
+                        valueOffsets.put(value, offset);
+                        writeUtf8(valuesOut, value);
+                    }
+                    bodyOut.writeInt(offset);
+                }
+            }
+
+            final ByteArrayOutputStream catalog = new ByteArrayOutputStream(valuesStart + values.size());
+            final DataOutputStream out = new DataOutputStream(catalog);
+            out.writeInt(MessageCatalogFormat.MAGIC);
+            out.writeInt(MessageCatalogFormat.VERSION);
+            out.writeInt(size);
+            out.writeInt(localeTags.size());
+            for (int displacement : displacements) {
+                out.writeInt(displacement);
+            }
+            for (int keyOffset : keyOffsets) {
+                out.writeInt(keyOffset);
+            }
+            for (int i = 0; i < localeTags.size(); i++) {
+                out.writeInt(localeNameOffsets[i]);
+                out.writeInt(valueTableOffsets[i]);
+            }
+            body.writeTo(out);
+            values.writeTo(out);
+            out.flush();
+            return catalog.toByteArray();
+        } catch (IOException e) {
+            // ByteArrayOutputStream 不会抛出 IOException
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 构建最小完美哈希（hash and displace）：先按照种子 0 把消息键分到 size 个桶，按照桶的大小从大到小，
+     * 为每个桶寻找一个种子使桶内所有消息键落在空闲且互不相同的槽位；只有一个消息键的桶直接放入剩余的空闲槽位
+     *
+     * @param keys          消息键
+     * @param size          槽位数（等于消息键数量）
+     * @param displacements 输出的位移表
+     * @return 每个槽位对应的消息键
+     */
+    static String[] buildPerfectHash(String[] keys, int size, int[] displacements) {
+        final List<List<String>> buckets = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            buckets.add(new ArrayList<>(2));
+        }
+        for (String key : keys) {
+            buckets.get(MessageCatalogFormat.slot(0, key, size)).add(key);
+        }
+        final Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> buckets.get(b).size() - buckets.get(a).size());
+
+        final String[] slots = new String[size];
+        final Set<Integer> candidate = new HashSet<>();
+        int index = 0;
+        for (; index < size; index++) {
+            final List<String> bucket = buckets.get(order[index]);
+            if (bucket.size() <= 1) {
+                break;
+            }
+            int seed = 1;
+            while (true) {
+                candidate.clear();
+                for (String key : bucket) {
+                    final int slot = MessageCatalogFormat.slot(seed, key, size);
+                    if (slots[slot] != null || !candidate.add(slot)) {
+                        break;
+                    }
+                }
+                if (candidate.size() == bucket.size()) {
+                    break;
+                }
+                seed++;
+            }
+            displacements[order[index]] = seed;
+            for (String key : bucket) {
+                slots[MessageCatalogFormat.slot(seed, key, size)] = key;
+            }
+        }
+        int freeSlot = 0;
+        for (; index < size; index++) {
+            final List<String> bucket = buckets.get(order[index]);
+            if (bucket.isEmpty()) {
+                break;
+            }
+            while (slots[freeSlot] != null) {
+                freeSlot++;
+            }
+            slots[freeSlot] = bucket.get(0);
+            displacements[order[index]] = -freeSlot - 1;
+        }
+        return slots;
+    }
+
+    /**
+     * 语言环境的回退链，例如 zh_CN → zh → 基础资源包
+     */
+    private static List<Map<String, String>> fallbackChain(Map<String, Map<String, String>> bundles, String localeTag) {
+        final List<Map<String, String>> chain = new ArrayList<>();
+        String tag = localeTag;
+        while (!tag.isEmpty()) {
+            final Map<String, String> entries = bundles.get(tag);
+            if (entries != null) {
+                chain.add(entries);
+            }
+            final int separator = tag.lastIndexOf('_');
+            tag = separator < 0 ? "" : tag.substring(0, separator);
+        }
+        final Map<String, String> base = bundles.get("");
+        if (base != null) {
+            chain.add(base);
+        }
+        return chain;
+    }
+
+    private static String resolve(List<Map<String, String>> chain, String key) {
+        for (Map<String, String> entries : chain) {
+            final String value = entries.get(key);
+            if (value != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    private static void writeUtf8(DataOutputStream out, String value) throws IOException {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+}
@@ -0,0 +1,56 @@
+package com.olinonee.springboot.core.internationalization.catalog;
+
+/**
+ * 二进制消息目录的文件格式（所有整数均为大端序）：
+ * <pre>
+ * int     魔数 MCAT
+ * int     版本号
+ * int     消息键数量 n
+ * int     语言环境数量 m
+ * int[n]  完美哈希的位移表：第一次哈希确定桶，桶内的值 d &gt;= 0 时以 d 为种子二次哈希得到槽位，d &lt; 0 时槽位为 -d-1
+ * int[n]  每个槽位的消息键记录偏移量
+ * m *（int 语言环境名称记录偏移量，int 值表偏移量）
+ * 消息键记录：int 字符数 + UTF-16 字符（查找时直接与 String 逐字符比较，不需要编码）
+ * 语言环境名称记录：int 字节数 + UTF-8 字节，基础资源包为空字符串
+ * 值表：int[n]，每个槽位的值记录偏移量，不存在时为 -1（回退链已经在编译时展开）
+ * 值记录：int 字节数 + UTF-8 字节（相同的值只保存一份）
+ * </pre>
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+final class MessageCatalogFormat {
+
+    static final int MAGIC = 0x4D434154;
+    static final int VERSION = 1;
+    static final int HEADER_SIZE = 16;
+
+    private MessageCatalogFormat() {
+    }
+
+    /**
+     * 对消息键按照 UTF-16 字符计算带种子的哈希（FNV-1a + murmur3 的最终混淆），编译和查找共用
+     *
+     * @param seed 种子
+     * @param key  消息键
+     * @return 哈希值
+     */
+    static int hash(int seed, CharSequence key) {
+        int hash = 0x811C9DC5 ^ (seed * 0x9E3779B9);
+        for (int i = 0; i < key.length(); i++) {
+            hash ^= key.charAt(i);
+            hash *= 0x01000193;
+        }
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        hash ^= hash >>> 16;
+        return hash;
+    }
+
+    static int slot(int seed, CharSequence key, int size) {
+        return Integer.remainderUnsigned(hash(seed, key), size);
+    }
+}
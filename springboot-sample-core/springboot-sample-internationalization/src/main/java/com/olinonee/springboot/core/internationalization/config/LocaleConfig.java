@@ -1,10 +1,16 @@
 package com.olinonee.springboot.core.internationalization.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.olinonee.springboot.core.internationalization.support.AcceptLanguageLocaleResolver;
+import com.olinonee.springboot.core.internationalization.support.MessageBundleCache;
+import com.olinonee.springboot.core.internationalization.util.I18nUtil;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.MessageSource;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.servlet.LocaleResolver;
-import org.springframework.web.servlet.i18n.SessionLocaleResolver;
 
+import java.util.List;
 import java.util.Locale;
 
 /**
@@ -18,14 +24,39 @@ import java.util.Locale;
 public class LocaleConfig {
 
     /**
-     * 设置会话的本地化语言默认为中文
+     * 无状态的本地化语言解析：lang 参数切换后写入 Cookie，没有 Cookie 时按照 Accept-Language 匹配支持的语言，默认为中文
      *
+     * @param supportedLocales 支持的语言环境
+     * @param maxCacheSize     Accept-Language 解析结果的缓存上限
      * @return LocaleResolver
      */
     @Bean
-    public LocaleResolver localeResolver() {
-        final SessionLocaleResolver sessionLocaleResolver = new SessionLocaleResolver();
-        sessionLocaleResolver.setDefaultLocale(Locale.CHINA);
-        return sessionLocaleResolver;
+    public LocaleResolver localeResolver(@Value("${i18n.locale.supported-locales:zh_CN,en_US,zh_TW}") List<Locale> supportedLocales,
+                                         @Value("${i18n.locale.cache-size:1024}") int maxCacheSize) {
+        final AcceptLanguageLocaleResolver localeResolver = new AcceptLanguageLocaleResolver(supportedLocales, Locale.CHINA, maxCacheSize);
+        localeResolver.setCookieName("lang");
+        return localeResolver;
+    }
+
+    /**
+     * 与 I18nUtil 共享同一个消息源（代替 spring.messages 自动配置的消息源），资源包修改后自动重新加载；
+     * 消息源在进程内共享，容器关闭时不停止
+     *
+     * @return MessageSource
+     */
+    @Bean(destroyMethod = "")
+    public MessageSource messageSource() {
+        return I18nUtil.getMessageSource();
+    }
+
+    /**
+     * 按照语言环境预先生成的整个消息包，供前端一次性获取
+     *
+     * @param objectMapper ObjectMapper
+     * @return MessageBundleCache
+     */
+    @Bean
+    public MessageBundleCache messageBundleCache(ObjectMapper objectMapper) {
+        return new MessageBundleCache(I18nUtil.getMessageSource(), objectMapper);
     }
 }
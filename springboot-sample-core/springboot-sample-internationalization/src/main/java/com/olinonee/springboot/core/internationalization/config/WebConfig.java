@@ -20,6 +20,7 @@ public class WebConfig implements WebMvcConfigurer {
      * 默认拦截器，其中 lang 表示切换语言的参数名
      *
      * 比如当请求的 url 为：<a href="https://ip:port/?lang=zh_CN">https://ip:port/?lang=zh_CN</a>，表示读取国际化文件 messages_zh_CN.properties。
+     * 切换后的语言由 LocaleConfig#localeResolver 映射到支持的语言环境后写入 Cookie，不创建会话；无法解析的 lang 参数忽略。
      *
      * @param registry 拦截器注册
      */
@@ -27,6 +28,7 @@ public class WebConfig implements WebMvcConfigurer {
     public void addInterceptors(InterceptorRegistry registry) {
         final LocaleChangeInterceptor localeChangeInterceptor = new LocaleChangeInterceptor();
         localeChangeInterceptor.setParamName("lang");
+        localeChangeInterceptor.setIgnoreInvalidLocale(true);
         registry.addInterceptor(localeChangeInterceptor);
     }
 }
@@ -1,6 +1,17 @@
 package com.olinonee.springboot.core.internationalization.controller;
 
+import com.olinonee.springboot.core.internationalization.support.MessageBundleCache;
+import com.olinonee.springboot.core.internationalization.support.MessageKey;
 import com.olinonee.springboot.core.internationalization.util.I18nBootUtil;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -15,16 +26,94 @@ import org.springframework.web.bind.annotation.RestController;
 @RequestMapping("/i18n")
 public class I18nController {
 
+    private final MessageBundleCache messageBundleCache;
+
+    @Autowired
+    public I18nController(MessageBundleCache messageBundleCache) {
+        this.messageBundleCache = messageBundleCache;
+    }
+
     @RequestMapping("/osm")
     public String getOperationSuccessMessage() {
         // return I18nUtil.get("operation.success");
-        return I18nBootUtil.get("operation.success");
+        // return I18nBootUtil.get("operation.success");
+        return I18nBootUtil.get(MessageKey.OPERATION_SUCCESS);
     }
 
     @RequestMapping("/sgm")
     public String getStartGeEndMessage() {
-        String [] param = {"20230224", "20230228"};
+        // String [] param = {"20230224", "20230228"};
         // return I18nUtil.get("start.ge.end", param);
-        return I18nBootUtil.get("start.ge.end", param);
+        // return I18nBootUtil.get("start.ge.end", param);
+        return I18nBootUtil.get(MessageKey.START_GE_END, "20230224", "20230228");
+    }
+
+    /**
+     * 当前语言环境（lang 参数、Cookie 或 Accept-Language）下的整个消息包
+     * <p>
+     * 消息包预先生成并压缩，未压缩和 gzip 压缩的响应各自带有强 ETag；If-None-Match 命中其中任意一个时返回 304（ETag 为命中的那个），
+     * 不再读取消息源。
+     *
+     * @param acceptEncoding Accept-Encoding 请求头
+     * @param ifNoneMatch    If-None-Match 请求头
+     * @return 消息键与消息的 JSON
+     */
+    @GetMapping("/bundle")
+    public ResponseEntity<byte[]> getMessageBundle(@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                                   @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        final MessageBundleCache.MessageBundle bundle = messageBundleCache.get(LocaleContextHolder.getLocale());
+        final boolean gzip = acceptsGzip(acceptEncoding);
+        final String matchedEtag = matchedEtag(ifNoneMatch, bundle, gzip ? bundle.getGzipEtag() : bundle.getEtag());
+        final ResponseEntity.BodyBuilder builder = ResponseEntity.status(matchedEtag != null ? HttpStatus.NOT_MODIFIED : HttpStatus.OK)
+                .eTag(matchedEtag != null ? matchedEtag : gzip ? bundle.getGzipEtag() : bundle.getEtag())
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_LANGUAGE, HttpHeaders.COOKIE, HttpHeaders.ACCEPT_ENCODING);
+        if (matchedEtag != null) {
+            return builder.build();
+        }
+        builder.contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(bundle.getGzip());
+        }
+        return builder.body(bundle.getJson());
+    }
+
+    /**
+     * If-None-Match 命中的 ETag（弱比较，忽略 W/ 前缀），没有命中时为空
+     *
+     * @param ifNoneMatch  If-None-Match 请求头
+     * @param bundle       消息包
+     * @param selectedEtag 本次选择的编码对应的 ETag，If-None-Match 为 * 时使用
+     */
+    private static String matchedEtag(String ifNoneMatch, MessageBundleCache.MessageBundle bundle, String selectedEtag) {
+        if (ifNoneMatch == null) {
+            return null;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String etag = candidate.trim();
+            if ("*".equals(etag)) {
+                return selectedEtag;
+            }
+            if (etag.startsWith("W/")) {
+                etag = etag.substring(2);
+            }
+            if (etag.equals(bundle.getEtag()) || etag.equals(bundle.getGzipEtag())) {
+                return etag;
+            }
+        }
+        return null;
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String coding : acceptEncoding.split(",")) {
+            final String[] parts = coding.trim().split(";");
+            if ("gzip".equalsIgnoreCase(parts[0].trim()) || "*".equals(parts[0].trim())) {
+                return parts.length < 2 || !parts[1].trim().matches("q=0(\\.0*)?");
+            }
+        }
+        return false;
     }
 }
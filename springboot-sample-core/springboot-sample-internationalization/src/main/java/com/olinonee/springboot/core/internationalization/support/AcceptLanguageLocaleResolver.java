@@ -0,0 +1,141 @@
+package com.olinonee.springboot.core.internationalization.support;
+
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.i18n.CookieLocaleResolver;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 无状态的语言环境解析器：优先读取 Cookie（由 LocaleChangeInterceptor 写入），没有 Cookie 时按照 Accept-Language 请求头
+ * 在支持的语言环境中选择最匹配的一个，都没有时使用默认语言环境；不创建 HTTP 会话。
+ * <p>
+ * 请求头按照 q 值从高到低依次匹配：先完全匹配（语言和国家），再按照语言匹配支持列表中的第一个；
+ * 解析结果以请求头字符串为键缓存，缓存达到上限后不再加入新的请求头（只解析不缓存），避免被任意请求头撑大。
+ * <p>
+ * lang 参数和 Cookie 中的语言环境同样按照上述规则映射到支持列表中（先完全匹配，再按照语言匹配），
+ * 不支持的语言环境视为未设置（删除 Cookie，改用 Accept-Language），因此以语言环境为键的各个消息缓存不会被任意取值撑大。
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class AcceptLanguageLocaleResolver extends CookieLocaleResolver {
+
+    /**
+     * 不缓存的请求头长度，正常的 Accept-Language 远小于该长度
+     */
+    private static final int MAX_CACHEABLE_HEADER_LENGTH = 256;
+
+    private final List<Locale> supportedLocales;
+    private final int maxCacheSize;
+    private final ConcurrentMap<String, Locale> matchCache = new ConcurrentHashMap<>();
+
+    /**
+     * @param supportedLocales 支持的语言环境，按照优先级排列
+     * @param defaultLocale    没有匹配时使用的语言环境
+     * @param maxCacheSize     请求头解析结果的缓存上限
+     */
+    public AcceptLanguageLocaleResolver(List<Locale> supportedLocales, Locale defaultLocale, int maxCacheSize) {
+        this.supportedLocales = Collections.unmodifiableList(new ArrayList<>(supportedLocales));
+        this.maxCacheSize = maxCacheSize;
+        setDefaultLocale(defaultLocale);
+    }
+
+    public List<Locale> getSupportedLocales() {
+        return supportedLocales;
+    }
+
+    /**
+     * 当前缓存的请求头数量
+     */
+    public int getCacheSize() {
+        return matchCache.size();
+    }
+
+    @Override
+    public void setLocale(HttpServletRequest request, HttpServletResponse response, Locale locale) {
+        super.setLocale(request, response, locale == null ? null : supportedLocaleFor(locale));
+    }
+
+    @Override
+    protected Locale parseLocaleValue(String localeValue) {
+        final Locale locale = super.parseLocaleValue(localeValue);
+        return locale == null ? null : supportedLocaleFor(locale);
+    }
+
+    @Override
+    protected Locale determineDefaultLocale(HttpServletRequest request) {
+        return match(request.getHeader("Accept-Language"));
+    }
+
+    /**
+     * 按照 Accept-Language 请求头选择语言环境
+     *
+     * @param acceptLanguage 请求头，可以为空
+     * @return 最匹配的语言环境，没有匹配时为默认语言环境
+     */
+    public Locale match(String acceptLanguage) {
+        if (!StringUtils.hasText(acceptLanguage)) {
+            return getDefaultLocale();
+        }
+        if (acceptLanguage.length() > MAX_CACHEABLE_HEADER_LENGTH) {
+            return doMatch(acceptLanguage);
+        }
+        final Locale cached = matchCache.get(acceptLanguage);
+        if (cached != null) {
+            return cached;
+        }
+        final Locale locale = doMatch(acceptLanguage);
+        if (matchCache.size() < maxCacheSize) {
+            matchCache.putIfAbsent(acceptLanguage, locale);
+        }
+        return locale;
+    }
+
+    private Locale doMatch(String acceptLanguage) {
+        final List<Locale.LanguageRange> ranges;
+        try {
+            // 按照 q 值从高到低排序
+            ranges = Locale.LanguageRange.parse(acceptLanguage);
+        } catch (IllegalArgumentException e) {
+            return getDefaultLocale();
+        }
+        for (Locale.LanguageRange range : ranges) {
+            // q=0 表示不接受，排在最后
+            if (range.getWeight() == 0 || "*".equals(range.getRange())) {
+                break;
+            }
+            final Locale supported = supportedLocaleFor(Locale.forLanguageTag(range.getRange()));
+            if (supported != null) {
+                return supported;
+            }
+        }
+        return getDefaultLocale();
+    }
+
+    /**
+     * 支持列表中与指定语言环境最匹配的一个：先完全匹配（语言和国家），再按照语言匹配支持列表中的第一个
+     *
+     * @param requested 请求的语言环境
+     * @return 支持的语言环境，语言不在支持列表中时为空
+     */
+    private Locale supportedLocaleFor(Locale requested) {
+        Locale sameLanguage = null;
+        for (Locale supported : supportedLocales) {
+            if (!supported.getLanguage().equals(requested.getLanguage())) {
+                continue;
+            }
+            if (supported.getCountry().equalsIgnoreCase(requested.getCountry())) {
+                return supported;
+            }
+            if (sameLanguage == null) {
+                sameLanguage = supported;
+            }
+        }
+        return sameLanguage;
+    }
+}
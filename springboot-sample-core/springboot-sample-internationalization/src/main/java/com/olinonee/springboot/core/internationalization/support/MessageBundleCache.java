@@ -0,0 +1,170 @@
+package com.olinonee.springboot.core.internationalization.support;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 按照语言环境缓存预先生成的整个消息包（JSON 及其 gzip 压缩结果）和基于内容的强 ETag
+ * <p>
+ * 强 ETag 要求字节完全相同，因此两种编码各自有一个 ETag：gzip 编码的 ETag 是在未压缩的 ETag 后加上 -gzip 后缀。
+ * <p>
+ * 每个资源包版本、每个语言环境只生成一次，资源包重新加载后整个缓存随之失效；
+ * 内容没有变化时 ETag 不变，客户端的条件请求仍然命中。
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class MessageBundleCache {
+
+    /**
+     * 最多缓存的语言环境数，lang 参数可以是任意值，超过后只生成不缓存
+     */
+    private static final int MAX_CACHED_LOCALES = 256;
+
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    private final WatchingMessageSource messageSource;
+    private final ObjectMapper objectMapper;
+
+    private volatile Generation generation;
+
+    public MessageBundleCache(WatchingMessageSource messageSource, ObjectMapper objectMapper) {
+        this.messageSource = messageSource;
+        this.objectMapper = objectMapper;
+        this.generation = new Generation(messageSource.getGeneration());
+    }
+
+    /**
+     * 获取语言环境的消息包
+     *
+     * @param locale 语言环境
+     * @return 消息包
+     */
+    public MessageBundle get(Locale locale) {
+        final Generation current = currentCache();
+        final MessageBundle bundle = current.bundles.get(locale);
+        if (bundle != null) {
+            return bundle;
+        }
+        if (current.bundles.size() >= MAX_CACHED_LOCALES) {
+            return build(locale);
+        }
+        return current.bundles.computeIfAbsent(locale, this::build);
+    }
+
+    private MessageBundle build(Locale locale) {
+        final Map<String, String> messages = messageSource.getMessages(locale);
+        try {
+            final byte[] json = objectMapper.writeValueAsBytes(messages);
+            return new MessageBundle(json, gzip(json), etag(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("序列化消息包失败", e);
+        }
+    }
+
+    private Generation currentCache() {
+        final Generation current = generation;
+        final long version = messageSource.getGeneration();
+        if (current.version == version) {
+            return current;
+        }
+        synchronized (this) {
+            if (generation.version != version) {
+                generation = new Generation(version);
+            }
+            return generation;
+        }
+    }
+
+    private static byte[] gzip(byte[] bytes) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length / 2 + 32);
+        try (GZIPOutputStream gzipOut = new GZIPOutputStream(out)) {
+            gzipOut.write(bytes);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String etag(byte[] bytes) {
+        try {
+            final byte[] digest = MessageDigest.getInstance("SHA-256").digest(bytes);
+            final StringBuilder builder = new StringBuilder(34).append('"');
+            // 取前 128 位
+            for (int i = 0; i < 16; i++) {
+                builder.append(HEX[(digest[i] >> 4) & 0xF]).append(HEX[digest[i] & 0xF]);
+            }
+            return builder.append('"').toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 预先生成的消息包
+     */
+    public static final class MessageBundle {
+
+        private final byte[] json;
+        private final byte[] gzip;
+        private final String etag;
+        private final String gzipEtag;
+
+        private MessageBundle(byte[] json, byte[] gzip, String etag) {
+            this.json = json;
+            this.gzip = gzip;
+            this.etag = etag;
+            this.gzipEtag = etag.substring(0, etag.length() - 1) + "-gzip\"";
+        }
+
+        /**
+         * UTF-8 编码的 JSON（调用方不得修改）
+         */
+        public byte[] getJson() {
+            return json;
+        }
+
+        /**
+         * gzip 压缩后的 JSON（调用方不得修改）
+         */
+        public byte[] getGzip() {
+            return gzip;
+        }
+
+        /**
+         * 未压缩的 JSON 的强 ETag（包含双引号）
+         */
+        public String getEtag() {
+            return etag;
+        }
+
+        /**
+         * gzip 压缩后的 JSON 的强 ETag（包含双引号）
+         */
+        public String getGzipEtag() {
+            return gzipEtag;
+        }
+    }
+
+    private static final class Generation {
+
+        private final long version;
+        private final ConcurrentMap<Locale, MessageBundle> bundles = new ConcurrentHashMap<>();
+
+        private Generation(long version) {
+            this.version = version;
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.olinonee.springboot.core.internationalization.support;
+
+import java.text.DateFormat;
+import java.text.MessageFormat;
+import java.text.NumberFormat;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 预编译的消息模板：把 MessageFormat 格式的消息拆分为字面量片段和参数占位符，格式化时直接拼接到 StringBuilder，
+ * 不需要像共享的 MessageFormat 那样加锁
+ * <p>
+ * 只有 {0}、{1} 这类简单占位符走快速路径，输出与 MessageFormat 一致；带有格式类型的占位符（如 {0,number,#.##}、{0,choice,...}）
+ * 回退为每次克隆一个 MessageFormat 原型。
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public final class MessageTemplate {
+
+    private final String pattern;
+    private final Locale locale;
+    /**
+     * 依次为字面量（String）或参数下标（Integer）
+     */
+    private final Object[] segments;
+    /**
+     * 带有格式类型的模板使用的 MessageFormat 原型，简单模板为空
+     */
+    private final MessageFormat prototype;
+
+    private MessageTemplate(String pattern, Locale locale, Object[] segments, MessageFormat prototype) {
+        this.pattern = pattern;
+        this.locale = locale;
+        this.segments = segments;
+        this.prototype = prototype;
+    }
+
+    /**
+     * 编译消息模板
+     *
+     * @param pattern MessageFormat 格式的消息
+     * @param locale  语言环境（数字、日期参数的格式）
+     * @return 消息模板
+     * @throws IllegalArgumentException 消息格式不正确
+     */
+    public static MessageTemplate compile(String pattern, Locale locale) {
+        final List<Object> segments = new ArrayList<>();
+        final StringBuilder literal = new StringBuilder();
+        boolean inQuote = false;
+        int i = 0;
+        while (i < pattern.length()) {
+            final char ch = pattern.charAt(i);
+            if (ch == '\'') {
+                if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '\'') {
+                    literal.append('\'');
+                    i += 2;
+                } else {
+                    inQuote = !inQuote;
+                    i++;
+                }
+                continue;
+            }
+            if (ch != '{' || inQuote) {
+                literal.append(ch);
+                i++;
+                continue;
+            }
+            final int end = pattern.indexOf('}', i);
+            final int argumentIndex = end < 0 ? -1 : parseArgumentIndex(pattern, i + 1, end);
+            if (argumentIndex < 0) {
+                // 带有格式类型或者格式不正确，交给 MessageFormat 处理（格式不正确时抛出异常）
+                return new MessageTemplate(pattern, locale, null, new MessageFormat(pattern, locale));
+            }
+            if (literal.length() > 0) {
+                segments.add(literal.toString());
+                literal.setLength(0);
+            }
+            segments.add(argumentIndex);
+            i = end + 1;
+        }
+        if (literal.length() > 0) {
+            segments.add(literal.toString());
+        }
+        return new MessageTemplate(pattern, locale, segments.toArray(), null);
+    }
+
+    /**
+     * 原始消息（不带参数时直接使用，与 MessageSource 一致，不处理引号）
+     */
+    public String getPattern() {
+        return pattern;
+    }
+
+    /**
+     * 按照参数格式化，追加到指定的 StringBuilder
+     *
+     * @param args 参数
+     * @param out  输出
+     */
+    public void formatTo(Object[] args, StringBuilder out) {
+        if (prototype != null) {
+            out.append(((MessageFormat) prototype.clone()).format(args, new StringBuffer(), null));
+            return;
+        }
+        for (Object segment : segments) {
+            if (segment instanceof String) {
+                out.append((String) segment);
+                continue;
+            }
+            final int argumentIndex = (Integer) segment;
+            if (args == null || argumentIndex >= args.length) {
+                out.append('{').append(argumentIndex).append('}');
+                continue;
+            }
+            appendArgument(args[argumentIndex], out);
+        }
+    }
+
+    /**
+     * 与 MessageFormat 对没有格式类型的占位符的处理一致
+     */
+    private void appendArgument(Object argument, StringBuilder out) {
+        if (argument == null) {
+            out.append("null");
+        } else if (argument instanceof String) {
+            out.append((String) argument);
+        } else if (argument instanceof Number) {
+            out.append(NumberFormat.getInstance(locale).format(argument));
+        } else if (argument instanceof Date) {
+            out.append(DateFormat.getDateTimeInstance(DateFormat.SHORT, DateFormat.SHORT, locale).format(argument));
+        } else {
+            out.append(argument);
+        }
+    }
+
+    /**
+     * 解析 {n} 中的参数下标，带有格式类型或不是数字时返回 -1
+     */
+    private static int parseArgumentIndex(String pattern, int start, int end) {
+        int value = 0;
+        boolean digits = false;
+        for (int i = start; i < end; i++) {
+            final char ch = pattern.charAt(i);
+            if (ch < '0' || ch > '9' || value > 1_000_000) {
+                return -1;
+            }
+            value = value * 10 + (ch - '0');
+            digits = true;
+        }
+        return digits ? value : -1;
+    }
+}
@@ -0,0 +1,193 @@
+package com.olinonee.springboot.core.internationalization.support;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.MessageSource;
+import org.springframework.context.NoSuchMessageException;
+
+import java.util.Collections;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 按照（消息键，语言环境）缓存预编译的消息模板，并对不存在的消息键做负缓存：
+ * 同一个不存在的消息键只记录一次警告日志，之后只累加计数
+ * <p>
+ * 通过生成的 {@link MessageKey} 查找时，每个语言环境的模板保存在以枚举序号为下标的数组中，查找只需一次数组访问。
+ * 消息源为 WatchingMessageSource 时，资源包重新加载后整个缓存随之失效。
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class MessageTemplateCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(MessageTemplateCache.class);
+
+    /**
+     * 负缓存标记
+     */
+    private static final Object MISSING = new Object();
+
+    /**
+     * 复用的 StringBuilder 超过该容量时不再复用，避免长期占用内存
+     */
+    private static final int MAX_REUSED_CAPACITY = 4096;
+
+    private static final ThreadLocal<StringBuilder> BUILDER = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    private final MessageSource messageSource;
+
+    private volatile Generation generation;
+
+    public MessageTemplateCache(MessageSource messageSource) {
+        this.messageSource = messageSource;
+        this.generation = new Generation(currentGeneration());
+    }
+
+    /**
+     * 获取消息模板
+     *
+     * @param code   消息键
+     * @param locale 语言环境
+     * @return 消息模板，消息键不存在时为空
+     */
+    public MessageTemplate get(String code, Locale locale) {
+        final Generation current = currentCache();
+        final ConcurrentMap<String, Object> templates = current.templates.computeIfAbsent(locale, key -> new ConcurrentHashMap<>());
+        Object template = templates.get(code);
+        if (template == null) {
+            template = load(code, locale);
+            final Object previous = templates.putIfAbsent(code, template);
+            if (previous != null) {
+                template = previous;
+            } else if (template == MISSING) {
+                logger.warn("[MessageTemplateCache#get] - 语言环境 [{}] 下不存在消息键 [{}]", locale, code);
+            }
+        }
+        if (template == MISSING) {
+            current.missingCounts.computeIfAbsent(code + "@" + locale, key -> new LongAdder()).increment();
+            return null;
+        }
+        return (MessageTemplate) template;
+    }
+
+    /**
+     * 按照生成的消息键获取消息模板
+     *
+     * @param key    消息键
+     * @param locale 语言环境
+     * @return 消息模板，当前语言环境下不存在时为空
+     */
+    public MessageTemplate get(MessageKey key, Locale locale) {
+        final MessageTemplate[] table = currentCache().tables.computeIfAbsent(locale, this::loadTable);
+        final MessageTemplate template = table[key.ordinal()];
+        return template != null ? template : get(key.getKey(), locale);
+    }
+
+    /**
+     * 获取并格式化消息，不带参数时返回原始消息
+     *
+     * @param code   消息键
+     * @param args   参数
+     * @param locale 语言环境
+     * @return 格式化后的消息，消息键不存在时为空
+     */
+    public String format(String code, Object[] args, Locale locale) {
+        return format(get(code, locale), args);
+    }
+
+    /**
+     * 按照生成的消息键获取并格式化消息，不带参数时返回原始消息
+     *
+     * @param key    消息键
+     * @param args   参数
+     * @param locale 语言环境
+     * @return 格式化后的消息，当前语言环境下不存在时为空
+     */
+    public String format(MessageKey key, Object[] args, Locale locale) {
+        return format(get(key, locale), args);
+    }
+
+    private static String format(MessageTemplate template, Object[] args) {
+        if (template == null) {
+            return null;
+        }
+        if (args == null || args.length == 0) {
+            return template.getPattern();
+        }
+        StringBuilder builder = BUILDER.get();
+        if (builder.capacity() > MAX_REUSED_CAPACITY) {
+            builder = new StringBuilder(256);
+            BUILDER.set(builder);
+        }
+        builder.setLength(0);
+        template.formatTo(args, builder);
+        return builder.toString();
+    }
+
+    /**
+     * 当前缓存版本内各个不存在的消息键（消息键@语言环境）被查询的次数
+     */
+    public Map<String, Long> getMissingCounts() {
+        final Map<String, Long> counts = new TreeMap<>();
+        currentCache().missingCounts.forEach((key, count) -> counts.put(key, count.sum()));
+        return Collections.unmodifiableMap(counts);
+    }
+
+    private Object load(String code, Locale locale) {
+        try {
+            // 不带参数时 MessageSource 返回原始消息，由 MessageTemplate 自己解析
+            return MessageTemplate.compile(messageSource.getMessage(code, null, locale), locale);
+        } catch (NoSuchMessageException e) {
+            return MISSING;
+        }
+    }
+
+    /**
+     * 一次性加载语言环境下所有生成的消息键，不存在的消息键留空，查找时再走负缓存
+     */
+    private MessageTemplate[] loadTable(Locale locale) {
+        final MessageKey[] keys = MessageKey.values();
+        final MessageTemplate[] table = new MessageTemplate[keys.length];
+        for (MessageKey key : keys) {
+            final Object template = load(key.getKey(), locale);
+            table[key.ordinal()] = template == MISSING ? null : (MessageTemplate) template;
+        }
+        return table;
+    }
+
+    private Generation currentCache() {
+        final Generation current = generation;
+        final long version = currentGeneration();
+        if (current.version == version) {
+            return current;
+        }
+        synchronized (this) {
+            if (generation.version != version) {
+                generation = new Generation(version);
+            }
+            return generation;
+        }
+    }
+
+    private long currentGeneration() {
+        return messageSource instanceof WatchingMessageSource ? ((WatchingMessageSource) messageSource).getGeneration() : 0;
+    }
+
+    private static final class Generation {
+
+        private final long version;
+        private final ConcurrentMap<Locale, ConcurrentMap<String, Object>> templates = new ConcurrentHashMap<>();
+        private final ConcurrentMap<String, LongAdder> missingCounts = new ConcurrentHashMap<>();
+        private final ConcurrentMap<Locale, MessageTemplate[]> tables = new ConcurrentHashMap<>();
+
+        private Generation(long version) {
+            this.version = version;
+        }
+    }
+}
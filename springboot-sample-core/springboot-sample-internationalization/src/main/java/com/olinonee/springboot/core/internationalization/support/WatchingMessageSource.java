@@ -0,0 +1,343 @@
+package com.olinonee.springboot.core.internationalization.support;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.support.AbstractMessageSource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.text.MessageFormat;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 进程内共享的消息源：启动时解析一次所有资源包（messages*.properties），之后只通过 WatchService 监听资源包所在目录，
+ * 某个文件变更时只重新解析这一个文件，并以原子替换的方式发布新的不可变快照
+ * <p>
+ * 读取时只访问当前快照，不加锁；按照语言环境计算的查找链和 MessageFormat 缓存在快照中，随快照一起替换。
+ * 资源包位于 jar 包内时无法监听，只加载一次。
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class WatchingMessageSource extends AbstractMessageSource {
+
+    private static final Logger logger = LoggerFactory.getLogger(WatchingMessageSource.class);
+
+    private static final String PROPERTIES_SUFFIX = ".properties";
+
+    /**
+     * 同一次保存往往产生多个文件事件，等待该时长后合并处理
+     */
+    private static final long DEBOUNCE_MILLIS = 50;
+
+    private final ResourcePatternResolver resourcePatternResolver;
+    private final String basename;
+    private final String bundlePrefix;
+
+    private boolean fallbackToSystemLocale = true;
+
+    private volatile Snapshot snapshot = new Snapshot(Collections.emptyMap(), 0);
+    private WatchService watchService;
+    private Thread watcherThread;
+
+    /**
+     * @param basename 资源包基础名称，支持 Spring 资源前缀，例如 classpath*:i18n/messages、file:/etc/app/i18n/messages
+     */
+    public WatchingMessageSource(String basename) {
+        this(new PathMatchingResourcePatternResolver(), basename);
+    }
+
+    public WatchingMessageSource(ResourcePatternResolver resourcePatternResolver, String basename) {
+        this.resourcePatternResolver = resourcePatternResolver;
+        this.basename = basename;
+        this.bundlePrefix = basename.substring(Math.max(basename.lastIndexOf('/'), basename.lastIndexOf(':')) + 1);
+    }
+
+    /**
+     * 找不到指定语言环境的资源包时是否回退到系统语言环境，与 ReloadableResourceBundleMessageSource 的默认行为一致
+     */
+    public void setFallbackToSystemLocale(boolean fallbackToSystemLocale) {
+        this.fallbackToSystemLocale = fallbackToSystemLocale;
+    }
+
+    /**
+     * 加载所有资源包并开始监听资源包所在的目录
+     */
+    public synchronized void start() {
+        if (watcherThread != null) {
+            return;
+        }
+        final Map<String, Bundle> bundles = new HashMap<>();
+        final Set<Path> directories = new LinkedHashSet<>();
+        try {
+            for (Resource resource : resourcePatternResolver.getResources(basename + "*" + PROPERTIES_SUFFIX)) {
+                final String bundleName = bundleName(resource.getFilename());
+                if (bundleName == null || bundles.containsKey(bundleName)) {
+                    // 类路径上有多个同名资源包时与类加载器一致，以第一个为准
+                    continue;
+                }
+                final Path path = resource.isFile() ? resource.getFile().toPath().toAbsolutePath() : null;
+                try (InputStream inputStream = resource.getInputStream()) {
+                    bundles.put(bundleName, new Bundle(path, parse(inputStream)));
+                }
+                if (path != null) {
+                    directories.add(path.getParent());
+                }
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("加载资源包 [" + basename + "] 失败", e);
+        }
+        snapshot = new Snapshot(bundles, snapshot.generation + 1);
+        logger.info("[WatchingMessageSource#start] - 已加载资源包 {}", new TreeSet<>(bundles.keySet()));
+        if (directories.isEmpty()) {
+            return;
+        }
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            for (Path directory : directories) {
+                directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE);
+            }
+        } catch (IOException e) {
+            logger.warn("[WatchingMessageSource#start] - 监听资源包目录 {} 失败，资源包修改后不会自动重新加载，异常信息为：{}", directories, e.getMessage());
+            return;
+        }
+        watcherThread = new Thread(this::watch, "i18n-watcher");
+        watcherThread.setDaemon(true);
+        watcherThread.start();
+    }
+
+    /**
+     * 停止监听，已加载的快照仍然可用
+     */
+    public synchronized void stop() {
+        if (watcherThread == null) {
+            return;
+        }
+        watcherThread.interrupt();
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            logger.warn("[WatchingMessageSource#stop] - 关闭 WatchService 失败，异常信息为：{}", e.getMessage());
+        }
+        watcherThread = null;
+    }
+
+    /**
+     * 当前快照的版本号，每次重新加载后递增，依赖消息内容的缓存可以据此判断是否失效
+     */
+    public long getGeneration() {
+        return snapshot.generation;
+    }
+
+    /**
+     * 当前快照中已加载的资源包名称
+     */
+    public Set<String> getBundleNames() {
+        return snapshot.bundles.keySet();
+    }
+
+    @Override
+    protected String resolveCodeWithoutArguments(String code, Locale locale) {
+        return snapshot.resolve(code, locale);
+    }
+
+    @Override
+    protected MessageFormat resolveCode(String code, Locale locale) {
+        final Snapshot current = snapshot;
+        final String message = current.resolve(code, locale);
+        if (message == null) {
+            return null;
+        }
+        return current.messageFormats
+                .computeIfAbsent(locale, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(code, key -> createMessageFormat(message, locale));
+    }
+
+    private void watch() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey watchKey = watchService.take();
+                final Set<Path> changed = new LinkedHashSet<>();
+                do {
+                    final Path directory = (Path) watchKey.watchable();
+                    for (WatchEvent<?> event : watchKey.pollEvents()) {
+                        if (event.context() instanceof Path) {
+                            changed.add(directory.resolve((Path) event.context()));
+                        }
+                    }
+                    watchKey.reset();
+                    watchKey = watchService.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+                } while (watchKey != null);
+                reload(changed);
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // 停止监听
+        }
+    }
+
+    /**
+     * 只重新解析发生变化的资源包，其余资源包直接沿用当前快照中的（不可变）内容
+     */
+    private void reload(Set<Path> changed) {
+        final Map<String, Bundle> bundles = new HashMap<>(snapshot.bundles);
+        final List<String> reloaded = new ArrayList<>();
+        for (Path path : changed) {
+            final String bundleName = bundleName(path.getFileName().toString());
+            if (bundleName == null) {
+                continue;
+            }
+            final Bundle current = bundles.get(bundleName);
+            if (current != null && !path.equals(current.path)) {
+                // 该资源包以类路径上的另一个文件为准
+                continue;
+            }
+            if (!Files.exists(path)) {
+                if (bundles.remove(bundleName) != null) {
+                    reloaded.add(bundleName);
+                }
+                continue;
+            }
+            try (InputStream inputStream = Files.newInputStream(path)) {
+                bundles.put(bundleName, new Bundle(path, parse(inputStream)));
+                reloaded.add(bundleName);
+            } catch (IOException | IllegalArgumentException e) {
+                // 文件可能正在写入，保留原内容，等待下一次修改事件
+                logger.warn("[WatchingMessageSource#reload] - 解析资源包 [{}] 失败，继续使用原内容，异常信息为：{}", path, e.getMessage());
+            }
+        }
+        if (!reloaded.isEmpty()) {
+            snapshot = new Snapshot(bundles, snapshot.generation + 1);
+            logger.info("[WatchingMessageSource#reload] - 已重新加载资源包 {}", reloaded);
+        }
+    }
+
+    private String bundleName(String filename) {
+        if (filename == null || !filename.endsWith(PROPERTIES_SUFFIX)) {
+            return null;
+        }
+        final String bundleName = filename.substring(0, filename.length() - PROPERTIES_SUFFIX.length());
+        return bundleName.equals(bundlePrefix) || bundleName.startsWith(bundlePrefix + "_") ? bundleName : null;
+    }
+
+    private static Map<String, String> parse(InputStream inputStream) throws IOException {
+        final Properties properties = new Properties();
+        try (Reader reader = new InputStreamReader(inputStream, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        }
+        final Map<String, String> entries = new HashMap<>(properties.size() * 2);
+        properties.forEach((key, value) -> entries.put((String) key, (String) value));
+        return Collections.unmodifiableMap(entries);
+    }
+
+    /**
+     * 语言环境下的所有消息（按照查找链合并，优先级高的资源包覆盖优先级低的），消息键按照字典序排列
+     *
+     * @param locale 语言环境
+     * @return 消息键与原始消息
+     */
+    public Map<String, String> getMessages(Locale locale) {
+        final List<Map<String, String>> chain = snapshot.chains.computeIfAbsent(locale, snapshot::chainFor);
+        final Map<String, String> messages = new TreeMap<>();
+        for (int i = chain.size() - 1; i >= 0; i--) {
+            messages.putAll(chain.get(i));
+        }
+        return messages;
+    }
+
+    /**
+     * 资源包名称列表：语言_国家_变体、语言_国家、语言，然后是系统语言环境的同样序列，最后是基础资源包
+     */
+    private List<String> bundleNamesFor(Locale locale) {
+        final List<String> names = new ArrayList<>(7);
+        addBundleNames(locale, names);
+        final Locale defaultLocale = Locale.getDefault();
+        if (fallbackToSystemLocale && !locale.equals(defaultLocale)) {
+            addBundleNames(defaultLocale, names);
+        }
+        names.add(bundlePrefix);
+        return names;
+    }
+
+    private void addBundleNames(Locale locale, List<String> names) {
+        final String language = locale.getLanguage();
+        final String country = locale.getCountry();
+        final String variant = locale.getVariant();
+        final List<String> candidates = new ArrayList<>(3);
+        if (!variant.isEmpty()) {
+            candidates.add(bundlePrefix + "_" + language + "_" + country + "_" + variant);
+        }
+        if (!country.isEmpty()) {
+            candidates.add(bundlePrefix + "_" + language + "_" + country);
+        }
+        if (!language.isEmpty()) {
+            candidates.add(bundlePrefix + "_" + language);
+        }
+        for (String candidate : candidates) {
+            if (!names.contains(candidate)) {
+                names.add(candidate);
+            }
+        }
+    }
+
+    private static final class Bundle {
+
+        /**
+         * 资源包文件路径，位于 jar 包内时为空
+         */
+        private final Path path;
+        private final Map<String, String> entries;
+
+        private Bundle(Path path, Map<String, String> entries) {
+            this.path = path;
+            this.entries = entries;
+        }
+    }
+
+    /**
+     * 不可变快照：资源包内容在发布后不再修改，查找链与 MessageFormat 只是派生的缓存
+     */
+    private final class Snapshot {
+
+        private final Map<String, Bundle> bundles;
+        private final long generation;
+        private final ConcurrentMap<Locale, List<Map<String, String>>> chains = new ConcurrentHashMap<>();
+        private final ConcurrentMap<Locale, ConcurrentMap<String, MessageFormat>> messageFormats = new ConcurrentHashMap<>();
+
+        private Snapshot(Map<String, Bundle> bundles, long generation) {
+            this.bundles = Collections.unmodifiableMap(bundles);
+            this.generation = generation;
+        }
+
+        private String resolve(String code, Locale locale) {
+            for (Map<String, String> entries : chains.computeIfAbsent(locale, this::chainFor)) {
+                final String message = entries.get(code);
+                if (message != null) {
+                    return message;
+                }
+            }
+            return null;
+        }
+
+        private List<Map<String, String>> chainFor(Locale locale) {
+            final List<Map<String, String>> chain = new ArrayList<>();
+            for (String bundleName : bundleNamesFor(locale)) {
+                final Bundle bundle = bundles.get(bundleName);
+                if (bundle != null) {
+                    chain.add(bundle.entries);
+                }
+            }
+            return chain;
+        }
+    }
+}
@@ -1,15 +1,34 @@
 package com.olinonee.springboot.core.internationalization.util;
 
+import com.olinonee.springboot.core.internationalization.catalog.CatalogMessageSource;
+import com.olinonee.springboot.core.internationalization.catalog.MessageCatalog;
+import com.olinonee.springboot.core.internationalization.support.MessageKey;
+import com.olinonee.springboot.core.internationalization.support.MessageTemplateCache;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.MessageSource;
 import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
 
+import java.io.IOException;
 import java.util.Locale;
+import java.util.Map;
 
 /**
  * I18n boot 工具类（在工具类中使用 Spring 获取自动注入的 bean 或者属性）
+ * <p>
+ * 消息按照（消息键，语言环境）预编译为模板并缓存，带参数的消息直接拼接，不经过共享 MessageFormat 的加锁格式化；
+ * 不存在的消息键只记录一次警告日志，之后只计数（见 {@link #getMissingCounts()}）。
+ * <p>
+ * 配置了 i18n.catalog.location 且文件存在时，消息从构建时编译的内存映射消息目录（见 {@link MessageCatalog}）中读取，
+ * 否则使用容器中的 MessageSource；消息目录损坏（无法通过校验）时同样回退到 MessageSource。
+ * <p>
+ * 两者的查找链一致：语言环境自身的资源包、系统语言环境的资源包、基础资源包。唯一的差别是消息目录在编译时已经把回退展开并合并了相同的值，
+ * 语言环境的资源包中某个消息与基础资源包完全相同时无法区分来源，会继续回退到系统语言环境（如果系统语言环境有不同的值）。
  *
  * @author olinH, olinone666@gmail.com
  * @version v1.0.0
@@ -19,11 +38,31 @@ import java.util.Locale;
 public class I18nBootUtil {
     private static final Logger logger = LoggerFactory.getLogger(I18nBootUtil.class);
 
-    private static MessageSource messageSource;
+    private static MessageTemplateCache messageTemplateCache;
 
     // 注入 MessageSource 属性，方便上下文获取
-    private I18nBootUtil(MessageSource messageSource) {
-        I18nBootUtil.messageSource = messageSource;
+    private I18nBootUtil(MessageSource messageSource, ResourceLoader resourceLoader,
+                         @Value("${i18n.catalog.location:}") String catalogLocation) {
+        I18nBootUtil.messageTemplateCache = new MessageTemplateCache(resolveMessageSource(messageSource, resourceLoader, catalogLocation));
+    }
+
+    private static MessageSource resolveMessageSource(MessageSource messageSource, ResourceLoader resourceLoader, String catalogLocation) {
+        if (!StringUtils.hasText(catalogLocation)) {
+            return messageSource;
+        }
+        final Resource resource = resourceLoader.getResource(catalogLocation);
+        if (!resource.exists()) {
+            logger.info("[I18nBootUtil#resolveMessageSource] - 消息目录 {} 不存在，使用 MessageSource", catalogLocation);
+            return messageSource;
+        }
+        try {
+            final MessageCatalog messageCatalog = MessageCatalog.load(resource);
+            logger.info("[I18nBootUtil#resolveMessageSource] - 加载消息目录 {}，语言环境：{}", catalogLocation, messageCatalog.getLocaleTags());
+            return new CatalogMessageSource(messageCatalog);
+        } catch (IOException | IllegalArgumentException e) {
+            logger.warn("[I18nBootUtil#resolveMessageSource] - 加载消息目录 {} 失败，使用 MessageSource", catalogLocation, e);
+            return messageSource;
+        }
     }
 
     /**
@@ -43,7 +82,8 @@ public class I18nBootUtil {
         String message = "";
         try {
             Locale locale = LocaleContextHolder.getLocale();
-            message = messageSource.getMessage(translateMsg, null, locale);
+            final String resolved = messageTemplateCache.format(translateMsg, null, locale);
+            message = resolved == null ? "" : resolved;
         } catch (Exception e) {
             logger.error("[I18nBootUtil#get] - parse message error! ", e);
         }
@@ -68,10 +108,45 @@ public class I18nBootUtil {
         String message = "";
         try {
             Locale locale = LocaleContextHolder.getLocale();
-            message = messageSource.getMessage(translateMsg, params, locale);
+            final String resolved = messageTemplateCache.format(translateMsg, params, locale);
+            message = resolved == null ? "" : resolved;
+        } catch (Exception e) {
+            logger.error("[I18nBootUtil#get] - parse message error! ", e);
+        }
+        return message;
+    }
+
+    /**
+     * 按照生成的消息键获取翻译值，消息键在编译时检查，查找为按照语言环境的数组访问
+     * <p>
+     * 例如：
+     * <pre>
+     *     String msg = get(MessageKey.OPERATION_SUCCESS);
+     *     String msg = get(MessageKey.START_GE_END, startDate, endDate);
+     * </pre>
+     *
+     * @param key    消息键
+     * @param params 填充的参数，个数应当与 {@link MessageKey#getArgumentCount()} 一致
+     * @return 翻译之后的字符串
+     */
+    public static String get(MessageKey key, Object... params) {
+        String message = "";
+        try {
+            Locale locale = LocaleContextHolder.getLocale();
+            final String resolved = messageTemplateCache.format(key, params, locale);
+            message = resolved == null ? "" : resolved;
         } catch (Exception e) {
             logger.error("[I18nBootUtil#get] - parse message error! ", e);
         }
         return message;
     }
+
+    /**
+     * 不存在的消息键（消息键@语言环境）被查询的次数
+     *
+     * @return 消息键与查询次数
+     */
+    public static Map<String, Long> getMissingCounts() {
+        return messageTemplateCache.getMissingCounts();
+    }
 }
@@ -1,15 +1,16 @@
 package com.olinonee.springboot.core.internationalization.util;
 
+import com.olinonee.springboot.core.internationalization.support.WatchingMessageSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.i18n.LocaleContextHolder;
-import org.springframework.context.support.ReloadableResourceBundleMessageSource;
 
-import java.nio.charset.StandardCharsets;
 import java.util.Locale;
 
 /**
  * 国际化工具类
+ * <p>
+ * 所有调用共享同一个进程内的消息源（首次使用时加载），资源包文件修改后自动重新加载，无需重启。
  *
  * @author olinH, olinone666@gmail.com
  * @version v1.0.0
@@ -18,6 +19,20 @@ import java.util.Locale;
 public class I18nUtil {
     private static final Logger logger = LoggerFactory.getLogger(I18nUtil.class);
 
+    /**
+     * 资源包基础名称
+     */
+    public static final String BASENAME = "classpath*:i18n/messages";
+
+    /**
+     * 获取进程内共享的消息源
+     *
+     * @return WatchingMessageSource
+     */
+    public static WatchingMessageSource getMessageSource() {
+        return MessageSourceHolder.MESSAGE_SOURCE;
+    }
+
     /**
      * 获取单个翻译值，固定参数格式
      * <p>
@@ -31,16 +46,10 @@ public class I18nUtil {
      * @return 翻译之后的字符串
      */
     public static String get(String translateMsg) {
-        ReloadableResourceBundleMessageSource messageSource = new ReloadableResourceBundleMessageSource();
-        messageSource.setCacheSeconds(-1);
-        messageSource.setDefaultEncoding(StandardCharsets.UTF_8.name());
-        // 设置文件基础扫描路径名称
-        messageSource.setBasenames("i18n/messages");
-
         String message = "";
         try {
             Locale locale = LocaleContextHolder.getLocale();
-            message = messageSource.getMessage(translateMsg, null, locale);
+            message = MessageSourceHolder.MESSAGE_SOURCE.getMessage(translateMsg, null, locale);
         } catch (Exception e) {
             logger.error("[I18nUtil#get] - parse message error! ", e);
         }
@@ -62,19 +71,27 @@ public class I18nUtil {
      * @return 翻译之后的字符串
      */
     public static String get(String translateMsg, Object[] params) {
-        ReloadableResourceBundleMessageSource messageSource = new ReloadableResourceBundleMessageSource();
-        messageSource.setCacheSeconds(-1);
-        messageSource.setDefaultEncoding(StandardCharsets.UTF_8.name());
-        // 设置文件基础扫描路径名称
-        messageSource.setBasenames("i18n/messages");
-
         String message = "";
         try {
             Locale locale = LocaleContextHolder.getLocale();
-            message = messageSource.getMessage(translateMsg, params, locale);
+            message = MessageSourceHolder.MESSAGE_SOURCE.getMessage(translateMsg, params, locale);
         } catch (Exception e) {
             logger.error("[I18nUtil#get] - parse message error! ", e);
         }
         return message;
     }
+
+    /**
+     * 延迟初始化的消息源持有者
+     */
+    private static final class MessageSourceHolder {
+
+        private static final WatchingMessageSource MESSAGE_SOURCE = createMessageSource();
+
+        private static WatchingMessageSource createMessageSource() {
+            final WatchingMessageSource messageSource = new WatchingMessageSource(BASENAME);
+            messageSource.start();
+            return messageSource;
+        }
+    }
 }
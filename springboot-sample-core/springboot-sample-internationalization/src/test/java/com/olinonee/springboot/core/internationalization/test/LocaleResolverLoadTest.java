@@ -0,0 +1,140 @@
+package com.olinonee.springboot.core.internationalization.test;
+
+import com.olinonee.springboot.core.internationalization.support.AcceptLanguageLocaleResolver;
+import org.apache.catalina.Context;
+import org.apache.catalina.Manager;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.LocaleResolver;
+
+import javax.servlet.http.Cookie;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 无状态语言环境解析的匹配规则与压力测试：大量不同的 Accept-Language 请求之后，会话数为 0，缓存和堆内存保持平稳
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = "i18n.locale.cache-size=64")
+public class LocaleResolverLoadTest {
+
+    private static final int ROUNDS = 4;
+    private static final int REQUESTS_PER_ROUND = 2000;
+
+    @Autowired
+    ServletWebServerApplicationContext applicationContext;
+
+    @Autowired
+    LocaleResolver localeResolver;
+
+    @Test
+    void testMatchesAcceptLanguage() {
+        final AcceptLanguageLocaleResolver resolver = (AcceptLanguageLocaleResolver) localeResolver;
+        Assertions.assertThat(resolver.getSupportedLocales()).containsExactly(Locale.CHINA, Locale.US, Locale.TAIWAN);
+        Assertions.assertThat(resolver.match(null)).isEqualTo(Locale.CHINA);
+        Assertions.assertThat(resolver.match("en-US,en;q=0.9")).isEqualTo(Locale.US);
+        Assertions.assertThat(resolver.match("fr-FR, en-GB;q=0.8, zh-TW;q=0.5")).isEqualTo(Locale.US);
+        Assertions.assertThat(resolver.match("en;q=0.3, zh-TW;q=0.7")).isEqualTo(Locale.TAIWAN);
+        Assertions.assertThat(resolver.match("zh")).isEqualTo(Locale.CHINA);
+        Assertions.assertThat(resolver.match("en-US;q=0, de")).isEqualTo(Locale.CHINA);
+        Assertions.assertThat(resolver.match("*")).isEqualTo(Locale.CHINA);
+        Assertions.assertThat(resolver.match("not a;;header;q=x")).isEqualTo(Locale.CHINA);
+    }
+
+    @Test
+    void testMapsLangParameterAndCookieToSupportedLocales() {
+        final AcceptLanguageLocaleResolver resolver = (AcceptLanguageLocaleResolver) localeResolver;
+
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        resolver.setLocale(request, response, Locale.UK);
+        Assertions.assertThat(resolver.resolveLocale(request)).isEqualTo(Locale.US);
+        Assertions.assertThat(response.getCookie("lang").getValue()).isEqualTo("en-US");
+
+        // 不支持的语言：删除 Cookie，按照 Accept-Language 选择
+        final MockHttpServletRequest unsupported = new MockHttpServletRequest();
+        unsupported.addHeader("Accept-Language", "zh-TW");
+        final MockHttpServletResponse removed = new MockHttpServletResponse();
+        resolver.setLocale(unsupported, removed, Locale.forLanguageTag("x-unsupported"));
+        Assertions.assertThat(resolver.resolveLocale(unsupported)).isEqualTo(Locale.TAIWAN);
+        Assertions.assertThat(removed.getCookie("lang").getMaxAge()).isZero();
+
+        // Cookie 中的值同样映射，不支持的值改用 Accept-Language
+        final MockHttpServletRequest cookie = new MockHttpServletRequest();
+        cookie.setCookies(new Cookie("lang", "zh-HK"));
+        Assertions.assertThat(resolver.resolveLocale(cookie)).isEqualTo(Locale.CHINA);
+        final MockHttpServletRequest unknownCookie = new MockHttpServletRequest();
+        unknownCookie.setCookies(new Cookie("lang", "fr-FR"));
+        unknownCookie.addHeader("Accept-Language", "en");
+        Assertions.assertThat(resolver.resolveLocale(unknownCookie)).isEqualTo(Locale.US);
+    }
+
+    @Test
+    void testSessionsAndHeapStayFlat() throws Exception {
+        final String baseUrl = "http://localhost:" + applicationContext.getWebServer().getPort();
+        final HttpClient client = HttpClient.newHttpClient();
+
+        // 预热一轮之后记录堆内存基线
+        runRound(client, baseUrl, 0);
+        final long baseline = usedHeapAfterGc();
+        for (int round = 1; round < ROUNDS; round++) {
+            runRound(client, baseUrl, round);
+        }
+        final long growth = usedHeapAfterGc() - baseline;
+
+        Assertions.assertThat(tomcatSessionManager().getActiveSessions()).isZero();
+        Assertions.assertThat(tomcatSessionManager().getSessionCounter()).isZero();
+        Assertions.assertThat(((AcceptLanguageLocaleResolver) localeResolver).getCacheSize()).isLessThanOrEqualTo(64);
+        Assertions.assertThat(growth).as("堆内存增长 %d 字节", growth).isLessThan(32L * 1024 * 1024);
+    }
+
+    /**
+     * 一轮请求：每个请求的 Accept-Language 都不同，其中一部分通过 lang 参数切换语言，另一部分的 lang 参数各不相同（都不在支持列表中）
+     */
+    private void runRound(HttpClient client, String baseUrl, int round) {
+        final List<CompletableFuture<HttpResponse<String>>> futures = new ArrayList<>(REQUESTS_PER_ROUND);
+        for (int i = 0; i < REQUESTS_PER_ROUND; i++) {
+            final String acceptLanguage = "en-US;q=0." + (i % 9 + 1) + ", zh-TW;q=0." + (i % 7 + 1) + ", x-r" + round + "-" + i;
+            final String query = i % 10 == 0 ? "?lang=en_US" : i % 10 == 1 ? "?lang=x" + round + "_" + Integer.toString(i, 36) : "";
+            final HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/i18n/osm" + query))
+                    .header("Accept-Language", acceptLanguage).GET().build();
+            futures.add(client.sendAsync(request, HttpResponse.BodyHandlers.ofString()));
+        }
+        for (CompletableFuture<HttpResponse<String>> future : futures) {
+            final HttpResponse<String> response = future.join();
+            Assertions.assertThat(response.statusCode()).isEqualTo(200);
+            final String setCookie = response.headers().firstValue("Set-Cookie").orElse("");
+            Assertions.assertThat(setCookie).doesNotContain("JSESSIONID");
+            // 写入 Cookie 的只会是支持的语言环境，不支持的 lang 参数只会删除 Cookie
+            if (setCookie.startsWith("lang=") && !setCookie.contains("Max-Age=0")) {
+                Assertions.assertThat(setCookie).startsWith("lang=en-US;");
+            }
+        }
+    }
+
+    private Manager tomcatSessionManager() {
+        final TomcatWebServer webServer = (TomcatWebServer) applicationContext.getWebServer();
+        return ((Context) webServer.getTomcat().getHost().findChildren()[0]).getManager();
+    }
+
+    private static long usedHeapAfterGc() {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,92 @@
+package com.olinonee.springboot.core.internationalization.test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.olinonee.springboot.core.internationalization.support.MessageBundleCache;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayInputStream;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 整个消息包接口测试：预先压缩、强 ETag 与条件请求
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+public class MessageBundleTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    MessageBundleCache messageBundleCache;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    void testServesPrecompressedBundleWithEtag() throws Exception {
+        final MockHttpServletResponse gzipped = mockMvc.perform(get("/i18n/bundle").param("lang", "en_US")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "br;q=1.0, gzip;q=0.8"))
+                .andExpect(status().isOk()).andReturn().getResponse();
+        Assertions.assertThat(gzipped.getHeader(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        final String etag = gzipped.getHeader(HttpHeaders.ETAG);
+        Assertions.assertThat(etag).startsWith("\"").endsWith("\"");
+        final Map<String, String> messages;
+        try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(gzipped.getContentAsByteArray()))) {
+            messages = objectMapper.readValue(inputStream, new TypeReference<Map<String, String>>() {
+            });
+        }
+        Assertions.assertThat(messages).containsEntry("operation.success", "The operation is successful!")
+                .containsEntry("start.ge.end", "The start date {0} must be earlier than the end date {1}!");
+
+        // 未压缩的响应字节不同，强 ETag 也不同
+        final MockHttpServletResponse plain = mockMvc.perform(get("/i18n/bundle").param("lang", "en_US")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity"))
+                .andExpect(status().isOk()).andReturn().getResponse();
+        Assertions.assertThat(plain.getHeader(HttpHeaders.CONTENT_ENCODING)).isNull();
+        final String plainEtag = plain.getHeader(HttpHeaders.ETAG);
+        Assertions.assertThat(plainEtag).startsWith("\"").endsWith("\"").isNotEqualTo(etag);
+        Assertions.assertThat(etag).isEqualTo(plainEtag.substring(0, plainEtag.length() - 1) + "-gzip\"");
+        Assertions.assertThat(objectMapper.readValue(plain.getContentAsByteArray(), new TypeReference<Map<String, String>>() {
+        })).isEqualTo(messages);
+
+        // 条件请求返回 304，不带响应体
+        final MockHttpServletResponse notModified = mockMvc.perform(get("/i18n/bundle")
+                        .header(HttpHeaders.ACCEPT_LANGUAGE, "en-US,en;q=0.9").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified()).andReturn().getResponse();
+        Assertions.assertThat(notModified.getContentLength()).isZero();
+        Assertions.assertThat(notModified.getHeader(HttpHeaders.ETAG)).isEqualTo(etag);
+
+        // If-None-Match 命中另一种编码的 ETag 同样返回 304，ETag 为命中的那个
+        mockMvc.perform(get("/i18n/bundle").param("lang", "en_US")
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip").header(HttpHeaders.IF_NONE_MATCH, "\"other\", " + plainEtag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, plainEtag));
+
+        // 其他语言环境的 ETag 不同
+        final String traditionalEtag = mockMvc.perform(get("/i18n/bundle").header(HttpHeaders.ACCEPT_LANGUAGE, "zh-TW").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk()).andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        Assertions.assertThat(traditionalEtag).isNotEqualTo(etag);
+
+        // 每个语言环境只生成一次
+        Assertions.assertThat(messageBundleCache.get(Locale.US)).isSameAs(messageBundleCache.get(Locale.US));
+    }
+}
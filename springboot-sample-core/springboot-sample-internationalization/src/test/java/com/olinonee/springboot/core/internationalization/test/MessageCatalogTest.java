@@ -0,0 +1,153 @@
+package com.olinonee.springboot.core.internationalization.test;
+
+import com.olinonee.springboot.core.internationalization.catalog.CatalogMessageSource;
+import com.olinonee.springboot.core.internationalization.catalog.MessageCatalog;
+import com.olinonee.springboot.core.internationalization.catalog.MessageCatalogCompiler;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.support.ReloadableResourceBundleMessageSource;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+
+/**
+ * 内存映射消息目录测试
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class MessageCatalogTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testResolvesLikeResourceBundleMessageSource() throws IOException {
+        write("messages.properties", "a=base-a", "b=base-b", "c=base-c");
+        write("messages_zh.properties", "a=中文-a", "b=中文-b");
+        write("messages_zh_CN.properties", "a=简体-a");
+        write("messages_en_US.properties", "b=english-b");
+
+        final Path output = directory.resolve("messages.catalog");
+        MessageCatalogCompiler.compile(MessageCatalogCompiler.readBundles(directory, "messages"), output);
+        final MessageCatalog catalog = MessageCatalog.open(output);
+        catalog.setFallbackToSystemLocale(false);
+        Assertions.assertThat(catalog.getLocaleTags()).containsExactlyInAnyOrder("", "zh", "zh_CN", "en_US");
+
+        final ReloadableResourceBundleMessageSource expected = new ReloadableResourceBundleMessageSource();
+        expected.setBasename(directory.toUri() + "messages");
+        expected.setDefaultEncoding(StandardCharsets.UTF_8.name());
+        expected.setFallbackToSystemLocale(false);
+        expected.setUseCodeAsDefaultMessage(false);
+        final CatalogMessageSource actual = new CatalogMessageSource(catalog);
+
+        for (Locale locale : new Locale[]{Locale.SIMPLIFIED_CHINESE, Locale.TRADITIONAL_CHINESE, Locale.CHINESE, Locale.US, Locale.UK, Locale.GERMANY}) {
+            for (String key : new String[]{"a", "b", "c"}) {
+                Assertions.assertThat(actual.getMessage(key, null, locale)).as(key + "@" + locale)
+                        .isEqualTo(expected.getMessage(key, null, locale));
+            }
+            Assertions.assertThat(catalog.get("missing", locale)).isNull();
+        }
+        Assertions.assertThat(catalog.get("a", "zh_CN")).isEqualTo("简体-a");
+        Assertions.assertThat(catalog.get("b", "zh_CN")).isEqualTo("中文-b");
+        Assertions.assertThat(catalog.get("a", "fr")).isNull();
+    }
+
+    @Test
+    void testPerfectHashOverManyKeys() throws IOException {
+        final Random random = new Random(20261017L);
+        final Map<String, String> base = new HashMap<>();
+        final Map<String, String> zh = new HashMap<>();
+        while (base.size() < 10_000) {
+            final String key = "key." + Long.toString(random.nextLong(), 36);
+            base.put(key, "value " + key);
+            if (random.nextInt(3) == 0) {
+                zh.put(key, "值 " + key);
+            }
+        }
+        final Map<String, Map<String, String>> bundles = new TreeMap<>();
+        bundles.put("", base);
+        bundles.put("zh", zh);
+        final Path output = directory.resolve("random.catalog");
+        MessageCatalogCompiler.compile(bundles, output);
+        final MessageCatalog catalog = MessageCatalog.open(output);
+
+        for (Map.Entry<String, String> entry : base.entrySet()) {
+            Assertions.assertThat(catalog.get(entry.getKey(), "")).isEqualTo(entry.getValue());
+            Assertions.assertThat(catalog.get(entry.getKey(), "zh")).isEqualTo(zh.getOrDefault(entry.getKey(), entry.getValue()));
+            Assertions.assertThat(catalog.get(entry.getKey() + "x", "")).isNull();
+        }
+    }
+
+    @Test
+    void testFallsBackToSystemLocalePerKey() throws IOException {
+        write("messages.properties", "a=base-a", "b=base-b", "c=base-c");
+        write("messages_zh_CN.properties", "a=简体-a", "b=简体-b");
+        write("messages_en.properties", "a=english-a");
+        write("messages_fr.properties", "c=français-c");
+
+        final Path output = directory.resolve("messages.catalog");
+        MessageCatalogCompiler.compile(MessageCatalogCompiler.readBundles(directory, "messages"), output);
+        final MessageCatalog catalog = MessageCatalog.open(output);
+
+        final ReloadableResourceBundleMessageSource expected = new ReloadableResourceBundleMessageSource();
+        expected.setBasename(directory.toUri() + "messages");
+        expected.setDefaultEncoding(StandardCharsets.UTF_8.name());
+        expected.setUseCodeAsDefaultMessage(false);
+        final CatalogMessageSource actual = new CatalogMessageSource(catalog);
+
+        final Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(Locale.SIMPLIFIED_CHINESE);
+        try {
+            // en 缺少的 b 回退到系统语言环境 zh_CN，而不是基础资源包；de 没有资源包，整体使用 zh_CN
+            for (Locale locale : new Locale[]{Locale.US, Locale.ENGLISH, Locale.FRANCE, Locale.GERMANY, Locale.SIMPLIFIED_CHINESE}) {
+                for (String key : new String[]{"a", "b", "c"}) {
+                    Assertions.assertThat(actual.getMessage(key, null, locale)).as(key + "@" + locale)
+                            .isEqualTo(expected.getMessage(key, null, locale));
+                }
+            }
+            Assertions.assertThat(catalog.get("b", Locale.US)).isEqualTo("简体-b");
+            Assertions.assertThat(catalog.get("c", Locale.US)).isEqualTo("base-c");
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    @Test
+    void testRejectsCorruptCatalog() throws IOException {
+        write("messages.properties", "a=base-a");
+        write("messages_zh.properties", "a=中文-a");
+        final Path output = directory.resolve("messages.catalog");
+        MessageCatalogCompiler.compile(MessageCatalogCompiler.readBundles(directory, "messages"), output);
+        final byte[] bytes = Files.readAllBytes(output);
+
+        // 语言环境数量超出文件范围
+        final ByteBuffer localeCount = ByteBuffer.wrap(bytes.clone());
+        localeCount.putInt(12, 1_000_000);
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> MessageCatalog.open(corrupt(localeCount)));
+
+        // 语言环境名称偏移量超出文件范围
+        final ByteBuffer localeName = ByteBuffer.wrap(bytes.clone());
+        localeName.putInt(16 + localeName.getInt(8) * 8, bytes.length + 100);
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> MessageCatalog.open(corrupt(localeName)));
+
+        // 值表偏移量超出文件范围
+        final ByteBuffer valueTable = ByteBuffer.wrap(bytes.clone());
+        valueTable.putInt(16 + valueTable.getInt(8) * 8 + 4, bytes.length - 2);
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> MessageCatalog.open(corrupt(valueTable)));
+    }
+
+    private Path corrupt(ByteBuffer buffer) throws IOException {
+        return Files.write(directory.resolve("corrupt.catalog"), buffer.array());
+    }
+
+    private void write(String filename, String... lines) throws IOException {
+        Files.write(directory.resolve(filename), Arrays.asList(lines), StandardCharsets.UTF_8);
+    }
+}
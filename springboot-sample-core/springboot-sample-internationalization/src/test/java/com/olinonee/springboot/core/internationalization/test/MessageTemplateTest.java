@@ -0,0 +1,86 @@
+package com.olinonee.springboot.core.internationalization.test;
+
+import com.olinonee.springboot.core.internationalization.support.MessageKey;
+import com.olinonee.springboot.core.internationalization.support.MessageTemplate;
+import com.olinonee.springboot.core.internationalization.support.MessageTemplateCache;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticMessageSource;
+
+import java.text.MessageFormat;
+import java.util.Date;
+import java.util.Locale;
+
+/**
+ * 预编译消息模板与模板缓存测试
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class MessageTemplateTest {
+
+    private static final String[] PATTERNS = {
+            "开始日期{0}必须小于结束日期{1}!",
+            "{1} before {0}",
+            "no arguments",
+            "It''s {0}'s turn, '{1}' is quoted",
+            "missing {3} argument",
+            "{0,number,#.##} items",
+            "There {0,choice,0#are no files|1#is one file|1<are {0,number,integer} files}.",
+            "{0}{0}{1}",
+    };
+
+    private static final Object[] ARGS = {1234.5678, new Date(0), null};
+
+    @Test
+    void testFormatsLikeMessageFormat() {
+        for (Locale locale : new Locale[]{Locale.SIMPLIFIED_CHINESE, Locale.US, Locale.GERMANY}) {
+            for (String pattern : PATTERNS) {
+                final StringBuilder out = new StringBuilder();
+                MessageTemplate.compile(pattern, locale).formatTo(ARGS, out);
+                Assertions.assertThat(out.toString()).as(pattern).isEqualTo(new MessageFormat(pattern, locale).format(ARGS));
+            }
+        }
+        final StringBuilder out = new StringBuilder();
+        MessageTemplate.compile("{0}-{1}", Locale.US).formatTo(new Object[]{"a", 42}, out);
+        Assertions.assertThat(out.toString()).isEqualTo("a-42");
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> MessageTemplate.compile("unmatched {0", Locale.US));
+    }
+
+    @Test
+    void testCachesTemplatesAndMissingKeys() {
+        final StaticMessageSource messageSource = new StaticMessageSource();
+        messageSource.addMessage("start.ge.end", Locale.US, "The start date {0} must be earlier than the end date {1}!");
+        final MessageTemplateCache cache = new MessageTemplateCache(messageSource);
+
+        Assertions.assertThat(cache.get("start.ge.end", Locale.US)).isSameAs(cache.get("start.ge.end", Locale.US));
+        Assertions.assertThat(cache.format("start.ge.end", new Object[]{"20230224", "20230228"}, Locale.US))
+                .isEqualTo("The start date 20230224 must be earlier than the end date 20230228!");
+        Assertions.assertThat(cache.format("start.ge.end", null, Locale.US))
+                .isEqualTo("The start date {0} must be earlier than the end date {1}!");
+
+        for (int i = 0; i < 1000; i++) {
+            Assertions.assertThat(cache.format("no.such.key", null, Locale.US)).isNull();
+        }
+        Assertions.assertThat(cache.getMissingCounts()).containsEntry("no.such.key@en_US", 1000L);
+    }
+
+    @Test
+    void testLooksUpGeneratedKeysByOrdinal() {
+        Assertions.assertThat(MessageKey.START_GE_END.getKey()).isEqualTo("start.ge.end");
+        Assertions.assertThat(MessageKey.START_GE_END.getArgumentCount()).isEqualTo(2);
+        Assertions.assertThat(MessageKey.OPERATION_SUCCESS.getArgumentCount()).isZero();
+
+        final StaticMessageSource messageSource = new StaticMessageSource();
+        messageSource.addMessage("start.ge.end", Locale.US, "The start date {0} must be earlier than the end date {1}!");
+        final MessageTemplateCache cache = new MessageTemplateCache(messageSource);
+
+        Assertions.assertThat(cache.get(MessageKey.START_GE_END, Locale.US)).isSameAs(cache.get(MessageKey.START_GE_END, Locale.US));
+        Assertions.assertThat(cache.format(MessageKey.START_GE_END, new Object[]{"20230224", "20230228"}, Locale.US))
+                .isEqualTo(cache.format("start.ge.end", new Object[]{"20230224", "20230228"}, Locale.US));
+        // 当前语言环境下不存在的消息键与按照字符串查找一样计入负缓存
+        Assertions.assertThat(cache.format(MessageKey.OPERATION_SUCCESS, null, Locale.US)).isNull();
+        Assertions.assertThat(cache.getMissingCounts()).containsEntry("operation.success@en_US", 1L);
+    }
+}
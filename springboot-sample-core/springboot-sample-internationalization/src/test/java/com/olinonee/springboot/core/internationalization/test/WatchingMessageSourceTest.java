@@ -0,0 +1,82 @@
+package com.olinonee.springboot.core.internationalization.test;
+
+import com.olinonee.springboot.core.internationalization.support.WatchingMessageSource;
+import com.olinonee.springboot.core.internationalization.util.I18nUtil;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.i18n.LocaleContextHolder;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * 共享消息源与增量重新加载测试
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class WatchingMessageSourceTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testI18nUtilSharesOneMessageSource() {
+        Assertions.assertThat(I18nUtil.getMessageSource()).isSameAs(I18nUtil.getMessageSource());
+        LocaleContextHolder.setLocale(Locale.SIMPLIFIED_CHINESE);
+        try {
+            Assertions.assertThat(I18nUtil.get("operation.success")).isEqualTo("操作成功!");
+            Assertions.assertThat(I18nUtil.get("start.ge.end", new Object[]{"20230224", "20230228"})).isEqualTo("开始日期20230224必须小于结束日期20230228!");
+        } finally {
+            LocaleContextHolder.resetLocaleContext();
+        }
+    }
+
+    @Test
+    void testReloadsOnlyChangedBundle() throws Exception {
+        write("messages.properties", "greeting=hello\nfarewell=bye\n");
+        write("messages_zh_CN.properties", "greeting=你好\n");
+        write("other.properties", "greeting=ignored\n");
+        final WatchingMessageSource messageSource = new WatchingMessageSource("file:" + directory.toAbsolutePath() + "/messages");
+        messageSource.setFallbackToSystemLocale(false);
+        messageSource.start();
+        try {
+            Assertions.assertThat(messageSource.getBundleNames()).containsExactlyInAnyOrder("messages", "messages_zh_CN");
+            Assertions.assertThat(messageSource.getMessage("greeting", null, Locale.SIMPLIFIED_CHINESE)).isEqualTo("你好");
+            Assertions.assertThat(messageSource.getMessage("farewell", null, Locale.SIMPLIFIED_CHINESE)).isEqualTo("bye");
+            Assertions.assertThat(messageSource.getMessage("greeting", null, Locale.US)).isEqualTo("hello");
+
+            // 修改已有的资源包
+            write("messages_zh_CN.properties", "greeting=您好，{0}\n");
+            awaitMessage(() -> messageSource.getMessage("greeting", new Object[]{"张三"}, Locale.SIMPLIFIED_CHINESE), "您好，张三");
+            Assertions.assertThat(messageSource.getMessage("farewell", null, Locale.SIMPLIFIED_CHINESE)).isEqualTo("bye");
+
+            // 新增语言环境
+            write("messages_en_US.properties", "greeting=howdy\n");
+            awaitMessage(() -> messageSource.getMessage("greeting", null, Locale.US), "howdy");
+
+            // 删除语言环境后回退到基础资源包
+            Files.delete(directory.resolve("messages_en_US.properties"));
+            awaitMessage(() -> messageSource.getMessage("greeting", null, Locale.US), "hello");
+        } finally {
+            messageSource.stop();
+        }
+    }
+
+    private void write(String filename, String content) throws Exception {
+        Files.write(directory.resolve(filename), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static void awaitMessage(Supplier<String> supplier, String expected) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 10_000;
+        while (!expected.equals(supplier.get()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+        }
+        Assertions.assertThat(supplier.get()).isEqualTo(expected);
+    }
+}
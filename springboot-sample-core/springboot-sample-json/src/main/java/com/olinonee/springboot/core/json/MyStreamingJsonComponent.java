@@ -0,0 +1,76 @@
+package com.olinonee.springboot.core.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+
+import java.io.IOException;
+
+/**
+ * jackson 流式反序列化：直接从 JsonParser 读取 token，不构建 JsonNode 树
+ * <p>
+ * 与 MyJsonComponent、MyJSONObjectComponent 中的反序列化器处理的是同一个类型，本类不使用 @JsonComponent，
+ * 而是由 {@link com.olinonee.springboot.core.json.config.JacksonConfig} 显式注册到构建器中，覆盖两个基于 JsonNode 树的反序列化器。
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class MyStreamingJsonComponent {
+
+    /**
+     * 反序列化
+     * <p>
+     * 按照序列化时的字段顺序（name、age）用 {@link JsonParser#nextFieldName(SerializableString)} 预测下一个字段名，
+     * 字节输入时直接比较已编码的字段名，不创建字符串；顺序不同时回退为比较解析器规范化（intern）后的字段名。
+     * 未知字段的值通过 {@link JsonParser#skipChildren()} 跳过，不读取其内容。缺少的字段取默认值（null、0）。
+     */
+    public static class Deserializer extends JsonDeserializer<MyObject> {
+
+        private static final SerializableString NAME = new SerializedString("name");
+        private static final SerializableString AGE = new SerializedString("age");
+
+        @Override
+        public MyObject deserialize(JsonParser jsonParser, DeserializationContext deserializationContext) throws IOException {
+            String fieldName;
+            if (jsonParser.isExpectedStartObjectToken()) {
+                fieldName = nextFieldName(jsonParser, NAME);
+            } else if (jsonParser.hasToken(JsonToken.FIELD_NAME)) {
+                // 外层（例如多态类型处理）已经读取了 START_OBJECT
+                fieldName = jsonParser.currentName();
+            } else {
+                return (MyObject) deserializationContext.handleUnexpectedToken(MyObject.class, jsonParser);
+            }
+            String name = null;
+            int age = 0;
+            while (fieldName != null) {
+                jsonParser.nextToken();
+                SerializableString expected = NAME;
+                // 字段名已被规范化，equals 先比较引用，通常不需要逐字符比较
+                if (NAME.getValue().equals(fieldName)) {
+                    name = jsonParser.getValueAsString();
+                    expected = AGE;
+                } else if (AGE.getValue().equals(fieldName)) {
+                    age = jsonParser.getValueAsInt();
+                }
+                // 值为对象或数组（包括未知字段）时跳到对应的结束 token，标量值不做任何处理
+                jsonParser.skipChildren();
+                fieldName = nextFieldName(jsonParser, expected);
+            }
+            return new MyObject(name, age);
+        }
+
+        /**
+         * 读取下一个字段名，与预测的字段名相同时返回预测的字段名常量，读到对象末尾时返回空
+         */
+        private static String nextFieldName(JsonParser jsonParser, SerializableString expected) throws IOException {
+            if (jsonParser.nextFieldName(expected)) {
+                return expected.getValue();
+            }
+            return jsonParser.hasToken(JsonToken.FIELD_NAME) ? jsonParser.currentName() : null;
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.olinonee.springboot.core.json.config;
+
+import com.olinonee.springboot.core.json.MyObject;
+import com.olinonee.springboot.core.json.MyStreamingJsonComponent;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * jackson 配置
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+@Configuration
+public class JacksonConfig {
+
+    /**
+     * 显式指定 MyObject 使用流式反序列化器：通过构建器注册的反序列化器在所有模块（包括 @JsonComponent 所在的 JsonComponentModule）之后注册，
+     * 因此覆盖 MyJsonComponent、MyJSONObjectComponent 中基于 JsonNode 树的反序列化器，不依赖 Bean 的注册顺序
+     *
+     * @return Jackson2ObjectMapperBuilderCustomizer
+     */
+    @Bean
+    public Jackson2ObjectMapperBuilderCustomizer myObjectDeserializerCustomizer() {
+        return builder -> builder.deserializerByType(MyObject.class, new MyStreamingJsonComponent.Deserializer());
+    }
+}
@@ -0,0 +1,77 @@
+package com.olinonee.springboot.core.json.test;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.olinonee.springboot.core.json.MyJSONObjectComponent;
+import com.olinonee.springboot.core.json.MyJsonComponent;
+import com.olinonee.springboot.core.json.MyObject;
+import com.olinonee.springboot.core.json.MyStreamingJsonComponent;
+import com.olinonee.springboot.core.json.config.JacksonConfig;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+import org.springframework.context.annotation.Import;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * 三种 MyObject 反序列化器的一致性，以及流式反序列化器对字段顺序、未知字段和缺失字段的处理
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+@JsonTest
+// JSON 切片测试只加载 @JsonComponent 等组件，不加载扫描到的配置类
+@Import(JacksonConfig.class)
+public class MyObjectDeserializerTest {
+
+    private static final String JSON = "{\"id\":7,\"name\":\"olinH\",\"tags\":[\"a\",{\"b\":[1,2]}],\"profile\":{\"name\":\"nested\",\"age\":99},\"age\":18,\"extra\":null}";
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    void testStreamingMatchesTreeDeserializers() throws Exception {
+        final ObjectMapper tree = mapper(new MyJsonComponent.Deserializer());
+        final ObjectMapper jsonObject = mapper(new MyJSONObjectComponent.Deserializer());
+        final ObjectMapper streaming = mapper(new MyStreamingJsonComponent.Deserializer());
+        for (ObjectMapper mapper : new ObjectMapper[]{tree, jsonObject, streaming}) {
+            // 字符输入与字节输入走不同的解析器实现
+            assertMyObject(mapper.readValue(JSON, MyObject.class), "olinH", 18);
+            assertMyObject(mapper.readValue(JSON.getBytes(StandardCharsets.UTF_8), MyObject.class), "olinH", 18);
+        }
+
+        assertMyObject(streaming.readValue("{\"age\":20,\"name\":\"reversed\"}", MyObject.class), "reversed", 20);
+        assertMyObject(streaming.readValue("{\"name\":\"only\"}".getBytes(StandardCharsets.UTF_8), MyObject.class), "only", 0);
+        assertMyObject(streaming.readValue("{}", MyObject.class), null, 0);
+        assertMyObject(streaming.readValue("{\"name\":null,\"age\":\"21\"}", MyObject.class), null, 21);
+
+        final List<MyObject> list = streaming.readValue("[" + JSON + ",{\"name\":\"second\",\"age\":2}]", new TypeReference<List<MyObject>>() {
+        });
+        Assertions.assertThat(list).hasSize(2);
+        assertMyObject(list.get(1), "second", 2);
+
+        Assertions.assertThatThrownBy(() -> streaming.readValue("[1]", MyObject.class)).isInstanceOf(MismatchedInputException.class);
+    }
+
+    @Test
+    void testStreamingDeserializerIsRegistered() throws Exception {
+        // 缺少 age 字段时两个基于 JsonNode 树的反序列化器都会抛出空指针异常
+        assertMyObject(objectMapper.readValue("{\"name\":\"olinH\",\"unknown\":{}}", MyObject.class), "olinH", 0);
+    }
+
+    private static ObjectMapper mapper(JsonDeserializer<MyObject> deserializer) {
+        return new ObjectMapper().registerModule(new SimpleModule().addDeserializer(MyObject.class, deserializer));
+    }
+
+    private static void assertMyObject(MyObject myObject, String name, int age) {
+        Assertions.assertThat(myObject.getName()).isEqualTo(name);
+        Assertions.assertThat(myObject.getAge()).isEqualTo(age);
+    }
+}
@@ -1,10 +1,20 @@
 package com.olinonee.springboot.core.task;
 
+import com.olinonee.springboot.core.task.batch.AsyncBatchRunner;
+import com.olinonee.springboot.core.task.batch.BatchOptions;
+import com.olinonee.springboot.core.task.batch.BatchResult;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
 /**
  * 异步 demo 服务
  *
@@ -15,6 +25,18 @@ import org.springframework.stereotype.Service;
 @Service
 public class AsyncDemoService {
     private final Logger logger = LoggerFactory.getLogger(this.getClass());
+
+    private final Executor asyncExecutor;
+
+    private final Executor customizerAsyncExecutor;
+
+    @Autowired
+    public AsyncDemoService(@Qualifier("asyncExecutor") Executor asyncExecutor,
+                             @Qualifier("getCustomizerAsyncExecutor") Executor customizerAsyncExecutor) {
+        this.asyncExecutor = asyncExecutor;
+        this.customizerAsyncExecutor = customizerAsyncExecutor;
+    }
+
     @Async
     public void sayHello() {
         logger.info("[AsyncDemoService#sayHello] - 当前线程名称为 [{}] " +
@@ -29,4 +51,58 @@ public class AsyncDemoService {
                 Thread.currentThread().getName());
         throw new RuntimeException("手动抛出一个异常");
     }
+
+    /**
+     * 延迟敏感的异步任务，使用高优先级通道，不会排在批量任务之后
+     */
+    @Async("highLaneExecutor")
+    public void sayHelloWithHighPriority() {
+        logger.info("[AsyncDemoService#sayHelloWithHighPriority] - 当前线程名称为 [{}] " +
+                        "异步执行了 sayHelloWithHighPriority 方法",
+                Thread.currentThread().getName());
+    }
+
+    /**
+     * 批量异步任务，使用批量任务通道
+     *
+     * @param batchNo 批次号
+     */
+    @Async("bulkLaneExecutor")
+    public void runBulkJob(int batchNo) {
+        logger.info("[AsyncDemoService#runBulkJob] - 当前线程名称为 [{}] " +
+                        "异步执行了第 {} 批批量任务",
+                Thread.currentThread().getName(), batchNo);
+    }
+
+    /**
+     * 批量异步处理：按照分块并行处理所有输入后汇总结果，调用方不再需要逐个调用 @Async 方法并自行等待
+     *
+     * @param inputs  输入
+     * @param worker  单个输入的处理逻辑
+     * @param options 批量处理选项（线程池、分块大小、截止时间、部分结果策略）
+     * @param <T>     输入类型
+     * @param <R>     结果类型
+     * @return 汇总结果，取消该 CompletableFuture 会停止尚未开始的输入
+     */
+    public <T, R> CompletableFuture<BatchResult<R>> processBatch(List<T> inputs, Function<? super T, ? extends R> worker,
+                                                                BatchOptions options) {
+        final Executor executor = options.getExecutorType() == BatchOptions.ExecutorType.CUSTOM
+                ? customizerAsyncExecutor : asyncExecutor;
+        return AsyncBatchRunner.run(inputs, worker, executor, options);
+    }
+
+    /**
+     * 批量问候，演示 {@link #processBatch(List, Function, BatchOptions)} 的用法
+     *
+     * @param names   名称
+     * @param options 批量处理选项
+     * @return 问候语，顺序与名称一致
+     */
+    public CompletableFuture<BatchResult<String>> sayHelloToAll(List<String> names, BatchOptions options) {
+        return processBatch(names, name -> {
+            logger.info("[AsyncDemoService#sayHelloToAll] - 当前线程名称为 [{}] 异步问候 [{}]",
+                    Thread.currentThread().getName(), name);
+            return "hello, " + name;
+        }, options);
+    }
 }
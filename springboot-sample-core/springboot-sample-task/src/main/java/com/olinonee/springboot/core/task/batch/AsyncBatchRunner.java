@@ -0,0 +1,182 @@
+package com.olinonee.springboot.core.task.batch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * 批量异步处理：把输入按照分块大小拆分后提交到线程池并行处理（fan-out），全部完成后汇总为一个结果（fan-in）
+ * <p>
+ * <ul>
+ *     <li>截止时间：到期后停止尚未开始的输入，按照部分结果策略返回部分结果或以 {@link TimeoutException} 结束；</li>
+ *     <li>提前取消：取消返回的 CompletableFuture 后，各分块在处理下一个输入前检查并停止；</li>
+ *     <li>异常：单个输入的异常（包括 Error）不会进入 AsyncUncaughtExceptionHandler，而是按照部分结果策略记录到结果中或使整个批次失败。</li>
+ * </ul>
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public final class AsyncBatchRunner {
+
+    private static final int PENDING = 0;
+    private static final int SUCCEEDED = 1;
+    private static final int FAILED = 2;
+
+    /**
+     * 所有批次共享的截止时间调度线程，批次结束时取消对应的截止时间任务（取消后立即从队列中移除）
+     */
+    private static final ScheduledThreadPoolExecutor DEADLINE_SCHEDULER = newDeadlineScheduler();
+
+    private AsyncBatchRunner() {
+    }
+
+    /**
+     * 提交批量处理
+     *
+     * @param inputs   输入
+     * @param worker   单个输入的处理逻辑
+     * @param executor 线程池
+     * @param options  批量处理选项
+     * @param <T>      输入类型
+     * @param <R>      结果类型
+     * @return 汇总结果
+     */
+    public static <T, R> CompletableFuture<BatchResult<R>> run(List<T> inputs, Function<? super T, ? extends R> worker,
+                                                               Executor executor, BatchOptions options) {
+        return new BatchRun<T, R>(inputs, worker, options).start(executor);
+    }
+
+    private static ScheduledThreadPoolExecutor newDeadlineScheduler() {
+        final ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(1, runnable -> {
+            final Thread thread = new Thread(runnable, "batchDeadline");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    private static final class BatchRun<T, R> {
+
+        private final List<T> inputs;
+        private final Function<? super T, ? extends R> worker;
+        private final BatchOptions options;
+        private final AtomicReferenceArray<R> results;
+        private final AtomicIntegerArray states;
+        private final Map<Integer, String> errors = new ConcurrentHashMap<>();
+        private final AtomicBoolean stopped = new AtomicBoolean();
+        private final AtomicInteger remainingChunks;
+        private final CompletableFuture<BatchResult<R>> promise = new CompletableFuture<>();
+
+        private BatchRun(List<T> inputs, Function<? super T, ? extends R> worker, BatchOptions options) {
+            this.inputs = inputs;
+            this.worker = worker;
+            this.options = options;
+            this.results = new AtomicReferenceArray<>(inputs.size());
+            this.states = new AtomicIntegerArray(inputs.size());
+            this.remainingChunks = new AtomicInteger((inputs.size() + options.getChunkSize() - 1) / options.getChunkSize());
+        }
+
+        private CompletableFuture<BatchResult<R>> start(Executor executor) {
+            if (inputs.isEmpty()) {
+                promise.complete(snapshot(false));
+                return promise;
+            }
+            final ScheduledFuture<?> deadline = options.getDeadline() == null ? null
+                    : DEADLINE_SCHEDULER.schedule(this::onDeadline, options.getDeadline().toNanos(), TimeUnit.NANOSECONDS);
+            // 无论以何种方式结束（完成、失败、超时、被调用方取消），都停止剩余的处理并取消截止时间任务
+            promise.whenComplete((result, throwable) -> {
+                stopped.set(true);
+                if (deadline != null) {
+                    deadline.cancel(false);
+                }
+            });
+            final int chunkSize = options.getChunkSize();
+            for (int from = 0; from < inputs.size() && !stopped.get(); from += chunkSize) {
+                final int start = from;
+                final int end = Math.min(inputs.size(), from + chunkSize);
+                try {
+                    executor.execute(() -> runChunk(start, end));
+                } catch (RejectedExecutionException e) {
+                    for (int i = start; i < end; i++) {
+                        fail(i, e);
+                    }
+                    chunkDone();
+                }
+            }
+            return promise;
+        }
+
+        private void runChunk(int start, int end) {
+            try {
+                for (int i = start; i < end && !stopped.get(); i++) {
+                    try {
+                        results.set(i, worker.apply(inputs.get(i)));
+                        states.set(i, SUCCEEDED);
+                    } catch (Throwable e) {
+                        fail(i, e);
+                    }
+                }
+            } finally {
+                chunkDone();
+            }
+        }
+
+        private void fail(int index, Throwable e) {
+            states.set(index, FAILED);
+            errors.put(index, e.toString());
+            if (options.getPartialResultPolicy() == BatchOptions.PartialResultPolicy.FAIL_FAST) {
+                promise.completeExceptionally(e);
+            }
+        }
+
+        private void chunkDone() {
+            if (remainingChunks.decrementAndGet() == 0) {
+                promise.complete(snapshot(false));
+            }
+        }
+
+        private void onDeadline() {
+            if (promise.isDone()) {
+                return;
+            }
+            // 先结束 promise 再由 whenComplete 停止各分块：如果先停止，分块会立即退出并在 chunkDone 中抢先以未超时的结果结束
+            if (options.getPartialResultPolicy() == BatchOptions.PartialResultPolicy.FAIL_FAST) {
+                promise.completeExceptionally(new TimeoutException("批量处理超过截止时间 " + options.getDeadline()));
+            } else {
+                promise.complete(snapshot(true));
+            }
+        }
+
+        private BatchResult<R> snapshot(boolean timedOut) {
+            final List<R> values = new ArrayList<>(inputs.size());
+            final Map<Integer, String> failed = new TreeMap<>();
+            int succeeded = 0;
+            int skipped = 0;
+            for (int i = 0; i < inputs.size(); i++) {
+                final int state = states.get(i);
+                if (state == SUCCEEDED) {
+                    succeeded++;
+                    values.add(results.get(i));
+                    continue;
+                }
+                values.add(null);
+                if (state == FAILED) {
+                    failed.put(i, errors.get(i));
+                } else {
+                    skipped++;
+                }
+            }
+            return new BatchResult<>(values, failed.isEmpty() ? Collections.emptyMap() : failed, succeeded, skipped, timedOut);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.olinonee.springboot.core.task.batch;
+
+import java.time.Duration;
+
+/**
+ * 批量异步处理选项
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class BatchOptions {
+
+    /**
+     * 执行批量任务的线程池
+     */
+    public enum ExecutorType {
+        /**
+         * defaultTask- 线程池（@Async 默认执行器）
+         */
+        DEFAULT,
+        /**
+         * customTask- 线程池（getCustomizerAsyncExecutor）
+         */
+        CUSTOM
+    }
+
+    /**
+     * 部分结果策略
+     */
+    public enum PartialResultPolicy {
+        /**
+         * 任意一个输入处理失败或超过截止时间时，整个批次以异常结束并停止剩余的处理
+         */
+        FAIL_FAST,
+        /**
+         * 失败的输入记录在结果中，超过截止时间时返回已完成的部分结果
+         */
+        ALLOW_PARTIAL
+    }
+
+    private ExecutorType executorType = ExecutorType.DEFAULT;
+
+    /**
+     * 每个分块包含的输入数
+     */
+    private int chunkSize = 16;
+
+    /**
+     * 批次截止时间（从提交开始计算），为空时不限制
+     */
+    private Duration deadline;
+
+    private PartialResultPolicy partialResultPolicy = PartialResultPolicy.ALLOW_PARTIAL;
+
+    public static BatchOptions defaults() {
+        return new BatchOptions();
+    }
+
+    public ExecutorType getExecutorType() {
+        return executorType;
+    }
+
+    public BatchOptions setExecutorType(ExecutorType executorType) {
+        this.executorType = executorType;
+        return this;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public BatchOptions setChunkSize(int chunkSize) {
+        this.chunkSize = Math.max(1, chunkSize);
+        return this;
+    }
+
+    public Duration getDeadline() {
+        return deadline;
+    }
+
+    public BatchOptions setDeadline(Duration deadline) {
+        this.deadline = deadline;
+        return this;
+    }
+
+    public PartialResultPolicy getPartialResultPolicy() {
+        return partialResultPolicy;
+    }
+
+    public BatchOptions setPartialResultPolicy(PartialResultPolicy partialResultPolicy) {
+        this.partialResultPolicy = partialResultPolicy;
+        return this;
+    }
+}
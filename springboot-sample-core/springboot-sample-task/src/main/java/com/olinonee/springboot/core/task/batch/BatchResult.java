@@ -0,0 +1,70 @@
+package com.olinonee.springboot.core.task.batch;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 批量异步处理结果
+ *
+ * @param <R> 单个输入的处理结果类型
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class BatchResult<R> {
+
+    private final List<R> results;
+    private final Map<Integer, String> errors;
+    private final int succeeded;
+    private final int skipped;
+    private final boolean timedOut;
+
+    BatchResult(List<R> results, Map<Integer, String> errors, int succeeded, int skipped, boolean timedOut) {
+        this.results = Collections.unmodifiableList(results);
+        this.errors = Collections.unmodifiableMap(errors);
+        this.succeeded = succeeded;
+        this.skipped = skipped;
+        this.timedOut = timedOut;
+    }
+
+    /**
+     * 处理结果，顺序与输入一致；失败或未处理的输入对应位置为 null
+     */
+    public List<R> getResults() {
+        return results;
+    }
+
+    /**
+     * 处理失败的输入下标及异常信息
+     */
+    public Map<Integer, String> getErrors() {
+        return errors;
+    }
+
+    public int getSucceeded() {
+        return succeeded;
+    }
+
+    public int getFailed() {
+        return errors.size();
+    }
+
+    /**
+     * 因为超过截止时间或被取消而没有处理的输入数
+     */
+    public int getSkipped() {
+        return skipped;
+    }
+
+    public boolean isTimedOut() {
+        return timedOut;
+    }
+
+    /**
+     * 是否所有输入都处理成功
+     */
+    public boolean isComplete() {
+        return errors.isEmpty() && skipped == 0;
+    }
+}
@@ -0,0 +1,56 @@
+package com.olinonee.springboot.core.task.cluster;
+
+import java.util.List;
+
+/**
+ * 集群状态
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class ClusterStatus {
+
+    private final String nodeId;
+    private final boolean clustered;
+    private final List<String> members;
+    private final int shardCount;
+    private final List<Integer> ownedShards;
+
+    public ClusterStatus(String nodeId, boolean clustered, List<String> members, int shardCount, List<Integer> ownedShards) {
+        this.nodeId = nodeId;
+        this.clustered = clustered;
+        this.members = members;
+        this.shardCount = shardCount;
+        this.ownedShards = ownedShards;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * 是否启用了多节点分片
+     */
+    public boolean isClustered() {
+        return clustered;
+    }
+
+    /**
+     * 当前存活的节点
+     */
+    public List<String> getMembers() {
+        return members;
+    }
+
+    public int getShardCount() {
+        return shardCount;
+    }
+
+    /**
+     * 当前节点持有租约的分片
+     */
+    public List<Integer> getOwnedShards() {
+        return ownedShards;
+    }
+}
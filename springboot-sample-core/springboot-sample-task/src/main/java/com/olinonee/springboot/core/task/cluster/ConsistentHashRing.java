@@ -0,0 +1,69 @@
+package com.olinonee.springboot.core.task.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 一致性哈希环：每个节点在环上放置若干虚拟节点，分片归属于顺时针方向的第一个虚拟节点
+ * <p>
+ * 节点加入或退出时只有约 1/N 的分片改变归属；所有节点根据相同的成员列表计算出相同的结果。
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class ConsistentHashRing {
+
+    private final TreeMap<Long, String> ring = new TreeMap<>();
+
+    /**
+     * @param nodeIds      节点 id
+     * @param virtualNodes 每个节点的虚拟节点数
+     */
+    public ConsistentHashRing(Collection<String> nodeIds, int virtualNodes) {
+        for (String nodeId : nodeIds) {
+            for (int i = 0; i < virtualNodes; i++) {
+                ring.put(hash(nodeId + "#" + i), nodeId);
+            }
+        }
+    }
+
+    /**
+     * 获取分片的归属节点
+     *
+     * @param shard 分片
+     * @return 节点 id，环为空时返回 null
+     */
+    public String ownerOf(int shard) {
+        if (ring.isEmpty()) {
+            return null;
+        }
+        final Map.Entry<Long, String> entry = ring.ceilingEntry(mix(shard));
+        return entry != null ? entry.getValue() : ring.firstEntry().getValue();
+    }
+
+    /**
+     * 把 64 位整数打散为均匀分布的哈希值（SplitMix64 的混淆函数）
+     *
+     * @param value 整数
+     * @return 哈希值
+     */
+    public static long mix(long value) {
+        long hash = value + 0x9E3779B97F4A7C15L;
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        return hash ^ (hash >>> 31);
+    }
+
+    private static long hash(String value) {
+        // FNV-1a，与 JVM 无关的稳定哈希，保证所有节点计算出相同的环
+        long hash = 0xCBF29CE484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b & 0xFF;
+            hash *= 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+}
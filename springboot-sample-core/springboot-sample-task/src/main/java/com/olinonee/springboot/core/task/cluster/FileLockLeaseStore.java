@@ -0,0 +1,162 @@
+package com.olinonee.springboot.core.task.cluster;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/**
+ * 基于文件锁的租约存储，适用于同一台机器（或共享目录）上的多个节点
+ * <p>
+ * 所有租约保存在一个文本文件中，每次操作在文件锁内完成“读取 - 修改 - 重写”：
+ * {@code N\t<nodeId>\t<expiresAt>} 表示成员租约，{@code S\t<shard>\t<nodeId>\t<expiresAt>} 表示分片租约。
+ * 文件锁保证进程之间互斥；同一进程内文件锁不能重叠获取，因此另外按照文件路径加 JVM 内的监视器锁。
+ * 无法解析的行会被丢弃，对应的租约视为已到期。
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class FileLockLeaseStore implements LeaseStore {
+
+    private static final String LEASE_FILE_NAME = "task-cluster.leases";
+    private static final char NODE = 'N';
+    private static final char SHARD = 'S';
+
+    private static final ConcurrentMap<Path, Object> JVM_LOCKS = new ConcurrentHashMap<>();
+
+    private final Path leaseFile;
+
+    public FileLockLeaseStore(Path directory) {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("创建租约目录 [" + directory + "] 失败", e);
+        }
+        this.leaseFile = directory.resolve(LEASE_FILE_NAME).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public Set<String> heartbeat(String nodeId, Duration ttl) {
+        return update(leases -> {
+            leases.nodes.put(nodeId, leases.now + ttl.toMillis());
+            return new TreeSet<>(leases.nodes.keySet());
+        });
+    }
+
+    @Override
+    public Set<Integer> acquire(String nodeId, Collection<Integer> shards, Duration ttl) {
+        return update(leases -> {
+            final Set<Integer> granted = new TreeSet<>();
+            for (Integer shard : shards) {
+                final ShardLease lease = leases.shards.get(shard);
+                if (lease == null || lease.nodeId.equals(nodeId)) {
+                    leases.shards.put(shard, new ShardLease(nodeId, leases.now + ttl.toMillis()));
+                    granted.add(shard);
+                }
+            }
+            return granted;
+        });
+    }
+
+    @Override
+    public void release(String nodeId, Collection<Integer> shards) {
+        update(leases -> {
+            shards.forEach(shard -> leases.shards.computeIfPresent(shard, (key, lease) -> lease.nodeId.equals(nodeId) ? null : lease));
+            return null;
+        });
+    }
+
+    @Override
+    public void leave(String nodeId) {
+        update(leases -> {
+            leases.nodes.remove(nodeId);
+            leases.shards.values().removeIf(lease -> lease.nodeId.equals(nodeId));
+            return null;
+        });
+    }
+
+    private <T> T update(Function<Leases, T> action) {
+        synchronized (JVM_LOCKS.computeIfAbsent(leaseFile, key -> new Object())) {
+            try (FileChannel channel = FileChannel.open(leaseFile, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+                 FileLock ignored = channel.lock()) {
+                final Leases leases = read(channel);
+                final T result = action.apply(leases);
+                write(channel, leases);
+                return result;
+            } catch (IOException e) {
+                throw new UncheckedIOException("读写租约文件 [" + leaseFile + "] 失败", e);
+            }
+        }
+    }
+
+    private static Leases read(FileChannel channel) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+        while (buffer.hasRemaining() && channel.read(buffer, buffer.position()) >= 0) {
+            // 读满为止
+        }
+        final Leases leases = new Leases(System.currentTimeMillis());
+        for (String line : new String(buffer.array(), StandardCharsets.UTF_8).split("\n")) {
+            final String[] parts = line.split("\t");
+            try {
+                if (parts.length == 3 && parts[0].charAt(0) == NODE) {
+                    final long expiresAt = Long.parseLong(parts[2]);
+                    if (expiresAt > leases.now) {
+                        leases.nodes.put(parts[1], expiresAt);
+                    }
+                } else if (parts.length == 4 && parts[0].charAt(0) == SHARD) {
+                    final long expiresAt = Long.parseLong(parts[3]);
+                    if (expiresAt > leases.now) {
+                        leases.shards.put(Integer.parseInt(parts[1]), new ShardLease(parts[2], expiresAt));
+                    }
+                }
+            } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+                // 丢弃无法解析的行
+            }
+        }
+        return leases;
+    }
+
+    private static void write(FileChannel channel, Leases leases) throws IOException {
+        final StringBuilder builder = new StringBuilder(leases.nodes.size() * 32 + leases.shards.size() * 40);
+        leases.nodes.forEach((nodeId, expiresAt) -> builder.append(NODE).append('\t').append(nodeId).append('\t').append(expiresAt).append('\n'));
+        leases.shards.forEach((shard, lease) -> builder.append(SHARD).append('\t').append(shard).append('\t')
+                .append(lease.nodeId).append('\t').append(lease.expiresAt).append('\n'));
+        final ByteBuffer buffer = ByteBuffer.wrap(builder.toString().getBytes(StandardCharsets.UTF_8));
+        channel.truncate(0);
+        long position = 0;
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    private static final class Leases {
+        private final long now;
+        private final Map<String, Long> nodes = new TreeMap<>();
+        private final Map<Integer, ShardLease> shards = new TreeMap<>();
+
+        private Leases(long now) {
+            this.now = now;
+        }
+    }
+
+    private static final class ShardLease {
+        private final String nodeId;
+        private final long expiresAt;
+
+        private ShardLease(String nodeId, long expiresAt) {
+            this.nodeId = nodeId;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.olinonee.springboot.core.task.cluster;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 基于租约的分片协调器
+ * <p>
+ * 每个心跳周期：
+ * <ol>
+ *     <li>续约成员租约并获取存活节点列表，按照一致性哈希计算当前节点应该负责的分片；</li>
+ *     <li>不再负责的分片先回调停止对应的任务，再释放租约；</li>
+ *     <li>获取（或续约）应该负责的分片租约，其它节点尚未释放的分片在下一个周期重试；</li>
+ *     <li>回调心跳监听器，由调用方同步其它节点登记或停止的任务。</li>
+ * </ol>
+ * 节点加入或退出后最多两个心跳周期完成再平衡；节点宕机时，其分片在租约到期后被其它节点接管。
+ * 租约存储连续不可用超过租约有效期时，当前节点主动放弃所有分片，避免与接管的节点重复执行。
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class LeaseShardCoordinator implements ShardCoordinator, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(LeaseShardCoordinator.class);
+
+    private final LeaseStore leaseStore;
+    private final String nodeId;
+    private final int shardCount;
+    private final int virtualNodes;
+    private final Duration leaseTtl;
+    private final Duration heartbeatInterval;
+    private final ScheduledExecutorService heartbeatExecutor;
+
+    private volatile Set<Integer> ownedShards = Collections.emptySet();
+    private volatile List<String> members = Collections.emptyList();
+    private volatile Runnable ownershipListener = () -> {
+    };
+    private volatile Runnable heartbeatListener = () -> {
+    };
+
+    // 以下字段只由心跳线程访问
+    private long leaseDeadlineNanos;
+
+    public LeaseShardCoordinator(LeaseStore leaseStore, String nodeId, int shardCount, int virtualNodes,
+                                 Duration leaseTtl, Duration heartbeatInterval) {
+        this.leaseStore = leaseStore;
+        this.nodeId = nodeId;
+        this.shardCount = Math.max(1, shardCount);
+        this.virtualNodes = Math.max(1, virtualNodes);
+        this.leaseTtl = leaseTtl;
+        this.heartbeatInterval = heartbeatInterval;
+        final CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("shardCoordinator-");
+        threadFactory.setDaemon(true);
+        this.heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    }
+
+    @Override
+    public void start(Runnable ownershipListener, Runnable heartbeatListener) {
+        this.ownershipListener = ownershipListener;
+        this.heartbeatListener = heartbeatListener;
+        final long intervalMillis = heartbeatInterval.toMillis();
+        // 第一次同步等待完成，启动完成时已经持有分片
+        try {
+            heartbeatExecutor.submit(this::heartbeat).get(leaseTtl.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            logger.warn("[LeaseShardCoordinator#start] - 节点 [{}] 首次获取分片未完成，将在后续心跳中重试", nodeId, e);
+        }
+        heartbeatExecutor.scheduleWithFixedDelay(this::heartbeat, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public boolean owns(long taskId) {
+        return ownedShards.contains(shardOf(taskId, shardCount));
+    }
+
+    @Override
+    public ClusterStatus getStatus() {
+        return new ClusterStatus(nodeId, true, members, shardCount, new ArrayList<>(new TreeSet<>(ownedShards)));
+    }
+
+    /**
+     * 计算任务所在的分片
+     *
+     * @param taskId     任务 id
+     * @param shardCount 分片数
+     * @return 分片
+     */
+    public static int shardOf(long taskId, int shardCount) {
+        return (int) Math.floorMod(ConsistentHashRing.mix(taskId), (long) shardCount);
+    }
+
+    private void heartbeat() {
+        final long startNanos = System.nanoTime();
+        try {
+            final Set<String> liveNodes = leaseStore.heartbeat(nodeId, leaseTtl);
+            members = Collections.unmodifiableList(new ArrayList<>(liveNodes));
+            final ConsistentHashRing ring = new ConsistentHashRing(liveNodes, virtualNodes);
+            final Set<Integer> desired = new HashSet<>();
+            for (int shard = 0; shard < shardCount; shard++) {
+                if (nodeId.equals(ring.ownerOf(shard))) {
+                    desired.add(shard);
+                }
+            }
+            final Set<Integer> revoked = new HashSet<>(ownedShards);
+            revoked.removeAll(desired);
+            if (!revoked.isEmpty()) {
+                // 先停止任务再释放租约，保证其它节点接管时本节点已经不再执行
+                final Set<Integer> retained = new HashSet<>(ownedShards);
+                retained.removeAll(revoked);
+                updateOwnedShards(retained);
+                leaseStore.release(nodeId, revoked);
+            }
+            final Set<Integer> granted = leaseStore.acquire(nodeId, desired, leaseTtl);
+            leaseDeadlineNanos = startNanos + leaseTtl.toNanos();
+            if (!granted.equals(ownedShards)) {
+                updateOwnedShards(granted);
+            }
+        } catch (RuntimeException e) {
+            logger.error("[LeaseShardCoordinator#heartbeat] - 节点 [{}] 续约失败，异常信息为：", nodeId, e);
+            if (!ownedShards.isEmpty() && System.nanoTime() - leaseDeadlineNanos > 0) {
+                logger.warn("[LeaseShardCoordinator#heartbeat] - 节点 [{}] 的租约已到期，放弃持有的 {} 个分片", nodeId, ownedShards.size());
+                updateOwnedShards(Collections.emptySet());
+            }
+        }
+        try {
+            heartbeatListener.run();
+        } catch (RuntimeException e) {
+            logger.error("[LeaseShardCoordinator#heartbeat] - 心跳回调发生异常，异常信息为：", e);
+        }
+    }
+
+    private void updateOwnedShards(Set<Integer> shards) {
+        final int before = ownedShards.size();
+        ownedShards = Collections.unmodifiableSet(new HashSet<>(shards));
+        logger.info("[LeaseShardCoordinator#updateOwnedShards] - 节点 [{}] 持有的分片数 {} -> {}，存活节点 {}",
+                nodeId, before, shards.size(), members);
+        try {
+            ownershipListener.run();
+        } catch (RuntimeException e) {
+            logger.error("[LeaseShardCoordinator#updateOwnedShards] - 分片变更回调发生异常，异常信息为：", e);
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        heartbeatExecutor.shutdownNow();
+        heartbeatExecutor.awaitTermination(heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+        if (!ownedShards.isEmpty()) {
+            updateOwnedShards(Collections.emptySet());
+        }
+        try {
+            // 主动退出，其它节点在下一个心跳周期接管，不必等待租约到期
+            leaseStore.leave(nodeId);
+        } catch (RuntimeException e) {
+            logger.warn("[LeaseShardCoordinator#destroy] - 节点 [{}] 退出集群失败，分片将在租约到期后被接管", nodeId, e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.olinonee.springboot.core.task.cluster;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * 租约存储：保存节点成员关系和分片租约，供多个节点共享
+ * <p>
+ * 每个方法都是一次原子操作；租约到期后视为已释放，节点宕机时由其它节点在租约到期后接管。
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public interface LeaseStore {
+
+    /**
+     * 续约节点的成员租约
+     *
+     * @param nodeId 节点 id
+     * @param ttl    租约有效期
+     * @return 当前存活的节点 id（包括自身）
+     */
+    Set<String> heartbeat(String nodeId, Duration ttl);
+
+    /**
+     * 获取或续约分片租约：分片空闲、租约已到期或已由该节点持有时成功
+     *
+     * @param nodeId 节点 id
+     * @param shards 分片
+     * @param ttl    租约有效期
+     * @return 获取或续约成功的分片
+     */
+    Set<Integer> acquire(String nodeId, Collection<Integer> shards, Duration ttl);
+
+    /**
+     * 释放该节点持有的分片租约
+     *
+     * @param nodeId 节点 id
+     * @param shards 分片
+     */
+    void release(String nodeId, Collection<Integer> shards);
+
+    /**
+     * 节点退出：删除成员租约并释放该节点持有的所有分片租约
+     *
+     * @param nodeId 节点 id
+     */
+    void leave(String nodeId);
+}
@@ -0,0 +1,37 @@
+package com.olinonee.springboot.core.task.cluster;
+
+/**
+ * 分片协调器：决定当前节点负责调度哪些定时任务
+ * <p>
+ * 定时任务按照任务 id 哈希到固定数量的分片上，节点只调度自己持有分片内的任务。
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public interface ShardCoordinator {
+
+    /**
+     * 开始参与分片分配
+     *
+     * @param ownershipListener 当前节点持有的分片发生变化后回调，回调方据此启动或停止任务；
+     *                          失去分片时在释放租约之前回调，保证同一任务不会在两个节点上同时运行
+     * @param heartbeatListener 每个心跳周期结束时回调（与分片变更回调在同一个线程中），回调方据此同步其它节点登记或停止的任务
+     */
+    void start(Runnable ownershipListener, Runnable heartbeatListener);
+
+    /**
+     * 当前节点是否负责调度该任务
+     *
+     * @param taskId 任务 id
+     * @return true-负责 false-不负责
+     */
+    boolean owns(long taskId);
+
+    /**
+     * 获取集群状态
+     *
+     * @return ClusterStatus
+     */
+    ClusterStatus getStatus();
+}
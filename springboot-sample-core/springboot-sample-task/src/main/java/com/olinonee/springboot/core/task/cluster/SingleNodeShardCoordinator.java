@@ -0,0 +1,34 @@
+package com.olinonee.springboot.core.task.cluster;
+
+import java.util.Collections;
+
+/**
+ * 单节点分片协调器（未启用集群时使用），当前节点负责所有任务
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class SingleNodeShardCoordinator implements ShardCoordinator {
+
+    private final String nodeId;
+
+    public SingleNodeShardCoordinator(String nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    @Override
+    public void start(Runnable ownershipListener, Runnable heartbeatListener) {
+        // 不做任何处理
+    }
+
+    @Override
+    public boolean owns(long taskId) {
+        return true;
+    }
+
+    @Override
+    public ClusterStatus getStatus() {
+        return new ClusterStatus(nodeId, false, Collections.singletonList(nodeId), 1, Collections.singletonList(0));
+    }
+}
@@ -0,0 +1,346 @@
+package com.olinonee.springboot.core.task.config;
+
+import com.olinonee.springboot.core.task.executor.OverflowRejectedExecutionHandler;
+import com.olinonee.springboot.core.task.executor.PriorityLaneExecutor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 任务执行器 demo 配置属性
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+@Component
+@ConfigurationProperties("task.execution")
+public class TaskExecutionProperties {
+
+    private final Adaptive adaptive = new Adaptive();
+
+    private final VirtualThreads virtualThreads = new VirtualThreads();
+
+    private final Lanes lanes = new Lanes();
+
+    private final Overflow overflow = new Overflow();
+
+    private final Sampling sampling = new Sampling();
+
+    public Adaptive getAdaptive() {
+        return this.adaptive;
+    }
+
+    public VirtualThreads getVirtualThreads() {
+        return this.virtualThreads;
+    }
+
+    public Lanes getLanes() {
+        return this.lanes;
+    }
+
+    public Overflow getOverflow() {
+        return this.overflow;
+    }
+
+    public Sampling getSampling() {
+        return this.sampling;
+    }
+
+    public static class Adaptive {
+
+        /**
+         * 是否启用自适应线程池（根据排队时间和吞吐量在运行时调节线程数）
+         */
+        private boolean enabled = false;
+
+        /**
+         * 核心线程数下限
+         */
+        private int minCoreSize = 1;
+
+        /**
+         * 核心线程数上限（最大线程数上限为其 2 倍）
+         */
+        private int maxCoreSize = 64;
+
+        /**
+         * 单次调节的最大步长
+         */
+        private int maxStep = 4;
+
+        /**
+         * 连续空闲多少个调节周期后缩容一步
+         */
+        private int shrinkAfterIntervals = 5;
+
+        /**
+         * 目标排队时间，平均排队时间超过该值时扩容
+         */
+        private Duration targetQueueWait = Duration.ofMillis(20);
+
+        /**
+         * 调节周期
+         */
+        private Duration adjustInterval = Duration.ofSeconds(1);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMinCoreSize() {
+            return minCoreSize;
+        }
+
+        public void setMinCoreSize(int minCoreSize) {
+            this.minCoreSize = minCoreSize;
+        }
+
+        public int getMaxCoreSize() {
+            return maxCoreSize;
+        }
+
+        public void setMaxCoreSize(int maxCoreSize) {
+            this.maxCoreSize = maxCoreSize;
+        }
+
+        public int getMaxStep() {
+            return maxStep;
+        }
+
+        public void setMaxStep(int maxStep) {
+            this.maxStep = maxStep;
+        }
+
+        public int getShrinkAfterIntervals() {
+            return shrinkAfterIntervals;
+        }
+
+        public void setShrinkAfterIntervals(int shrinkAfterIntervals) {
+            this.shrinkAfterIntervals = shrinkAfterIntervals;
+        }
+
+        public Duration getTargetQueueWait() {
+            return targetQueueWait;
+        }
+
+        public void setTargetQueueWait(Duration targetQueueWait) {
+            this.targetQueueWait = targetQueueWait;
+        }
+
+        public Duration getAdjustInterval() {
+            return adjustInterval;
+        }
+
+        public void setAdjustInterval(Duration adjustInterval) {
+            this.adjustInterval = adjustInterval;
+        }
+    }
+
+    public static class VirtualThreads {
+
+        /**
+         * 是否启用虚拟线程模式（需要 JDK 21+，低版本自动回退到平台线程池），
+         * 启用后 @Async 执行器和动态定时任务的工作线程均为“每个任务一个虚拟线程”
+         */
+        private boolean enabled = false;
+
+        /**
+         * 每个执行器同时运行的最大任务数（信号量许可数）
+         */
+        private int maxConcurrency = 256;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxConcurrency() {
+            return maxConcurrency;
+        }
+
+        public void setMaxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+        }
+    }
+
+    public static class Lanes {
+
+        /**
+         * 各优先级通道的权重，长期来看各通道获得的执行次数与权重成正比
+         */
+        private final Map<PriorityLaneExecutor.Lane, Integer> weights = new EnumMap<>(PriorityLaneExecutor.Lane.class);
+
+        /**
+         * 各通道共享的工作线程数
+         */
+        private int workerCount = 8;
+
+        /**
+         * 每个通道的队列容量
+         */
+        private int laneCapacity = 10_000;
+
+        /**
+         * 老化阈值，通道队首任务等待超过该时间后优先执行
+         */
+        private Duration agingThreshold = Duration.ofMillis(200);
+
+        public Lanes() {
+            weights.put(PriorityLaneExecutor.Lane.HIGH, 8);
+            weights.put(PriorityLaneExecutor.Lane.NORMAL, 4);
+            weights.put(PriorityLaneExecutor.Lane.BULK, 1);
+        }
+
+        public Map<PriorityLaneExecutor.Lane, Integer> getWeights() {
+            return weights;
+        }
+
+        public int getWorkerCount() {
+            return workerCount;
+        }
+
+        public void setWorkerCount(int workerCount) {
+            this.workerCount = workerCount;
+        }
+
+        public int getLaneCapacity() {
+            return laneCapacity;
+        }
+
+        public void setLaneCapacity(int laneCapacity) {
+            this.laneCapacity = laneCapacity;
+        }
+
+        public Duration getAgingThreshold() {
+            return agingThreshold;
+        }
+
+        public void setAgingThreshold(Duration agingThreshold) {
+            this.agingThreshold = agingThreshold;
+        }
+    }
+
+    public static class Overflow {
+
+        /**
+         * 是否启用溢出队列：defaultTask- 线程池饱和时把可序列化的任务写入内存映射文件，空闲后回灌
+         */
+        private boolean enabled = false;
+
+        /**
+         * 溢出分段文件所在的本地目录
+         */
+        private String directory = "data/task-overflow";
+
+        /**
+         * 每个分段文件的大小
+         */
+        private DataSize segmentSize = DataSize.ofMegabytes(64);
+
+        /**
+         * 最多保留的分段文件数，写满后交给 AbortPolicy 处理
+         */
+        private int maxSegments = 16;
+
+        /**
+         * 允许从溢出文件反序列化的任务类所在的包（包括子包），其余的类（基础类型除外）一律拒绝
+         */
+        private List<String> allowedPackages = new ArrayList<>(OverflowRejectedExecutionHandler.DEFAULT_ALLOWED_PACKAGES);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(String directory) {
+            this.directory = directory;
+        }
+
+        public DataSize getSegmentSize() {
+            return segmentSize;
+        }
+
+        public void setSegmentSize(DataSize segmentSize) {
+            this.segmentSize = segmentSize;
+        }
+
+        public int getMaxSegments() {
+            return maxSegments;
+        }
+
+        public void setMaxSegments(int maxSegments) {
+            this.maxSegments = maxSegments;
+        }
+
+        public List<String> getAllowedPackages() {
+            return allowedPackages;
+        }
+
+        public void setAllowedPackages(List<String> allowedPackages) {
+            this.allowedPackages = allowedPackages;
+        }
+    }
+
+    public static class Sampling {
+
+        /**
+         * 是否定时采样各个线程池（执行器和调度器）的运行状态，默认关闭
+         */
+        private boolean enabled = false;
+
+        /**
+         * 采样周期
+         */
+        private Duration interval = Duration.ofSeconds(1);
+
+        /**
+         * 每个线程池保留的历史采样数
+         */
+        private int historySize = 300;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getInterval() {
+            return interval;
+        }
+
+        public void setInterval(Duration interval) {
+            this.interval = interval;
+        }
+
+        public int getHistorySize() {
+            return historySize;
+        }
+
+        public void setHistorySize(int historySize) {
+            this.historySize = historySize;
+        }
+    }
+}
@@ -1,14 +1,26 @@
 package com.olinonee.springboot.core.task.config;
 
+import com.olinonee.springboot.core.task.executor.AdaptiveThreadPoolTaskExecutor;
+import com.olinonee.springboot.core.task.executor.ConcurrencyLimitedExecutor;
+import com.olinonee.springboot.core.task.executor.CountingRejectedExecutionHandler;
+import com.olinonee.springboot.core.task.executor.MappedOverflowQueue;
+import com.olinonee.springboot.core.task.executor.OverflowRejectedExecutionHandler;
+import com.olinonee.springboot.core.task.executor.PriorityLaneExecutor;
+import com.olinonee.springboot.core.task.executor.VirtualThreads;
+import com.olinonee.springboot.core.task.metrics.ExecutorSampler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.aop.interceptor.AsyncUncaughtExceptionHandler;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurer;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.nio.file.Paths;
+import java.util.Collections;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadPoolExecutor;
 
@@ -25,22 +37,47 @@ public class TaskExecutorDemoConfig implements AsyncConfigurer {
 
     private static final Logger logger = LoggerFactory.getLogger(TaskExecutorDemoConfig.class);
 
+    private final TaskExecutionProperties taskExecutionProperties;
+
+    public TaskExecutorDemoConfig(TaskExecutionProperties taskExecutionProperties) {
+        this.taskExecutionProperties = taskExecutionProperties;
+    }
+
     /**
-     * 通过重写 getAsyncExecutor 方法，制定默认的任务执行由该方法产生
+     * 通过重写 getAsyncExecutor 方法，制定默认的任务执行由该方法产生；
+     * 返回的是 asyncExecutor Bean，批量处理等需要直接使用默认执行器的地方与 @Async 共享同一个线程池
      *
      * @return Executor
      */
     @Override
     public Executor getAsyncExecutor() {
-        final ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+        return asyncExecutor();
+    }
+
+    /**
+     * 默认任务执行器：注册为 Bean，由容器初始化（afterPropertiesSet）并在关闭时销毁（关闭线程池），这里不再手动初始化；
+     * 启用溢出队列时，回灌线程在容器初始化完成后绑定到线程池（见 {@link #overflowDrainerBinder(OverflowRejectedExecutionHandler)}）
+     *
+     * @return Executor
+     */
+    @Bean("asyncExecutor")
+    public Executor asyncExecutor() {
+        if (isVirtualThreadsEnabled()) {
+            return newVirtualThreadTaskExecutor("defaultTask-");
+        }
+        final ThreadPoolTaskExecutor threadPoolTaskExecutor = newThreadPoolTaskExecutor();
         threadPoolTaskExecutor.setCorePoolSize(5);
         threadPoolTaskExecutor.setMaxPoolSize(64);
         threadPoolTaskExecutor.setQueueCapacity(64);
         threadPoolTaskExecutor.setKeepAliveSeconds(30);
         threadPoolTaskExecutor.setAllowCoreThreadTimeOut(true);
         threadPoolTaskExecutor.setThreadNamePrefix("defaultTask-");
-        threadPoolTaskExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
-        threadPoolTaskExecutor.initialize();
+        if (taskExecutionProperties.getOverflow().isEnabled()) {
+            // 饱和时溢出到磁盘，空闲后回灌；无法溢出的任务仍然按照 AbortPolicy 处理
+            threadPoolTaskExecutor.setRejectedExecutionHandler(new CountingRejectedExecutionHandler(overflowRejectedExecutionHandler()));
+            return threadPoolTaskExecutor;
+        }
+        threadPoolTaskExecutor.setRejectedExecutionHandler(new CountingRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy()));
         return threadPoolTaskExecutor;
     }
 
@@ -64,15 +101,149 @@ public class TaskExecutorDemoConfig implements AsyncConfigurer {
      */
     @Bean("getCustomizerAsyncExecutor")
     public Executor getCustomizerAsyncExecutor() {
-        final ThreadPoolTaskExecutor threadPoolTaskExecutor = new ThreadPoolTaskExecutor();
+        if (isVirtualThreadsEnabled()) {
+            return newVirtualThreadTaskExecutor("customTask-");
+        }
+        final ThreadPoolTaskExecutor threadPoolTaskExecutor = newThreadPoolTaskExecutor();
         threadPoolTaskExecutor.setCorePoolSize(1);
         threadPoolTaskExecutor.setMaxPoolSize(16);
         threadPoolTaskExecutor.setQueueCapacity(32);
         threadPoolTaskExecutor.setKeepAliveSeconds(10);
         threadPoolTaskExecutor.setAllowCoreThreadTimeOut(true);
         threadPoolTaskExecutor.setThreadNamePrefix("customTask-");
-        threadPoolTaskExecutor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
-        threadPoolTaskExecutor.initialize();
+        threadPoolTaskExecutor.setRejectedExecutionHandler(new CountingRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy()));
         return threadPoolTaskExecutor;
     }
+
+    /**
+     * 溢出到磁盘的拒绝策略，通过 task.execution.overflow.enabled 属性启用
+     *
+     * @return OverflowRejectedExecutionHandler
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "task.execution.overflow", name = "enabled", havingValue = "true")
+    public OverflowRejectedExecutionHandler overflowRejectedExecutionHandler() {
+        final TaskExecutionProperties.Overflow overflow = taskExecutionProperties.getOverflow();
+        final MappedOverflowQueue overflowQueue = new MappedOverflowQueue(Paths.get(overflow.getDirectory()),
+                (int) overflow.getSegmentSize().toBytes(), overflow.getMaxSegments());
+        return new OverflowRejectedExecutionHandler(overflowQueue, new ThreadPoolExecutor.AbortPolicy(), overflow.getAllowedPackages());
+    }
+
+    /**
+     * 所有单例初始化完成后（asyncExecutor 已由容器初始化）把溢出拒绝策略绑定到默认执行器的线程池，启动回灌线程
+     *
+     * @param overflowRejectedExecutionHandler 溢出拒绝策略
+     * @return SmartInitializingSingleton
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "task.execution.overflow", name = "enabled", havingValue = "true")
+    public SmartInitializingSingleton overflowDrainerBinder(OverflowRejectedExecutionHandler overflowRejectedExecutionHandler) {
+        return () -> {
+            final Executor executor = asyncExecutor();
+            if (executor instanceof ThreadPoolTaskExecutor) {
+                overflowRejectedExecutionHandler.bind(((ThreadPoolTaskExecutor) executor).getThreadPoolExecutor());
+            }
+        };
+    }
+
+    /**
+     * 多优先级通道执行器：各通道共享工作线程，按照加权公平队列调度并带有防饿死的老化机制
+     *
+     * @return PriorityLaneExecutor
+     */
+    @Bean
+    public PriorityLaneExecutor priorityLaneExecutor() {
+        final TaskExecutionProperties.Lanes lanes = taskExecutionProperties.getLanes();
+        return new PriorityLaneExecutor(lanes.getWeights(), lanes.getWorkerCount(), lanes.getLaneCapacity(),
+                lanes.getAgingThreshold(), "laneTask-");
+    }
+
+    /**
+     * 高优先级通道：延迟敏感的异步任务使用 @Async("highLaneExecutor")
+     *
+     * @return Executor
+     */
+    @Bean("highLaneExecutor")
+    public Executor highLaneExecutor() {
+        return priorityLaneExecutor().lane(PriorityLaneExecutor.Lane.HIGH);
+    }
+
+    /**
+     * 普通优先级通道：@Async("normalLaneExecutor")
+     *
+     * @return Executor
+     */
+    @Bean("normalLaneExecutor")
+    public Executor normalLaneExecutor() {
+        return priorityLaneExecutor().lane(PriorityLaneExecutor.Lane.NORMAL);
+    }
+
+    /**
+     * 批量任务通道：@Async("bulkLaneExecutor")
+     *
+     * @return Executor
+     */
+    @Bean("bulkLaneExecutor")
+    public Executor bulkLaneExecutor() {
+        return priorityLaneExecutor().lane(PriorityLaneExecutor.Lane.BULK);
+    }
+
+    /**
+     * 线程池采样器：定时采样各个执行器和调度器的运行状态，通过 task.execution.sampling 属性配置
+     *
+     * @return ExecutorSampler
+     */
+    @Bean
+    public ExecutorSampler executorSampler() {
+        final TaskExecutionProperties.Sampling sampling = taskExecutionProperties.getSampling();
+        return new ExecutorSampler(sampling.isEnabled(), sampling.getInterval(), sampling.getHistorySize(), Collections.emptyMap());
+    }
+
+    /**
+     * 创建线程池任务执行器，启用 task.execution.adaptive.enabled 时创建自适应线程池，
+     * 此时设置的核心线程数只作为初始值，最大线程数作为突发容量的下限
+     *
+     * @return ThreadPoolTaskExecutor
+     */
+    private ThreadPoolTaskExecutor newThreadPoolTaskExecutor() {
+        final TaskExecutionProperties.Adaptive adaptive = taskExecutionProperties.getAdaptive();
+        if (!adaptive.isEnabled()) {
+            return new ThreadPoolTaskExecutor();
+        }
+        final AdaptiveThreadPoolTaskExecutor adaptiveThreadPoolTaskExecutor = new AdaptiveThreadPoolTaskExecutor();
+        adaptiveThreadPoolTaskExecutor.setMinCoreSize(adaptive.getMinCoreSize());
+        adaptiveThreadPoolTaskExecutor.setMaxCoreSize(adaptive.getMaxCoreSize());
+        adaptiveThreadPoolTaskExecutor.setMaxStep(adaptive.getMaxStep());
+        adaptiveThreadPoolTaskExecutor.setShrinkAfterIntervals(adaptive.getShrinkAfterIntervals());
+        adaptiveThreadPoolTaskExecutor.setTargetQueueWait(adaptive.getTargetQueueWait());
+        adaptiveThreadPoolTaskExecutor.setAdjustInterval(adaptive.getAdjustInterval());
+        return adaptiveThreadPoolTaskExecutor;
+    }
+
+    /**
+     * 是否启用虚拟线程模式，配置启用但运行时不支持时回退到平台线程池
+     *
+     * @return true-启用 false-不启用
+     */
+    private boolean isVirtualThreadsEnabled() {
+        if (!taskExecutionProperties.getVirtualThreads().isEnabled()) {
+            return false;
+        }
+        if (!VirtualThreads.isSupported()) {
+            logger.warn("[TaskExecutorDemoConfig#isVirtualThreadsEnabled] - 当前运行时 JDK {} 不支持虚拟线程，回退到平台线程池", Runtime.version().feature());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 创建虚拟线程任务执行器：每个任务一个虚拟线程，同时运行的任务数受信号量限制
+     *
+     * @param threadNamePrefix 线程名称前缀
+     * @return Executor
+     */
+    private Executor newVirtualThreadTaskExecutor(String threadNamePrefix) {
+        final int maxConcurrency = taskExecutionProperties.getVirtualThreads().getMaxConcurrency();
+        return new ConcurrencyLimitedExecutor(VirtualThreads.newVirtualThreadPerTaskExecutor(threadNamePrefix), maxConcurrency);
+    }
 }
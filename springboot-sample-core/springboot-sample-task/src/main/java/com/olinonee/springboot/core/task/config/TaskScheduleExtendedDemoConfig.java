@@ -1,5 +1,19 @@
 package com.olinonee.springboot.core.task.config;
 
+import com.olinonee.springboot.core.task.cluster.FileLockLeaseStore;
+import com.olinonee.springboot.core.task.cluster.LeaseShardCoordinator;
+import com.olinonee.springboot.core.task.cluster.ShardCoordinator;
+import com.olinonee.springboot.core.task.cluster.SingleNodeShardCoordinator;
+import com.olinonee.springboot.core.task.executor.ConcurrencyLimitedExecutor;
+import com.olinonee.springboot.core.task.executor.CountingRejectedExecutionHandler;
+import com.olinonee.springboot.core.task.executor.VirtualThreads;
+import com.olinonee.springboot.core.task.id.SnowflakeIdGenerator;
+import com.olinonee.springboot.core.task.registry.FileLockTaskRegistry;
+import com.olinonee.springboot.core.task.registry.JournalTaskRegistry;
+import com.olinonee.springboot.core.task.registry.NoOpTaskRegistry;
+import com.olinonee.springboot.core.task.registry.TaskRegistry;
+import com.olinonee.springboot.core.task.scheduler.DispatchingTaskScheduler;
+import com.olinonee.springboot.core.task.scheduler.HashedWheelTaskScheduler;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Bean;
@@ -9,6 +23,13 @@ import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.scheduling.annotation.SchedulingConfigurer;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 import org.springframework.scheduling.config.ScheduledTaskRegistrar;
+import org.springframework.util.ErrorHandler;
+import org.springframework.util.StringUtils;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Paths;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * 任务调度器扩展 demo 配置类
@@ -23,24 +44,144 @@ public class TaskScheduleExtendedDemoConfig implements SchedulingConfigurer {
 
     private final Logger logger = LoggerFactory.getLogger(TaskScheduleExtendedDemoConfig.class);
 
+    private final TaskScheduleProperties taskScheduleProperties;
+
+    private final TaskExecutionProperties taskExecutionProperties;
+
+    public TaskScheduleExtendedDemoConfig(TaskScheduleProperties taskScheduleProperties, TaskExecutionProperties taskExecutionProperties) {
+        this.taskScheduleProperties = taskScheduleProperties;
+        this.taskExecutionProperties = taskExecutionProperties;
+    }
+
     @Override
     public void configureTasks(ScheduledTaskRegistrar taskRegistrar) {
         taskRegistrar.setTaskScheduler(threadPoolTaskScheduler());
     }
 
+    /**
+     * 任务调度器，通过 task.schedule.backend 属性选择实现（thread-pool 或 timing-wheel）；
+     * 启用虚拟线程模式时，到期的任务交给虚拟线程执行
+     *
+     * @return TaskScheduler
+     */
     @Bean
     public TaskScheduler threadPoolTaskScheduler() {
+        final Executor virtualThreadWorkerExecutor = virtualThreadWorkerExecutor();
+        if (taskScheduleProperties.getBackend() == TaskScheduleProperties.Backend.TIMING_WHEEL) {
+            return hashedWheelTaskScheduler(virtualThreadWorkerExecutor);
+        }
+        if (virtualThreadWorkerExecutor != null) {
+            // 调度线程只负责计时，执行交给虚拟线程
+            return new DispatchingTaskScheduler(newThreadPoolTaskScheduler(), virtualThreadWorkerExecutor, getErrorHandler());
+        }
+        return newThreadPoolTaskScheduler();
+    }
+
+    private ThreadPoolTaskScheduler newThreadPoolTaskScheduler() {
         final ThreadPoolTaskScheduler threadPoolTaskScheduler = new ThreadPoolTaskScheduler();
         // 定时任务执行线程池核心线程数
-        threadPoolTaskScheduler.setPoolSize(5);
+        threadPoolTaskScheduler.setPoolSize(taskScheduleProperties.getPoolSize());
         // 如果设置为 true，则目标执行器将切换到取消时删除模式
         threadPoolTaskScheduler.setRemoveOnCancelPolicy(true);
+        // 统计拒绝次数（调度器关闭后提交的任务会被拒绝）
+        threadPoolTaskScheduler.setRejectedExecutionHandler(new CountingRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy()));
         // 自定义错误处理器
-        threadPoolTaskScheduler.setErrorHandler(t -> {
-            logger.error("[TaskScheduleExtendedDemoConfig#threadPoolTaskScheduler] - 执行定时任务发生了异常，异常信息为：{} ", t.getMessage());
-        });
+        threadPoolTaskScheduler.setErrorHandler(getErrorHandler());
         // 初始化
         threadPoolTaskScheduler.initialize();
         return threadPoolTaskScheduler;
     }
+
+    /**
+     * 获取时间轮调度器：调度与取消均为 O(1)，到期任务交给独立的工作线程池执行
+     *
+     * @param workerExecutor 工作执行器，为空时使用内部的平台线程池
+     * @return HashedWheelTaskScheduler
+     */
+    private HashedWheelTaskScheduler hashedWheelTaskScheduler(Executor workerExecutor) {
+        final TaskScheduleProperties.Wheel wheel = taskScheduleProperties.getWheel();
+        final HashedWheelTaskScheduler hashedWheelTaskScheduler = new HashedWheelTaskScheduler();
+        hashedWheelTaskScheduler.setTickDuration(wheel.getTickDuration());
+        hashedWheelTaskScheduler.setTicksPerWheel(wheel.getTicksPerWheel());
+        // 到期任务执行线程池线程数
+        hashedWheelTaskScheduler.setWorkerPoolSize(taskScheduleProperties.getPoolSize());
+        hashedWheelTaskScheduler.setErrorHandler(getErrorHandler());
+        if (workerExecutor != null) {
+            hashedWheelTaskScheduler.setWorkerExecutor(workerExecutor);
+        }
+        hashedWheelTaskScheduler.initialize();
+        return hashedWheelTaskScheduler;
+    }
+
+    /**
+     * 获取虚拟线程工作执行器，未启用虚拟线程模式或运行时不支持（低于 JDK 21）时返回 null
+     *
+     * @return Executor
+     */
+    private Executor virtualThreadWorkerExecutor() {
+        final TaskExecutionProperties.VirtualThreads virtualThreads = taskExecutionProperties.getVirtualThreads();
+        if (!virtualThreads.isEnabled()) {
+            return null;
+        }
+        if (!VirtualThreads.isSupported()) {
+            logger.warn("[TaskScheduleExtendedDemoConfig#virtualThreadWorkerExecutor] - 当前运行时 JDK {} 不支持虚拟线程，回退到平台线程池", Runtime.version().feature());
+            return null;
+        }
+        return new ConcurrencyLimitedExecutor(VirtualThreads.newVirtualThreadPerTaskExecutor("virtualTask-"), virtualThreads.getMaxConcurrency());
+    }
+
+    /**
+     * 定时任务注册表：启用多节点分片调度时为集群目录中各节点共享的注册表，否则通过 task.schedule.journal.enabled 属性启用本地日志持久化
+     *
+     * @return TaskRegistry
+     */
+    @Bean
+    public TaskRegistry taskRegistry() {
+        final TaskScheduleProperties.Cluster cluster = taskScheduleProperties.getCluster();
+        if (cluster.isEnabled()) {
+            return new FileLockTaskRegistry(Paths.get(cluster.getDirectory()));
+        }
+        final TaskScheduleProperties.Journal journal = taskScheduleProperties.getJournal();
+        if (!journal.isEnabled()) {
+            return new NoOpTaskRegistry();
+        }
+        return new JournalTaskRegistry(Paths.get(journal.getDirectory()), journal.getMaxBatchSize(),
+                journal.getCompactThreshold(), journal.isFsync());
+    }
+
+    /**
+     * 定时任务 id 生成器，节点 id 通过 task.schedule.id.node-id 属性配置
+     *
+     * @return SnowflakeIdGenerator
+     */
+    @Bean
+    public SnowflakeIdGenerator taskIdGenerator() {
+        final long nodeId = taskScheduleProperties.getId().getNodeId();
+        return new SnowflakeIdGenerator(nodeId < 0 ? SnowflakeIdGenerator.defaultNodeId() : nodeId);
+    }
+
+    /**
+     * 分片协调器，通过 task.schedule.cluster.enabled 属性启用多节点分片调度
+     *
+     * @return ShardCoordinator
+     */
+    @Bean
+    public ShardCoordinator shardCoordinator() {
+        final TaskScheduleProperties.Cluster cluster = taskScheduleProperties.getCluster();
+        final String nodeName = StringUtils.hasText(cluster.getNodeName()) ? cluster.getNodeName() : ManagementFactory.getRuntimeMXBean().getName();
+        if (!cluster.isEnabled()) {
+            return new SingleNodeShardCoordinator(nodeName);
+        }
+        return new LeaseShardCoordinator(new FileLockLeaseStore(Paths.get(cluster.getDirectory())), nodeName,
+                cluster.getShardCount(), cluster.getVirtualNodes(), cluster.getLeaseTtl(), cluster.getHeartbeatInterval());
+    }
+
+    /**
+     * 获取错误处理器
+     *
+     * @return ErrorHandler
+     */
+    private ErrorHandler getErrorHandler() {
+        return t -> logger.error("[TaskScheduleExtendedDemoConfig#threadPoolTaskScheduler] - 执行定时任务发生了异常，异常信息为：", t);
+    }
 }
@@ -0,0 +1,359 @@
+package com.olinonee.springboot.core.task.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 任务调度器扩展 demo 配置属性
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+@Component
+@ConfigurationProperties("task.schedule")
+public class TaskScheduleProperties {
+
+    /**
+     * 调度器实现，默认为 ThreadPoolTaskScheduler
+     */
+    private Backend backend = Backend.THREAD_POOL;
+
+    /**
+     * 调度线程池核心线程数（时间轮模式下为工作线程数）
+     */
+    private int poolSize = 5;
+
+    private final Wheel wheel = new Wheel();
+
+    private final Journal journal = new Journal();
+
+    private final Metrics metrics = new Metrics();
+
+    private final Spread spread = new Spread();
+
+    private final Id id = new Id();
+
+    private final Cluster cluster = new Cluster();
+
+    public Backend getBackend() {
+        return this.backend;
+    }
+
+    public void setBackend(Backend backend) {
+        this.backend = backend;
+    }
+
+    public int getPoolSize() {
+        return this.poolSize;
+    }
+
+    public void setPoolSize(int poolSize) {
+        this.poolSize = poolSize;
+    }
+
+    public Wheel getWheel() {
+        return this.wheel;
+    }
+
+    public Journal getJournal() {
+        return this.journal;
+    }
+
+    public Metrics getMetrics() {
+        return this.metrics;
+    }
+
+    public Spread getSpread() {
+        return this.spread;
+    }
+
+    public Id getId() {
+        return this.id;
+    }
+
+    public Cluster getCluster() {
+        return this.cluster;
+    }
+
+    /**
+     * 调度器实现类型
+     */
+    public enum Backend {
+        /**
+         * 基于 ScheduledThreadPoolExecutor 延迟队列的实现
+         */
+        THREAD_POOL,
+        /**
+         * 基于哈希时间轮的实现
+         */
+        TIMING_WHEEL
+    }
+
+    public static class Wheel {
+
+        /**
+         * 时间轮每一格的时长
+         */
+        private Duration tickDuration = Duration.ofMillis(10);
+
+        /**
+         * 时间轮的格数（会向上取整为 2 的幂）
+         */
+        private int ticksPerWheel = 512;
+
+        public Duration getTickDuration() {
+            return tickDuration;
+        }
+
+        public void setTickDuration(Duration tickDuration) {
+            this.tickDuration = tickDuration;
+        }
+
+        public int getTicksPerWheel() {
+            return ticksPerWheel;
+        }
+
+        public void setTicksPerWheel(int ticksPerWheel) {
+            this.ticksPerWheel = ticksPerWheel;
+        }
+    }
+
+    public static class Journal {
+
+        /**
+         * 是否启用任务日志（启用后应用重启会自动恢复动态启动的定时任务）；启用多节点分片调度时任务保存在集群目录的共享注册表中，不使用任务日志
+         */
+        private boolean enabled = false;
+
+        /**
+         * 日志文件所在的本地目录
+         */
+        private String directory = "data/task-journal";
+
+        /**
+         * 组提交时一批最多合并的记录数
+         */
+        private int maxBatchSize = 1024;
+
+        /**
+         * 触发压缩的日志记录数阈值
+         */
+        private int compactThreshold = 10_000;
+
+        /**
+         * 每批写入后是否强制刷盘
+         */
+        private boolean fsync = true;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(String directory) {
+            this.directory = directory;
+        }
+
+        public int getMaxBatchSize() {
+            return maxBatchSize;
+        }
+
+        public void setMaxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+        }
+
+        public int getCompactThreshold() {
+            return compactThreshold;
+        }
+
+        public void setCompactThreshold(int compactThreshold) {
+            this.compactThreshold = compactThreshold;
+        }
+
+        public boolean isFsync() {
+            return fsync;
+        }
+
+        public void setFsync(boolean fsync) {
+            this.fsync = fsync;
+        }
+    }
+
+    public static class Metrics {
+
+        /**
+         * 实际开始时间晚于计划触发时间超过该阈值时计为一次错过触发（misfire）
+         */
+        private Duration misfireThreshold = Duration.ofSeconds(1);
+
+        public Duration getMisfireThreshold() {
+            return misfireThreshold;
+        }
+
+        public void setMisfireThreshold(Duration misfireThreshold) {
+            this.misfireThreshold = misfireThreshold;
+        }
+    }
+
+    public static class Spread {
+
+        /**
+         * 是否启用错峰触发（同一 cron 表达式的任务按照任务 id 分散到不同的相位执行）
+         */
+        private boolean enabled = false;
+
+        /**
+         * 相位偏移上限，按任务 id 哈希在 [0, maxPhase) 内确定偏移量，通常设置为 cron 的周期
+         */
+        private Duration maxPhase = Duration.ofSeconds(5);
+
+        /**
+         * 每次触发叠加的随机抖动上限，为 0 时不抖动
+         */
+        private Duration maxJitter = Duration.ZERO;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public Duration getMaxPhase() {
+            return maxPhase;
+        }
+
+        public void setMaxPhase(Duration maxPhase) {
+            this.maxPhase = maxPhase;
+        }
+
+        public Duration getMaxJitter() {
+            return maxJitter;
+        }
+
+        public void setMaxJitter(Duration maxJitter) {
+            this.maxJitter = maxJitter;
+        }
+    }
+
+    public static class Id {
+
+        /**
+         * 任务 id 生成器的节点 id，取值范围 [0, 1023]，多节点部署时每个节点必须不同；为负数时根据主机名和进程 id 推导
+         */
+        private long nodeId = -1;
+
+        public long getNodeId() {
+            return nodeId;
+        }
+
+        public void setNodeId(long nodeId) {
+            this.nodeId = nodeId;
+        }
+    }
+
+    public static class Cluster {
+
+        /**
+         * 是否启用多节点分片调度（每个节点只调度一致性哈希分配给自己的分片内的任务）
+         */
+        private boolean enabled = false;
+
+        /**
+         * 节点名称，集群内必须唯一；为空时使用 “进程 id@主机名”
+         */
+        private String nodeName;
+
+        /**
+         * 保存租约文件和共享任务注册表的共享目录
+         */
+        private String directory = "data/task-cluster";
+
+        /**
+         * 分片数，所有节点必须一致
+         */
+        private int shardCount = 64;
+
+        /**
+         * 一致性哈希环上每个节点的虚拟节点数
+         */
+        private int virtualNodes = 64;
+
+        /**
+         * 租约有效期，节点宕机后其分片在租约到期后被其它节点接管
+         */
+        private Duration leaseTtl = Duration.ofSeconds(10);
+
+        /**
+         * 心跳（续约与再平衡）周期，应明显小于租约有效期
+         */
+        private Duration heartbeatInterval = Duration.ofSeconds(3);
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public String getNodeName() {
+            return nodeName;
+        }
+
+        public void setNodeName(String nodeName) {
+            this.nodeName = nodeName;
+        }
+
+        public String getDirectory() {
+            return directory;
+        }
+
+        public void setDirectory(String directory) {
+            this.directory = directory;
+        }
+
+        public int getShardCount() {
+            return shardCount;
+        }
+
+        public void setShardCount(int shardCount) {
+            this.shardCount = shardCount;
+        }
+
+        public int getVirtualNodes() {
+            return virtualNodes;
+        }
+
+        public void setVirtualNodes(int virtualNodes) {
+            this.virtualNodes = virtualNodes;
+        }
+
+        public Duration getLeaseTtl() {
+            return leaseTtl;
+        }
+
+        public void setLeaseTtl(Duration leaseTtl) {
+            this.leaseTtl = leaseTtl;
+        }
+
+        public Duration getHeartbeatInterval() {
+            return heartbeatInterval;
+        }
+
+        public void setHeartbeatInterval(Duration heartbeatInterval) {
+            this.heartbeatInterval = heartbeatInterval;
+        }
+    }
+}
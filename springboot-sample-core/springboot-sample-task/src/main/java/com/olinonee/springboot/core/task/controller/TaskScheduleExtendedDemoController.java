@@ -1,12 +1,41 @@
 package com.olinonee.springboot.core.task.controller;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.olinonee.springboot.core.task.cluster.ClusterStatus;
+import com.olinonee.springboot.core.task.cluster.ShardCoordinator;
+import com.olinonee.springboot.core.task.executor.LaneStats;
+import com.olinonee.springboot.core.task.executor.PriorityLaneExecutor;
+import com.olinonee.springboot.core.task.metrics.ExecutorSample;
+import com.olinonee.springboot.core.task.metrics.ExecutorSampler;
+import com.olinonee.springboot.core.task.metrics.TaskMetricsRegistry;
+import com.olinonee.springboot.core.task.metrics.TaskMetricsSnapshot;
+import com.olinonee.springboot.core.task.model.TaskItem;
+import com.olinonee.springboot.core.task.model.TaskItemResult;
+import com.olinonee.springboot.core.task.model.TaskPage;
+import com.olinonee.springboot.core.task.model.TaskView;
 import com.olinonee.springboot.core.task.service.TaskScheduleExtendedDemoService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * 任务调度器扩展 demo 控制器
@@ -19,11 +48,45 @@ import java.util.List;
 @RequestMapping("/task")
 public class TaskScheduleExtendedDemoController {
 
+    /**
+     * NDJSON 流式请求每攒够多少条提交一次
+     */
+    private static final int NDJSON_CHUNK_SIZE = 1000;
+
+    /**
+     * 分页查询每页最多条数
+     */
+    private static final int MAX_PAGE_SIZE = 1000;
+
     private final TaskScheduleExtendedDemoService taskScheduleExtendedDemoService;
 
+    private final TaskMetricsRegistry taskMetricsRegistry;
+
+    private final PriorityLaneExecutor priorityLaneExecutor;
+
+    private final ShardCoordinator shardCoordinator;
+
+    private final ExecutorSampler executorSampler;
+
+    private final ObjectReader taskItemReader;
+
+    private final ObjectWriter taskViewWriter;
+
     @Autowired
-    private TaskScheduleExtendedDemoController(TaskScheduleExtendedDemoService taskScheduleExtendedDemoService) {
+    private TaskScheduleExtendedDemoController(TaskScheduleExtendedDemoService taskScheduleExtendedDemoService,
+                                               TaskMetricsRegistry taskMetricsRegistry, PriorityLaneExecutor priorityLaneExecutor,
+                                               ShardCoordinator shardCoordinator, ExecutorSampler executorSampler,
+                                               ObjectMapper objectMapper) {
         this.taskScheduleExtendedDemoService = taskScheduleExtendedDemoService;
+        this.taskMetricsRegistry = taskMetricsRegistry;
+        this.priorityLaneExecutor = priorityLaneExecutor;
+        this.shardCoordinator = shardCoordinator;
+        this.executorSampler = executorSampler;
+        this.taskItemReader = objectMapper.readerFor(TaskItem.class);
+        // 流式输出时每条记录之间以换行分隔，由调用方决定何时刷新
+        this.taskViewWriter = objectMapper.writerFor(TaskView.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .withRootValueSeparator("\n");
     }
 
     @PostMapping("/start")
@@ -42,6 +105,53 @@ public class TaskScheduleExtendedDemoController {
         return taskScheduleExtendedDemoService.queryAll();
     }
 
+    /**
+     * 分页查询定时任务（包含下一次触发时间和最近一次执行情况）
+     *
+     * @param cursor         游标，取上一页返回的 nextCursor，为空时从头开始
+     * @param limit          每页条数，最多 {@link #MAX_PAGE_SIZE}
+     * @param cronExpression 按照 cron 表达式过滤
+     * @param state          按照状态过滤
+     * @return 一页定时任务
+     */
+    @GetMapping("/list")
+    public TaskPage listTask(@RequestParam(value = "cursor", required = false) Long cursor,
+                             @RequestParam(value = "limit", defaultValue = "100") int limit,
+                             @RequestParam(value = "cronExpression", required = false) String cronExpression,
+                             @RequestParam(value = "state", required = false) TaskView.State state) {
+        return taskScheduleExtendedDemoService.queryPage(cursor, Math.max(1, Math.min(limit, MAX_PAGE_SIZE)), cronExpression, state);
+    }
+
+    /**
+     * 以 NDJSON 流式输出所有（符合条件的）定时任务，边遍历边写出，不在内存中汇总
+     *
+     * @param cronExpression 按照 cron 表达式过滤
+     * @param state          按照状态过滤
+     * @return 响应体
+     */
+    @GetMapping(value = "/list/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public StreamingResponseBody streamTask(@RequestParam(value = "cronExpression", required = false) String cronExpression,
+                                            @RequestParam(value = "state", required = false) TaskView.State state) {
+        return outputStream -> {
+            try (JsonGenerator generator = taskViewWriter.getFactory().createGenerator(outputStream)) {
+                final int[] written = new int[1];
+                taskScheduleExtendedDemoService.forEachTask(cronExpression, state, taskView -> {
+                    try {
+                        taskViewWriter.writeValue(generator, taskView);
+                        if (++written[0] % NDJSON_CHUNK_SIZE == 0) {
+                            generator.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                if (written[0] > 0) {
+                    generator.writeRaw('\n');
+                }
+            }
+        };
+    }
+
     @PostMapping("/stop")
     public String stopTask(@RequestParam("taskId") Long taskId) {
         final Boolean stopState = taskScheduleExtendedDemoService.stop(taskId);
@@ -62,4 +172,127 @@ public class TaskScheduleExtendedDemoController {
         }
         return resultState ? "定时任务重启成功！" : "定时任务重启失败！";
     }
+
+    @GetMapping("/metrics")
+    public List<TaskMetricsSnapshot> taskMetrics(@RequestParam(value = "taskId", required = false) Long taskId) {
+        if (ObjectUtils.isEmpty(taskId)) {
+            return taskMetricsRegistry.snapshots();
+        }
+        final TaskMetricsSnapshot snapshot = taskMetricsRegistry.snapshot(taskId);
+        return snapshot == null ? Collections.emptyList() : Collections.singletonList(snapshot);
+    }
+
+    @GetMapping("/metrics/summary")
+    public TaskMetricsSnapshot taskMetricsSummary() {
+        return taskMetricsRegistry.summary();
+    }
+
+    @GetMapping("/lanes/metrics")
+    public List<LaneStats> laneMetrics() {
+        return priorityLaneExecutor.getLaneStats();
+    }
+
+    /**
+     * 各个线程池最近一次的采样
+     *
+     * @return 采样列表
+     */
+    @GetMapping("/executors")
+    public List<ExecutorSample> executorSamples() {
+        return executorSampler.current();
+    }
+
+    /**
+     * 指定线程池最近的采样历史
+     *
+     * @param name  线程池名称（Bean 名称，默认执行器为 asyncExecutor）
+     * @param limit 最多返回的采样数
+     * @return 采样列表
+     */
+    @GetMapping("/executors/history")
+    public List<ExecutorSample> executorSampleHistory(@RequestParam("name") String name,
+                                                      @RequestParam(value = "limit", defaultValue = "60") int limit) {
+        return executorSampler.history(name, limit);
+    }
+
+    @GetMapping("/cluster")
+    public ClusterStatus clusterStatus() {
+        return shardCoordinator.getStatus();
+    }
+
+    @PostMapping(value = "/batch/start", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public List<TaskItemResult> batchStartTask(@RequestBody List<TaskItem> items) {
+        return taskScheduleExtendedDemoService.startAll(items);
+    }
+
+    @PostMapping(value = "/batch/start", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public List<TaskItemResult> batchStartTask(InputStream body) throws IOException {
+        return applyNdjson(body, taskScheduleExtendedDemoService::startAll);
+    }
+
+    @PostMapping(value = "/batch/stop", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public List<TaskItemResult> batchStopTask(@RequestBody List<TaskItem> items) {
+        return taskScheduleExtendedDemoService.stopAll(items);
+    }
+
+    @PostMapping(value = "/batch/stop", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public List<TaskItemResult> batchStopTask(InputStream body) throws IOException {
+        return applyNdjson(body, taskScheduleExtendedDemoService::stopAll);
+    }
+
+    @PostMapping(value = "/batch/restart", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public List<TaskItemResult> batchRestartTask(@RequestBody List<TaskItem> items) {
+        return taskScheduleExtendedDemoService.restartAll(items);
+    }
+
+    @PostMapping(value = "/batch/restart", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public List<TaskItemResult> batchRestartTask(InputStream body) throws IOException {
+        return applyNdjson(body, taskScheduleExtendedDemoService::restartAll);
+    }
+
+    /**
+     * 逐行读取 NDJSON 请求体，每 {@link #NDJSON_CHUNK_SIZE} 条提交一次，避免把整个请求体读入内存；
+     * 无法解析的行不会中断整个请求，而是在对应位置返回一条失败结果（之前和之后的条目照常执行）
+     *
+     * @param body      请求体
+     * @param operation 批量操作
+     * @return 所有条目的执行结果，顺序与请求体中的行一致
+     * @throws IOException 读取请求体失败
+     */
+    private List<TaskItemResult> applyNdjson(InputStream body, Function<List<TaskItem>, List<TaskItemResult>> operation) throws IOException {
+        final List<TaskItemResult> results = new ArrayList<>();
+        final List<TaskItem> chunk = new ArrayList<>(NDJSON_CHUNK_SIZE);
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (!StringUtils.hasText(line)) {
+                    continue;
+                }
+                final TaskItem item;
+                try {
+                    item = taskItemReader.readValue(line);
+                } catch (JsonProcessingException e) {
+                    // 先提交已经攒下的条目，保证结果顺序与行顺序一致
+                    applyChunk(chunk, operation, results);
+                    results.add(TaskItemResult.failure(null, "第 " + lineNumber + " 行无法解析：" + e.getOriginalMessage()));
+                    continue;
+                }
+                chunk.add(item);
+                if (chunk.size() == NDJSON_CHUNK_SIZE) {
+                    applyChunk(chunk, operation, results);
+                }
+            }
+        }
+        applyChunk(chunk, operation, results);
+        return results;
+    }
+
+    private static void applyChunk(List<TaskItem> chunk, Function<List<TaskItem>, List<TaskItemResult>> operation, List<TaskItemResult> results) {
+        if (!chunk.isEmpty()) {
+            results.addAll(operation.apply(chunk));
+            chunk.clear();
+        }
+    }
 }
@@ -0,0 +1,299 @@
+package com.olinonee.springboot.core.task.cron;
+
+import org.springframework.scheduling.support.CronExpression;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.zone.ZoneOffsetTransition;
+import java.util.Locale;
+
+/**
+ * 编译后的 cron 执行计划
+ * <p>
+ * 将 6 段式 cron 表达式（秒 分 时 日 月 周）的每一段编译为位图，计算下一次触发时间时通过位扫描
+ * （{@link Long#numberOfTrailingZeros(long)}）逐段跳到下一个合法值，而不是像 {@link CronExpression} 那样逐字段地做时间运算。
+ * <p>
+ * 表达式的合法性仍由 {@link CronExpression#parse(String)} 校验；包含 {@code L}、{@code W}、{@code #} 或宏（如 {@code @daily}）的表达式
+ * 不做位图编译，直接回退到 {@link CronExpression}，保证两者语义一致。
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public final class CronPlan {
+
+    private static final String[] MONTH_NAMES = {"JAN", "FEB", "MAR", "APR", "MAY", "JUN", "JUL", "AUG", "SEP", "OCT", "NOV", "DEC"};
+    private static final String[] DAY_OF_WEEK_NAMES = {"SUN", "MON", "TUE", "WED", "THU", "FRI", "SAT"};
+
+    /**
+     * 最多向后查找的年数，超出则认为不会再触发
+     */
+    private static final int MAX_YEARS_AHEAD = 8;
+
+    private final String expression;
+    private final CronExpression fallback;
+
+    private final long seconds;
+    private final long minutes;
+    private final long hours;
+    private final long daysOfMonth;
+    private final long months;
+    private final long daysOfWeek;
+
+    private CronPlan(String expression, CronExpression fallback, long[] fields) {
+        this.expression = expression;
+        this.fallback = fallback;
+        this.seconds = fields[0];
+        this.minutes = fields[1];
+        this.hours = fields[2];
+        this.daysOfMonth = fields[3];
+        this.months = fields[4];
+        this.daysOfWeek = fields[5];
+    }
+
+    /**
+     * 编译 cron 表达式
+     *
+     * @param expression cron 表达式
+     * @return 编译后的执行计划
+     * @throws IllegalArgumentException 表达式不合法
+     */
+    public static CronPlan compile(String expression) {
+        final CronExpression cronExpression = CronExpression.parse(expression);
+        final String[] fields = expression.trim().toUpperCase(Locale.ROOT).split("\\s+");
+        try {
+            final long[] bits = new long[]{
+                    parseField(fields[0], 0, 59, null),
+                    parseField(fields[1], 0, 59, null),
+                    parseField(fields[2], 0, 23, null),
+                    parseField(fields[3], 1, 31, null),
+                    parseField(fields[4], 1, 12, MONTH_NAMES),
+                    parseDaysOfWeek(fields[5])
+            };
+            return new CronPlan(expression, null, bits);
+        } catch (UnsupportedOperationException | IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            return new CronPlan(expression, cronExpression, new long[6]);
+        }
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    /**
+     * 是否使用位图计算（false 表示回退到 CronExpression）
+     *
+     * @return 是否已编译为位图
+     */
+    public boolean isCompiled() {
+        return fallback == null;
+    }
+
+    /**
+     * 计算严格晚于指定时间的下一次触发时间
+     *
+     * @param from 起始时间
+     * @return 下一次触发时间，不会再触发时返回 null
+     */
+    public ZonedDateTime next(ZonedDateTime from) {
+        if (fallback != null) {
+            return fallback.next(from);
+        }
+        final ZonedDateTime next = search(from.toLocalDateTime().truncatedTo(ChronoUnit.SECONDS).plusSeconds(1), from.getOffset(), from);
+        // 夏令时回拨：回拨后重复出现的本地时间对应更晚的时刻，需要从回拨点按照新的偏移量再查找一次
+        final ZoneOffsetTransition transition = from.getZone().getRules().nextTransition(from.toInstant());
+        if (transition != null && transition.isOverlap() && (next == null || !transition.getInstant().isAfter(next.toInstant()))) {
+            final ZonedDateTime repeated = search(transition.getDateTimeAfter(), transition.getOffsetAfter(), from);
+            if (repeated != null && (next == null || repeated.isBefore(next))) {
+                return repeated;
+            }
+        }
+        return next;
+    }
+
+    /**
+     * 从本地时间 start（包含）开始逐段查找第一个晚于 from 的触发时间
+     */
+    private ZonedDateTime search(LocalDateTime start, ZoneOffset preferredOffset, ZonedDateTime from) {
+        int year = start.getYear();
+        int month = start.getMonthValue();
+        int day = start.getDayOfMonth();
+        int hour = start.getHour();
+        int minute = start.getMinute();
+        int second = start.getSecond();
+        final int maxYear = year + MAX_YEARS_AHEAD;
+
+        while (year <= maxYear) {
+            final int nextMonth = nextSetBit(months, month);
+            if (nextMonth < 0) {
+                year++;
+                month = 1;
+                day = 1;
+                hour = minute = second = 0;
+                continue;
+            }
+            if (nextMonth != month) {
+                month = nextMonth;
+                day = 1;
+                hour = minute = second = 0;
+            }
+
+            final int nextDay = nextDay(year, month, day);
+            if (nextDay < 0) {
+                if (++month > 12) {
+                    year++;
+                    month = 1;
+                }
+                day = 1;
+                hour = minute = second = 0;
+                continue;
+            }
+            if (nextDay != day) {
+                day = nextDay;
+                hour = minute = second = 0;
+            }
+
+            final int nextHour = nextSetBit(hours, hour);
+            if (nextHour < 0) {
+                day++;
+                hour = minute = second = 0;
+                continue;
+            }
+            if (nextHour != hour) {
+                hour = nextHour;
+                minute = second = 0;
+            }
+
+            final int nextMinute = nextSetBit(minutes, minute);
+            if (nextMinute < 0) {
+                hour++;
+                minute = second = 0;
+                continue;
+            }
+            if (nextMinute != minute) {
+                minute = nextMinute;
+                second = 0;
+            }
+
+            final int nextSecond = nextSetBit(seconds, second);
+            if (nextSecond < 0) {
+                minute++;
+                second = 0;
+                continue;
+            }
+            second = nextSecond;
+
+            final LocalDateTime local = LocalDateTime.of(year, month, day, hour, minute, second);
+            final ZoneOffsetTransition transition = from.getZone().getRules().getTransition(local);
+            if (transition != null && transition.isGap()) {
+                // 夏令时拨快导致该本地时间不存在，与 CronExpression 一致直接跳过
+                second++;
+                continue;
+            }
+            ZonedDateTime result = ZonedDateTime.ofLocal(local, from.getZone(), preferredOffset);
+            if (!result.isAfter(from)) {
+                // 处于回拨重叠区间时，同一本地时间的较晚偏移量可能仍然晚于 from
+                result = result.withLaterOffsetAtOverlap();
+                if (!result.isAfter(from)) {
+                    second++;
+                    continue;
+                }
+            }
+            return result;
+        }
+        return null;
+    }
+
+    /**
+     * 在当月查找不早于 day 且同时满足“日”和“周”两段的日期
+     */
+    private int nextDay(int year, int month, int day) {
+        final LocalDate firstDayOfMonth = LocalDate.of(year, month, 1);
+        final int lengthOfMonth = firstDayOfMonth.lengthOfMonth();
+        // 0-周日，1-周一 ... 6-周六
+        final int firstDayOfWeek = firstDayOfMonth.getDayOfWeek().getValue() % 7;
+        int candidate = nextSetBit(daysOfMonth, day);
+        while (candidate > 0 && candidate <= lengthOfMonth) {
+            if ((daysOfWeek & (1L << ((firstDayOfWeek + candidate - 1) % 7))) != 0) {
+                return candidate;
+            }
+            candidate = nextSetBit(daysOfMonth, candidate + 1);
+        }
+        return -1;
+    }
+
+    private static int nextSetBit(long bits, int fromIndex) {
+        if (fromIndex >= Long.SIZE) {
+            return -1;
+        }
+        final long masked = bits & (-1L << fromIndex);
+        return masked == 0 ? -1 : Long.numberOfTrailingZeros(masked);
+    }
+
+    private static long parseDaysOfWeek(String field) {
+        // 与 CronExpression 一致：“*” 表示 1-7，因此 “*/2” 为周一、三、五、日
+        long bits = parseField(field.replace("*", "1-7").replace("?", "1-7"), 0, 7, DAY_OF_WEEK_NAMES);
+        // 0 和 7 都表示周日
+        if ((bits & (1L << 7)) != 0) {
+            bits = (bits & ~(1L << 7)) | 1L;
+        }
+        return bits;
+    }
+
+    private static long parseField(String field, int min, int max, String[] names) {
+        long bits = 0;
+        for (String part : field.split(",")) {
+            int step = 1;
+            String range = part;
+            final int slash = part.indexOf('/');
+            if (slash >= 0) {
+                step = Integer.parseInt(part.substring(slash + 1));
+                range = part.substring(0, slash);
+            }
+            int start;
+            int end;
+            if ("*".equals(range) || "?".equals(range)) {
+                start = min;
+                end = max;
+            } else {
+                final int dash = range.indexOf('-');
+                if (dash >= 0) {
+                    start = parseValue(range.substring(0, dash), names);
+                    end = parseValue(range.substring(dash + 1), names);
+                } else {
+                    start = parseValue(range, names);
+                    // “5/10” 表示从 5 开始直到最大值
+                    end = slash >= 0 ? max : start;
+                }
+            }
+            if (start < min || end > max || start > end) {
+                // 交给 CronExpression 处理（例如跨越边界的范围）
+                throw new UnsupportedOperationException(part);
+            }
+            for (int value = start; value <= end; value += step) {
+                bits |= 1L << value;
+            }
+        }
+        return bits;
+    }
+
+    private static int parseValue(String value, String[] names) {
+        // L、W、# 等 Quartz 扩展语法会在这里解析失败，从而回退到 CronExpression
+        if (names != null) {
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(value)) {
+                    // 月份从 1 开始，周从 0（周日）开始
+                    return names.length == 12 ? i + 1 : i;
+                }
+            }
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new UnsupportedOperationException(value);
+        }
+    }
+}
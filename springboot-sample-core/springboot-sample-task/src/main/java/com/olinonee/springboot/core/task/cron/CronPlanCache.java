@@ -0,0 +1,81 @@
+package com.olinonee.springboot.core.task.cron;
+
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneId;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * cron 执行计划缓存
+ * <p>
+ * 以规范化后的表达式（去掉首尾空白、合并多余空白、统一大写）为 key 共享编译结果，
+ * 成千上万个使用相同表达式的任务只解析一次。
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+@Component
+public class CronPlanCache {
+
+    /**
+     * 缓存的表达式上限，超过后不再缓存新表达式，防止被任意表达式撑爆
+     */
+    private static final int MAX_CACHED_EXPRESSIONS = 10_000;
+
+    private final Map<String, CronPlanTrigger> triggerCache = new ConcurrentHashMap<>();
+
+    private final ZoneId zoneId = TimeZone.getDefault().toZoneId();
+
+    /**
+     * 获取 cron 表达式对应的触发器
+     *
+     * @param cronExpression cron 表达式
+     * @return 共享的触发器实例
+     * @throws IllegalArgumentException 表达式不合法
+     */
+    public CronPlanTrigger getTrigger(String cronExpression) {
+        // 快速路径：原始表达式直接命中，不做规范化
+        CronPlanTrigger trigger = triggerCache.get(cronExpression);
+        if (trigger != null) {
+            return trigger;
+        }
+        final String key = normalize(cronExpression);
+        trigger = triggerCache.get(key);
+        if (trigger == null) {
+            trigger = new CronPlanTrigger(CronPlan.compile(key), zoneId);
+            if (triggerCache.size() >= MAX_CACHED_EXPRESSIONS) {
+                return trigger;
+            }
+            final CronPlanTrigger previous = triggerCache.putIfAbsent(key, trigger);
+            trigger = previous != null ? previous : trigger;
+        }
+        // 同时以原始写法作为 key，后续相同写法的调用无需再规范化
+        if (!key.equals(cronExpression) && triggerCache.size() < MAX_CACHED_EXPRESSIONS) {
+            triggerCache.putIfAbsent(cronExpression, trigger);
+        }
+        return trigger;
+    }
+
+    /**
+     * 获取已缓存的执行计划个数（不同写法的同一表达式只算一个）
+     *
+     * @return 缓存大小
+     */
+    public long size() {
+        return triggerCache.values().stream().distinct().count();
+    }
+
+    /**
+     * 规范化 cron 表达式
+     *
+     * @param cronExpression cron 表达式
+     * @return 规范化后的表达式
+     */
+    public static String normalize(String cronExpression) {
+        return String.join(" ", cronExpression.trim().split("\\s+")).toUpperCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,59 @@
+package com.olinonee.springboot.core.task.cron;
+
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.TriggerContext;
+
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Date;
+
+/**
+ * 基于 {@link CronPlan} 的触发器，计算规则与 {@code CronTrigger} 一致
+ * <p>
+ * 触发器本身不保存执行状态（状态由调度器的 TriggerContext 维护），因此同一表达式的多个任务可以共享同一个实例。
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class CronPlanTrigger implements Trigger {
+
+    private final CronPlan cronPlan;
+
+    private final ZoneId zoneId;
+
+    public CronPlanTrigger(CronPlan cronPlan, ZoneId zoneId) {
+        this.cronPlan = cronPlan;
+        this.zoneId = zoneId;
+    }
+
+    public CronPlan getCronPlan() {
+        return cronPlan;
+    }
+
+    public String getExpression() {
+        return cronPlan.getExpression();
+    }
+
+    @Override
+    public Date nextExecutionTime(TriggerContext triggerContext) {
+        Date date = triggerContext.lastCompletionTime();
+        if (date != null) {
+            final Date scheduled = triggerContext.lastScheduledExecutionTime();
+            if (scheduled != null && date.before(scheduled)) {
+                // 执行提前完成（例如时钟误差），从计划时间继续计算，避免同一秒重复触发
+                date = scheduled;
+            }
+        } else {
+            date = new Date(triggerContext.getClock().millis());
+        }
+        final ZonedDateTime next = cronPlan.next(ZonedDateTime.ofInstant(Instant.ofEpochMilli(date.getTime()), zoneId));
+        return next != null ? Date.from(next.toInstant()) : null;
+    }
+
+    @Override
+    public String toString() {
+        return cronPlan.getExpression();
+    }
+}
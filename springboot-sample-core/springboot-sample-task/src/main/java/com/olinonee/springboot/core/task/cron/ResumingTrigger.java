@@ -0,0 +1,56 @@
+package com.olinonee.springboot.core.task.cron;
+
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.TriggerContext;
+import org.springframework.scheduling.support.SimpleTriggerContext;
+
+import java.util.Date;
+
+/**
+ * 接续触发器：替换调度时，第一次触发时间从原调度最后一次触发的时间开始计算，而不是从当前时间开始
+ * <p>
+ * 原调度已经到期但尚未执行的那一次会在新调度中立即执行（不漏触发）；原调度已经开始执行的那一次不会在新调度中再执行一次（不重复触发）。
+ * 只适用于表达式未变化的替换；表达式变化时应传入空的接续时间，从当前时间开始计算。
+ * 第一次触发之后与原触发器完全一致。同时记录最近一次计算出的触发时间，即当前正在执行（或等待执行）的那一次的计划时间。
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class ResumingTrigger implements Trigger {
+
+    private final Trigger delegate;
+    private final Date resumeAfter;
+
+    private volatile Date lastScheduledTime;
+
+    /**
+     * @param delegate    原触发器
+     * @param resumeAfter 原调度最后一次触发的时间，为空时从当前时间开始计算
+     */
+    public ResumingTrigger(Trigger delegate, Date resumeAfter) {
+        this.delegate = delegate;
+        this.resumeAfter = resumeAfter;
+    }
+
+    @Override
+    public Date nextExecutionTime(TriggerContext triggerContext) {
+        final Date next = resumeAfter != null && triggerContext.lastCompletionTime() == null
+                ? delegate.nextExecutionTime(new SimpleTriggerContext(resumeAfter, resumeAfter, resumeAfter))
+                : delegate.nextExecutionTime(triggerContext);
+        lastScheduledTime = next;
+        return next;
+    }
+
+    /**
+     * 最近一次计算出的触发时间
+     */
+    public Date getLastScheduledTime() {
+        return lastScheduledTime;
+    }
+
+    @Override
+    public String toString() {
+        return delegate + " (resume after " + resumeAfter + ")";
+    }
+}
@@ -0,0 +1,118 @@
+package com.olinonee.springboot.core.task.cron;
+
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.TriggerContext;
+
+import java.time.Clock;
+import java.util.Date;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 错峰触发器：在原触发器计算出的触发时间上叠加固定相位偏移和有界随机抖动
+ * <p>
+ * 相位偏移由任务 id 哈希得到，同一个任务每次重启都落在同一相位；随机抖动每次触发重新生成。
+ * 计算下一次触发时间前会先把上一次的偏移量从 TriggerContext 中扣除，因此原触发器看到的始终是未偏移的时间，
+ * 偏移量大于 cron 周期时也不会跳过或重复触发。
+ * <p>
+ * 每个任务持有一个实例（记录了上一次的偏移量），被包装的触发器仍然可以共享。
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class SpreadTrigger implements Trigger {
+
+    private final Trigger delegate;
+    private final long phaseOffsetMillis;
+    private final long maxJitterMillis;
+
+    private volatile long lastOffsetMillis;
+
+    /**
+     * @param delegate          原触发器
+     * @param phaseOffsetMillis 固定相位偏移（毫秒）
+     * @param maxJitterMillis   随机抖动上限（毫秒，不包含），为 0 时不抖动
+     */
+    public SpreadTrigger(Trigger delegate, long phaseOffsetMillis, long maxJitterMillis) {
+        this.delegate = delegate;
+        this.phaseOffsetMillis = Math.max(0, phaseOffsetMillis);
+        this.maxJitterMillis = Math.max(0, maxJitterMillis);
+    }
+
+    /**
+     * 根据任务 id 计算确定的相位偏移，在 [0, maxPhaseMillis) 内均匀分布
+     *
+     * @param taskId         任务 id
+     * @param maxPhaseMillis 相位偏移上限（毫秒）
+     * @return 相位偏移（毫秒）
+     */
+    public static long phaseOffset(long taskId, long maxPhaseMillis) {
+        if (maxPhaseMillis <= 0) {
+            return 0;
+        }
+        // SplitMix64 的混淆函数，使连续的任务 id 也能均匀分散
+        long hash = taskId + 0x9E3779B97F4A7C15L;
+        hash = (hash ^ (hash >>> 30)) * 0xBF58476D1CE4E5B9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94D049BB133111EBL;
+        hash = hash ^ (hash >>> 31);
+        return Math.floorMod(hash, maxPhaseMillis);
+    }
+
+    public long getPhaseOffsetMillis() {
+        return phaseOffsetMillis;
+    }
+
+    @Override
+    public Date nextExecutionTime(TriggerContext triggerContext) {
+        final Date next = delegate.nextExecutionTime(new ShiftedTriggerContext(triggerContext, lastOffsetMillis));
+        if (next == null) {
+            return null;
+        }
+        final long offset = phaseOffsetMillis + (maxJitterMillis > 0 ? ThreadLocalRandom.current().nextLong(maxJitterMillis) : 0);
+        lastOffsetMillis = offset;
+        return new Date(next.getTime() + offset);
+    }
+
+    @Override
+    public String toString() {
+        return delegate + " (phase " + phaseOffsetMillis + " ms, jitter < " + maxJitterMillis + " ms)";
+    }
+
+    /**
+     * 把上一次执行的各个时间扣除偏移量后交给原触发器
+     */
+    private static final class ShiftedTriggerContext implements TriggerContext {
+
+        private final TriggerContext delegate;
+        private final long offsetMillis;
+
+        private ShiftedTriggerContext(TriggerContext delegate, long offsetMillis) {
+            this.delegate = delegate;
+            this.offsetMillis = offsetMillis;
+        }
+
+        @Override
+        public Clock getClock() {
+            return delegate.getClock();
+        }
+
+        @Override
+        public Date lastScheduledExecutionTime() {
+            return shift(delegate.lastScheduledExecutionTime());
+        }
+
+        @Override
+        public Date lastActualExecutionTime() {
+            return shift(delegate.lastActualExecutionTime());
+        }
+
+        @Override
+        public Date lastCompletionTime() {
+            return shift(delegate.lastCompletionTime());
+        }
+
+        private Date shift(Date date) {
+            return date == null || offsetMillis == 0 ? date : new Date(date.getTime() - offsetMillis);
+        }
+    }
+}
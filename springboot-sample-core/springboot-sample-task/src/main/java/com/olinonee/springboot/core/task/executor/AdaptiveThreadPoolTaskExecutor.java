@@ -0,0 +1,303 @@
+package com.olinonee.springboot.core.task.executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 自适应线程池任务执行器：根据队列等待时间和吞吐量在运行时调节核心线程数与最大线程数
+ * <p>
+ * 每个调节周期执行一次控制逻辑：
+ * <ul>
+ *     <li>平均排队时间超过目标值：扩容（步长不超过 maxStep）；如果上一次扩容后吞吐量没有提升且排队时间未超过目标值 2 倍，
+ *     说明瓶颈不在线程数（例如 CPU 已饱和），本周期保持不变；</li>
+ *     <li>平均排队时间低于目标值的 1/4 且活跃线程不足一半：连续 shrinkAfterIntervals 个周期后缩容一步；</li>
+ *     <li>其它情况保持不变。</li>
+ * </ul>
+ * 最大线程数取配置的最大线程数与核心线程数 2 倍中的较大值，用于吸收周期内的突发流量：扩容不会降低配置的突发容量，
+ * 核心线程数超过配置的一半后最大线程数随之增长。
+ * 每次决策都会记录到日志，并通过 JMX（{@link AdaptiveThreadPoolTaskExecutorMXBean}）暴露。
+ * <p>
+ * 重复初始化时先关闭上一次创建的线程池和调节线程，配置的最大线程数保留第一次初始化时读取的值。
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class AdaptiveThreadPoolTaskExecutor extends ThreadPoolTaskExecutor implements AdaptiveThreadPoolTaskExecutorMXBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(AdaptiveThreadPoolTaskExecutor.class);
+
+    private static final String GROW = "GROW";
+    private static final String SHRINK = "SHRINK";
+    private static final String HOLD = "HOLD";
+
+    private int minCoreSize = 1;
+    private int maxCoreSize = 64;
+    private int maxStep = 4;
+    private int shrinkAfterIntervals = 5;
+    private Duration targetQueueWait = Duration.ofMillis(20);
+    private Duration adjustInterval = Duration.ofSeconds(1);
+
+    private TaskDecorator userTaskDecorator;
+
+    /**
+     * 初始化时配置的最大线程数，调节时不会低于该值
+     */
+    private int configuredMaxPoolSize;
+
+    // 当前周期的排队时间统计，由工作线程累加、调节线程读取后清零
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final LongAdder queueWaitCount = new LongAdder();
+    private final AtomicLong maxQueueWaitNanos = new AtomicLong();
+
+    // 以下字段只由调节线程写入
+    private volatile long lastAverageQueueWaitMicros;
+    private volatile long lastMaxQueueWaitMicros;
+    private volatile double lastThroughput;
+    private volatile String lastDecision = HOLD;
+    private final AtomicLong growCount = new AtomicLong();
+    private final AtomicLong shrinkCount = new AtomicLong();
+    private final AtomicLong holdCount = new AtomicLong();
+    private long lastCompletedTaskCount;
+    private long lastAdjustNanos;
+    private int idleIntervals;
+
+    private ScheduledExecutorService tuner;
+    private ObjectName objectName;
+
+    public AdaptiveThreadPoolTaskExecutor() {
+        super.setTaskDecorator(this::decorate);
+    }
+
+    public void setMinCoreSize(int minCoreSize) {
+        this.minCoreSize = Math.max(1, minCoreSize);
+    }
+
+    public void setMaxCoreSize(int maxCoreSize) {
+        this.maxCoreSize = maxCoreSize;
+    }
+
+    public void setMaxStep(int maxStep) {
+        this.maxStep = Math.max(1, maxStep);
+    }
+
+    public void setShrinkAfterIntervals(int shrinkAfterIntervals) {
+        this.shrinkAfterIntervals = Math.max(1, shrinkAfterIntervals);
+    }
+
+    public void setTargetQueueWait(Duration targetQueueWait) {
+        this.targetQueueWait = targetQueueWait;
+    }
+
+    public void setAdjustInterval(Duration adjustInterval) {
+        this.adjustInterval = adjustInterval;
+    }
+
+    @Override
+    public void setTaskDecorator(TaskDecorator taskDecorator) {
+        // 排队时间统计始终在最外层，用户的装饰器在其内部执行
+        this.userTaskDecorator = taskDecorator;
+    }
+
+    @Override
+    protected ExecutorService initializeExecutor(ThreadFactory threadFactory, RejectedExecutionHandler rejectedExecutionHandler) {
+        if (tuner != null) {
+            // 此时的最大线程数已经被调节过，不能再作为配置值读取
+            shutdown();
+        } else {
+            configuredMaxPoolSize = getMaxPoolSize();
+        }
+        final int initialCoreSize = Math.min(Math.max(getCorePoolSize(), minCoreSize), maxCoreSize);
+        setMaxPoolSize(maxPoolSizeFor(initialCoreSize));
+        setCorePoolSize(initialCoreSize);
+        final ExecutorService executorService = super.initializeExecutor(threadFactory, rejectedExecutionHandler);
+        lastAdjustNanos = System.nanoTime();
+        tuner = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, getThreadNamePrefix() + "tuner");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final long intervalMillis = adjustInterval.toMillis();
+        tuner.scheduleWithFixedDelay(this::adjustSafely, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        registerMBean();
+        return executorService;
+    }
+
+    @Override
+    public void shutdown() {
+        if (tuner != null) {
+            tuner.shutdownNow();
+        }
+        unregisterMBean();
+        super.shutdown();
+    }
+
+    private Runnable decorate(Runnable task) {
+        final Runnable decorated = userTaskDecorator != null ? userTaskDecorator.decorate(task) : task;
+        final long submitNanos = System.nanoTime();
+        return () -> {
+            final long waitNanos = System.nanoTime() - submitNanos;
+            queueWaitNanos.add(waitNanos);
+            queueWaitCount.increment();
+            long currentMax;
+            while (waitNanos > (currentMax = maxQueueWaitNanos.get()) && !maxQueueWaitNanos.compareAndSet(currentMax, waitNanos)) {
+                // 自旋更新最大值
+            }
+            decorated.run();
+        };
+    }
+
+    private void adjustSafely() {
+        try {
+            adjust();
+        } catch (RuntimeException e) {
+            logger.error("[AdaptiveThreadPoolTaskExecutor#adjust] - 线程池 [{}] 调节发生异常，异常信息为：", getThreadNamePrefix(), e);
+        }
+    }
+
+    /**
+     * 执行一次调节：采样本周期的排队时间和吞吐量，决定扩容、缩容或保持
+     */
+    void adjust() {
+        final ThreadPoolExecutor threadPoolExecutor = getThreadPoolExecutor();
+        final long now = System.nanoTime();
+        final long count = queueWaitCount.sumThenReset();
+        final long totalWaitNanos = queueWaitNanos.sumThenReset();
+        final long averageWaitNanos = count == 0 ? 0 : totalWaitNanos / count;
+        final long maxWaitNanos = maxQueueWaitNanos.getAndSet(0);
+        final long completed = threadPoolExecutor.getCompletedTaskCount();
+        final double throughput = (completed - lastCompletedTaskCount) * 1e9 / Math.max(1, now - lastAdjustNanos);
+        final int queued = threadPoolExecutor.getQueue().size();
+        // 队列里还没开始执行的任务同样在排队，只看已开始执行的任务会低估积压
+        final long targetNanos = targetQueueWait.toNanos();
+        final boolean waitHigh = averageWaitNanos > targetNanos || (queued > 0 && maxWaitNanos > 2 * targetNanos);
+        final boolean waitLow = averageWaitNanos < targetNanos / 4 && queued == 0;
+        final int coreSize = threadPoolExecutor.getCorePoolSize();
+
+        String decision = HOLD;
+        if (waitHigh && coreSize < maxCoreSize) {
+            idleIntervals = 0;
+            final boolean saturated = GROW.equals(lastDecision) && throughput <= lastThroughput * 1.05;
+            if (!saturated || averageWaitNanos > 2 * targetNanos) {
+                // 步长与当前规模成正比，但不超过 maxStep
+                resize(Math.min(maxCoreSize, coreSize + Math.min(maxStep, Math.max(1, coreSize / 2))));
+                decision = GROW;
+            }
+        } else if (waitLow && threadPoolExecutor.getActiveCount() * 2 < coreSize && coreSize > minCoreSize) {
+            if (++idleIntervals >= shrinkAfterIntervals) {
+                idleIntervals = 0;
+                resize(Math.max(minCoreSize, coreSize - Math.min(maxStep, Math.max(1, coreSize / 4))));
+                decision = SHRINK;
+            }
+        } else {
+            idleIntervals = 0;
+        }
+
+        if (GROW.equals(decision)) {
+            growCount.incrementAndGet();
+        } else if (SHRINK.equals(decision)) {
+            shrinkCount.incrementAndGet();
+        } else {
+            holdCount.incrementAndGet();
+        }
+        if (!HOLD.equals(decision)) {
+            logger.info("[AdaptiveThreadPoolTaskExecutor#adjust] - 线程池 [{}] {}：核心线程数 {} -> {}，平均排队 {} µs，最大排队 {} µs，吞吐量 {}/s",
+                    getThreadNamePrefix(), decision, coreSize, threadPoolExecutor.getCorePoolSize(),
+                    TimeUnit.NANOSECONDS.toMicros(averageWaitNanos), TimeUnit.NANOSECONDS.toMicros(maxWaitNanos), Math.round(throughput));
+        }
+        lastDecision = decision;
+        lastAverageQueueWaitMicros = TimeUnit.NANOSECONDS.toMicros(averageWaitNanos);
+        lastMaxQueueWaitMicros = TimeUnit.NANOSECONDS.toMicros(maxWaitNanos);
+        lastThroughput = throughput;
+        lastCompletedTaskCount = completed;
+        lastAdjustNanos = now;
+    }
+
+    private int maxPoolSizeFor(int coreSize) {
+        // 防止 core * 2 溢出（未配置最大线程数时为 Integer.MAX_VALUE）
+        return (int) Math.max(configuredMaxPoolSize, Math.min(Integer.MAX_VALUE, coreSize * 2L));
+    }
+
+    private void resize(int coreSize) {
+        final int maxSize = maxPoolSizeFor(coreSize);
+        // 先扩大最大线程数再扩大核心线程数（缩容时相反），保证任意时刻 core <= max
+        if (coreSize > getCorePoolSize()) {
+            setMaxPoolSize(maxSize);
+            setCorePoolSize(coreSize);
+        } else {
+            setCorePoolSize(coreSize);
+            setMaxPoolSize(maxSize);
+        }
+    }
+
+    private void registerMBean() {
+        try {
+            final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+            final ObjectName name = new ObjectName("com.olinonee.springboot.core.task:type=AdaptiveExecutor,name=" + ObjectName.quote(getThreadNamePrefix()));
+            if (!mBeanServer.isRegistered(name)) {
+                mBeanServer.registerMBean(this, name);
+                objectName = name;
+            }
+        } catch (JMException e) {
+            logger.warn("[AdaptiveThreadPoolTaskExecutor#registerMBean] - 线程池 [{}] 注册 JMX 失败，异常信息为：{}", getThreadNamePrefix(), e.getMessage());
+        }
+    }
+
+    private void unregisterMBean() {
+        if (objectName == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+        } catch (JMException e) {
+            logger.warn("[AdaptiveThreadPoolTaskExecutor#unregisterMBean] - 线程池 [{}] 注销 JMX 失败，异常信息为：{}", getThreadNamePrefix(), e.getMessage());
+        }
+        objectName = null;
+    }
+
+    @Override
+    public long getLastAverageQueueWaitMicros() {
+        return lastAverageQueueWaitMicros;
+    }
+
+    @Override
+    public long getLastMaxQueueWaitMicros() {
+        return lastMaxQueueWaitMicros;
+    }
+
+    @Override
+    public double getLastThroughput() {
+        return lastThroughput;
+    }
+
+    @Override
+    public String getLastDecision() {
+        return lastDecision;
+    }
+
+    @Override
+    public long getGrowCount() {
+        return growCount.get();
+    }
+
+    @Override
+    public long getShrinkCount() {
+        return shrinkCount.get();
+    }
+
+    @Override
+    public long getHoldCount() {
+        return holdCount.get();
+    }
+}
@@ -0,0 +1,45 @@
+package com.olinonee.springboot.core.task.executor;
+
+/**
+ * 自适应线程池 JMX 指标
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public interface AdaptiveThreadPoolTaskExecutorMXBean {
+
+    int getCorePoolSize();
+
+    int getMaxPoolSize();
+
+    int getActiveCount();
+
+    int getQueueSize();
+
+    /**
+     * 最近一个调节周期内任务在队列中的平均等待时间（微秒）
+     */
+    long getLastAverageQueueWaitMicros();
+
+    /**
+     * 最近一个调节周期内任务在队列中的最大等待时间（微秒）
+     */
+    long getLastMaxQueueWaitMicros();
+
+    /**
+     * 最近一个调节周期的吞吐量（每秒完成的任务数）
+     */
+    double getLastThroughput();
+
+    /**
+     * 最近一次调节决策：GROW、SHRINK 或 HOLD
+     */
+    String getLastDecision();
+
+    long getGrowCount();
+
+    long getShrinkCount();
+
+    long getHoldCount();
+}
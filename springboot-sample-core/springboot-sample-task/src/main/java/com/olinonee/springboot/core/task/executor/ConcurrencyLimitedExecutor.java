@@ -0,0 +1,61 @@
+package com.olinonee.springboot.core.task.executor;
+
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+
+/**
+ * 基于信号量限制并发数的执行器
+ * <p>
+ * 任务提交后立即交给底层执行器（例如每个任务一个虚拟线程），在执行线程内获取许可后才真正运行，
+ * 因此提交方永远不会被阻塞，而同时运行的任务数不超过许可数（例如受限于数据库连接数等下游资源）。
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class ConcurrencyLimitedExecutor implements Executor, DisposableBean {
+
+    private final Executor delegate;
+    private final Semaphore permits;
+
+    public ConcurrencyLimitedExecutor(Executor delegate, int maxConcurrency) {
+        this.delegate = delegate;
+        this.permits = new Semaphore(Math.max(1, maxConcurrency));
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        delegate.execute(() -> {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            try {
+                task.run();
+            } finally {
+                permits.release();
+            }
+        });
+    }
+
+    /**
+     * 当前可用的许可数
+     *
+     * @return 可用许可数
+     */
+    public int getAvailablePermits() {
+        return permits.availablePermits();
+    }
+
+    @Override
+    public void destroy() {
+        if (delegate instanceof ExecutorService) {
+            ((ExecutorService) delegate).shutdown();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.olinonee.springboot.core.task.executor;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 统计拒绝次数的拒绝策略：先计数再交给原拒绝策略处理（ThreadPoolExecutor 本身不记录拒绝次数）
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class CountingRejectedExecutionHandler implements RejectedExecutionHandler {
+
+    private final RejectedExecutionHandler delegate;
+    private final LongAdder rejectedCount = new LongAdder();
+
+    public CountingRejectedExecutionHandler(RejectedExecutionHandler delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void rejectedExecution(Runnable r, ThreadPoolExecutor executor) {
+        rejectedCount.increment();
+        delegate.rejectedExecution(r, executor);
+    }
+
+    /**
+     * 累计拒绝次数（包括 CallerRunsPolicy 回退到提交线程执行的任务）
+     */
+    public long getRejectedCount() {
+        return rejectedCount.sum();
+    }
+
+    public RejectedExecutionHandler getDelegate() {
+        return delegate;
+    }
+}
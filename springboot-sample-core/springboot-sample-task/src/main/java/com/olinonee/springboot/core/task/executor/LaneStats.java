@@ -0,0 +1,82 @@
+package com.olinonee.springboot.core.task.executor;
+
+/**
+ * 优先级通道的运行指标
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class LaneStats {
+
+    private final String lane;
+    private final int weight;
+    private final int depth;
+    private final long submitted;
+    private final long completed;
+    private final long rejected;
+    private final long aged;
+    private final long waitP50Micros;
+    private final long waitP99Micros;
+    private final long waitMaxMicros;
+
+    public LaneStats(String lane, int weight, int depth, long submitted, long completed, long rejected, long aged,
+                     long waitP50Micros, long waitP99Micros, long waitMaxMicros) {
+        this.lane = lane;
+        this.weight = weight;
+        this.depth = depth;
+        this.submitted = submitted;
+        this.completed = completed;
+        this.rejected = rejected;
+        this.aged = aged;
+        this.waitP50Micros = waitP50Micros;
+        this.waitP99Micros = waitP99Micros;
+        this.waitMaxMicros = waitMaxMicros;
+    }
+
+    public String getLane() {
+        return lane;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    /**
+     * 当前排队的任务数
+     */
+    public int getDepth() {
+        return depth;
+    }
+
+    public long getSubmitted() {
+        return submitted;
+    }
+
+    public long getCompleted() {
+        return completed;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    /**
+     * 因等待超过老化阈值而被优先调度的次数
+     */
+    public long getAged() {
+        return aged;
+    }
+
+    public long getWaitP50Micros() {
+        return waitP50Micros;
+    }
+
+    public long getWaitP99Micros() {
+        return waitP99Micros;
+    }
+
+    public long getWaitMaxMicros() {
+        return waitMaxMicros;
+    }
+}
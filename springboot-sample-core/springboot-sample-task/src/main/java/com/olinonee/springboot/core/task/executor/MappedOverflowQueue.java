@@ -0,0 +1,304 @@
+package com.olinonee.springboot.core.task.executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 基于内存映射分段文件的 FIFO 溢出队列
+ * <p>
+ * 每个分段文件固定大小并整体映射到内存，格式为：
+ * <pre>
+ * [int 读位置][int 保留] [int 长度][数据] [int 长度][数据] ... [int -1 表示分段结束]
+ * </pre>
+ * 写入时先写数据再写长度，长度为 0 表示后面还没有数据；读取采用 peek + commit 两步，commit 后才把读位置写回分段头部，
+ * 因此进程重启后未提交的记录会被重新读取（至少一次）。读完的分段文件会被删除。
+ * <p>
+ * 写入只落在页缓存中，由调用方定期调用 {@link #force()} 刷盘（关闭时也会刷盘）。恢复和读取时会校验记录长度是否超出分段范围，
+ * 超出时视为文件损坏：恢复时从损坏位置截断，读取时丢弃该分段剩余的记录。
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class MappedOverflowQueue implements Closeable {
+
+    private static final Logger logger = LoggerFactory.getLogger(MappedOverflowQueue.class);
+
+    private static final String SEGMENT_PREFIX = "overflow-";
+    private static final String SEGMENT_SUFFIX = ".seg";
+    private static final int HEADER_SIZE = 8;
+    private static final int END_OF_SEGMENT = -1;
+
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+
+    private final Deque<Segment> segments = new ArrayDeque<>();
+    private long nextSequence;
+    private long size;
+    private boolean closed;
+
+    /**
+     * @param directory   分段文件所在目录
+     * @param segmentSize 每个分段文件的大小（字节）
+     * @param maxSegments 最多保留的分段文件数，写满后 {@link #offer(byte[])} 返回 false
+     */
+    public MappedOverflowQueue(Path directory, int segmentSize, int maxSegments) {
+        this.directory = directory;
+        this.segmentSize = segmentSize;
+        this.maxSegments = Math.max(1, maxSegments);
+        try {
+            Files.createDirectories(directory);
+            recover();
+        } catch (IOException e) {
+            throw new UncheckedIOException("打开溢出队列 [" + directory + "] 失败", e);
+        }
+    }
+
+    /**
+     * 追加一条记录
+     *
+     * @param data 记录内容
+     * @return true-写入成功 false-记录过大或分段数已达上限
+     */
+    public synchronized boolean offer(byte[] data) {
+        if (closed || data.length == 0 || HEADER_SIZE + 4 + data.length + 4 > segmentSize) {
+            return false;
+        }
+        try {
+            Segment tail = segments.peekLast();
+            if (tail == null || tail.writePosition + 4 + data.length + 4 > segmentSize) {
+                if (segments.size() >= maxSegments) {
+                    return false;
+                }
+                if (tail != null) {
+                    tail.buffer.putInt(tail.writePosition, END_OF_SEGMENT);
+                }
+                tail = createSegment();
+            }
+            final ByteBuffer slice = tail.buffer.duplicate();
+            slice.position(tail.writePosition + 4);
+            slice.put(data);
+            // 长度最后写入，读取方看到非 0 长度时数据一定已经完整
+            tail.buffer.putInt(tail.writePosition, data.length);
+            tail.writePosition += 4 + data.length;
+            tail.records++;
+            tail.dirty = true;
+            size++;
+            return true;
+        } catch (IOException e) {
+            logger.error("[MappedOverflowQueue#offer] - 创建溢出分段文件失败，异常信息为：", e);
+            return false;
+        }
+    }
+
+    /**
+     * 读取队首记录但不移除，需要调用 {@link #commit()} 后才会移除
+     *
+     * @return 队首记录，队列为空时返回 null
+     */
+    public synchronized byte[] peek() {
+        while (!closed) {
+            final Segment head = segments.peekFirst();
+            if (head == null) {
+                return null;
+            }
+            final int length = head.buffer.getInt(head.readPosition);
+            if (length == END_OF_SEGMENT) {
+                // 分段已读完，删除后继续读取下一个分段
+                segments.pollFirst();
+                head.delete();
+                continue;
+            }
+            if (length == 0) {
+                return null;
+            }
+            if (!head.isValidRecord(head.readPosition, length)) {
+                // 长度不可信（文件被外部修改或损坏），丢弃该分段剩余的记录，继续读取下一个分段
+                logger.error("[MappedOverflowQueue#peek] - 溢出分段文件 [{}] 在位置 {} 的记录长度 {} 超出范围，丢弃该分段剩余的 {} 条记录",
+                        head.file, head.readPosition, length, head.records);
+                size -= head.records;
+                segments.pollFirst();
+                head.delete();
+                continue;
+            }
+            final byte[] data = new byte[length];
+            final ByteBuffer slice = head.buffer.duplicate();
+            slice.position(head.readPosition + 4);
+            slice.get(data);
+            return data;
+        }
+        return null;
+    }
+
+    /**
+     * 移除队首记录（与 {@link #peek()} 配合使用）
+     */
+    public synchronized void commit() {
+        final Segment head = segments.peekFirst();
+        if (head == null) {
+            return;
+        }
+        final int length = head.buffer.getInt(head.readPosition);
+        if (length <= 0 || !head.isValidRecord(head.readPosition, length)) {
+            return;
+        }
+        head.readPosition += 4 + length;
+        head.buffer.putInt(0, head.readPosition);
+        head.records--;
+        head.dirty = true;
+        size--;
+    }
+
+    public synchronized long size() {
+        return size;
+    }
+
+    public synchronized int getSegmentCount() {
+        return segments.size();
+    }
+
+    /**
+     * 把上一次刷盘后有写入的分段刷到磁盘
+     */
+    public synchronized void force() {
+        if (closed) {
+            return;
+        }
+        for (Segment segment : segments) {
+            if (segment.dirty) {
+                segment.buffer.force();
+                segment.dirty = false;
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        // Java 11 无法主动解除映射，刷盘后交给 GC 回收
+        segments.forEach(segment -> segment.buffer.force());
+        segments.clear();
+    }
+
+    private void recover() throws IOException {
+        final List<Path> files = new ArrayList<>();
+        try (Stream<Path> stream = Files.list(directory)) {
+            stream.filter(path -> path.getFileName().toString().startsWith(SEGMENT_PREFIX)
+                            && path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+                    .sorted((a, b) -> Long.compare(sequenceOf(a), sequenceOf(b)))
+                    .forEach(files::add);
+        }
+        for (Path file : files) {
+            final Segment segment = new Segment(file, map(file), segmentSize);
+            final int readPosition = segment.buffer.getInt(0);
+            // 读位置不可信时从头读取（至少一次）
+            segment.readPosition = readPosition < HEADER_SIZE || readPosition > segmentSize - 4 ? HEADER_SIZE : readPosition;
+            int position = segment.readPosition;
+            int length;
+            while ((length = segment.buffer.getInt(position)) != 0 && length != END_OF_SEGMENT) {
+                if (!segment.isValidRecord(position, length)) {
+                    logger.error("[MappedOverflowQueue#recover] - 溢出分段文件 [{}] 在位置 {} 的记录长度 {} 超出范围，从该位置截断", file, position, length);
+                    segment.truncate(position);
+                    break;
+                }
+                position += 4 + length;
+                segment.records++;
+                size++;
+            }
+            segment.writePosition = position;
+            segments.addLast(segment);
+            nextSequence = sequenceOf(file) + 1;
+        }
+        if (size > 0) {
+            logger.info("[MappedOverflowQueue#recover] - 从 {} 个溢出分段文件恢复了 {} 条记录", segments.size(), size);
+        }
+    }
+
+    private Segment createSegment() throws IOException {
+        final Path file = directory.resolve(SEGMENT_PREFIX + nextSequence++ + SEGMENT_SUFFIX);
+        final Segment segment = new Segment(file, map(file), segmentSize);
+        segment.buffer.putInt(0, HEADER_SIZE);
+        segment.readPosition = HEADER_SIZE;
+        segment.writePosition = HEADER_SIZE;
+        segments.addLast(segment);
+        return segment;
+    }
+
+    private MappedByteBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            // 映射建立后即使关闭通道也保持有效
+            return channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentSize);
+        }
+    }
+
+    private static long sequenceOf(Path file) {
+        final String name = file.getFileName().toString();
+        return Long.parseLong(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    private static final class Segment {
+        private final Path file;
+        private final MappedByteBuffer buffer;
+        private final int segmentSize;
+        private int readPosition;
+        private int writePosition;
+        /**
+         * 未提交的记录数
+         */
+        private int records;
+        /**
+         * 上一次刷盘后是否有写入
+         */
+        private boolean dirty;
+
+        private Segment(Path file, MappedByteBuffer buffer, int segmentSize) {
+            this.file = file;
+            this.buffer = buffer;
+            this.segmentSize = segmentSize;
+        }
+
+        /**
+         * 记录必须完整位于分段内，且其后至少留有写分段结束标记的位置（与 offer 的限制一致）
+         */
+        private boolean isValidRecord(int position, int length) {
+            return length > 0 && (long) position + 4 + length + 4 <= segmentSize;
+        }
+
+        /**
+         * 从指定位置截断：清空之后的内容，后续写入从该位置开始
+         */
+        private void truncate(int position) {
+            for (int i = position; i + 4 <= segmentSize; i += 4) {
+                buffer.putInt(i, 0);
+            }
+            dirty = true;
+        }
+
+        private void delete() {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                logger.warn("[MappedOverflowQueue#delete] - 删除溢出分段文件 [{}] 失败，异常信息为：{}", file, e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,281 @@
+package com.olinonee.springboot.core.task.executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.io.*;
+import java.util.Collection;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 溢出到磁盘的拒绝策略：线程池饱和时把可序列化的任务写入内存映射溢出队列，由后台线程在线程池有空闲容量时重新提交
+ * <p>
+ * 只有实现了 {@link Serializable} 的任务才能溢出（通过 {@code execute(Runnable)} 直接提交的任务）；
+ * 不可序列化的任务（例如 {@code submit} 包装出的 FutureTask、@Async 方法调用）、溢出队列写满或线程池已关闭时交给后备拒绝策略处理。
+ * <p>
+ * 回灌线程空闲时阻塞等待：溢出队列为空时等待溢出路径的信号，线程池饱和时等待回灌任务执行完成的信号（线程池被其它任务占满时
+ * 最多等待 {@link #SATURATED_WAIT_MILLIS} 毫秒后重试），不会忙等；同时每隔 {@link #FORCE_INTERVAL_MILLIS} 毫秒把溢出队列刷盘一次。
+ * <p>
+ * 溢出文件位于本地磁盘，可能被其它进程改写，回灌时通过 {@link ObjectInputFilter} 限制反序列化：只允许白名单包（及其子包）中的类和
+ * {@code java.lang}、{@code java.util}、{@code java.time}、{@code java.math} 中的基础类型，并限制对象图深度、引用数、数组长度和字节数，
+ * 不满足的记录按损坏记录丢弃。序列化后超过字节数上限的任务不会溢出，直接交给后备拒绝策略处理。
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class OverflowRejectedExecutionHandler implements RejectedExecutionHandler, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(OverflowRejectedExecutionHandler.class);
+
+    /**
+     * 线程池饱和时等待回灌任务完成信号的最长时间（毫秒）
+     */
+    private static final long SATURATED_WAIT_MILLIS = 10;
+
+    /**
+     * 溢出队列刷盘间隔（毫秒），同时也是队列为空时等待溢出信号的最长时间
+     */
+    private static final long FORCE_INTERVAL_MILLIS = 1000;
+
+    /**
+     * 默认的反序列化白名单包：本模块的任务类
+     */
+    public static final List<String> DEFAULT_ALLOWED_PACKAGES = List.of("com.olinonee.springboot.core.task");
+
+    /**
+     * 反序列化限制：对象图深度、引用数、数组长度和单个任务的字节数
+     */
+    private static final int MAX_DEPTH = 32;
+    private static final int MAX_REFERENCES = 10_000;
+    private static final int MAX_ARRAY_LENGTH = 65_536;
+    private static final int MAX_BYTES = 1024 * 1024;
+
+    private final MappedOverflowQueue overflowQueue;
+    private final RejectedExecutionHandler fallback;
+    private final ObjectInputFilter inputFilter;
+
+    private final LongAdder spilled = new LongAdder();
+    private final LongAdder drained = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+    private final LongAdder corrupted = new LongAdder();
+
+    private volatile ThreadPoolExecutor executor;
+    private volatile Thread drainerThread;
+    private volatile boolean running;
+
+    /**
+     * 唤醒回灌线程的信号：溢出路径写入记录后、回灌任务执行完成后释放
+     */
+    private final Semaphore drainSignal = new Semaphore(0);
+    private volatile boolean awaitingCapacity;
+
+    public OverflowRejectedExecutionHandler(MappedOverflowQueue overflowQueue, RejectedExecutionHandler fallback) {
+        this(overflowQueue, fallback, DEFAULT_ALLOWED_PACKAGES);
+    }
+
+    /**
+     * @param overflowQueue   溢出队列
+     * @param fallback        后备拒绝策略
+     * @param allowedPackages 允许反序列化的任务类所在的包（包括子包）
+     */
+    public OverflowRejectedExecutionHandler(MappedOverflowQueue overflowQueue, RejectedExecutionHandler fallback,
+                                            Collection<String> allowedPackages) {
+        this.overflowQueue = overflowQueue;
+        this.fallback = fallback;
+        this.inputFilter = createInputFilter(allowedPackages);
+    }
+
+    private static ObjectInputFilter createInputFilter(Collection<String> allowedPackages) {
+        final StringJoiner pattern = new StringJoiner(";");
+        pattern.add("maxdepth=" + MAX_DEPTH).add("maxrefs=" + MAX_REFERENCES)
+                .add("maxarray=" + MAX_ARRAY_LENGTH).add("maxbytes=" + MAX_BYTES);
+        allowedPackages.forEach(allowedPackage -> pattern.add(allowedPackage + ".**"));
+        pattern.add("java.lang.*").add("java.util.*").add("java.time.*").add("java.math.*");
+        // 其余的类一律拒绝
+        pattern.add("!*");
+        return ObjectInputFilter.Config.createFilter(pattern.toString());
+    }
+
+    /**
+     * 绑定线程池并启动回灌线程（上一次运行遗留在溢出队列中的任务也会被回灌）
+     *
+     * @param executor 线程池
+     */
+    public synchronized void bind(ThreadPoolExecutor executor) {
+        if (drainerThread != null) {
+            return;
+        }
+        this.executor = executor;
+        running = true;
+        drainerThread = new Thread(this::drain, "overflowDrainer");
+        drainerThread.setDaemon(true);
+        drainerThread.start();
+    }
+
+    @Override
+    public void rejectedExecution(Runnable task, ThreadPoolExecutor executor) {
+        if (Thread.currentThread() == drainerThread) {
+            // 回灌时线程池再次饱和：通知回灌线程稍后重试，记录保留在溢出队列队首
+            throw new RejectedExecutionException("线程池仍然饱和");
+        }
+        if (!executor.isShutdown() && task instanceof Serializable) {
+            final byte[] data = serialize(task);
+            if (data != null && data.length <= MAX_BYTES && overflowQueue.offer(data)) {
+                spilled.increment();
+                drainSignal.release();
+                return;
+            }
+        }
+        fallbacks.increment();
+        fallback.rejectedExecution(task, executor);
+    }
+
+    private void drain() {
+        long lastForceTime = System.currentTimeMillis();
+        try {
+            while (running) {
+                final long now = System.currentTimeMillis();
+                if (now - lastForceTime >= FORCE_INTERVAL_MILLIS) {
+                    overflowQueue.force();
+                    lastForceTime = now;
+                }
+                final ThreadPoolExecutor target = executor;
+                final byte[] data = overflowQueue.peek();
+                if (data == null) {
+                    awaitSignal(FORCE_INTERVAL_MILLIS);
+                    continue;
+                }
+                if (target.getQueue().remainingCapacity() == 0) {
+                    awaitCapacity();
+                    continue;
+                }
+                final Runnable task = deserialize(data);
+                if (task == null) {
+                    corrupted.increment();
+                    overflowQueue.commit();
+                    continue;
+                }
+                try {
+                    target.execute(new DrainedTask(task));
+                    overflowQueue.commit();
+                    drained.increment();
+                } catch (RejectedExecutionException e) {
+                    if (target.isShutdown()) {
+                        return;
+                    }
+                    awaitCapacity();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void awaitCapacity() throws InterruptedException {
+        awaitingCapacity = true;
+        try {
+            awaitSignal(SATURATED_WAIT_MILLIS);
+        } finally {
+            awaitingCapacity = false;
+        }
+    }
+
+    private void awaitSignal(long timeoutMillis) throws InterruptedException {
+        drainSignal.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS);
+        // 合并积压的信号，醒来后会重新检查溢出队列和线程池
+        drainSignal.drainPermits();
+    }
+
+    private static byte[] serialize(Runnable task) {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+        try (ObjectOutputStream output = new ObjectOutputStream(bytes)) {
+            output.writeObject(task);
+        } catch (IOException e) {
+            logger.warn("[OverflowRejectedExecutionHandler#serialize] - 任务 [{}] 序列化失败，异常信息为：{}", task, e.getMessage());
+            return null;
+        }
+        return bytes.toByteArray();
+    }
+
+    private Runnable deserialize(byte[] data) {
+        try (ObjectInputStream input = new ObjectInputStream(new ByteArrayInputStream(data))) {
+            // 白名单之外的类在读取类描述时即被拒绝（InvalidClassException），不会执行其反序列化逻辑
+            input.setObjectInputFilter(inputFilter);
+            final Object task = input.readObject();
+            return task instanceof Runnable ? (Runnable) task : null;
+        } catch (IOException | ClassNotFoundException e) {
+            logger.error("[OverflowRejectedExecutionHandler#deserialize] - 溢出任务反序列化失败，已丢弃，异常信息为：{}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 当前溢出队列中等待回灌的任务数
+     */
+    public long getOverflowSize() {
+        return overflowQueue.size();
+    }
+
+    public long getSpilledCount() {
+        return spilled.sum();
+    }
+
+    public long getDrainedCount() {
+        return drained.sum();
+    }
+
+    /**
+     * 交给后备拒绝策略处理的任务数
+     */
+    public long getFallbackCount() {
+        return fallbacks.sum();
+    }
+
+    public long getCorruptedCount() {
+        return corrupted.sum();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        drainSignal.release();
+        final Thread thread = drainerThread;
+        if (thread != null) {
+            thread.join(TimeUnit.SECONDS.toMillis(5));
+        }
+        // 未回灌的任务保留在溢出文件中，下次启动时继续回灌
+        overflowQueue.close();
+    }
+
+    /**
+     * 回灌的任务：执行完成后如果回灌线程正在等待线程池空闲，则唤醒它
+     */
+    private final class DrainedTask implements Runnable {
+
+        private final Runnable task;
+
+        private DrainedTask(Runnable task) {
+            this.task = task;
+        }
+
+        @Override
+        public void run() {
+            try {
+                task.run();
+            } finally {
+                if (awaitingCapacity) {
+                    drainSignal.release();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,272 @@
+package com.olinonee.springboot.core.task.executor;
+
+import com.olinonee.springboot.core.task.metrics.LatencyHistogram;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jmx.export.annotation.ManagedOperation;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 多优先级通道执行器：各通道共享一组工作线程，按照加权公平队列（WFQ）调度，并通过老化机制防止低优先级通道饿死
+ * <p>
+ * 调度规则：
+ * <ul>
+ *     <li>任务入队时按照通道权重计算虚拟完成时间（start = max(系统虚拟时间, 通道上一个任务的完成时间)，finish = start + 1/weight），
+ *     每次取各通道队首中虚拟完成时间最小的任务，长期来看各通道获得的执行次数与权重成正比；</li>
+ *     <li>某个通道队首任务的等待时间超过老化阈值时，优先调度其中等待最久的任务。</li>
+ * </ul>
+ * 通过 {@link #lane(Lane)} 获取某个通道的 {@link Executor} 视图，配合 {@code @Async("highLaneExecutor")} 等限定名使用。
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+@ManagedResource(objectName = "com.olinonee.springboot.core.task:type=PriorityLaneExecutor", description = "多优先级通道执行器")
+public class PriorityLaneExecutor implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(PriorityLaneExecutor.class);
+
+    /**
+     * 优先级通道
+     */
+    public enum Lane {
+        HIGH, NORMAL, BULK
+    }
+
+    private final Map<Lane, LaneQueue> lanes = new EnumMap<>(Lane.class);
+    private final Map<Lane, Executor> laneExecutors = new EnumMap<>(Lane.class);
+    private final int laneCapacity;
+    private final long agingThresholdNanos;
+    private final List<Thread> workers;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    // 以下字段受 lock 保护
+    private double virtualTime;
+    private int queued;
+    private boolean shutdown;
+
+    /**
+     * @param weights          各通道的权重
+     * @param workerCount      工作线程数
+     * @param laneCapacity     每个通道的队列容量，超过时拒绝
+     * @param agingThreshold   老化阈值
+     * @param threadNamePrefix 线程名称前缀
+     */
+    public PriorityLaneExecutor(Map<Lane, Integer> weights, int workerCount, int laneCapacity, Duration agingThreshold, String threadNamePrefix) {
+        for (Lane lane : Lane.values()) {
+            lanes.put(lane, new LaneQueue(lane, Math.max(1, weights.getOrDefault(lane, 1))));
+            laneExecutors.put(lane, task -> execute(lane, task));
+        }
+        this.laneCapacity = laneCapacity;
+        this.agingThresholdNanos = agingThreshold.toNanos();
+        final ThreadFactory threadFactory = new CustomizableThreadFactory(threadNamePrefix);
+        this.workers = new ArrayList<>(workerCount);
+        for (int i = 0; i < Math.max(1, workerCount); i++) {
+            final Thread worker = threadFactory.newThread(this::runWorker);
+            worker.setDaemon(true);
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    /**
+     * 获取指定通道的执行器视图
+     *
+     * @param lane 通道
+     * @return 执行器
+     */
+    public Executor lane(Lane lane) {
+        return laneExecutors.get(lane);
+    }
+
+    /**
+     * 提交任务到指定通道
+     *
+     * @param lane 通道
+     * @param task 任务
+     * @throws RejectedExecutionException 通道已满或执行器已关闭
+     */
+    public void execute(Lane lane, Runnable task) {
+        final LaneQueue laneQueue = lanes.get(lane);
+        lock.lock();
+        try {
+            if (shutdown || laneQueue.entries.size() >= laneCapacity) {
+                laneQueue.rejected.increment();
+                throw new RejectedExecutionException("通道 [" + lane + "] 已满（容量 " + laneCapacity + "）或执行器已关闭");
+            }
+            final double startTag = Math.max(virtualTime, laneQueue.lastFinishTag);
+            laneQueue.lastFinishTag = startTag + 1.0 / laneQueue.weight;
+            laneQueue.entries.addLast(new Entry(task, System.nanoTime(), startTag, laneQueue.lastFinishTag));
+            laneQueue.submitted.increment();
+            queued++;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 获取各通道的运行指标
+     *
+     * @return 运行指标
+     */
+    public List<LaneStats> getLaneStats() {
+        final List<LaneStats> stats = new ArrayList<>(lanes.size());
+        for (LaneQueue laneQueue : lanes.values()) {
+            final int depth;
+            lock.lock();
+            try {
+                depth = laneQueue.entries.size();
+            } finally {
+                lock.unlock();
+            }
+            stats.add(new LaneStats(laneQueue.lane.name().toLowerCase(), laneQueue.weight, depth, laneQueue.submitted.sum(),
+                    laneQueue.completed.sum(), laneQueue.rejected.sum(), laneQueue.aged.sum(),
+                    laneQueue.waitMicros.getValueAtPercentile(0.5), laneQueue.waitMicros.getValueAtPercentile(0.99), laneQueue.waitMicros.getMax()));
+        }
+        return stats;
+    }
+
+    @ManagedOperation(description = "获取各通道的队列深度与排队时间")
+    public String laneStats() {
+        final StringBuilder builder = new StringBuilder();
+        for (LaneStats stats : getLaneStats()) {
+            builder.append(stats.getLane()).append(": depth=").append(stats.getDepth())
+                    .append(", completed=").append(stats.getCompleted())
+                    .append(", rejected=").append(stats.getRejected())
+                    .append(", aged=").append(stats.getAged())
+                    .append(", waitP99Micros=").append(stats.getWaitP99Micros()).append('\n');
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 关闭执行器：不再接收新任务，已排队的任务执行完后工作线程退出
+     */
+    public void shutdown() {
+        lock.lock();
+        try {
+            shutdown = true;
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        shutdown();
+    }
+
+    private void runWorker() {
+        while (true) {
+            final Entry entry;
+            final LaneQueue laneQueue;
+            lock.lock();
+            try {
+                while (queued == 0 && !shutdown) {
+                    notEmpty.awaitUninterruptibly();
+                }
+                if (queued == 0) {
+                    return;
+                }
+                final long now = System.nanoTime();
+                laneQueue = next(now);
+                laneQueue.lastServedNanos = now;
+                entry = laneQueue.entries.pollFirst();
+                queued--;
+                virtualTime = Math.max(virtualTime, entry.startTag);
+            } finally {
+                lock.unlock();
+            }
+            laneQueue.waitMicros.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - entry.enqueueNanos));
+            try {
+                entry.task.run();
+            } catch (RuntimeException | Error e) {
+                logger.error("[PriorityLaneExecutor#runWorker] - 通道 [{}] 的任务执行发生异常，异常信息为：", laneQueue.lane, e);
+            } finally {
+                laneQueue.completed.increment();
+            }
+        }
+    }
+
+    /**
+     * 选择下一个要执行的通道（调用方持有锁且至少有一个任务在排队）
+     */
+    private LaneQueue next(long now) {
+        LaneQueue starved = null;
+        long starvedNanos = agingThresholdNanos;
+        LaneQueue fairest = null;
+        for (LaneQueue laneQueue : lanes.values()) {
+            final Entry head = laneQueue.entries.peekFirst();
+            if (head == null) {
+                continue;
+            }
+            // 通道有任务等待、但超过老化阈值都没有被调度过
+            final long waitingNanos = now - Math.max(laneQueue.lastServedNanos, head.enqueueNanos);
+            if (waitingNanos > starvedNanos) {
+                starved = laneQueue;
+                starvedNanos = waitingNanos;
+            }
+            if (fairest == null || head.finishTag < fairest.entries.peekFirst().finishTag) {
+                fairest = laneQueue;
+            }
+        }
+        if (starved != null && starved != fairest) {
+            // 老化：保证每个通道在每个老化周期内至少被调度一次
+            starved.aged.increment();
+            return starved;
+        }
+        return fairest;
+    }
+
+    private static final class LaneQueue {
+        private final Lane lane;
+        private final int weight;
+        private final ArrayDeque<Entry> entries = new ArrayDeque<>();
+        private final LatencyHistogram waitMicros = new LatencyHistogram(4, 40);
+        private final LongAdder submitted = new LongAdder();
+        private final LongAdder completed = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder aged = new LongAdder();
+        // 受 PriorityLaneExecutor#lock 保护
+        private double lastFinishTag;
+        private long lastServedNanos = System.nanoTime();
+
+        private LaneQueue(Lane lane, int weight) {
+            this.lane = lane;
+            this.weight = weight;
+        }
+    }
+
+    private static final class Entry {
+        private final Runnable task;
+        private final long enqueueNanos;
+        private final double startTag;
+        private final double finishTag;
+
+        private Entry(Runnable task, long enqueueNanos, double startTag, double finishTag) {
+            this.task = task;
+            this.enqueueNanos = enqueueNanos;
+            this.startTag = startTag;
+            this.finishTag = finishTag;
+        }
+    }
+}
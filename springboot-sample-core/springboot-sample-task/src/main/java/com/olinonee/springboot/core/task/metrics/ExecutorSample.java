@@ -0,0 +1,111 @@
+package com.olinonee.springboot.core.task.metrics;
+
+import java.util.Date;
+
+/**
+ * 线程池（执行器或调度器）某一时刻的运行状态采样
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class ExecutorSample {
+
+    private final String name;
+    private final Date time;
+    private final int poolSize;
+    private final int corePoolSize;
+    private final int maximumPoolSize;
+    private final int largestPoolSize;
+    private final int activeCount;
+    private final int queueSize;
+    private final int queueRemainingCapacity;
+    private final long completedTaskCount;
+    private final long rejectedCount;
+
+    public ExecutorSample(String name, Date time, int poolSize, int corePoolSize, int maximumPoolSize, int largestPoolSize,
+                          int activeCount, int queueSize, int queueRemainingCapacity, long completedTaskCount, long rejectedCount) {
+        this.name = name;
+        this.time = time;
+        this.poolSize = poolSize;
+        this.corePoolSize = corePoolSize;
+        this.maximumPoolSize = maximumPoolSize;
+        this.largestPoolSize = largestPoolSize;
+        this.activeCount = activeCount;
+        this.queueSize = queueSize;
+        this.queueRemainingCapacity = queueRemainingCapacity;
+        this.completedTaskCount = completedTaskCount;
+        this.rejectedCount = rejectedCount;
+    }
+
+    /**
+     * 线程池名称（Bean 名称）
+     */
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * 采样时间
+     */
+    public Date getTime() {
+        return time;
+    }
+
+    /**
+     * 当前线程数
+     */
+    public int getPoolSize() {
+        return poolSize;
+    }
+
+    public int getCorePoolSize() {
+        return corePoolSize;
+    }
+
+    public int getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+
+    /**
+     * 历史最大线程数
+     */
+    public int getLargestPoolSize() {
+        return largestPoolSize;
+    }
+
+    /**
+     * 正在执行任务的线程数（近似值）
+     */
+    public int getActiveCount() {
+        return activeCount;
+    }
+
+    /**
+     * 排队的任务数（调度器中为等待触发的任务数）
+     */
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    /**
+     * 队列剩余容量，无界队列为 Integer.MAX_VALUE
+     */
+    public int getQueueRemainingCapacity() {
+        return queueRemainingCapacity;
+    }
+
+    /**
+     * 累计完成的任务数（近似值）
+     */
+    public long getCompletedTaskCount() {
+        return completedTaskCount;
+    }
+
+    /**
+     * 累计拒绝次数，线程池的拒绝策略没有计数时为 -1
+     */
+    public long getRejectedCount() {
+        return rejectedCount;
+    }
+}
@@ -0,0 +1,125 @@
+package com.olinonee.springboot.core.task.metrics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 单个线程池的采样历史：固定容量的环形缓冲区，写满后覆盖最早的采样
+ * <p>
+ * 只有采样线程写入，读取（REST、JMX）频率很低，直接使用对象锁。
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class ExecutorSampleHistory implements ExecutorSampleHistoryMXBean {
+
+    private final String name;
+    private final ExecutorSample[] samples;
+    /**
+     * 累计写入的采样数，下一次写入位置为 count % samples.length
+     */
+    private long count;
+
+    public ExecutorSampleHistory(String name, int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.name = name;
+        this.samples = new ExecutorSample[capacity];
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public synchronized void add(ExecutorSample sample) {
+        samples[(int) (count % samples.length)] = sample;
+        count++;
+    }
+
+    /**
+     * 最近一次采样，尚未采样时为空
+     */
+    public synchronized ExecutorSample latest() {
+        return count == 0 ? null : samples[(int) ((count - 1) % samples.length)];
+    }
+
+    /**
+     * 最近的若干次采样，按照时间先后排列
+     *
+     * @param limit 最多返回的采样数
+     * @return 采样列表
+     */
+    public synchronized List<ExecutorSample> recent(int limit) {
+        final int size = (int) Math.min(Math.min(count, samples.length), Math.max(limit, 0));
+        if (size == 0) {
+            return Collections.emptyList();
+        }
+        final List<ExecutorSample> result = new ArrayList<>(size);
+        for (long i = count - size; i < count; i++) {
+            result.add(samples[(int) (i % samples.length)]);
+        }
+        return result;
+    }
+
+    @Override
+    public int getPoolSize() {
+        final ExecutorSample sample = latest();
+        return sample == null ? 0 : sample.getPoolSize();
+    }
+
+    @Override
+    public int getCorePoolSize() {
+        final ExecutorSample sample = latest();
+        return sample == null ? 0 : sample.getCorePoolSize();
+    }
+
+    @Override
+    public int getMaximumPoolSize() {
+        final ExecutorSample sample = latest();
+        return sample == null ? 0 : sample.getMaximumPoolSize();
+    }
+
+    @Override
+    public int getLargestPoolSize() {
+        final ExecutorSample sample = latest();
+        return sample == null ? 0 : sample.getLargestPoolSize();
+    }
+
+    @Override
+    public int getActiveCount() {
+        final ExecutorSample sample = latest();
+        return sample == null ? 0 : sample.getActiveCount();
+    }
+
+    @Override
+    public int getQueueSize() {
+        final ExecutorSample sample = latest();
+        return sample == null ? 0 : sample.getQueueSize();
+    }
+
+    @Override
+    public int getQueueRemainingCapacity() {
+        final ExecutorSample sample = latest();
+        return sample == null ? 0 : sample.getQueueRemainingCapacity();
+    }
+
+    @Override
+    public long getCompletedTaskCount() {
+        final ExecutorSample sample = latest();
+        return sample == null ? 0 : sample.getCompletedTaskCount();
+    }
+
+    @Override
+    public long getRejectedCount() {
+        final ExecutorSample sample = latest();
+        return sample == null ? 0 : sample.getRejectedCount();
+    }
+
+    @Override
+    public List<ExecutorSample> getHistory() {
+        return recent(samples.length);
+    }
+}
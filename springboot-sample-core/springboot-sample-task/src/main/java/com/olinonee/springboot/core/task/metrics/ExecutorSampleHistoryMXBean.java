@@ -0,0 +1,36 @@
+package com.olinonee.springboot.core.task.metrics;
+
+import java.util.List;
+
+/**
+ * 线程池采样 JMX 指标：当前值取最近一次采样
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public interface ExecutorSampleHistoryMXBean {
+
+    int getPoolSize();
+
+    int getCorePoolSize();
+
+    int getMaximumPoolSize();
+
+    int getLargestPoolSize();
+
+    int getActiveCount();
+
+    int getQueueSize();
+
+    int getQueueRemainingCapacity();
+
+    long getCompletedTaskCount();
+
+    long getRejectedCount();
+
+    /**
+     * 保留的历史采样，按照时间先后排列
+     */
+    List<ExecutorSample> getHistory();
+}
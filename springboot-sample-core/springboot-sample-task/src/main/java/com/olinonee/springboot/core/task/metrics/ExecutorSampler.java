@@ -0,0 +1,225 @@
+package com.olinonee.springboot.core.task.metrics;
+
+import com.olinonee.springboot.core.task.executor.CountingRejectedExecutionHandler;
+import com.olinonee.springboot.core.task.scheduler.DispatchingTaskScheduler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jmx.export.MBeanExportException;
+import org.springframework.jmx.export.MBeanExporter;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 线程池采样器：容器启动完成后收集所有基于 ThreadPoolExecutor 的执行器和调度器 Bean，
+ * 由一个守护线程按照固定周期采样，每个线程池的采样保存在各自的环形缓冲区中，
+ * 并通过容器中的 {@link MBeanExporter} 导出为 JMX MBean（spring.jmx.enabled 关闭时不导出）
+ * <p>
+ * 采样默认关闭，通过 task.execution.sampling.enabled 开启；关闭时不启动采样线程，查询结果为空。
+ * <p>
+ * 不是基于 ThreadPoolExecutor 的实现（虚拟线程、优先级通道、时间轮等）不采样，它们有各自的指标。
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class ExecutorSampler implements BeanFactoryAware, SmartInitializingSingleton, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExecutorSampler.class);
+
+    private final boolean enabled;
+    private final Duration interval;
+    private final int historySize;
+    private final Map<String, Object> extraSources;
+
+    private ListableBeanFactory beanFactory;
+    private volatile Map<String, SampledExecutor> sampledExecutors = Collections.emptyMap();
+    private ScheduledExecutorService samplerExecutor;
+    private MBeanExporter mBeanExporter;
+    private final List<ObjectName> objectNames = new ArrayList<>();
+
+    /**
+     * @param enabled      是否启用采样
+     * @param interval     采样周期
+     * @param historySize  每个线程池保留的历史采样数
+     * @param extraSources 不是 Bean 但需要采样的线程池（例如 AsyncConfigurer 提供的默认执行器），键为名称
+     */
+    public ExecutorSampler(boolean enabled, Duration interval, int historySize, Map<String, Object> extraSources) {
+        this.enabled = enabled;
+        this.interval = interval;
+        this.historySize = historySize;
+        this.extraSources = extraSources;
+    }
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) {
+        this.beanFactory = beanFactory instanceof ListableBeanFactory ? (ListableBeanFactory) beanFactory : null;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        if (!enabled) {
+            return;
+        }
+        final Map<String, Object> sources = new LinkedHashMap<>(extraSources);
+        if (beanFactory != null) {
+            sources.putAll(beanFactory.getBeansOfType(Executor.class, false, false));
+            sources.putAll(beanFactory.getBeansOfType(TaskScheduler.class, false, false));
+        }
+        final Map<String, SampledExecutor> discovered = new LinkedHashMap<>();
+        final Set<ThreadPoolExecutor> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        sources.forEach((name, source) -> {
+            final ThreadPoolExecutor threadPoolExecutor = resolve(source);
+            if (threadPoolExecutor != null && seen.add(threadPoolExecutor)) {
+                discovered.put(name, new SampledExecutor(threadPoolExecutor, new ExecutorSampleHistory(name, historySize)));
+            }
+        });
+        sampledExecutors = Collections.unmodifiableMap(discovered);
+        mBeanExporter = beanFactory == null ? null : beanFactory.getBeanProvider(MBeanExporter.class).getIfAvailable();
+        if (mBeanExporter != null) {
+            discovered.values().forEach(sampledExecutor -> registerMBean(sampledExecutor.history));
+        }
+        samplerExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final Thread thread = new Thread(runnable, "executorSampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        samplerExecutor.scheduleAtFixedRate(this::sampleSafely, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+        logger.info("[ExecutorSampler#afterSingletonsInstantiated] - 开始采样线程池 {}，采样周期为 {}", discovered.keySet(), interval);
+    }
+
+    @Override
+    public void destroy() {
+        if (samplerExecutor != null) {
+            samplerExecutor.shutdownNow();
+        }
+        for (ObjectName objectName : objectNames) {
+            try {
+                mBeanExporter.unregisterManagedResource(objectName);
+            } catch (MBeanExportException e) {
+                logger.warn("[ExecutorSampler#destroy] - 注销 JMX [{}] 失败，异常信息为：{}", objectName, e.getMessage());
+            }
+        }
+        objectNames.clear();
+    }
+
+    /**
+     * 立即对所有线程池采样一次
+     */
+    public void sample() {
+        final Date now = new Date();
+        for (Map.Entry<String, SampledExecutor> entry : sampledExecutors.entrySet()) {
+            final SampledExecutor sampledExecutor = entry.getValue();
+            sampledExecutor.history.add(snapshot(entry.getKey(), now, sampledExecutor.threadPoolExecutor));
+        }
+    }
+
+    /**
+     * 每个线程池最近一次的采样
+     *
+     * @return 采样列表
+     */
+    public List<ExecutorSample> current() {
+        final List<ExecutorSample> result = new ArrayList<>(sampledExecutors.size());
+        for (SampledExecutor sampledExecutor : sampledExecutors.values()) {
+            final ExecutorSample sample = sampledExecutor.history.latest();
+            if (sample != null) {
+                result.add(sample);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 指定线程池最近的若干次采样，按照时间先后排列
+     *
+     * @param name  线程池名称
+     * @param limit 最多返回的采样数
+     * @return 采样列表，不存在该线程池时为空列表
+     */
+    public List<ExecutorSample> history(String name, int limit) {
+        final SampledExecutor sampledExecutor = sampledExecutors.get(name);
+        return sampledExecutor == null ? Collections.emptyList() : sampledExecutor.history.recent(limit);
+    }
+
+    public Set<String> getNames() {
+        return sampledExecutors.keySet();
+    }
+
+    private void sampleSafely() {
+        try {
+            sample();
+        } catch (RuntimeException e) {
+            // 异常不能抛出，否则后续的周期采样会被取消
+            logger.warn("[ExecutorSampler#sampleSafely] - 线程池采样失败，异常信息为：{}", e.getMessage());
+        }
+    }
+
+    private static ExecutorSample snapshot(String name, Date time, ThreadPoolExecutor executor) {
+        final BlockingQueue<Runnable> queue = executor.getQueue();
+        final long rejectedCount = executor.getRejectedExecutionHandler() instanceof CountingRejectedExecutionHandler
+                ? ((CountingRejectedExecutionHandler) executor.getRejectedExecutionHandler()).getRejectedCount() : -1;
+        return new ExecutorSample(name, time, executor.getPoolSize(), executor.getCorePoolSize(), executor.getMaximumPoolSize(),
+                executor.getLargestPoolSize(), executor.getActiveCount(), queue.size(), queue.remainingCapacity(),
+                executor.getCompletedTaskCount(), rejectedCount);
+    }
+
+    /**
+     * 取出执行器或调度器底层的 ThreadPoolExecutor，无法取出时返回 null
+     */
+    private static ThreadPoolExecutor resolve(Object source) {
+        try {
+            if (source instanceof ThreadPoolTaskExecutor) {
+                return ((ThreadPoolTaskExecutor) source).getThreadPoolExecutor();
+            }
+            if (source instanceof ThreadPoolTaskScheduler) {
+                return ((ThreadPoolTaskScheduler) source).getScheduledThreadPoolExecutor();
+            }
+        } catch (IllegalStateException e) {
+            // 尚未初始化
+            return null;
+        }
+        if (source instanceof DispatchingTaskScheduler) {
+            return resolve(((DispatchingTaskScheduler) source).getDelegate());
+        }
+        if (source instanceof ThreadPoolExecutor) {
+            return (ThreadPoolExecutor) source;
+        }
+        return null;
+    }
+
+    private void registerMBean(ExecutorSampleHistory history) {
+        try {
+            final ObjectName name = new ObjectName("com.olinonee.springboot.core.task:type=ExecutorSampler,name=" + ObjectName.quote(history.getName()));
+            // 同一个 JVM 中的其它上下文可能已经导出了同名的 MBean
+            if (mBeanExporter.getServer() == null || !mBeanExporter.getServer().isRegistered(name)) {
+                mBeanExporter.registerManagedResource(history, name);
+                objectNames.add(name);
+            }
+        } catch (MalformedObjectNameException | MBeanExportException e) {
+            logger.warn("[ExecutorSampler#registerMBean] - 线程池 [{}] 注册 JMX 失败，异常信息为：{}", history.getName(), e.getMessage());
+        }
+    }
+
+    private static final class SampledExecutor {
+
+        private final ThreadPoolExecutor threadPoolExecutor;
+        private final ExecutorSampleHistory history;
+
+        private SampledExecutor(ThreadPoolExecutor threadPoolExecutor, ExecutorSampleHistory history) {
+            this.threadPoolExecutor = threadPoolExecutor;
+            this.history = history;
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package com.olinonee.springboot.core.task.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 无锁的对数-线性直方图（HdrHistogram 风格的分桶）
+ * <p>
+ * 每个 2 的幂区间再等分为 2^subBucketBits 个子桶，相对误差不超过 1/2^subBucketBits；
+ * 记录只有一次数组下标计算和一次原子自增，不分配任何对象。超过可跟踪上限的值计入最后一个桶。
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class LatencyHistogram {
+
+    private final int subBucketBits;
+    private final int subBucketCount;
+    private final AtomicLongArray counts;
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * @param subBucketBits 子桶位数（精度）
+     * @param maxValueBits  可跟踪的最大值位数，即最大值约为 2^maxValueBits
+     */
+    public LatencyHistogram(int subBucketBits, int maxValueBits) {
+        this.subBucketBits = subBucketBits;
+        this.subBucketCount = 1 << subBucketBits;
+        this.counts = new AtomicLongArray((maxValueBits - subBucketBits + 1) * subBucketCount);
+    }
+
+    /**
+     * 记录一个值（负数按 0 记录）
+     *
+     * @param value 值
+     */
+    public void record(long value) {
+        final long normalized = Math.max(0, value);
+        counts.incrementAndGet(indexOf(normalized));
+        long currentMax;
+        while (normalized > (currentMax = max.get()) && !max.compareAndSet(currentMax, normalized)) {
+            // 自旋更新最大值
+        }
+    }
+
+    public long getCount() {
+        long total = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            total += counts.get(i);
+        }
+        return total;
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * 获取百分位数（返回所在桶的上界，且不超过最大值）
+     *
+     * @param percentile 百分位，例如 0.99
+     * @return 百分位数，没有数据时返回 0
+     */
+    public long getValueAtPercentile(double percentile) {
+        final long total = getCount();
+        if (total == 0) {
+            return 0;
+        }
+        final long target = Math.max(1, (long) Math.ceil(percentile * total));
+        long cumulative = 0;
+        for (int i = 0; i < counts.length(); i++) {
+            cumulative += counts.get(i);
+            if (cumulative >= target) {
+                return i == counts.length() - 1 ? max.get() : Math.min(lowerBound(i + 1) - 1, max.get());
+            }
+        }
+        return max.get();
+    }
+
+    private int indexOf(long value) {
+        if (value < subBucketCount) {
+            return (int) value;
+        }
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        final int shift = exponent - subBucketBits;
+        final int subBucket = (int) ((value >>> shift) & (subBucketCount - 1));
+        return Math.min((shift + 1) * subBucketCount + subBucket, counts.length() - 1);
+    }
+
+    private long lowerBound(int index) {
+        if (index < subBucketCount) {
+            return index;
+        }
+        final int shift = index / subBucketCount - 1;
+        return ((long) (subBucketCount + index % subBucketCount)) << shift;
+    }
+}
@@ -0,0 +1,191 @@
+package com.olinonee.springboot.core.task.metrics;
+
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.TriggerContext;
+
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 单个定时任务的执行指标记录器
+ * <p>
+ * 记录执行耗时、计划触发时间与实际开始时间的偏差（drift）、错过触发（misfire）、重叠执行（overlap）和失败次数。
+ * 所有计数均为原子变量，直方图为无锁分桶，执行路径上不加锁也不分配对象。
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class TaskMetricsRecorder {
+
+    /**
+     * 每个任务的直方图：2 个子桶（相对误差 50%），最大约 2^32，兼顾精度和内存占用
+     */
+    private static final int SUB_BUCKET_BITS = 1;
+    private static final int MAX_VALUE_BITS = 32;
+
+    private final long taskId;
+    private final long misfireThresholdMillis;
+    private final TaskMetricsRegistry registry;
+
+    private final LatencyHistogram durationMicros = new LatencyHistogram(SUB_BUCKET_BITS, MAX_VALUE_BITS);
+    private final LatencyHistogram driftMillis = new LatencyHistogram(SUB_BUCKET_BITS, MAX_VALUE_BITS);
+    private final AtomicLong runs = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong misfires = new AtomicLong();
+    private final AtomicLong overlaps = new AtomicLong();
+    private final AtomicInteger running = new AtomicInteger();
+
+    private volatile long plannedTime;
+    private volatile long lastStartTime;
+    private volatile long lastDurationMicros;
+    private volatile String lastError;
+
+    TaskMetricsRecorder(long taskId, long misfireThresholdMillis, TaskMetricsRegistry registry) {
+        this.taskId = taskId;
+        this.misfireThresholdMillis = misfireThresholdMillis;
+        this.registry = registry;
+    }
+
+    /**
+     * 包装任务：记录执行耗时、偏差和失败，异常会继续抛给调度器的错误处理器
+     *
+     * @param task 任务
+     * @return 带指标记录的任务
+     */
+    public Runnable wrap(Runnable task) {
+        return () -> {
+            final long startTime = System.currentTimeMillis();
+            final long startNanos = System.nanoTime();
+            onStart(startTime);
+            boolean failed = true;
+            try {
+                task.run();
+                failed = false;
+            } catch (RuntimeException | Error e) {
+                lastError = e.toString();
+                throw e;
+            } finally {
+                onComplete(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos), failed);
+            }
+        };
+    }
+
+    /**
+     * 包装触发器：记录每一次计划触发时间，用于计算实际开始时间的偏差
+     *
+     * @param trigger 触发器
+     * @return 带指标记录的触发器
+     */
+    public Trigger wrap(Trigger trigger) {
+        return new MeteredTrigger(trigger);
+    }
+
+    private void onStart(long startTime) {
+        lastStartTime = startTime;
+        if (running.getAndIncrement() > 0) {
+            overlaps.incrementAndGet();
+            registry.overlaps.increment();
+        }
+        final long planned = plannedTime;
+        if (planned > 0) {
+            final long drift = startTime - planned;
+            driftMillis.record(drift);
+            registry.driftMillis.record(drift);
+            if (drift > misfireThresholdMillis) {
+                misfires.incrementAndGet();
+                registry.misfires.increment();
+            }
+        }
+    }
+
+    private void onComplete(long elapsedMicros, boolean failed) {
+        running.decrementAndGet();
+        lastDurationMicros = elapsedMicros;
+        durationMicros.record(elapsedMicros);
+        registry.durationMicros.record(elapsedMicros);
+        runs.incrementAndGet();
+        registry.runs.increment();
+        if (failed) {
+            failures.incrementAndGet();
+            registry.failures.increment();
+        }
+    }
+
+    /**
+     * 获取指标快照
+     *
+     * @return 指标快照
+     */
+    public TaskMetricsSnapshot snapshot() {
+        final TaskMetricsSnapshot snapshot = new TaskMetricsSnapshot();
+        snapshot.setTaskId(taskId);
+        snapshot.setRuns(runs.get());
+        snapshot.setFailures(failures.get());
+        snapshot.setMisfires(misfires.get());
+        snapshot.setOverlaps(overlaps.get());
+        snapshot.setRunning(running.get());
+        snapshot.setLastStartTime(lastStartTime == 0 ? null : new Date(lastStartTime));
+        snapshot.setNextPlannedTime(plannedTime == 0 ? null : new Date(plannedTime));
+        snapshot.setLastDurationMicros(lastDurationMicros);
+        snapshot.setLastError(lastError);
+        snapshot.setDurationP50Micros(durationMicros.getValueAtPercentile(0.5));
+        snapshot.setDurationP99Micros(durationMicros.getValueAtPercentile(0.99));
+        snapshot.setDurationMaxMicros(durationMicros.getMax());
+        snapshot.setDriftP50Millis(driftMillis.getValueAtPercentile(0.5));
+        snapshot.setDriftP99Millis(driftMillis.getValueAtPercentile(0.99));
+        snapshot.setDriftMaxMillis(driftMillis.getMax());
+        return snapshot;
+    }
+
+    public long getTaskId() {
+        return taskId;
+    }
+
+    public int getRunning() {
+        return running.get();
+    }
+
+    public long getRuns() {
+        return runs.get();
+    }
+
+    public long getFailures() {
+        return failures.get();
+    }
+
+    /**
+     * 最近一次开始执行的时间（毫秒），未执行过时为 0
+     */
+    public long getLastStartTime() {
+        return lastStartTime;
+    }
+
+    public long getLastDurationMicros() {
+        return lastDurationMicros;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    private final class MeteredTrigger implements Trigger {
+
+        private final Trigger delegate;
+
+        private MeteredTrigger(Trigger delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Date nextExecutionTime(TriggerContext triggerContext) {
+            final Date next = delegate.nextExecutionTime(triggerContext);
+            if (next != null) {
+                plannedTime = next.getTime();
+            }
+            return next;
+        }
+    }
+}
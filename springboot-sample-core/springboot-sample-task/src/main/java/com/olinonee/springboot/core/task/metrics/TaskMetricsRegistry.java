@@ -0,0 +1,162 @@
+package com.olinonee.springboot.core.task.metrics;
+
+import com.olinonee.springboot.core.task.config.TaskScheduleProperties;
+import org.springframework.jmx.export.annotation.ManagedAttribute;
+import org.springframework.jmx.export.annotation.ManagedOperation;
+import org.springframework.jmx.export.annotation.ManagedResource;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 定时任务执行指标注册表
+ * <p>
+ * 按任务 id 保存 {@link TaskMetricsRecorder}，同时维护所有任务的汇总指标；通过 {@code /task/metrics} 接口和 JMX 暴露。
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+@Component
+@ManagedResource(objectName = "com.olinonee.springboot.core.task:type=TaskMetrics", description = "定时任务执行指标")
+public class TaskMetricsRegistry {
+
+    private final Map<Long, TaskMetricsRecorder> recorders = new ConcurrentHashMap<>();
+    private final long misfireThresholdMillis;
+
+    // 汇总指标，由各个记录器在执行路径上同步累加
+    final LatencyHistogram durationMicros = new LatencyHistogram(4, 40);
+    final LatencyHistogram driftMillis = new LatencyHistogram(4, 40);
+    final LongAdder runs = new LongAdder();
+    final LongAdder failures = new LongAdder();
+    final LongAdder misfires = new LongAdder();
+    final LongAdder overlaps = new LongAdder();
+
+    public TaskMetricsRegistry(TaskScheduleProperties taskScheduleProperties) {
+        this.misfireThresholdMillis = taskScheduleProperties.getMetrics().getMisfireThreshold().toMillis();
+    }
+
+    /**
+     * 获取（不存在时创建）指定任务的指标记录器，任务重启后沿用原有的指标
+     *
+     * @param taskId 任务 id
+     * @return 指标记录器
+     */
+    public TaskMetricsRecorder recorder(long taskId) {
+        return recorders.computeIfAbsent(taskId, id -> new TaskMetricsRecorder(id, misfireThresholdMillis, this));
+    }
+
+    /**
+     * 获取指定任务的指标记录器，不存在时不创建
+     *
+     * @param taskId 任务 id
+     * @return 指标记录器，不存在时返回 null
+     */
+    public TaskMetricsRecorder find(long taskId) {
+        return recorders.get(taskId);
+    }
+
+    /**
+     * 移除指定任务的指标（任务停止时调用），汇总指标保持不变
+     *
+     * @param taskId 任务 id
+     */
+    public void remove(long taskId) {
+        recorders.remove(taskId);
+    }
+
+    /**
+     * 获取指定任务的指标快照
+     *
+     * @param taskId 任务 id
+     * @return 指标快照，不存在时返回 null
+     */
+    public TaskMetricsSnapshot snapshot(long taskId) {
+        final TaskMetricsRecorder recorder = recorders.get(taskId);
+        return recorder == null ? null : recorder.snapshot();
+    }
+
+    /**
+     * 获取所有任务的指标快照，按照任务 id 排序
+     *
+     * @return 指标快照列表
+     */
+    public List<TaskMetricsSnapshot> snapshots() {
+        final List<TaskMetricsSnapshot> snapshots = new ArrayList<>(recorders.size());
+        recorders.values().forEach(recorder -> snapshots.add(recorder.snapshot()));
+        snapshots.sort(Comparator.comparing(TaskMetricsSnapshot::getTaskId));
+        return snapshots;
+    }
+
+    /**
+     * 获取所有任务（包括已停止任务）的汇总指标
+     *
+     * @return 汇总指标快照
+     */
+    public TaskMetricsSnapshot summary() {
+        final TaskMetricsSnapshot summary = new TaskMetricsSnapshot();
+        summary.setRuns(runs.sum());
+        summary.setFailures(failures.sum());
+        summary.setMisfires(misfires.sum());
+        summary.setOverlaps(overlaps.sum());
+        summary.setRunning(recorders.values().stream().mapToInt(TaskMetricsRecorder::getRunning).sum());
+        summary.setDurationP50Micros(durationMicros.getValueAtPercentile(0.5));
+        summary.setDurationP99Micros(durationMicros.getValueAtPercentile(0.99));
+        summary.setDurationMaxMicros(durationMicros.getMax());
+        summary.setDriftP50Millis(driftMillis.getValueAtPercentile(0.5));
+        summary.setDriftP99Millis(driftMillis.getValueAtPercentile(0.99));
+        summary.setDriftMaxMillis(driftMillis.getMax());
+        return summary;
+    }
+
+    @ManagedAttribute(description = "当前记录指标的任务数")
+    public int getTaskCount() {
+        return recorders.size();
+    }
+
+    @ManagedAttribute(description = "执行总次数")
+    public long getRuns() {
+        return runs.sum();
+    }
+
+    @ManagedAttribute(description = "执行失败总次数")
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    @ManagedAttribute(description = "错过触发总次数")
+    public long getMisfires() {
+        return misfires.sum();
+    }
+
+    @ManagedAttribute(description = "重叠执行总次数")
+    public long getOverlaps() {
+        return overlaps.sum();
+    }
+
+    @ManagedAttribute(description = "执行耗时 P99（微秒）")
+    public long getDurationP99Micros() {
+        return durationMicros.getValueAtPercentile(0.99);
+    }
+
+    @ManagedAttribute(description = "触发偏差 P99（毫秒）")
+    public long getDriftP99Millis() {
+        return driftMillis.getValueAtPercentile(0.99);
+    }
+
+    @ManagedOperation(description = "获取指定任务的指标")
+    public String taskMetrics(long taskId) {
+        final TaskMetricsSnapshot snapshot = snapshot(taskId);
+        if (snapshot == null) {
+            return "不存在该 id 的定时任务指标";
+        }
+        return "runs=" + snapshot.getRuns() + ", failures=" + snapshot.getFailures() + ", misfires=" + snapshot.getMisfires()
+                + ", overlaps=" + snapshot.getOverlaps() + ", durationP99Micros=" + snapshot.getDurationP99Micros()
+                + ", driftP99Millis=" + snapshot.getDriftP99Millis() + ", lastError=" + snapshot.getLastError();
+    }
+}
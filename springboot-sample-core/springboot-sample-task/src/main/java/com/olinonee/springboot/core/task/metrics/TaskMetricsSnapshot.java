@@ -0,0 +1,225 @@
+package com.olinonee.springboot.core.task.metrics;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
+import java.util.Date;
+
+/**
+ * 定时任务执行指标快照
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class TaskMetricsSnapshot {
+
+    /**
+     * 任务 id（汇总指标时为空）
+     */
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long taskId;
+
+    /**
+     * 执行次数
+     */
+    private long runs;
+
+    /**
+     * 失败次数
+     */
+    private long failures;
+
+    /**
+     * 错过触发次数（实际开始时间晚于计划时间超过阈值）
+     */
+    private long misfires;
+
+    /**
+     * 重叠执行次数（上一次执行尚未结束时又开始执行）
+     */
+    private long overlaps;
+
+    /**
+     * 正在执行的数量
+     */
+    private int running;
+
+    /**
+     * 最近一次开始执行的时间
+     */
+    private Date lastStartTime;
+
+    /**
+     * 最近一次计算出的计划触发时间
+     */
+    private Date nextPlannedTime;
+
+    /**
+     * 最近一次执行耗时（微秒）
+     */
+    private long lastDurationMicros;
+
+    /**
+     * 最近一次执行失败的异常信息
+     */
+    private String lastError;
+
+    /**
+     * 执行耗时 P50（微秒）
+     */
+    private long durationP50Micros;
+
+    /**
+     * 执行耗时 P99（微秒）
+     */
+    private long durationP99Micros;
+
+    /**
+     * 执行耗时最大值（微秒）
+     */
+    private long durationMaxMicros;
+
+    /**
+     * 触发偏差 P50（毫秒）
+     */
+    private long driftP50Millis;
+
+    /**
+     * 触发偏差 P99（毫秒）
+     */
+    private long driftP99Millis;
+
+    /**
+     * 触发偏差最大值（毫秒）
+     */
+    private long driftMaxMillis;
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public long getRuns() {
+        return runs;
+    }
+
+    public void setRuns(long runs) {
+        this.runs = runs;
+    }
+
+    public long getFailures() {
+        return failures;
+    }
+
+    public void setFailures(long failures) {
+        this.failures = failures;
+    }
+
+    public long getMisfires() {
+        return misfires;
+    }
+
+    public void setMisfires(long misfires) {
+        this.misfires = misfires;
+    }
+
+    public long getOverlaps() {
+        return overlaps;
+    }
+
+    public void setOverlaps(long overlaps) {
+        this.overlaps = overlaps;
+    }
+
+    public int getRunning() {
+        return running;
+    }
+
+    public void setRunning(int running) {
+        this.running = running;
+    }
+
+    public Date getLastStartTime() {
+        return lastStartTime;
+    }
+
+    public void setLastStartTime(Date lastStartTime) {
+        this.lastStartTime = lastStartTime;
+    }
+
+    public Date getNextPlannedTime() {
+        return nextPlannedTime;
+    }
+
+    public void setNextPlannedTime(Date nextPlannedTime) {
+        this.nextPlannedTime = nextPlannedTime;
+    }
+
+    public long getLastDurationMicros() {
+        return lastDurationMicros;
+    }
+
+    public void setLastDurationMicros(long lastDurationMicros) {
+        this.lastDurationMicros = lastDurationMicros;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public long getDurationP50Micros() {
+        return durationP50Micros;
+    }
+
+    public void setDurationP50Micros(long durationP50Micros) {
+        this.durationP50Micros = durationP50Micros;
+    }
+
+    public long getDurationP99Micros() {
+        return durationP99Micros;
+    }
+
+    public void setDurationP99Micros(long durationP99Micros) {
+        this.durationP99Micros = durationP99Micros;
+    }
+
+    public long getDurationMaxMicros() {
+        return durationMaxMicros;
+    }
+
+    public void setDurationMaxMicros(long durationMaxMicros) {
+        this.durationMaxMicros = durationMaxMicros;
+    }
+
+    public long getDriftP50Millis() {
+        return driftP50Millis;
+    }
+
+    public void setDriftP50Millis(long driftP50Millis) {
+        this.driftP50Millis = driftP50Millis;
+    }
+
+    public long getDriftP99Millis() {
+        return driftP99Millis;
+    }
+
+    public void setDriftP99Millis(long driftP99Millis) {
+        this.driftP99Millis = driftP99Millis;
+    }
+
+    public long getDriftMaxMillis() {
+        return driftMaxMillis;
+    }
+
+    public void setDriftMaxMillis(long driftMaxMillis) {
+        this.driftMaxMillis = driftMaxMillis;
+    }
+}
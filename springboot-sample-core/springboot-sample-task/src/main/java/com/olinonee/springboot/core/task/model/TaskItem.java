@@ -0,0 +1,49 @@
+package com.olinonee.springboot.core.task.model;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
+/**
+ * 批量操作中的单个定时任务条目
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class TaskItem {
+
+    /**
+     * 任务 id（批量启动时为空表示自动生成）
+     */
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long taskId;
+
+    /**
+     * cron 表达式（为空时启动使用默认表达式，重启沿用上一次的表达式）
+     */
+    private String cronExpression;
+
+    public TaskItem() {
+    }
+
+    public TaskItem(Long taskId, String cronExpression) {
+        this.taskId = taskId;
+        this.cronExpression = cronExpression;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public String getCronExpression() {
+        return cronExpression;
+    }
+
+    public void setCronExpression(String cronExpression) {
+        this.cronExpression = cronExpression;
+    }
+}
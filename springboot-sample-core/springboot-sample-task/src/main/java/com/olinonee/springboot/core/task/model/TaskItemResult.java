@@ -0,0 +1,47 @@
+package com.olinonee.springboot.core.task.model;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
+/**
+ * 批量操作中单个定时任务条目的执行结果
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class TaskItemResult {
+
+    @JsonSerialize(using = ToStringSerializer.class)
+    private final Long taskId;
+
+    private final boolean success;
+
+    private final String message;
+
+    private TaskItemResult(Long taskId, boolean success, String message) {
+        this.taskId = taskId;
+        this.success = success;
+        this.message = message;
+    }
+
+    public static TaskItemResult success(Long taskId, String message) {
+        return new TaskItemResult(taskId, true, message);
+    }
+
+    public static TaskItemResult failure(Long taskId, String message) {
+        return new TaskItemResult(taskId, false, message);
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,37 @@
+package com.olinonee.springboot.core.task.model;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
+import java.util.List;
+
+/**
+ * 定时任务列表的一页（按照任务 id 升序，基于游标分页）
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class TaskPage {
+
+    private final List<TaskView> items;
+
+    @JsonSerialize(using = ToStringSerializer.class)
+    private final Long nextCursor;
+
+    public TaskPage(List<TaskView> items, Long nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<TaskView> getItems() {
+        return items;
+    }
+
+    /**
+     * 下一页的游标（本页最后一个任务 id），没有下一页时为空
+     */
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+}
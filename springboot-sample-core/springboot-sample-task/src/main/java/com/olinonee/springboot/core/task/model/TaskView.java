@@ -0,0 +1,127 @@
+package com.olinonee.springboot.core.task.model;
+
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.fasterxml.jackson.databind.ser.std.ToStringSerializer;
+
+import java.util.Date;
+
+/**
+ * 定时任务列表中的单个任务
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class TaskView {
+
+    /**
+     * 任务状态
+     */
+    public enum State {
+        /**
+         * 当前节点正在调度
+         */
+        SCHEDULED,
+        /**
+         * 已登记但由其它节点调度（启用多节点分片时）
+         */
+        DORMANT
+    }
+
+    /**
+     * 任务 id（雪花 id 超过 2^53，按字符串输出，避免 JavaScript 客户端丢失精度）
+     */
+    @JsonSerialize(using = ToStringSerializer.class)
+    private Long taskId;
+
+    private String cronExpression;
+
+    private State state;
+
+    private Date nextFireTime;
+
+    private long runs;
+
+    private long failures;
+
+    private Date lastStartTime;
+
+    private long lastDurationMicros;
+
+    private String lastError;
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public void setTaskId(Long taskId) {
+        this.taskId = taskId;
+    }
+
+    public String getCronExpression() {
+        return cronExpression;
+    }
+
+    public void setCronExpression(String cronExpression) {
+        this.cronExpression = cronExpression;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public void setState(State state) {
+        this.state = state;
+    }
+
+    /**
+     * 下一次触发时间，未在当前节点调度时为空
+     */
+    public Date getNextFireTime() {
+        return nextFireTime;
+    }
+
+    public void setNextFireTime(Date nextFireTime) {
+        this.nextFireTime = nextFireTime;
+    }
+
+    public long getRuns() {
+        return runs;
+    }
+
+    public void setRuns(long runs) {
+        this.runs = runs;
+    }
+
+    public long getFailures() {
+        return failures;
+    }
+
+    public void setFailures(long failures) {
+        this.failures = failures;
+    }
+
+    public Date getLastStartTime() {
+        return lastStartTime;
+    }
+
+    public void setLastStartTime(Date lastStartTime) {
+        this.lastStartTime = lastStartTime;
+    }
+
+    public long getLastDurationMicros() {
+        return lastDurationMicros;
+    }
+
+    public void setLastDurationMicros(long lastDurationMicros) {
+        this.lastDurationMicros = lastDurationMicros;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+}
@@ -0,0 +1,177 @@
+package com.olinonee.springboot.core.task.registry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+
+/**
+ * 基于文件锁的共享任务注册表，适用于同一台机器（或共享目录）上的多个节点
+ * <p>
+ * 文件中保存的是存活任务的完整列表而不是变更日志：第一行 {@code V\t<version>} 为版本号，之后每行 {@code <taskId>\t<cron>} 为一个任务。
+ * 每次写入在锁文件的文件锁内完成“读取 - 修改 - 写入临时文件 - 原子替换”，同时版本号加一；读取不需要加锁，读到的总是某个完整的版本。
+ * 同一进程内文件锁不能重叠获取，因此另外按照文件路径加 JVM 内的监视器锁。
+ * <p>
+ * 每次写入都会重写整个文件，适用于任务数在数万以内的场景；任务更多时可以基于数据库等实现 {@link SharedTaskRegistry}。
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class FileLockTaskRegistry implements SharedTaskRegistry {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileLockTaskRegistry.class);
+
+    private static final String TASK_FILE_NAME = "task-cluster.tasks";
+    private static final String UPDATING_FILE_NAME = "task-cluster.tasks.updating";
+    private static final String LOCK_FILE_NAME = "task-cluster.tasks.lock";
+    private static final char VERSION = 'V';
+
+    private static final ConcurrentMap<Path, Object> JVM_LOCKS = new ConcurrentHashMap<>();
+
+    private final Path taskFile;
+    private final Path updatingFile;
+    private final Path lockFile;
+
+    public FileLockTaskRegistry(Path directory) {
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new UncheckedIOException("创建任务注册表目录 [" + directory + "] 失败", e);
+        }
+        final Path normalized = directory.toAbsolutePath().normalize();
+        this.taskFile = normalized.resolve(TASK_FILE_NAME);
+        this.updatingFile = normalized.resolve(UPDATING_FILE_NAME);
+        this.lockFile = normalized.resolve(LOCK_FILE_NAME);
+    }
+
+    @Override
+    public void record(TaskRecord record) {
+        this.recordAll(Collections.singletonList(record));
+    }
+
+    @Override
+    public void recordAll(Collection<TaskRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        try {
+            update(tasks -> records.forEach(record -> {
+                if (record.getType() == TaskRecord.Type.START) {
+                    tasks.put(record.getTaskId(), record.getCronExpression().trim().replace('\n', ' '));
+                } else {
+                    tasks.remove(record.getTaskId());
+                }
+            }));
+        } catch (UncheckedIOException e) {
+            logger.error("[FileLockTaskRegistry#recordAll] - {} 条定时任务记录写入共享注册表失败，异常信息为：", records.size(), e);
+        }
+    }
+
+    @Override
+    public Map<Long, String> load() {
+        try {
+            return Collections.unmodifiableMap(read().tasks);
+        } catch (IOException e) {
+            throw new UncheckedIOException("读取共享任务注册表 [" + taskFile + "] 失败", e);
+        }
+    }
+
+    @Override
+    public long version() {
+        try (BufferedReader reader = Files.newBufferedReader(taskFile, StandardCharsets.UTF_8)) {
+            return parseVersion(reader.readLine());
+        } catch (NoSuchFileException e) {
+            return 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException("读取共享任务注册表 [" + taskFile + "] 失败", e);
+        }
+    }
+
+    private void update(Consumer<Map<Long, String>> action) {
+        synchronized (JVM_LOCKS.computeIfAbsent(lockFile, key -> new Object())) {
+            try (FileChannel lockChannel = FileChannel.open(lockFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                 FileLock ignored = lockChannel.lock()) {
+                final Snapshot snapshot = read();
+                action.accept(snapshot.tasks);
+                write(snapshot.version + 1, snapshot.tasks);
+            } catch (IOException e) {
+                throw new UncheckedIOException("写入共享任务注册表 [" + taskFile + "] 失败", e);
+            }
+        }
+    }
+
+    private Snapshot read() throws IOException {
+        final List<String> lines;
+        try {
+            lines = Files.readAllLines(taskFile, StandardCharsets.UTF_8);
+        } catch (NoSuchFileException e) {
+            return new Snapshot(0);
+        }
+        final Snapshot snapshot = new Snapshot(lines.isEmpty() ? 0 : parseVersion(lines.get(0)));
+        for (int i = 1; i < lines.size(); i++) {
+            final String[] parts = lines.get(i).split("\t", 2);
+            try {
+                if (parts.length == 2) {
+                    snapshot.tasks.put(Long.parseLong(parts[0]), parts[1]);
+                    continue;
+                }
+            } catch (NumberFormatException e) {
+                // 按照无法解析的行处理
+            }
+            logger.warn("[FileLockTaskRegistry#read] - 忽略无法解析的任务记录 [{}]", lines.get(i));
+        }
+        return snapshot;
+    }
+
+    private void write(long version, Map<Long, String> tasks) throws IOException {
+        final StringBuilder builder = new StringBuilder(tasks.size() * 32 + 24);
+        builder.append(VERSION).append('\t').append(version).append('\n');
+        tasks.forEach((taskId, cronExpression) -> builder.append(taskId).append('\t').append(cronExpression).append('\n'));
+        final ByteBuffer buffer = ByteBuffer.wrap(builder.toString().getBytes(StandardCharsets.UTF_8));
+        try (FileChannel channel = FileChannel.open(updatingFile,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        // 原子替换：读取方看到的要么是原文件，要么是完整的新文件
+        Files.move(updatingFile, taskFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static long parseVersion(String header) {
+        if (header == null || header.length() < 2 || header.charAt(0) != VERSION) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(header.substring(2).trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static final class Snapshot {
+        private final long version;
+        private final Map<Long, String> tasks = new LinkedHashMap<>();
+
+        private Snapshot(long version) {
+            this.version = version;
+        }
+    }
+}
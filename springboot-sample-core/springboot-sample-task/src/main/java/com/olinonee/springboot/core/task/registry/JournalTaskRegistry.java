@@ -0,0 +1,322 @@
+package com.olinonee.springboot.core.task.registry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * 基于本地追加日志（append-only journal）的任务注册表
+ * <p>
+ * 每条记录占一行：{@code S\t<taskId>\t<cron>} 表示启动，{@code X\t<taskId>} 表示停止。
+ * <ul>
+ *     <li>组提交：调用方把记录放入队列后等待提交结果，写线程一次取出一批记录，合并为一次写入和一次 fsync；</li>
+ *     <li>压缩：日志行数超过阈值且超过存活任务数的 2 倍时，把存活任务重写到临时文件后原子替换原日志；</li>
+ *     <li>恢复：启动时顺序回放日志得到存活任务，末尾不完整的一行（写入过程中宕机）会被截断丢弃。</li>
+ * </ul>
+ * 只依赖本地磁盘，不需要任何外部存储。日志在 Bean 初始化（{@link #afterPropertiesSet()}）时打开并回放一次。
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class JournalTaskRegistry implements TaskRegistry, InitializingBean, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(JournalTaskRegistry.class);
+
+    private static final String JOURNAL_FILE_NAME = "task-registry.journal";
+    private static final String COMPACTING_FILE_NAME = "task-registry.journal.compacting";
+    private static final char START = 'S';
+    private static final char STOP = 'X';
+    private static final long COMMIT_TIMEOUT_SECONDS = 10;
+
+    private final Path directory;
+    private final Path journalFile;
+    private final int maxBatchSize;
+    private final int compactThreshold;
+    private final boolean fsync;
+
+    private final BlockingQueue<PendingRecord> pendingRecords = new LinkedBlockingQueue<>();
+
+    // 以下字段在 open 之后只由写线程访问
+    private final Map<Long, String> liveTasks = new LinkedHashMap<>();
+    private long journalRecordCount;
+    private FileChannel channel;
+
+    private Map<Long, String> recoveredTasks;
+    private volatile boolean opened;
+    private Thread writerThread;
+    private volatile boolean running;
+
+    public JournalTaskRegistry(Path directory, int maxBatchSize, int compactThreshold, boolean fsync) {
+        this.directory = directory;
+        this.journalFile = directory.resolve(JOURNAL_FILE_NAME);
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+        this.compactThreshold = Math.max(1, compactThreshold);
+        this.fsync = fsync;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        open();
+    }
+
+    @Override
+    public Map<Long, String> load() {
+        checkOpened();
+        return Collections.unmodifiableMap(recoveredTasks);
+    }
+
+    @Override
+    public void record(TaskRecord record) {
+        checkOpened();
+        final PendingRecord pendingRecord = new PendingRecord(record);
+        pendingRecords.add(pendingRecord);
+        try {
+            // 组提交：与同一批次的其它记录共享一次写入和 fsync
+            pendingRecord.committed.get(COMMIT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            logger.error("[JournalTaskRegistry#record] - id 为 [{}] 的定时任务记录写入日志失败，异常信息为：", record.getTaskId(), e);
+        }
+    }
+
+    @Override
+    public void recordAll(Collection<TaskRecord> records) {
+        if (records.isEmpty()) {
+            return;
+        }
+        checkOpened();
+        final List<PendingRecord> batch = new ArrayList<>(records.size());
+        records.forEach(record -> batch.add(new PendingRecord(record)));
+        // 整批一次性入队，写线程按照 maxBatchSize 合并写入
+        pendingRecords.addAll(batch);
+        try {
+            CompletableFuture.allOf(batch.stream().map(pendingRecord -> pendingRecord.committed).toArray(CompletableFuture[]::new))
+                    .get(COMMIT_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException | TimeoutException e) {
+            logger.error("[JournalTaskRegistry#recordAll] - {} 条定时任务记录写入日志失败，异常信息为：", records.size(), e);
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        running = false;
+        if (writerThread != null) {
+            writerThread.join(TimeUnit.SECONDS.toMillis(COMMIT_TIMEOUT_SECONDS));
+        }
+        if (channel != null) {
+            channel.close();
+        }
+    }
+
+    private void checkOpened() {
+        if (!opened) {
+            throw new IllegalStateException("任务日志 [" + journalFile + "] 尚未打开");
+        }
+    }
+
+    /**
+     * 回放日志并启动写线程，只执行一次
+     */
+    private synchronized void open() {
+        if (opened) {
+            return;
+        }
+        try {
+            Files.createDirectories(directory);
+            // 上一次压缩未完成时遗留的临时文件直接丢弃，原日志仍然完整
+            Files.deleteIfExists(directory.resolve(COMPACTING_FILE_NAME));
+            long validLength = 0;
+            if (Files.exists(journalFile)) {
+                validLength = replay(Files.readAllBytes(journalFile));
+            }
+            channel = FileChannel.open(journalFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+            // 截断末尾不完整的记录
+            channel.truncate(validLength);
+            channel.position(validLength);
+        } catch (IOException e) {
+            throw new UncheckedIOException("打开任务日志 [" + journalFile + "] 失败", e);
+        }
+        recoveredTasks = new LinkedHashMap<>(liveTasks);
+        running = true;
+        writerThread = new Thread(this::runWriter, "taskJournal-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        opened = true;
+    }
+
+    private long replay(byte[] bytes) {
+        int lineStart = 0;
+        for (int i = 0; i < bytes.length; i++) {
+            if (bytes[i] != '\n') {
+                continue;
+            }
+            final String line = new String(bytes, lineStart, i - lineStart, StandardCharsets.UTF_8);
+            if (!apply(line)) {
+                logger.warn("[JournalTaskRegistry#replay] - 忽略无法解析的日志记录 [{}]", line);
+            }
+            journalRecordCount++;
+            lineStart = i + 1;
+        }
+        return lineStart;
+    }
+
+    private boolean apply(String line) {
+        final String[] parts = line.split("\t", 3);
+        try {
+            if (parts.length == 3 && parts[0].charAt(0) == START) {
+                liveTasks.put(Long.parseLong(parts[1]), parts[2]);
+                return true;
+            }
+            if (parts.length == 2 && parts[0].charAt(0) == STOP) {
+                liveTasks.remove(Long.parseLong(parts[1]));
+                return true;
+            }
+        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+            return false;
+        }
+        return false;
+    }
+
+    private void runWriter() {
+        final List<PendingRecord> batch = new ArrayList<>(maxBatchSize);
+        while (running || !pendingRecords.isEmpty()) {
+            try {
+                final PendingRecord first = pendingRecords.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                pendingRecords.drainTo(batch, maxBatchSize - 1);
+                writeBatch(batch);
+                batch.forEach(pendingRecord -> pendingRecord.committed.complete(null));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (IOException | RuntimeException e) {
+                logger.error("[JournalTaskRegistry#runWriter] - 写入任务日志发生异常，异常信息为：", e);
+                batch.forEach(pendingRecord -> pendingRecord.committed.completeExceptionally(e));
+            } finally {
+                batch.clear();
+            }
+            try {
+                compactIfNecessary();
+            } catch (IOException e) {
+                logger.error("[JournalTaskRegistry#runWriter] - 压缩任务日志发生异常，异常信息为：", e);
+            }
+        }
+    }
+
+    private void writeBatch(List<PendingRecord> batch) throws IOException {
+        final StringBuilder builder = new StringBuilder(batch.size() * 32);
+        for (PendingRecord pendingRecord : batch) {
+            appendLine(builder, pendingRecord.record);
+        }
+        if (channel == null) {
+            channel = openJournal();
+        }
+        write(channel, builder);
+        for (PendingRecord pendingRecord : batch) {
+            final TaskRecord record = pendingRecord.record;
+            if (record.getType() == TaskRecord.Type.START) {
+                liveTasks.put(record.getTaskId(), record.getCronExpression());
+            } else {
+                liveTasks.remove(record.getTaskId());
+            }
+        }
+        journalRecordCount += batch.size();
+    }
+
+    private void compactIfNecessary() throws IOException {
+        if (journalRecordCount < compactThreshold || journalRecordCount <= 2L * liveTasks.size()) {
+            return;
+        }
+        final long start = System.nanoTime();
+        final long before = journalRecordCount;
+        final Path compactingFile = directory.resolve(COMPACTING_FILE_NAME);
+        final StringBuilder builder = new StringBuilder(liveTasks.size() * 32);
+        liveTasks.forEach((taskId, cronExpression) -> appendLine(builder, TaskRecord.start(taskId, cronExpression)));
+        try (FileChannel compactingChannel = FileChannel.open(compactingFile,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            write(compactingChannel, builder);
+        }
+        // 替换成功之前保留原日志的通道：替换失败时原日志不变，之后的记录照常追加到原日志
+        try {
+            Files.move(compactingFile, journalFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(compactingFile);
+            throw e;
+        }
+        journalRecordCount = liveTasks.size();
+        if (fsync) {
+            // 重命名属于目录项的修改，需要对目录执行 fsync 才能保证宕机后看到的是新日志
+            forceDirectory();
+        }
+        // 原通道指向的文件已被替换，之后的记录必须写入新日志；新日志打开失败时由下一次写入重试
+        final FileChannel previousChannel = channel;
+        channel = null;
+        previousChannel.close();
+        channel = openJournal();
+        logger.info("[JournalTaskRegistry#compactIfNecessary] - 任务日志压缩完成，记录数 {} -> {}，耗时 {} ms",
+                before, journalRecordCount, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    }
+
+    private FileChannel openJournal() throws IOException {
+        final FileChannel journalChannel = FileChannel.open(journalFile, StandardOpenOption.WRITE);
+        journalChannel.position(journalChannel.size());
+        return journalChannel;
+    }
+
+    private void forceDirectory() {
+        try (FileChannel directoryChannel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            directoryChannel.force(true);
+        } catch (IOException e) {
+            // 部分平台（例如 Windows）不支持以只读方式打开目录
+            logger.debug("[JournalTaskRegistry#forceDirectory] - 目录 [{}] 不支持 fsync，异常信息为：{}", directory, e.getMessage());
+        }
+    }
+
+    private void write(FileChannel target, StringBuilder builder) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.wrap(builder.toString().getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            target.write(buffer);
+        }
+        if (fsync) {
+            target.force(false);
+        }
+    }
+
+    private static void appendLine(StringBuilder builder, TaskRecord record) {
+        if (record.getType() == TaskRecord.Type.START) {
+            builder.append(START).append('\t').append(record.getTaskId()).append('\t').append(record.getCronExpression().trim().replace('\n', ' '));
+        } else {
+            builder.append(STOP).append('\t').append(record.getTaskId());
+        }
+        builder.append('\n');
+    }
+
+    private static final class PendingRecord {
+        private final TaskRecord record;
+        private final CompletableFuture<Void> committed = new CompletableFuture<>();
+
+        private PendingRecord(TaskRecord record) {
+            this.record = record;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.olinonee.springboot.core.task.registry;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * 不做持久化的注册表（未启用日志时使用），任务只保存在内存中
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class NoOpTaskRegistry implements TaskRegistry {
+
+    @Override
+    public void record(TaskRecord record) {
+        // 不做任何处理
+    }
+
+    @Override
+    public void recordAll(Collection<TaskRecord> records) {
+        // 不做任何处理
+    }
+
+    @Override
+    public Map<Long, String> load() {
+        return Collections.emptyMap();
+    }
+}
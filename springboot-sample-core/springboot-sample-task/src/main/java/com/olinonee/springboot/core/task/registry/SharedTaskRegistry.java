@@ -0,0 +1,20 @@
+package com.olinonee.springboot.core.task.registry;
+
+/**
+ * 多个节点共享的任务注册表：任意节点登记、重启或停止的任务对所有节点可见
+ * <p>
+ * {@link #load()} 返回注册表当前的全部存活任务（而不只是启动时的快照），各节点据此同步其它节点的变更。
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public interface SharedTaskRegistry extends TaskRegistry {
+
+    /**
+     * 注册表当前的版本号，任意节点写入变更后递增；版本号不变时不需要重新加载
+     *
+     * @return 版本号
+     */
+    long version();
+}
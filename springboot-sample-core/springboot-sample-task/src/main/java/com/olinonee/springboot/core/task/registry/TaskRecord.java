@@ -0,0 +1,58 @@
+package com.olinonee.springboot.core.task.registry;
+
+/**
+ * 定时任务变更记录（日志中的一条记录）
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public final class TaskRecord {
+
+    private final Type type;
+    private final long taskId;
+    private final String cronExpression;
+
+    private TaskRecord(Type type, long taskId, String cronExpression) {
+        this.type = type;
+        this.taskId = taskId;
+        this.cronExpression = cronExpression;
+    }
+
+    /**
+     * 启动（或按照新的 cron 表达式重启）记录
+     *
+     * @param taskId         任务 id
+     * @param cronExpression cron 表达式
+     * @return TaskRecord
+     */
+    public static TaskRecord start(long taskId, String cronExpression) {
+        return new TaskRecord(Type.START, taskId, cronExpression);
+    }
+
+    /**
+     * 停止记录
+     *
+     * @param taskId 任务 id
+     * @return TaskRecord
+     */
+    public static TaskRecord stop(long taskId) {
+        return new TaskRecord(Type.STOP, taskId, null);
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public long getTaskId() {
+        return taskId;
+    }
+
+    public String getCronExpression() {
+        return cronExpression;
+    }
+
+    public enum Type {
+        START, STOP
+    }
+}
@@ -0,0 +1,37 @@
+package com.olinonee.springboot.core.task.registry;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 定时任务注册表：记录任务的启动与停止，以便应用重启后恢复
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public interface TaskRegistry {
+
+    /**
+     * 记录一次任务变更
+     *
+     * @param record 变更记录
+     */
+    void record(TaskRecord record);
+
+    /**
+     * 记录一批任务变更，实现类可以把整批合并为一次写入
+     *
+     * @param records 变更记录
+     */
+    default void recordAll(Collection<TaskRecord> records) {
+        records.forEach(this::record);
+    }
+
+    /**
+     * 加载注册表中仍然存活的任务
+     *
+     * @return 任务 id -> cron 表达式（按照启动顺序）
+     */
+    Map<Long, String> load();
+}
@@ -0,0 +1,93 @@
+package com.olinonee.springboot.core.task.scheduler;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.support.TaskUtils;
+import org.springframework.util.ErrorHandler;
+
+import java.time.Clock;
+import java.util.Date;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * 把“计时”和“执行”分离的调度器：底层调度器只负责按时触发，到期后把任务交给工作执行器（例如虚拟线程执行器）运行
+ * <p>
+ * 调度线程不会被阻塞型任务占住，但底层调度器看到的执行在交付后即完成，因此长时间运行的周期任务可能重叠执行
+ * （重叠次数会记录在任务执行指标中）。
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class DispatchingTaskScheduler implements TaskScheduler, DisposableBean {
+
+    private final TaskScheduler delegate;
+    private final Executor workerExecutor;
+    private final ErrorHandler errorHandler;
+
+    public DispatchingTaskScheduler(TaskScheduler delegate, Executor workerExecutor, ErrorHandler errorHandler) {
+        this.delegate = delegate;
+        this.workerExecutor = workerExecutor;
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * 负责计时的原调度器
+     */
+    public TaskScheduler getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public Clock getClock() {
+        return delegate.getClock();
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable task, Trigger trigger) {
+        return delegate.schedule(dispatch(task, true), trigger);
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable task, Date startTime) {
+        return delegate.schedule(dispatch(task, false), startTime);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Date startTime, long period) {
+        return delegate.scheduleAtFixedRate(dispatch(task, true), startTime, period);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, long period) {
+        return delegate.scheduleAtFixedRate(dispatch(task, true), period);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Date startTime, long delay) {
+        return delegate.scheduleWithFixedDelay(dispatch(task, true), startTime, delay);
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, long delay) {
+        return delegate.scheduleWithFixedDelay(dispatch(task, true), delay);
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (workerExecutor instanceof DisposableBean) {
+            ((DisposableBean) workerExecutor).destroy();
+        }
+        if (delegate instanceof DisposableBean) {
+            ((DisposableBean) delegate).destroy();
+        }
+    }
+
+    private Runnable dispatch(Runnable task, boolean repeating) {
+        // 异常在工作线程中由错误处理器处理，不会传回底层调度器
+        final Runnable decorated = TaskUtils.decorateTaskWithErrorHandler(task, errorHandler, repeating);
+        return () -> workerExecutor.execute(decorated);
+    }
+}
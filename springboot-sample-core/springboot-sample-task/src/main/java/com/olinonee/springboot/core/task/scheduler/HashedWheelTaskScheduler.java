@@ -0,0 +1,533 @@
+package com.olinonee.springboot.core.task.scheduler;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.support.PeriodicTrigger;
+import org.springframework.scheduling.support.SimpleTriggerContext;
+import org.springframework.scheduling.support.TaskUtils;
+import org.springframework.util.Assert;
+import org.springframework.util.ErrorHandler;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Queue;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 基于哈希时间轮的任务调度器
+ * <p>
+ * 与 {@code ThreadPoolTaskScheduler} 的延迟队列（每次调度、取消均为 O(log n) 且需要加锁）不同，时间轮的调度与取消都是 O(1)：
+ * <ul>
+ *     <li>调度：新任务进入无锁队列，由时间轮线程在下一个 tick 挂到对应槽位的双向链表上；</li>
+ *     <li>取消：仅做一次 CAS 并进入取消队列，由时间轮线程从槽位链表中摘除；</li>
+ *     <li>执行：到期任务交给独立的工作线程池执行，时间轮线程本身不执行任何业务代码。</li>
+ * </ul>
+ * 超过一圈的延迟通过剩余圈数（remainingRounds）表示，精度为一个 tick。
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class HashedWheelTaskScheduler implements TaskScheduler, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(HashedWheelTaskScheduler.class);
+
+    private static final int STATE_INIT = 0;
+    private static final int STATE_STARTED = 1;
+    private static final int STATE_SHUTDOWN = 2;
+
+    /**
+     * 每个 tick 最多从待调度队列转移的任务数，避免时间轮线程被大批量调度长时间占用
+     */
+    private static final int MAX_TRANSFER_PER_TICK = 100_000;
+
+    private long tickDurationNanos = TimeUnit.MILLISECONDS.toNanos(10);
+    private int ticksPerWheel = 512;
+    private int workerPoolSize = 5;
+    private String threadNamePrefix = "wheelTask-";
+    private ErrorHandler errorHandler;
+    private Executor workerExecutor;
+    private Clock clock = Clock.systemDefaultZone();
+
+    private final Queue<WheelTimeout> pendingTimeouts = new ConcurrentLinkedQueue<>();
+    private final Queue<WheelTimeout> cancelledTimeouts = new ConcurrentLinkedQueue<>();
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final AtomicInteger state = new AtomicInteger(STATE_INIT);
+
+    private WheelBucket[] wheel;
+    private int mask;
+    private long tick;
+    private volatile long startTime;
+    private Thread tickerThread;
+    private ExecutorService internalWorkerExecutor;
+
+    public void setTickDuration(Duration tickDuration) {
+        Assert.isTrue(tickDuration.toNanos() >= TimeUnit.MILLISECONDS.toNanos(1), "tickDuration 不能小于 1ms");
+        this.tickDurationNanos = tickDuration.toNanos();
+    }
+
+    public void setTicksPerWheel(int ticksPerWheel) {
+        Assert.isTrue(ticksPerWheel > 0 && ticksPerWheel <= (1 << 30), "ticksPerWheel 必须在 (0, 2^30] 之间");
+        this.ticksPerWheel = ticksPerWheel;
+    }
+
+    public void setWorkerPoolSize(int workerPoolSize) {
+        Assert.isTrue(workerPoolSize > 0, "workerPoolSize 必须大于 0");
+        this.workerPoolSize = workerPoolSize;
+    }
+
+    public void setThreadNamePrefix(String threadNamePrefix) {
+        this.threadNamePrefix = threadNamePrefix;
+    }
+
+    public void setErrorHandler(ErrorHandler errorHandler) {
+        this.errorHandler = errorHandler;
+    }
+
+    /**
+     * 指定执行到期任务的外部执行器，不指定时按照 workerPoolSize 创建内部工作线程池
+     *
+     * @param workerExecutor 外部执行器
+     */
+    public void setWorkerExecutor(Executor workerExecutor) {
+        this.workerExecutor = workerExecutor;
+    }
+
+    public void setClock(Clock clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public Clock getClock() {
+        return this.clock;
+    }
+
+    /**
+     * 初始化时间轮并启动时间轮线程
+     */
+    public void initialize() {
+        if (!state.compareAndSet(STATE_INIT, STATE_STARTED)) {
+            throw new IllegalStateException("HashedWheelTaskScheduler 不能重复初始化或在关闭后初始化");
+        }
+        final int normalizedTicks = Integer.highestOneBit(ticksPerWheel - 1) << 1;
+        this.wheel = new WheelBucket[Math.max(normalizedTicks, 1)];
+        for (int i = 0; i < wheel.length; i++) {
+            wheel[i] = new WheelBucket();
+        }
+        this.mask = wheel.length - 1;
+        if (this.workerExecutor == null) {
+            this.internalWorkerExecutor = Executors.newFixedThreadPool(workerPoolSize, new CustomizableThreadFactory(threadNamePrefix));
+            this.workerExecutor = internalWorkerExecutor;
+        }
+        this.startTime = System.nanoTime();
+        this.tickerThread = new Thread(this::runTicker, threadNamePrefix + "ticker");
+        this.tickerThread.setDaemon(true);
+        this.tickerThread.start();
+    }
+
+    @Override
+    public void destroy() {
+        if (!state.compareAndSet(STATE_STARTED, STATE_SHUTDOWN)) {
+            state.set(STATE_SHUTDOWN);
+            return;
+        }
+        tickerThread.interrupt();
+        try {
+            tickerThread.join(TimeUnit.NANOSECONDS.toMillis(tickDurationNanos) * 10);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (internalWorkerExecutor != null) {
+            internalWorkerExecutor.shutdownNow();
+        }
+    }
+
+    /**
+     * 获取尚未到期（包括尚未挂到时间轮上）的任务数
+     *
+     * @return 待执行任务数
+     */
+    public long getPendingCount() {
+        return pendingCount.get();
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable task, Trigger trigger) {
+        final ErrorHandler handler = errorHandler != null ? errorHandler : TaskUtils.getDefaultErrorHandler(true);
+        return new ReschedulingWheelFuture(TaskUtils.decorateTaskWithErrorHandler(task, handler, true), trigger).schedule();
+    }
+
+    @Override
+    public ScheduledFuture<?> schedule(Runnable task, Date startTime) {
+        final ErrorHandler handler = errorHandler != null ? errorHandler : TaskUtils.getDefaultErrorHandler(false);
+        final OneShotWheelFuture future = new OneShotWheelFuture(TaskUtils.decorateTaskWithErrorHandler(task, handler, false));
+        future.timeout = newTimeout(future, delayNanos(startTime));
+        return future;
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, Date startTime, long period) {
+        return schedule(task, periodicTrigger(startTime, period, true));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleAtFixedRate(Runnable task, long period) {
+        return schedule(task, periodicTrigger(null, period, true));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, Date startTime, long delay) {
+        return schedule(task, periodicTrigger(startTime, delay, false));
+    }
+
+    @Override
+    public ScheduledFuture<?> scheduleWithFixedDelay(Runnable task, long delay) {
+        return schedule(task, periodicTrigger(null, delay, false));
+    }
+
+    private PeriodicTrigger periodicTrigger(Date startTime, long period, boolean fixedRate) {
+        final PeriodicTrigger trigger = new PeriodicTrigger(period, TimeUnit.MILLISECONDS);
+        trigger.setFixedRate(fixedRate);
+        if (startTime != null) {
+            trigger.setInitialDelay(Math.max(0, startTime.getTime() - clock.millis()));
+        }
+        return trigger;
+    }
+
+    private long delayNanos(Date executionTime) {
+        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, executionTime.getTime() - clock.millis()));
+    }
+
+    private WheelTimeout newTimeout(Runnable task, long delayNanos) {
+        if (state.get() != STATE_STARTED) {
+            throw new IllegalStateException("HashedWheelTaskScheduler 尚未初始化或已关闭");
+        }
+        long deadline = System.nanoTime() + delayNanos - startTime;
+        // 防止溢出
+        if (delayNanos > 0 && deadline < 0) {
+            deadline = Long.MAX_VALUE;
+        }
+        final WheelTimeout timeout = new WheelTimeout(this, task, deadline);
+        pendingCount.incrementAndGet();
+        pendingTimeouts.add(timeout);
+        return timeout;
+    }
+
+    private void dispatch(Runnable task) {
+        try {
+            workerExecutor.execute(task);
+        } catch (RejectedExecutionException e) {
+            logger.error("[HashedWheelTaskScheduler#dispatch] - 工作线程池拒绝了到期任务，异常信息为：{} ", e.getMessage());
+        }
+    }
+
+    private void runTicker() {
+        while (state.get() == STATE_STARTED) {
+            final long deadline = waitForNextTick();
+            if (deadline > 0) {
+                final int idx = (int) (tick & mask);
+                processCancelledTimeouts();
+                transferTimeoutsToBuckets();
+                wheel[idx].expireTimeouts(deadline);
+                tick++;
+            }
+        }
+    }
+
+    private long waitForNextTick() {
+        final long deadline = tickDurationNanos * (tick + 1);
+        for (; ; ) {
+            final long currentTime = System.nanoTime() - startTime;
+            final long sleepTimeMs = (deadline - currentTime + 999_999) / 1_000_000;
+            if (sleepTimeMs <= 0) {
+                return currentTime;
+            }
+            try {
+                Thread.sleep(sleepTimeMs);
+            } catch (InterruptedException e) {
+                if (state.get() == STATE_SHUTDOWN) {
+                    return -1;
+                }
+            }
+        }
+    }
+
+    private void transferTimeoutsToBuckets() {
+        for (int i = 0; i < MAX_TRANSFER_PER_TICK; i++) {
+            final WheelTimeout timeout = pendingTimeouts.poll();
+            if (timeout == null) {
+                break;
+            }
+            if (timeout.state == WheelTimeout.ST_CANCELLED) {
+                // 由 processCancelledTimeouts 负责计数
+                continue;
+            }
+            final long calculated = timeout.deadline / tickDurationNanos;
+            timeout.remainingRounds = (calculated - tick) / wheel.length;
+            // 已经过期的任务放到当前槽位，本 tick 立即执行
+            final long ticks = Math.max(calculated, tick);
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    private void processCancelledTimeouts() {
+        for (; ; ) {
+            final WheelTimeout timeout = cancelledTimeouts.poll();
+            if (timeout == null) {
+                break;
+            }
+            if (timeout.bucket != null) {
+                timeout.bucket.remove(timeout);
+            } else {
+                pendingCount.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * 时间轮上的一个定时项
+     */
+    private static final class WheelTimeout {
+        private static final int ST_INIT = 0;
+        private static final int ST_CANCELLED = 1;
+        private static final int ST_EXPIRED = 2;
+        private static final AtomicIntegerFieldUpdater<WheelTimeout> STATE_UPDATER =
+                AtomicIntegerFieldUpdater.newUpdater(WheelTimeout.class, "state");
+
+        private final HashedWheelTaskScheduler scheduler;
+        /**
+         * 到期时直接提交给工作线程池的任务（即 ScheduledFuture 本身），每次触发只经过一次线程切换
+         */
+        private final Runnable task;
+        private final long deadline;
+        private volatile int state = ST_INIT;
+
+        // 以下字段只由时间轮线程访问
+        private long remainingRounds;
+        private WheelTimeout next;
+        private WheelTimeout prev;
+        private WheelBucket bucket;
+
+        private WheelTimeout(HashedWheelTaskScheduler scheduler, Runnable task, long deadline) {
+            this.scheduler = scheduler;
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        private boolean cancel() {
+            if (!STATE_UPDATER.compareAndSet(this, ST_INIT, ST_CANCELLED)) {
+                return false;
+            }
+            scheduler.cancelledTimeouts.add(this);
+            return true;
+        }
+
+        private boolean expire() {
+            return STATE_UPDATER.compareAndSet(this, ST_INIT, ST_EXPIRED);
+        }
+
+        private long remainingNanos() {
+            return deadline - (System.nanoTime() - scheduler.startTime);
+        }
+    }
+
+    /**
+     * 时间轮槽位，内部为双向链表，只由时间轮线程访问
+     */
+    private final class WheelBucket {
+        private WheelTimeout head;
+        private WheelTimeout tail;
+
+        private void add(WheelTimeout timeout) {
+            timeout.bucket = this;
+            if (head == null) {
+                head = tail = timeout;
+            } else {
+                tail.next = timeout;
+                timeout.prev = tail;
+                tail = timeout;
+            }
+        }
+
+        private void expireTimeouts(long deadline) {
+            WheelTimeout timeout = head;
+            while (timeout != null) {
+                WheelTimeout next = timeout.next;
+                if (timeout.remainingRounds <= 0) {
+                    // 先 CAS 再摘除：CAS 失败说明任务已被取消，交给 processCancelledTimeouts 处理
+                    if (timeout.deadline <= deadline && timeout.expire()) {
+                        next = remove(timeout);
+                        dispatch(timeout.task);
+                    }
+                } else {
+                    timeout.remainingRounds--;
+                }
+                timeout = next;
+            }
+        }
+
+        private WheelTimeout remove(WheelTimeout timeout) {
+            final WheelTimeout next = timeout.next;
+            if (timeout.prev != null) {
+                timeout.prev.next = next;
+            }
+            if (timeout.next != null) {
+                timeout.next.prev = timeout.prev;
+            }
+            if (timeout == head) {
+                if (timeout == tail) {
+                    tail = null;
+                    head = null;
+                } else {
+                    head = next;
+                }
+            } else if (timeout == tail) {
+                tail = timeout.prev;
+            }
+            timeout.prev = null;
+            timeout.next = null;
+            timeout.bucket = null;
+            pendingCount.decrementAndGet();
+            return next;
+        }
+    }
+
+    /**
+     * 一次性任务的 ScheduledFuture
+     */
+    private static final class OneShotWheelFuture extends FutureTask<Object> implements ScheduledFuture<Object> {
+        private volatile WheelTimeout timeout;
+
+        private OneShotWheelFuture(Runnable task) {
+            super(task, null);
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            final WheelTimeout current = this.timeout;
+            if (current != null) {
+                current.cancel();
+            }
+            return super.cancel(mayInterruptIfRunning);
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            final WheelTimeout current = this.timeout;
+            return current == null ? 0 : unit.convert(current.remainingNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+
+    /**
+     * 按照 Trigger 反复调度的 ScheduledFuture，语义与 Spring 的 ReschedulingRunnable 一致：
+     * 每次执行完成后根据 Trigger 计算下一次执行时间并重新挂到时间轮上
+     */
+    private final class ReschedulingWheelFuture implements ScheduledFuture<Object>, Runnable {
+        private final Runnable delegate;
+        private final Trigger trigger;
+        private final SimpleTriggerContext triggerContext = new SimpleTriggerContext(clock);
+        private final Object triggerContextMonitor = new Object();
+        private final CountDownLatch terminated = new CountDownLatch(1);
+
+        private Date scheduledExecutionTime;
+        private volatile WheelTimeout currentTimeout;
+        private volatile boolean cancelled;
+
+        private ReschedulingWheelFuture(Runnable delegate, Trigger trigger) {
+            this.delegate = delegate;
+            this.trigger = trigger;
+        }
+
+        private ScheduledFuture<?> schedule() {
+            synchronized (triggerContextMonitor) {
+                scheduledExecutionTime = trigger.nextExecutionTime(triggerContext);
+                if (scheduledExecutionTime == null) {
+                    terminated.countDown();
+                    return null;
+                }
+                currentTimeout = newTimeout(this, delayNanos(scheduledExecutionTime));
+                return this;
+            }
+        }
+
+        @Override
+        public void run() {
+            final Date actualExecutionTime = new Date(clock.millis());
+            delegate.run();
+            final Date completionTime = new Date(clock.millis());
+            synchronized (triggerContextMonitor) {
+                triggerContext.update(scheduledExecutionTime, actualExecutionTime, completionTime);
+                if (!cancelled && state.get() == STATE_STARTED) {
+                    schedule();
+                }
+            }
+        }
+
+        @Override
+        public boolean cancel(boolean mayInterruptIfRunning) {
+            synchronized (triggerContextMonitor) {
+                if (cancelled || isDone()) {
+                    return false;
+                }
+                cancelled = true;
+                currentTimeout.cancel();
+                terminated.countDown();
+                return true;
+            }
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return cancelled;
+        }
+
+        @Override
+        public boolean isDone() {
+            return terminated.getCount() == 0;
+        }
+
+        @Override
+        public Object get() throws InterruptedException, ExecutionException {
+            terminated.await();
+            if (cancelled) {
+                throw new CancellationException();
+            }
+            return null;
+        }
+
+        @Override
+        public Object get(long timeout, TimeUnit unit) throws InterruptedException, ExecutionException, TimeoutException {
+            if (!terminated.await(timeout, unit)) {
+                throw new TimeoutException();
+            }
+            if (cancelled) {
+                throw new CancellationException();
+            }
+            return null;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            final WheelTimeout current = this.currentTimeout;
+            return current == null ? 0 : unit.convert(current.remainingNanos(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+}
@@ -1,19 +1,41 @@
 package com.olinonee.springboot.core.task.service;
 
+import com.olinonee.springboot.core.task.cluster.ShardCoordinator;
+import com.olinonee.springboot.core.task.config.TaskScheduleProperties;
+import com.olinonee.springboot.core.task.cron.CronPlanCache;
+import com.olinonee.springboot.core.task.cron.ResumingTrigger;
+import com.olinonee.springboot.core.task.cron.SpreadTrigger;
+import com.olinonee.springboot.core.task.id.SnowflakeIdGenerator;
+import com.olinonee.springboot.core.task.metrics.TaskMetricsRecorder;
+import com.olinonee.springboot.core.task.metrics.TaskMetricsRegistry;
+import com.olinonee.springboot.core.task.model.TaskItem;
+import com.olinonee.springboot.core.task.model.TaskItemResult;
+import com.olinonee.springboot.core.task.model.TaskPage;
+import com.olinonee.springboot.core.task.model.TaskView;
+import com.olinonee.springboot.core.task.registry.SharedTaskRegistry;
+import com.olinonee.springboot.core.task.registry.TaskRecord;
+import com.olinonee.springboot.core.task.registry.TaskRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.scheduling.TaskScheduler;
-import org.springframework.scheduling.support.CronTrigger;
+import org.springframework.scheduling.Trigger;
 import org.springframework.stereotype.Service;
 import org.springframework.util.*;
 
+import javax.annotation.PostConstruct;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.ScheduledFuture;
-import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
 
 /**
  * 任务调度器扩展 demo 业务类
@@ -28,14 +50,79 @@ public class TaskScheduleExtendedDemoService {
     private static final Logger logger = LoggerFactory.getLogger(TaskScheduleExtendedDemoService.class);
 
     private final TaskScheduler threadPoolTaskScheduler;
+    private final CronPlanCache cronPlanCache;
+    private final TaskRegistry taskRegistry;
+    private final TaskMetricsRegistry taskMetricsRegistry;
+    private final TaskScheduleProperties.Spread spread;
+    private final SnowflakeIdGenerator taskIdGenerator;
+    private final ShardCoordinator shardCoordinator;
 
-    private final Map<Long, ScheduledFutureFactory> scheduledFutureFactoryMap = new ConcurrentHashMap<>();
-    private final IdGenerator idGenerator = new SimpleIdGenerator();
+    private final Map<Long, TaskHandle> taskHandleMap = new ConcurrentHashMap<>();
+    /**
+     * 按照任务 id 排序的索引，用于游标分页；按 id 查找仍然通过 taskHandleMap。
+     * 索引只在 taskHandleMap 对应 key 的原子操作（compute）内修改，与任务集合始终一致
+     */
+    private final NavigableSet<Long> taskIdIndex = new ConcurrentSkipListSet<>();
+    /**
+     * 分片归属锁：登记新任务（判断归属并调度）与分片再平衡互斥，保证新任务要么在再平衡之前登记并被再平衡处理，
+     * 要么在再平衡之后按照新的归属调度；加锁顺序为先分片归属锁再任务句柄
+     */
+    private final Object shardLock = new Object();
+    /**
+     * 注册表同步锁：本节点的启动、停止、重启（调度与写注册表）持有读锁，相互之间可以并发；
+     * 同步其它节点的变更（{@link #synchronizeRegistry()}）持有写锁，不会看到本节点写了一半的变更；加锁顺序为先注册表同步锁再分片归属锁
+     */
+    private final ReadWriteLock registryLock = new ReentrantReadWriteLock();
+    /**
+     * 最近一次同步的共享注册表版本号，只由启动线程和心跳线程（持有注册表同步锁的写锁）访问
+     */
+    private long syncedRegistryVersion;
     private static final String DEFAULT_CRON_EXPRESSION = "0/5 * * * * ? ";
+    /**
+     * 带过滤条件分页查询时每页最多遍历的任务数，遍历完仍未凑满一页时返回不满一页的结果和游标，由调用方继续翻页
+     */
+    private static final int MAX_SCAN_PER_PAGE = 10_000;
 
     @Autowired
-    private TaskScheduleExtendedDemoService(TaskScheduler threadPoolTaskScheduler) {
+    private TaskScheduleExtendedDemoService(TaskScheduler threadPoolTaskScheduler, CronPlanCache cronPlanCache, TaskRegistry taskRegistry,
+                                           TaskMetricsRegistry taskMetricsRegistry, TaskScheduleProperties taskScheduleProperties,
+                                           SnowflakeIdGenerator taskIdGenerator, ShardCoordinator shardCoordinator) {
         this.threadPoolTaskScheduler = threadPoolTaskScheduler;
+        this.cronPlanCache = cronPlanCache;
+        this.taskRegistry = taskRegistry;
+        this.taskMetricsRegistry = taskMetricsRegistry;
+        this.spread = taskScheduleProperties.getSpread();
+        this.taskIdGenerator = taskIdGenerator;
+        this.shardCoordinator = shardCoordinator;
+    }
+
+    /**
+     * 应用启动时从任务注册表恢复上一次运行中的定时任务（多个节点共享注册表时为所有节点登记的任务），然后开始参与分片分配
+     */
+    @PostConstruct
+    public void recover() {
+        this.recoverFromRegistry();
+        shardCoordinator.start(this::rebalance, this::synchronizeRegistry);
+    }
+
+    private void recoverFromRegistry() {
+        final long startTime = System.nanoTime();
+        if (taskRegistry instanceof SharedTaskRegistry) {
+            // 先读取版本号再加载，加载期间的变更在第一次同步时补上
+            syncedRegistryVersion = ((SharedTaskRegistry) taskRegistry).version();
+        }
+        final Map<Long, String> tasks = taskRegistry.load();
+        if (tasks.isEmpty()) {
+            return;
+        }
+        int recovered = 0;
+        for (Map.Entry<Long, String> task : tasks.entrySet()) {
+            if (this.schedule(task.getKey(), task.getValue())) {
+                recovered++;
+            }
+        }
+        logger.info("[TaskScheduleExtendedDemoService#recover] - 从任务注册表恢复了 {}/{} 个定时任务，耗时 {} ms",
+                recovered, tasks.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
     }
 
     /**
@@ -59,14 +146,16 @@ public class TaskScheduleExtendedDemoService {
             return false;
         }
 
+        registryLock.readLock().lock();
         try {
             final long taskId = this.generateTaskId();
-            final ScheduledFuture<?> schedule = threadPoolTaskScheduler.schedule(() -> logger.info("id 为 {} 的定时任务，按照 cron 为 [{}] 的规则正在执行！", taskId, cronExpression), new CronTrigger(cronExpression));
-            scheduledFutureFactoryMap.putIfAbsent(taskId, new ScheduledFutureFactory(schedule, taskId, cronExpression));
+            if (!this.schedule(taskId, cronExpression)) {
+                return false;
+            }
+            taskRegistry.record(TaskRecord.start(taskId, cronExpression));
             return true;
-        } catch (Exception e) {
-            logger.error("[TaskScheduleExtendedDemoService#start] - 定时任务启动发生异常，异常信息为：", e);
-            return false;
+        } finally {
+            registryLock.readLock().unlock();
         }
     }
 
@@ -83,13 +172,15 @@ public class TaskScheduleExtendedDemoService {
             return false;
         }
 
+        registryLock.readLock().lock();
         try {
-            final ScheduledFuture<?> schedule = threadPoolTaskScheduler.schedule(() -> logger.info("id 为 {} 的定时任务，按照 cron 为 [{}] 的规则正在执行！", taskId, cronExpression), new CronTrigger(cronExpression));
-            scheduledFutureFactoryMap.putIfAbsent(taskId, new ScheduledFutureFactory(schedule, taskId, cronExpression));
+            if (!this.schedule(taskId, cronExpression)) {
+                return false;
+            }
+            taskRegistry.record(TaskRecord.start(taskId, cronExpression));
             return true;
-        } catch (Exception e) {
-            logger.error("[TaskScheduleExtendedDemoService#start] - 定时任务启动发生异常，异常信息为：", e);
-            return false;
+        } finally {
+            registryLock.readLock().unlock();
         }
     }
 
@@ -100,10 +191,98 @@ public class TaskScheduleExtendedDemoService {
      */
     public List<String> queryAll() {
         List<String> taskList = new ArrayList<>();
-        scheduledFutureFactoryMap.forEach((k, v) -> taskList.add("taskId -> " + k + ", cronExpression -> [" + v.getCronExpression() +"]"));
+        taskHandleMap.forEach((k, v) -> taskList.add("taskId -> " + k + ", cronExpression -> [" + v.getCronExpression() +"]"));
         return taskList;
     }
 
+    /**
+     * 查询当前节点实际调度中的定时任务 id（启用多节点分片时，其余任务由其它节点调度）
+     *
+     * @return 定时任务 id 列表
+     */
+    public List<Long> queryScheduledTaskIds() {
+        final List<Long> taskIds = new ArrayList<>();
+        taskHandleMap.forEach((k, v) -> {
+            if (v.getScheduledFuture() != null) {
+                taskIds.add(k);
+            }
+        });
+        return taskIds;
+    }
+
+    /**
+     * 分页查询定时任务：按照任务 id 升序，从游标之后开始，只遍历到凑满一页为止；
+     * 带过滤条件时每页最多遍历 {@link #MAX_SCAN_PER_PAGE} 个任务，因此可能返回不满一页（甚至为空）但游标不为空的结果
+     *
+     * @param cursor         游标（上一页最后一个任务 id），为空时从头开始
+     * @param limit          每页条数
+     * @param cronExpression 按照 cron 表达式过滤（忽略空白差异），为空时不过滤
+     * @param state          按照状态过滤，为空时不过滤
+     * @return 一页定时任务
+     */
+    public TaskPage queryPage(Long cursor, int limit, String cronExpression, TaskView.State state) {
+        final String cronFilter = StringUtils.hasText(cronExpression) ? CronPlanCache.normalize(cronExpression) : null;
+        final NavigableSet<Long> taskIds = cursor == null ? taskIdIndex : taskIdIndex.tailSet(cursor, false);
+        final int pageSize = Math.max(1, limit);
+        final List<TaskView> items = new ArrayList<>(Math.min(pageSize, 1024));
+        int scanned = 0;
+        Long lastScanned = null;
+        for (Long taskId : taskIds) {
+            if (scanned++ == MAX_SCAN_PER_PAGE) {
+                // 过滤条件很少命中时不再一次遍历全部任务，下一页从最后遍历到的任务之后继续
+                return new TaskPage(items, lastScanned);
+            }
+            lastScanned = taskId;
+            final TaskHandle taskHandle = taskHandleMap.get(taskId);
+            if (taskHandle == null || !taskHandle.matches(cronFilter, state)) {
+                continue;
+            }
+            if (items.size() == pageSize) {
+                return new TaskPage(items, items.get(items.size() - 1).getTaskId());
+            }
+            items.add(this.toView(taskHandle));
+        }
+        return new TaskPage(items, null);
+    }
+
+    /**
+     * 按照任务 id 升序逐个遍历定时任务，不在内存中汇总，用于流式输出
+     *
+     * @param cronExpression 按照 cron 表达式过滤（忽略空白差异），为空时不过滤
+     * @param state          按照状态过滤，为空时不过滤
+     * @param consumer       处理每个定时任务
+     */
+    public void forEachTask(String cronExpression, TaskView.State state, Consumer<TaskView> consumer) {
+        final String cronFilter = StringUtils.hasText(cronExpression) ? CronPlanCache.normalize(cronExpression) : null;
+        for (Long taskId : taskIdIndex) {
+            final TaskHandle taskHandle = taskHandleMap.get(taskId);
+            if (taskHandle != null && taskHandle.matches(cronFilter, state)) {
+                consumer.accept(this.toView(taskHandle));
+            }
+        }
+    }
+
+    private TaskView toView(TaskHandle taskHandle) {
+        final TaskView taskView = new TaskView();
+        final Long taskId = taskHandle.getTaskId();
+        final ScheduledFuture<?> scheduledFuture = taskHandle.getScheduledFuture();
+        taskView.setTaskId(taskId);
+        taskView.setCronExpression(taskHandle.getCronExpression());
+        taskView.setState(scheduledFuture == null ? TaskView.State.DORMANT : TaskView.State.SCHEDULED);
+        if (scheduledFuture != null) {
+            taskView.setNextFireTime(new Date(System.currentTimeMillis() + Math.max(0, scheduledFuture.getDelay(TimeUnit.MILLISECONDS))));
+        }
+        final TaskMetricsRecorder recorder = taskMetricsRegistry.find(taskId);
+        if (recorder != null) {
+            taskView.setRuns(recorder.getRuns());
+            taskView.setFailures(recorder.getFailures());
+            taskView.setLastStartTime(recorder.getLastStartTime() == 0 ? null : new Date(recorder.getLastStartTime()));
+            taskView.setLastDurationMicros(recorder.getLastDurationMicros());
+            taskView.setLastError(recorder.getLastError());
+        }
+        return taskView;
+    }
+
     /**
      * 停止一个指定 id 的定时任务
      *
@@ -111,43 +290,43 @@ public class TaskScheduleExtendedDemoService {
      * @return 该 id 的定时任务停止情况（为空-表示不存在此任务；false-表示停止失败；true-表示停止成功）
      */
     public Boolean stop(Long taskId) {
-        if (ObjectUtils.isEmpty(taskId) || CollectionUtils.isEmpty(scheduledFutureFactoryMap)) {
+        if (ObjectUtils.isEmpty(taskId) || CollectionUtils.isEmpty(taskHandleMap)) {
             logger.error("[TaskScheduleExtendedDemoService#stop] - 因为定时任务 id 为空而停止失败");
             return null;
         }
-        if (!scheduledFutureFactoryMap.containsKey(taskId)) {
-            return null;
-        }
-        final ScheduledFuture<?> scheduledFuture = scheduledFutureFactoryMap.get(taskId).getScheduledFuture();
-        if (ObjectUtils.isEmpty(scheduledFuture)) {
-            return false;
-        }
-        // 根据取消任务的状态来决定是否删除集合的任务
-        if (scheduledFuture.cancel(true)) {
-            return scheduledFutureFactoryMap.remove(taskId, scheduledFutureFactoryMap.get(taskId));
-        } else {
-            return false;
+        registryLock.readLock().lock();
+        try {
+            final Boolean stopState = this.unschedule(taskId);
+            if (Boolean.TRUE.equals(stopState)) {
+                taskRegistry.record(TaskRecord.stop(taskId));
+                taskMetricsRegistry.remove(taskId);
+            }
+            return stopState;
+        } finally {
+            registryLock.readLock().unlock();
         }
     }
 
     /**
-     * 重启指定 id 的定时任务
+     * 重启指定 id 的定时任务，沿用当前的 cron 表达式
      *
      * @param taskId 定时任务 id
      * @return 返回执行结果（true-表示成功 false-表示失败）
      */
     public Boolean restart(Long taskId) {
-        AtomicReference<String> restartCronExpression = new AtomicReference<>(DEFAULT_CRON_EXPRESSION);
-        scheduledFutureFactoryMap.forEach((k, v) -> {
-            if (taskId.equals(v.getTaskId())) {
-                restartCronExpression.set(v.getCronExpression());
-            }
-        });
-        return this.restart(taskId, restartCronExpression.get());
+        final TaskHandle taskHandle = ObjectUtils.isEmpty(taskId) ? null : taskHandleMap.get(taskId);
+        if (taskHandle == null) {
+            logger.warn("[TaskScheduleExtendedDemoService#restart] - 不存 id 为 [{}] 的定时任务，请尝试启动一个新的定时任务！", taskId);
+            return false;
+        }
+        return this.restart(taskId, taskHandle.getCronExpression());
     }
 
     /**
      * 指定 id 的定时任务，同时按照自定义的 cron 表达式执行定时任务
+     * <p>
+     * 原地替换触发器：先按照新的 cron 表达式调度，再取消原来的调度，整个过程中任务始终处于调度状态；
+     * 任务句柄的版本号同时递增，原来的调度即使已经到期也不会再执行，因此不会漏触发或重复触发。
      *
      * @param taskId         任务 id
      * @param cronExpression 自定义的 cron 表达式
@@ -159,43 +338,493 @@ public class TaskScheduleExtendedDemoService {
             return false;
         }
 
-        final Boolean stopState = this.stop(taskId);
-        if (ObjectUtils.isEmpty(stopState)) {
-            logger.warn("[TaskScheduleExtendedDemoService#restart] - 不存 id 为 [{}] 的定时任务，请尝试启动一个新的定时任务！", taskId);
-            return false;
+        final Boolean rescheduleState;
+        registryLock.readLock().lock();
+        try {
+            rescheduleState = this.reschedule(taskId, cronExpression);
+            if (Boolean.TRUE.equals(rescheduleState)) {
+                taskRegistry.record(TaskRecord.start(taskId, cronExpression));
+            }
+        } finally {
+            registryLock.readLock().unlock();
         }
-        if (!stopState) {
-            logger.warn("[TaskScheduleExtendedDemoService#restart] - id 为 [{}]id 的定时任务停止失败！", taskId);
+        if (ObjectUtils.isEmpty(rescheduleState)) {
+            logger.warn("[TaskScheduleExtendedDemoService#restart] - 不存 id 为 [{}] 的定时任务，请尝试启动一个新的定时任务！", taskId);
             return false;
         }
-
-        final Boolean startState = this.start(taskId, cronExpression);
-        if (startState) {
+        if (rescheduleState) {
             logger.info("[TaskScheduleExtendedDemoService#restart] - id 为 [{}] 的定时任务重启成功！", taskId);
         } else {
             logger.info("[TaskScheduleExtendedDemoService#restart] - id 为 [{}] 的定时任务重启失败！", taskId);
         }
-        return startState;
+        return rescheduleState;
+    }
+
+    /**
+     * 批量启动定时任务：一次遍历完成所有条目的调度，注册表整批写入一次
+     *
+     * @param items 任务条目（taskId 为空时自动生成，cronExpression 为空时使用默认表达式）
+     * @return 每个条目的执行结果，顺序与入参一致
+     */
+    public List<TaskItemResult> startAll(List<TaskItem> items) {
+        final List<TaskItemResult> results = new ArrayList<>(items.size());
+        final List<TaskRecord> records = new ArrayList<>(items.size());
+        registryLock.readLock().lock();
+        try {
+            for (TaskItem item : items) {
+                final String cronExpression = StringUtils.hasText(item.getCronExpression()) ? item.getCronExpression() : DEFAULT_CRON_EXPRESSION;
+                final Long taskId = ObjectUtils.isEmpty(item.getTaskId()) ? this.generateTaskId() : item.getTaskId();
+                if (this.schedule(taskId, cronExpression)) {
+                    records.add(TaskRecord.start(taskId, cronExpression));
+                    results.add(TaskItemResult.success(taskId, "定时任务启动成功！"));
+                } else {
+                    results.add(TaskItemResult.failure(taskId, "定时任务启动失败！"));
+                }
+            }
+            taskRegistry.recordAll(records);
+        } finally {
+            registryLock.readLock().unlock();
+        }
+        return results;
     }
 
     /**
-     * 生成定时任务 id
+     * 批量停止定时任务
+     *
+     * @param items 任务条目（只使用 taskId）
+     * @return 每个条目的执行结果，顺序与入参一致
+     */
+    public List<TaskItemResult> stopAll(List<TaskItem> items) {
+        final List<TaskItemResult> results = new ArrayList<>(items.size());
+        final List<TaskRecord> records = new ArrayList<>(items.size());
+        registryLock.readLock().lock();
+        try {
+            for (TaskItem item : items) {
+                final Long taskId = item.getTaskId();
+                final Boolean stopState = ObjectUtils.isEmpty(taskId) ? null : this.unschedule(taskId);
+                if (ObjectUtils.isEmpty(stopState)) {
+                    results.add(TaskItemResult.failure(taskId, "不存在该 id 的定时任务！"));
+                } else if (stopState) {
+                    records.add(TaskRecord.stop(taskId));
+                    taskMetricsRegistry.remove(taskId);
+                    results.add(TaskItemResult.success(taskId, "该 id 的定时任务停止成功！"));
+                } else {
+                    results.add(TaskItemResult.failure(taskId, "该 id 的定时任务停止失败！"));
+                }
+            }
+            taskRegistry.recordAll(records);
+        } finally {
+            registryLock.readLock().unlock();
+        }
+        return results;
+    }
+
+    /**
+     * 批量重启定时任务
+     *
+     * @param items 任务条目（cronExpression 为空时沿用上一次的表达式）
+     * @return 每个条目的执行结果，顺序与入参一致
+     */
+    public List<TaskItemResult> restartAll(List<TaskItem> items) {
+        final List<TaskItemResult> results = new ArrayList<>(items.size());
+        final List<TaskRecord> records = new ArrayList<>(items.size());
+        registryLock.readLock().lock();
+        try {
+            for (TaskItem item : items) {
+                final Long taskId = item.getTaskId();
+                final TaskHandle existing = ObjectUtils.isEmpty(taskId) ? null : taskHandleMap.get(taskId);
+                if (existing == null) {
+                    results.add(TaskItemResult.failure(taskId, "不存在该 id 的定时任务！"));
+                    continue;
+                }
+                final String cronExpression = StringUtils.hasText(item.getCronExpression()) ? item.getCronExpression() : existing.getCronExpression();
+                if (Boolean.TRUE.equals(this.reschedule(taskId, cronExpression))) {
+                    records.add(TaskRecord.start(taskId, cronExpression));
+                    results.add(TaskItemResult.success(taskId, "定时任务重启成功！"));
+                } else {
+                    results.add(TaskItemResult.failure(taskId, "定时任务重启失败！"));
+                }
+            }
+            taskRegistry.recordAll(records);
+        } finally {
+            registryLock.readLock().unlock();
+        }
+        return results;
+    }
+
+    /**
+     * 生成定时任务 id：按时间递增，重启后不会重新计数，不同节点（节点 id 不同）之间不会冲突
      *
      * @return 定时任务 id
      */
     public Long generateTaskId() {
-        return idGenerator.generateId().getLeastSignificantBits();
+        long taskId;
+        // 调用方指定的任务 id 可能与生成的 id 冲突，跳过已存在的 id
+        do {
+            taskId = taskIdGenerator.nextId();
+        } while (taskHandleMap.containsKey(taskId));
+        return taskId;
+    }
+
+    /**
+     * 按照 cron 表达式调度指定 id 的定时任务并放入任务集合（不写注册表）；
+     * 任务所在的分片不归当前节点时只登记任务，等分片分配给当前节点后再调度
+     *
+     * @param taskId         任务 id
+     * @param cronExpression cron 表达式
+     * @return 返回执行结果（true-表示成功 false-表示失败）
+     */
+    private boolean schedule(Long taskId, String cronExpression) {
+        // 只登记不调度的任务也要先校验表达式，避免分片迁移到本节点时才发现表达式不合法
+        if (!this.isValidCron(taskId, cronExpression)) {
+            return false;
+        }
+        final TaskHandle taskHandle = new TaskHandle(taskId, cronExpression);
+        synchronized (shardLock) {
+            return this.register(taskHandle);
+        }
     }
 
-    private static class ScheduledFutureFactory {
-        private final ScheduledFuture<?> scheduledFuture;
+    private boolean register(TaskHandle taskHandle) {
+        final Long taskId = taskHandle.getTaskId();
+        // 先占位再调度，并发启动同一个 id 时只有一个会成功
+        if (!this.publish(taskHandle)) {
+            logger.warn("[TaskScheduleExtendedDemoService#schedule] - id 为 [{}] 的定时任务已存在！", taskId);
+            return false;
+        }
+        synchronized (taskHandle) {
+            if (taskHandleMap.get(taskId) != taskHandle || !shardCoordinator.owns(taskId)) {
+                return true;
+            }
+            // 调度失败时只移除本次调用创建的指标，不影响已有的指标
+            final boolean hadMetrics = taskMetricsRegistry.find(taskId) != null;
+            try {
+                taskHandle.scheduledFuture = this.scheduleFuture(taskHandle, taskHandle.version, null);
+                return true;
+            } catch (Exception e) {
+                logger.error("[TaskScheduleExtendedDemoService#schedule] - 定时任务启动发生异常，异常信息为：", e);
+                this.unpublish(taskHandle);
+                if (!hadMetrics) {
+                    taskMetricsRegistry.remove(taskId);
+                }
+                return false;
+            }
+        }
+    }
+
+    /**
+     * 按照任务句柄当前的 cron 表达式调度，调度的任务只在句柄版本号未变化时执行
+     *
+     * @param taskHandle  任务句柄
+     * @param version     调度时的版本号
+     * @param resumeAfter 替换调度时原调度最后一次触发的时间，为空时从当前时间开始计算
+     * @return ScheduledFuture
+     */
+    private ScheduledFuture<?> scheduleFuture(TaskHandle taskHandle, long version, Date resumeAfter) {
+        final Long taskId = taskHandle.getTaskId();
+        final String cronExpression = taskHandle.getCronExpression();
+        // 记录执行耗时、触发偏差、错过触发、重叠执行和失败次数
+        final TaskMetricsRecorder recorder = taskMetricsRegistry.recorder(taskId);
+        final Runnable task = recorder.wrap(() -> logger.info("id 为 {} 的定时任务，按照 cron 为 [{}] 的规则正在执行！", taskId, cronExpression));
+        final ResumingTrigger trigger = new ResumingTrigger(this.getTrigger(taskId, cronExpression), resumeAfter);
+        final Runnable versionedTask = () -> {
+            // 已经被重启或停止的旧调度不再执行
+            if (taskHandle.claim(version, trigger.getLastScheduledTime())) {
+                task.run();
+            }
+        };
+        return threadPoolTaskScheduler.schedule(versionedTask, recorder.wrap(trigger));
+    }
+
+    /**
+     * 原地替换指定 id 的定时任务的 cron 表达式（不写注册表）
+     *
+     * @param taskId         任务 id
+     * @param cronExpression 新的 cron 表达式
+     * @return 重新调度情况（为空-表示不存在此任务；false-表示调度失败，原调度保持不变；true-表示成功）
+     */
+    private Boolean reschedule(Long taskId, String cronExpression) {
+        final TaskHandle taskHandle = taskHandleMap.get(taskId);
+        if (taskHandle == null) {
+            return null;
+        }
+        // 先校验新的表达式，不合法时原调度和原表达式都保持不变
+        if (!this.isValidCron(taskId, cronExpression)) {
+            return false;
+        }
+        synchronized (taskHandle) {
+            if (taskHandleMap.get(taskId) != taskHandle) {
+                // 已被并发停止
+                return null;
+            }
+            final String previousCronExpression = taskHandle.cronExpression;
+            final String previousNormalizedCronExpression = taskHandle.normalizedCronExpression;
+            final ScheduledFuture<?> previousFuture = taskHandle.scheduledFuture;
+            taskHandle.setCronExpression(cronExpression);
+            if (previousFuture == null) {
+                // 只登记未调度（由其它节点调度）的任务只需要更新表达式
+                return true;
+            }
+            final long version = taskHandle.version + 1;
+            // 只有表达式未变化时才从原调度最后一次触发的时间接续，表达式变化后原调度的触发时间对新表达式没有意义，从当前时间开始计算
+            final Date resumeAfter = previousNormalizedCronExpression.equals(taskHandle.normalizedCronExpression)
+                    ? taskHandle.lastFireTime : null;
+            final ScheduledFuture<?> scheduledFuture;
+            try {
+                scheduledFuture = this.scheduleFuture(taskHandle, version, resumeAfter);
+            } catch (Exception e) {
+                logger.error("[TaskScheduleExtendedDemoService#reschedule] - 定时任务重新调度发生异常，异常信息为：", e);
+                taskHandle.setCronExpression(previousCronExpression);
+                return false;
+            }
+            // 版本号先于取消生效：旧调度此刻即使已经到期也会跳过，正在执行的不会被中断
+            taskHandle.version = version;
+            taskHandle.scheduledFuture = scheduledFuture;
+            previousFuture.cancel(false);
+            return true;
+        }
+    }
+
+    /**
+     * 分片归属变化后调整本节点调度的任务：调度新分配到本节点的任务，取消不再归本节点的任务（任务仍然保留登记）
+     */
+    private void rebalance() {
+        synchronized (shardLock) {
+            this.rebalanceOwnedTasks();
+        }
+    }
+
+    private void rebalanceOwnedTasks() {
+        int activated = 0;
+        int deactivated = 0;
+        for (TaskHandle taskHandle : taskHandleMap.values()) {
+            final Long taskId = taskHandle.getTaskId();
+            final boolean owned = shardCoordinator.owns(taskId);
+            synchronized (taskHandle) {
+                if (taskHandleMap.get(taskId) != taskHandle) {
+                    continue;
+                }
+                if (owned && taskHandle.scheduledFuture == null) {
+                    final boolean hadMetrics = taskMetricsRegistry.find(taskId) != null;
+                    try {
+                        taskHandle.version++;
+                        taskHandle.scheduledFuture = this.scheduleFuture(taskHandle, taskHandle.version, null);
+                        activated++;
+                    } catch (Exception e) {
+                        logger.error("[TaskScheduleExtendedDemoService#rebalance] - id 为 [{}] 的定时任务调度发生异常，异常信息为：", taskId, e);
+                        if (!hadMetrics) {
+                            taskMetricsRegistry.remove(taskId);
+                        }
+                    }
+                } else if (!owned && taskHandle.scheduledFuture != null) {
+                    taskHandle.version++;
+                    taskHandle.scheduledFuture.cancel(true);
+                    taskHandle.scheduledFuture = null;
+                    taskMetricsRegistry.remove(taskId);
+                    deactivated++;
+                }
+            }
+        }
+        if (activated + deactivated > 0) {
+            logger.info("[TaskScheduleExtendedDemoService#rebalance] - 分片归属变化，接管 {} 个定时任务，移交 {} 个定时任务", activated, deactivated);
+        }
+    }
+
+    /**
+     * 多个节点共享注册表时，把其它节点启动、重启或停止的任务同步到本节点（每个心跳周期执行一次）：
+     * 注册表版本号变化后重新加载全部任务，登记新增的任务、按照新的表达式重新调度表达式变化的任务、移除已经停止的任务，
+     * 是否调度仍然由分片归属决定。因此任务只需要在任意一个节点上启动或停止，最多一个心跳周期后在负责的节点上生效
+     */
+    private void synchronizeRegistry() {
+        if (!(taskRegistry instanceof SharedTaskRegistry)) {
+            return;
+        }
+        final SharedTaskRegistry sharedTaskRegistry = (SharedTaskRegistry) taskRegistry;
+        registryLock.writeLock().lock();
+        try {
+            // 先读取版本号再加载，加载期间的变更在下一次同步时补上
+            final long version = sharedTaskRegistry.version();
+            if (version == syncedRegistryVersion) {
+                return;
+            }
+            final Map<Long, String> tasks = sharedTaskRegistry.load();
+            int added = 0;
+            int updated = 0;
+            int removed = 0;
+            for (Map.Entry<Long, String> task : tasks.entrySet()) {
+                final Long taskId = task.getKey();
+                final TaskHandle taskHandle = taskHandleMap.get(taskId);
+                if (taskHandle == null) {
+                    if (this.schedule(taskId, task.getValue())) {
+                        added++;
+                    }
+                } else if (!taskHandle.normalizedCronExpression.equals(CronPlanCache.normalize(task.getValue()))
+                        && Boolean.TRUE.equals(this.reschedule(taskId, task.getValue()))) {
+                    updated++;
+                }
+            }
+            for (Long taskId : taskIdIndex) {
+                if (!tasks.containsKey(taskId) && Boolean.TRUE.equals(this.unschedule(taskId))) {
+                    taskMetricsRegistry.remove(taskId);
+                    removed++;
+                }
+            }
+            syncedRegistryVersion = version;
+            if (added + updated + removed > 0) {
+                logger.info("[TaskScheduleExtendedDemoService#synchronizeRegistry] - 同步共享注册表（版本 {}），新增 {} 个定时任务，更新 {} 个定时任务，移除 {} 个定时任务",
+                        version, added, updated, removed);
+            }
+        } finally {
+            registryLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 校验 cron 表达式是否合法（解析结果会被缓存，后续调度直接复用）
+     *
+     * @param taskId         任务 id
+     * @param cronExpression cron 表达式
+     * @return 是否合法
+     */
+    private boolean isValidCron(Long taskId, String cronExpression) {
+        try {
+            cronPlanCache.getTrigger(cronExpression);
+            return true;
+        } catch (IllegalArgumentException e) {
+            logger.error("[TaskScheduleExtendedDemoService#isValidCron] - id 为 [{}] 的定时任务 cron 表达式 [{}] 不合法：{}", taskId, cronExpression, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 获取定时任务的触发器，启用错峰触发时按照任务 id 叠加相位偏移和随机抖动
+     *
+     * @param taskId         任务 id
+     * @param cronExpression cron 表达式
+     * @return 触发器
+     */
+    private Trigger getTrigger(Long taskId, String cronExpression) {
+        final Trigger trigger = cronPlanCache.getTrigger(cronExpression);
+        if (!spread.isEnabled()) {
+            return trigger;
+        }
+        return new SpreadTrigger(trigger, SpreadTrigger.phaseOffset(taskId, spread.getMaxPhase().toMillis()), spread.getMaxJitter().toMillis());
+    }
+
+    /**
+     * 把任务句柄放入任务集合并加入索引（同一个原子操作内完成）
+     *
+     * @param taskHandle 任务句柄
+     * @return false-表示该 id 的任务已存在
+     */
+    private boolean publish(TaskHandle taskHandle) {
+        final Long taskId = taskHandle.getTaskId();
+        return taskHandleMap.compute(taskId, (id, existing) -> {
+            if (existing != null) {
+                return existing;
+            }
+            taskIdIndex.add(id);
+            return taskHandle;
+        }) == taskHandle;
+    }
+
+    /**
+     * 从任务集合和索引中移除任务句柄（同一个原子操作内完成）
+     *
+     * @param taskHandle 任务句柄
+     * @return false-表示该句柄已不在任务集合中
+     */
+    private boolean unpublish(TaskHandle taskHandle) {
+        final boolean[] removed = new boolean[1];
+        taskHandleMap.computeIfPresent(taskHandle.getTaskId(), (id, existing) -> {
+            if (existing != taskHandle) {
+                return existing;
+            }
+            taskIdIndex.remove(id);
+            removed[0] = true;
+            return null;
+        });
+        return removed[0];
+    }
+
+    /**
+     * 取消指定 id 的定时任务并从任务集合中移除（不写注册表）
+     *
+     * @param taskId 任务 id
+     * @return 停止情况（为空-表示不存在此任务；false-表示停止失败；true-表示停止成功）
+     */
+    private Boolean unschedule(Long taskId) {
+        final TaskHandle taskHandle = taskHandleMap.get(taskId);
+        if (taskHandle == null) {
+            return null;
+        }
+        synchronized (taskHandle) {
+            if (!this.unpublish(taskHandle)) {
+                return null;
+            }
+            taskHandle.version++;
+            // 只登记未调度（由其它节点调度）的任务直接移除
+            if (taskHandle.scheduledFuture != null) {
+                taskHandle.scheduledFuture.cancel(true);
+            }
+            return true;
+        }
+    }
+
+    /**
+     * 定时任务句柄：同一个任务 id 在整个生命周期内对应同一个句柄，重新调度时原地替换调度并递增版本号
+     * <p>
+     * 可变字段只在持有句柄监视器锁时修改；调度线程执行前通过 {@link #claim(long, Date)} 在锁内确认版本并记录触发时间，
+     * 因此重新调度时读取到的最后一次触发时间与版本号是一致的。
+     */
+    private static class TaskHandle {
         private final Long taskId;
-        private final String cronExpression;
+        private volatile String cronExpression;
+        /**
+         * 规范化后的 cron 表达式，用于列表过滤
+         */
+        private volatile String normalizedCronExpression;
+        /**
+         * 任务所在的分片不归当前节点时为空
+         */
+        private volatile ScheduledFuture<?> scheduledFuture;
+        private volatile long version;
+        /**
+         * 最后一次触发（通过版本确认）的时间，初始为登记时间
+         */
+        private Date lastFireTime = new Date();
 
-        private ScheduledFutureFactory(ScheduledFuture<?> scheduledFuture, Long taskId, String cronExpression) {
-            this.scheduledFuture = scheduledFuture;
+        private TaskHandle(Long taskId, String cronExpression) {
             this.taskId = taskId;
+            this.setCronExpression(cronExpression);
+        }
+
+        private void setCronExpression(String cronExpression) {
             this.cronExpression = cronExpression;
+            this.normalizedCronExpression = CronPlanCache.normalize(cronExpression);
+        }
+
+        private boolean matches(String normalizedCronFilter, TaskView.State state) {
+            if (normalizedCronFilter != null && !normalizedCronFilter.equals(normalizedCronExpression)) {
+                return false;
+            }
+            return state == null || (state == TaskView.State.SCHEDULED) == (scheduledFuture != null);
+        }
+
+        /**
+         * 调度到期时确认版本号未变化并记录触发时间
+         *
+         * @param version       调度时的版本号
+         * @param scheduledTime 本次触发的计划时间（调度线程可能因时钟误差略早于计划时间执行，取两者的较大值）
+         * @return true-可以执行 false-调度已被替换或停止
+         */
+        private synchronized boolean claim(long version, Date scheduledTime) {
+            if (this.version != version) {
+                return false;
+            }
+            final long now = System.currentTimeMillis();
+            lastFireTime = new Date(scheduledTime == null ? now : Math.max(now, scheduledTime.getTime()));
+            return true;
         }
 
         public ScheduledFuture<?> getScheduledFuture() {
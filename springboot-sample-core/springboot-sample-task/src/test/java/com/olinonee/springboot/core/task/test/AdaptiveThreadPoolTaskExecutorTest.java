@@ -0,0 +1,183 @@
+package com.olinonee.springboot.core.task.test;
+
+import com.olinonee.springboot.core.task.executor.AdaptiveThreadPoolTaskExecutor;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 自适应线程池测试（突发负载下的扩容与空闲后的缩容）
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class AdaptiveThreadPoolTaskExecutorTest {
+
+    private final Logger logger = LoggerFactory.getLogger(AdaptiveThreadPoolTaskExecutorTest.class);
+
+    @Test
+    void testGrowsUnderBurstAndShrinksWhenIdle() throws InterruptedException {
+        final AdaptiveThreadPoolTaskExecutor executor = new AdaptiveThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setQueueCapacity(100_000);
+        executor.setThreadNamePrefix("adaptiveTest-");
+        executor.setMinCoreSize(1);
+        executor.setMaxCoreSize(32);
+        executor.setTargetQueueWait(Duration.ofMillis(5));
+        executor.setAdjustInterval(Duration.ofMillis(100));
+        executor.setShrinkAfterIntervals(2);
+        executor.initialize();
+        try {
+            final long averageWaitMicros = runBurst(executor);
+            final int peakCoreSize = executor.getCorePoolSize();
+            logger.info("[AdaptiveThreadPoolTaskExecutorTest#testGrowsUnderBurstAndShrinksWhenIdle] - 自适应线程池：平均排队 {} µs，" +
+                    "核心线程数 1 -> {}，扩容 {} 次", averageWaitMicros, peakCoreSize, executor.getGrowCount());
+            Assertions.assertThat(peakCoreSize).isGreaterThan(1);
+            Assertions.assertThat(executor.getGrowCount()).isPositive();
+
+            // 空闲后逐步缩容
+            final long deadline = System.currentTimeMillis() + 10_000;
+            while (executor.getCorePoolSize() > 1 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(100);
+            }
+            Assertions.assertThat(executor.getCorePoolSize()).isLessThan(peakCoreSize);
+            Assertions.assertThat(executor.getShrinkCount()).isPositive();
+            Assertions.assertThat(executor.getMaxPoolSize()).isGreaterThanOrEqualTo(executor.getCorePoolSize());
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testKeepsConfiguredBurstCapacity() throws InterruptedException {
+        final AdaptiveThreadPoolTaskExecutor executor = new AdaptiveThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(64);
+        executor.setQueueCapacity(10);
+        executor.setThreadNamePrefix("adaptiveBurstTest-");
+        executor.setMaxCoreSize(8);
+        executor.setAdjustInterval(Duration.ofMillis(100));
+        executor.initialize();
+        final CountDownLatch release = new CountDownLatch(1);
+        try {
+            // 配置的最大线程数大于核心线程数 2 倍时保持不变
+            Assertions.assertThat(executor.getCorePoolSize()).isEqualTo(2);
+            Assertions.assertThat(executor.getMaxPoolSize()).isEqualTo(64);
+
+            // 突发的阻塞任务超过核心线程数和队列容量之和时，由额外线程吸收而不是被拒绝
+            for (int i = 0; i < 60; i++) {
+                executor.execute(() -> {
+                    try {
+                        release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            Assertions.assertThat(executor.getPoolSize()).isEqualTo(50);
+
+            // 调节若干周期后最大线程数仍不低于配置值
+            Thread.sleep(500);
+            Assertions.assertThat(executor.getMaxPoolSize()).isGreaterThanOrEqualTo(64);
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+
+        // 核心线程数超过配置的最大线程数的一半时，最大线程数随之增长为核心线程数的 2 倍
+        final AdaptiveThreadPoolTaskExecutor small = new AdaptiveThreadPoolTaskExecutor();
+        small.setCorePoolSize(8);
+        small.setMaxPoolSize(10);
+        small.setThreadNamePrefix("adaptiveSmallTest-");
+        small.initialize();
+        try {
+            Assertions.assertThat(small.getMaxPoolSize()).isEqualTo(16);
+        } finally {
+            small.shutdown();
+        }
+    }
+
+    @Test
+    void testInitializeTwiceReplacesPoolAndTuner() throws InterruptedException {
+        final AdaptiveThreadPoolTaskExecutor executor = new AdaptiveThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(10);
+        executor.setThreadNamePrefix("adaptiveTwiceTest-");
+        executor.initialize();
+        final ThreadPoolExecutor first = executor.getThreadPoolExecutor();
+        // 与容器在手动初始化之后再调用 afterPropertiesSet 的情况相同
+        executor.initialize();
+        try {
+            Assertions.assertThat(first.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+            Assertions.assertThat(executor.getThreadPoolExecutor()).isNotSameAs(first);
+            Assertions.assertThat(executor.getMaxPoolSize()).isEqualTo(16);
+            final long deadline = System.currentTimeMillis() + 5_000;
+            while (tunerThreads("adaptiveTwiceTest-") > 1 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            Assertions.assertThat(tunerThreads("adaptiveTwiceTest-")).isEqualTo(1);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private static long tunerThreads(String threadNamePrefix) {
+        return Thread.getAllStackTraces().keySet().stream()
+                .filter(thread -> thread.isAlive() && thread.getName().equals(threadNamePrefix + "tuner")).count();
+    }
+
+    @Test
+    void testFixedPoolForComparison() throws InterruptedException {
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(5);
+        executor.setMaxPoolSize(64);
+        executor.setQueueCapacity(100_000);
+        executor.setThreadNamePrefix("fixedTest-");
+        executor.initialize();
+        try {
+            final long averageWaitMicros = runBurst(executor);
+            logger.info("[AdaptiveThreadPoolTaskExecutorTest#testFixedPoolForComparison] - 固定线程池（core 5）：平均排队 {} µs", averageWaitMicros);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * 2 秒内每 100 ms 提交 100 个耗时 10 ms 的阻塞任务，返回任务的平均排队时间（微秒）
+     */
+    private long runBurst(ThreadPoolTaskExecutor executor) throws InterruptedException {
+        final LongAdder totalWaitNanos = new LongAdder();
+        final AtomicLong remaining = new AtomicLong(2_000);
+        for (int round = 0; round < 20; round++) {
+            for (int i = 0; i < 100; i++) {
+                final long submitNanos = System.nanoTime();
+                executor.execute(() -> {
+                    totalWaitNanos.add(System.nanoTime() - submitNanos);
+                    try {
+                        Thread.sleep(10);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    remaining.decrementAndGet();
+                });
+            }
+            Thread.sleep(100);
+        }
+        final long deadline = System.currentTimeMillis() + 30_000;
+        while (remaining.get() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assertions.assertThat(remaining.get()).isZero();
+        return TimeUnit.NANOSECONDS.toMicros(totalWaitNanos.sum() / 2_000);
+    }
+}
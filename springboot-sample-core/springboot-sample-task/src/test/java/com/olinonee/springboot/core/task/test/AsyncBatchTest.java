@@ -0,0 +1,174 @@
+package com.olinonee.springboot.core.task.test;
+
+import com.olinonee.springboot.core.task.batch.AsyncBatchRunner;
+import com.olinonee.springboot.core.task.batch.BatchOptions;
+import com.olinonee.springboot.core.task.batch.BatchResult;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 批量异步处理测试（分块、部分结果策略、截止时间、提前取消）
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class AsyncBatchTest {
+
+    private final Logger logger = LoggerFactory.getLogger(AsyncBatchTest.class);
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void testResultsKeepInputOrder() throws Exception {
+        final List<Integer> inputs = range(1_000);
+        final BatchResult<Integer> result = AsyncBatchRunner.run(inputs, i -> i * 2, executor,
+                BatchOptions.defaults().setChunkSize(7)).get(10, TimeUnit.SECONDS);
+        Assertions.assertThat(result.isComplete()).isTrue();
+        Assertions.assertThat(result.getSucceeded()).isEqualTo(1_000);
+        Assertions.assertThat(result.getResults()).isEqualTo(inputs.stream().map(i -> i * 2).collect(Collectors.toList()));
+    }
+
+    @Test
+    void testAllowPartialRecordsErrors() throws Exception {
+        final BatchResult<Integer> result = AsyncBatchRunner.run(range(100), i -> {
+            if (i % 10 == 3) {
+                throw new IllegalStateException("bad input " + i);
+            }
+            return i;
+        }, executor, BatchOptions.defaults()).get(10, TimeUnit.SECONDS);
+        Assertions.assertThat(result.getSucceeded()).isEqualTo(90);
+        Assertions.assertThat(result.getFailed()).isEqualTo(10);
+        Assertions.assertThat(result.getErrors()).containsKeys(3, 13, 93);
+        Assertions.assertThat(result.getErrors().get(13)).contains("bad input 13");
+        Assertions.assertThat(result.getResults().get(13)).isNull();
+        Assertions.assertThat(result.isComplete()).isFalse();
+    }
+
+    @Test
+    void testErrorIsRecordedAsFailure() throws Exception {
+        final BatchResult<Integer> result = AsyncBatchRunner.run(range(20), i -> {
+            if (i == 5) {
+                throw new StackOverflowError("deep");
+            }
+            return i;
+        }, executor, BatchOptions.defaults().setChunkSize(10)).get(10, TimeUnit.SECONDS);
+        // Error 同样记为该输入失败，所在分块的其余输入照常处理，批次正常结束
+        Assertions.assertThat(result.getFailed()).isEqualTo(1);
+        Assertions.assertThat(result.getErrors()).containsKey(5);
+        Assertions.assertThat(result.getSucceeded()).isEqualTo(19);
+    }
+
+    @Test
+    void testFailFastStopsRemainingWork() {
+        final AtomicInteger processed = new AtomicInteger();
+        final CompletableFuture<BatchResult<Integer>> future = AsyncBatchRunner.run(range(10_000), i -> {
+            processed.incrementAndGet();
+            if (i == 5) {
+                throw new IllegalStateException("bad input " + i);
+            }
+            sleep(1);
+            return i;
+        }, executor, BatchOptions.defaults().setChunkSize(100).setPartialResultPolicy(BatchOptions.PartialResultPolicy.FAIL_FAST));
+        Assertions.assertThatThrownBy(() -> future.get(10, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class).hasCauseInstanceOf(IllegalStateException.class);
+        sleep(50);
+        Assertions.assertThat(processed.get()).isLessThan(2_000);
+    }
+
+    @Test
+    void testDeadlineReturnsPartialResult() throws Exception {
+        final long start = System.nanoTime();
+        final BatchResult<Integer> result = AsyncBatchRunner.run(range(2_000), i -> {
+            sleep(5);
+            return i;
+        }, executor, BatchOptions.defaults().setDeadline(Duration.ofMillis(200))).get(10, TimeUnit.SECONDS);
+        final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        logger.info("[AsyncBatchTest#testDeadlineReturnsPartialResult] - 截止时间 200 ms，实际耗时 {} ms，完成 {}，跳过 {}",
+                elapsedMillis, result.getSucceeded(), result.getSkipped());
+        Assertions.assertThat(result.isTimedOut()).isTrue();
+        Assertions.assertThat(result.getSucceeded()).isPositive();
+        Assertions.assertThat(result.getSkipped()).isPositive();
+        Assertions.assertThat(result.getSucceeded() + result.getSkipped()).isEqualTo(2_000);
+        Assertions.assertThat(elapsedMillis).isLessThan(2_000);
+    }
+
+    @Test
+    void testDeadlineFailFast() {
+        final CompletableFuture<BatchResult<Integer>> future = AsyncBatchRunner.run(range(2_000), i -> {
+            sleep(5);
+            return i;
+        }, executor, BatchOptions.defaults().setDeadline(Duration.ofMillis(100))
+                .setPartialResultPolicy(BatchOptions.PartialResultPolicy.FAIL_FAST));
+        Assertions.assertThatThrownBy(() -> future.get(10, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class).hasCauseInstanceOf(TimeoutException.class);
+    }
+
+    @Test
+    void testCancelStopsRemainingWork() {
+        final AtomicInteger processed = new AtomicInteger();
+        final CompletableFuture<BatchResult<Integer>> future = AsyncBatchRunner.run(range(10_000), i -> {
+            processed.incrementAndGet();
+            sleep(1);
+            return i;
+        }, executor, BatchOptions.defaults());
+        sleep(50);
+        future.cancel(true);
+        final int processedAtCancel = processed.get();
+        sleep(100);
+        // 取消时正在处理的输入最多各再完成一个
+        Assertions.assertThat(processed.get()).isLessThanOrEqualTo(processedAtCancel + 8);
+        Assertions.assertThat(future.isCancelled()).isTrue();
+    }
+
+    @Test
+    void testRejectedChunkIsRecorded() throws Exception {
+        final ThreadPoolExecutor tinyExecutor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1), new ThreadPoolExecutor.AbortPolicy());
+        try {
+            final BatchResult<Integer> result = AsyncBatchRunner.run(range(100), i -> {
+                sleep(1);
+                return i;
+            }, tinyExecutor, BatchOptions.defaults().setChunkSize(10)).get(10, TimeUnit.SECONDS);
+            Assertions.assertThat(result.getFailed()).isPositive();
+            Assertions.assertThat(result.getSucceeded() + result.getFailed()).isEqualTo(100);
+        } finally {
+            tinyExecutor.shutdownNow();
+        }
+    }
+
+    @Test
+    void testEmptyInputs() throws Exception {
+        final BatchResult<Integer> result = AsyncBatchRunner.run(List.<Integer>of(), i -> i, executor,
+                BatchOptions.defaults()).get(1, TimeUnit.SECONDS);
+        Assertions.assertThat(result.isComplete()).isTrue();
+        Assertions.assertThat(result.getResults()).isEmpty();
+    }
+
+    private static List<Integer> range(int size) {
+        return IntStream.range(0, size).boxed().collect(Collectors.toList());
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
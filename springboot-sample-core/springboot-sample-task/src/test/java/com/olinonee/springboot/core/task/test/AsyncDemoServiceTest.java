@@ -1,13 +1,23 @@
 package com.olinonee.springboot.core.task.test;
 
 import com.olinonee.springboot.core.task.AsyncDemoService;
+import com.olinonee.springboot.core.task.batch.BatchOptions;
+import com.olinonee.springboot.core.task.batch.BatchResult;
+import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
 /**
  * TODO
  *
@@ -24,6 +34,7 @@ public class AsyncDemoServiceTest {
     AsyncDemoService service;
 
     @Autowired
+    @Qualifier("getCustomizerAsyncExecutor")
     ThreadPoolTaskExecutor threadPoolTaskExecutor;
 
     @Test
@@ -54,4 +65,30 @@ public class AsyncDemoServiceTest {
         service.sayHello();
         logger.info("[AsyncDemoServiceTest#testThreadPoolTaskExecutor] - 执行结束！");
     }
+
+    @Test
+    void testProcessBatch() throws Exception {
+        final List<String> names = Arrays.asList("a", "b", "c", "d", "e");
+        final BatchResult<String> result = service.sayHelloToAll(names, BatchOptions.defaults().setChunkSize(2))
+                .get(10, TimeUnit.SECONDS);
+        Assertions.assertThat(result.isComplete()).isTrue();
+        Assertions.assertThat(result.getResults()).containsExactly("hello, a", "hello, b", "hello, c", "hello, d", "hello, e");
+    }
+
+    @Test
+    void testProcessBatchUsesSelectedExecutor() throws Exception {
+        final Set<String> threadNames = ConcurrentHashMap.newKeySet();
+        final BatchResult<Integer> result = service.processBatch(Arrays.asList(1, 2, 3, 4), i -> {
+            threadNames.add(Thread.currentThread().getName());
+            if (i == 3) {
+                throw new IllegalArgumentException("bad input " + i);
+            }
+            return i * 10;
+        }, BatchOptions.defaults().setChunkSize(1).setExecutorType(BatchOptions.ExecutorType.CUSTOM)).get(10, TimeUnit.SECONDS);
+
+        // 默认允许部分结果：失败的输入记录到结果中，其余输入正常返回
+        Assertions.assertThat(result.getResults()).containsExactly(10, 20, null, 40);
+        Assertions.assertThat(result.getErrors()).containsOnlyKeys(2);
+        Assertions.assertThat(threadNames).allSatisfy(name -> Assertions.assertThat(name).startsWith("customTask-"));
+    }
 }
@@ -0,0 +1,78 @@
+package com.olinonee.springboot.core.task.test;
+
+import com.olinonee.springboot.core.task.cron.CronPlan;
+import com.olinonee.springboot.core.task.cron.CronPlanCache;
+import com.olinonee.springboot.core.task.cron.CronPlanTrigger;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.support.CronExpression;
+
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.Random;
+
+/**
+ * cron 执行计划测试（与 CronExpression 的正确性对比，性能对比见基准测试模块的 CronPlanBenchmark）
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class CronPlanTest {
+
+    private static final String[] EXPRESSIONS = {
+            "0/5 * * * * ? ",
+            "1/10 * * * * ?",
+            "2/8 * * * * ?",
+            "0 0 * * * *",
+            "0 */15 9-17 * * MON-FRI",
+            "30 10 2 * * *",
+            "0 0 0 1 * *",
+            "0 0 12 29 2 ?",
+            "0 0 0 31 * *",
+            "0 0 6 * * SUN",
+            "0 0 6 * * 0",
+            "0 0 6 * * 7",
+            "0 0 0 * * */2",
+            "0 0 0 * * 0/2",
+            "0 0 8 1-7 * MON",
+            "15,45 5,35 * * JAN-MAR,OCT *",
+            "0 0 0 L * *",
+            "0 0 0 ? * 5#2",
+            "@hourly"
+    };
+
+    @Test
+    void testNextFireTimeMatchesCronExpression() {
+        final Random random = new Random(20261017L);
+        final ZoneId[] zones = {ZoneId.of("Asia/Shanghai"), ZoneId.of("Europe/Berlin"), ZoneId.of("America/New_York")};
+        for (String expression : EXPRESSIONS) {
+            final CronExpression cronExpression = CronExpression.parse(expression.trim());
+            final CronPlan cronPlan = CronPlan.compile(expression.trim());
+            for (int i = 0; i < 2_000; i++) {
+                final ZoneId zone = zones[i % zones.length];
+                // 2020 ~ 2030 之间的随机时间（覆盖闰年与夏令时切换）
+                ZonedDateTime time = ZonedDateTime.now(zone).withYear(2020).withDayOfYear(1)
+                        .plusSeconds(Math.floorMod(random.nextLong(), 10L * 365 * 24 * 3600));
+                // 连续计算若干次，验证逐次推进的结果一致
+                for (int j = 0; j < 3 && time != null; j++) {
+                    final ZonedDateTime expected = cronExpression.next(time);
+                    final ZonedDateTime actual = cronPlan.next(time);
+                    Assertions.assertThat(actual).as("%s from %s", expression, time).isEqualTo(expected);
+                    time = expected;
+                }
+            }
+        }
+    }
+
+    @Test
+    void testCacheSharesTriggerForSameExpression() {
+        final CronPlanCache cronPlanCache = new CronPlanCache();
+        final CronPlanTrigger trigger = cronPlanCache.getTrigger("0/5 * * * * ? ");
+        Assertions.assertThat(cronPlanCache.getTrigger("  0/5  *  * * * ?")).isSameAs(trigger);
+        Assertions.assertThat(trigger.getCronPlan().isCompiled()).isTrue();
+        Assertions.assertThat(cronPlanCache.getTrigger("0 0 0 L * *").getCronPlan().isCompiled()).isFalse();
+        Assertions.assertThat(cronPlanCache.size()).isEqualTo(2L);
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> cronPlanCache.getTrigger("0/5 * * *"));
+    }
+}
@@ -0,0 +1,125 @@
+package com.olinonee.springboot.core.task.test;
+
+import com.olinonee.springboot.core.task.metrics.ExecutorSample;
+import com.olinonee.springboot.core.task.metrics.ExecutorSampleHistory;
+import com.olinonee.springboot.core.task.metrics.ExecutorSampler;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 线程池采样测试
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+@SpringBootTest(properties = {"task.execution.sampling.enabled=true", "spring.jmx.enabled=true"})
+@AutoConfigureMockMvc
+public class ExecutorSamplerTest {
+
+    @Autowired
+    ExecutorSampler executorSampler;
+
+    @Autowired
+    @Qualifier("getCustomizerAsyncExecutor")
+    Executor customizerAsyncExecutor;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Test
+    void testRingBufferKeepsMostRecentSamples() {
+        final ExecutorSampleHistory history = new ExecutorSampleHistory("test", 3);
+        Assertions.assertThat(history.latest()).isNull();
+        Assertions.assertThat(history.recent(10)).isEmpty();
+        for (int i = 1; i <= 5; i++) {
+            history.add(new ExecutorSample("test", new Date(), i, 0, 0, 0, 0, 0, 0, 0, 0));
+        }
+        Assertions.assertThat(history.getPoolSize()).isEqualTo(5);
+        Assertions.assertThat(history.recent(10).stream().map(ExecutorSample::getPoolSize).collect(Collectors.toList())).containsExactly(3, 4, 5);
+        Assertions.assertThat(history.recent(2).stream().map(ExecutorSample::getPoolSize).collect(Collectors.toList())).containsExactly(4, 5);
+    }
+
+    @Test
+    void testSamplesEveryThreadPoolExecutor() throws Exception {
+        Assertions.assertThat(executorSampler.getNames()).contains("asyncExecutor", "getCustomizerAsyncExecutor", "threadPoolTaskScheduler");
+
+        // customTask- 线程池最多 16 个线程、队列容量 32，阻塞住所有线程后多余的任务由调用方执行（CallerRunsPolicy），计为拒绝
+        final CountDownLatch release = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(60);
+        for (int i = 0; i < 60; i++) {
+            customizerAsyncExecutor.execute(() -> {
+                if (!Thread.currentThread().getName().startsWith("customTask-")) {
+                    done.countDown();
+                    return;
+                }
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                done.countDown();
+            });
+        }
+        try {
+            executorSampler.sample();
+            final ExecutorSample busy = latest("getCustomizerAsyncExecutor");
+            Assertions.assertThat(busy.getPoolSize()).isEqualTo(16);
+            Assertions.assertThat(busy.getActiveCount()).isEqualTo(16);
+            Assertions.assertThat(busy.getLargestPoolSize()).isEqualTo(16);
+            Assertions.assertThat(busy.getQueueSize()).isEqualTo(32);
+            Assertions.assertThat(busy.getQueueRemainingCapacity()).isZero();
+            Assertions.assertThat(busy.getRejectedCount()).isGreaterThanOrEqualTo(12);
+        } finally {
+            release.countDown();
+        }
+        Assertions.assertThat(done.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // 工作线程在任务返回之后才累加完成数，稍等片刻再采样
+        final long deadline = System.currentTimeMillis() + 5_000;
+        do {
+            executorSampler.sample();
+        } while (latest("getCustomizerAsyncExecutor").getCompletedTaskCount() < 48 && System.currentTimeMillis() < deadline);
+        Assertions.assertThat(executorSampler.history("getCustomizerAsyncExecutor", 2)).hasSize(2);
+        Assertions.assertThat(latest("getCustomizerAsyncExecutor").getCompletedTaskCount()).isGreaterThanOrEqualTo(48);
+
+        // JMX
+        final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName objectName = new ObjectName("com.olinonee.springboot.core.task:type=ExecutorSampler,name=" + ObjectName.quote("getCustomizerAsyncExecutor"));
+        Assertions.assertThat(mBeanServer.getAttribute(objectName, "LargestPoolSize")).isEqualTo(16);
+
+        // REST
+        mockMvc.perform(get("/task/executors"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[?(@.name == 'threadPoolTaskScheduler')]").exists());
+        mockMvc.perform(get("/task/executors/history").param("name", "getCustomizerAsyncExecutor").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].largestPoolSize").value(16));
+    }
+
+    private ExecutorSample latest(String name) {
+        final List<ExecutorSample> history = executorSampler.history(name, 1);
+        Assertions.assertThat(history).hasSize(1);
+        return history.get(0);
+    }
+}
@@ -0,0 +1,203 @@
+package com.olinonee.springboot.core.task.test;
+
+import com.olinonee.springboot.core.task.registry.JournalTaskRegistry;
+import com.olinonee.springboot.core.task.registry.TaskRecord;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * 任务日志的回放、末尾截断、压缩与组提交测试
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class JournalTaskRegistryTest {
+
+    private static final String CRON = "0 0 * * * ?";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void testReplayOnBoot() throws Exception {
+        final JournalTaskRegistry registry = open(1024);
+        try {
+            Assertions.assertThat(registry.load()).isEmpty();
+            registry.record(TaskRecord.start(1L, CRON));
+            registry.record(TaskRecord.start(2L, "0 0 0 * * ?"));
+            registry.record(TaskRecord.stop(1L));
+            registry.record(TaskRecord.start(3L, CRON));
+        } finally {
+            registry.destroy();
+        }
+
+        final JournalTaskRegistry reopened = open(1024);
+        try {
+            Assertions.assertThat(reopened.load()).containsOnlyKeys(2L, 3L).containsEntry(2L, "0 0 0 * * ?");
+        } finally {
+            reopened.destroy();
+        }
+    }
+
+    @Test
+    void testTruncatesTornTail() throws Exception {
+        final JournalTaskRegistry registry = open(1024);
+        try {
+            registry.record(TaskRecord.start(1L, CRON));
+            registry.record(TaskRecord.start(2L, CRON));
+        } finally {
+            registry.destroy();
+        }
+        final Path journal = journalFile();
+        final long validLength = Files.size(journal);
+        // 模拟写入一条记录的过程中宕机：只写入了一半
+        Files.write(journal, "S\t3\t0 0 ".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        final JournalTaskRegistry recovered = open(1024);
+        try {
+            Assertions.assertThat(recovered.load()).containsOnlyKeys(1L, 2L);
+            Assertions.assertThat(Files.size(journal)).isEqualTo(validLength);
+            recovered.record(TaskRecord.start(4L, CRON));
+        } finally {
+            recovered.destroy();
+        }
+
+        final JournalTaskRegistry reopened = open(1024);
+        try {
+            Assertions.assertThat(reopened.load()).containsOnlyKeys(1L, 2L, 4L);
+        } finally {
+            reopened.destroy();
+        }
+    }
+
+    @Test
+    void testCompactsToLiveTasks() throws Exception {
+        final JournalTaskRegistry registry = open(100);
+        try {
+            for (long taskId = 0; taskId < 500; taskId++) {
+                registry.record(TaskRecord.start(taskId, CRON));
+                if (taskId % 10 != 0) {
+                    registry.record(TaskRecord.stop(taskId));
+                }
+            }
+        } finally {
+            registry.destroy();
+        }
+        // 压缩后日志中的记录数远小于写入的记录数（950 条）
+        Assertions.assertThat(Files.readAllLines(journalFile())).hasSizeLessThan(200);
+        Assertions.assertThat(Files.exists(directory.resolve("task-registry.journal.compacting"))).isFalse();
+
+        final JournalTaskRegistry reopened = open(100);
+        try {
+            Assertions.assertThat(reopened.load()).hasSize(50).allSatisfy((taskId, cron) -> Assertions.assertThat(taskId % 10).isZero());
+        } finally {
+            reopened.destroy();
+        }
+    }
+
+    @Test
+    void testKeepsWritingWhenCompactionFails() throws Exception {
+        final Path journal = journalFile();
+        final Path survivor = directory.resolve("task-registry.journal.survivor");
+        final JournalTaskRegistry registry = open(100);
+        try {
+            for (long taskId = 0; taskId < 45; taskId++) {
+                registry.record(TaskRecord.start(taskId, CRON));
+                registry.record(TaskRecord.stop(taskId));
+            }
+            // 日志文件仍由写线程的通道打开，保留一个硬链接后把日志路径换成目录，压缩时的替换必然失败
+            Files.createLink(survivor, journal);
+            Files.delete(journal);
+            Files.createDirectory(journal);
+            for (long taskId = 100; taskId < 120; taskId++) {
+                registry.record(TaskRecord.start(taskId, CRON));
+            }
+            Assertions.assertThat(Files.exists(directory.resolve("task-registry.journal.compacting"))).isFalse();
+        } finally {
+            registry.destroy();
+        }
+        Files.delete(journal);
+        Files.move(survivor, journal);
+
+        // 压缩失败之后写入的记录没有丢失
+        final JournalTaskRegistry reopened = open(100);
+        try {
+            Assertions.assertThat(reopened.load()).hasSize(20).containsKeys(100L, 119L);
+        } finally {
+            reopened.destroy();
+        }
+    }
+
+    @Test
+    void testGroupCommitFromConcurrentWriters() throws Exception {
+        final int writers = 16;
+        final int recordsPerWriter = 200;
+        final JournalTaskRegistry registry = open(1_000_000);
+        final ExecutorService executorService = Executors.newFixedThreadPool(writers);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int writer = 0; writer < writers; writer++) {
+                final long base = writer * 1_000_000L;
+                futures.add(executorService.submit(() -> {
+                    for (int i = 0; i < recordsPerWriter; i++) {
+                        registry.record(TaskRecord.start(base + i, CRON));
+                    }
+                    final List<TaskRecord> stops = new ArrayList<>();
+                    for (int i = 0; i < recordsPerWriter; i += 2) {
+                        stops.add(TaskRecord.stop(base + i));
+                    }
+                    registry.recordAll(stops);
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executorService.shutdown();
+            registry.destroy();
+        }
+
+        final Map<Long, String> expected = new HashMap<>();
+        for (int writer = 0; writer < writers; writer++) {
+            for (int i = 1; i < recordsPerWriter; i += 2) {
+                expected.put(writer * 1_000_000L + i, CRON);
+            }
+        }
+        final JournalTaskRegistry reopened = open(1_000_000);
+        try {
+            Assertions.assertThat(reopened.load()).isEqualTo(expected);
+        } finally {
+            reopened.destroy();
+        }
+    }
+
+    @Test
+    void testRejectsRecordsBeforeOpen() {
+        final JournalTaskRegistry registry = new JournalTaskRegistry(directory, 64, 1024, false);
+        Assertions.assertThatIllegalStateException().isThrownBy(() -> registry.record(TaskRecord.start(1L, CRON)));
+    }
+
+    private JournalTaskRegistry open(int compactThreshold) {
+        final JournalTaskRegistry registry = new JournalTaskRegistry(directory, 64, compactThreshold, true);
+        registry.afterPropertiesSet();
+        return registry;
+    }
+
+    private Path journalFile() {
+        return directory.resolve("task-registry.journal");
+    }
+}
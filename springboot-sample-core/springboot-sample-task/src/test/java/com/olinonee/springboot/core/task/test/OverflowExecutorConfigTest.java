@@ -0,0 +1,70 @@
+package com.olinonee.springboot.core.task.test;
+
+import com.olinonee.springboot.core.task.executor.OverflowRejectedExecutionHandler;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.io.Serializable;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 启用溢出队列时默认执行器的配置测试：回灌线程绑定的是容器初始化后的线程池
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+@SpringBootTest(properties = {"task.execution.overflow.enabled=true", "task.execution.overflow.directory=target/overflow-config-test",
+        "task.execution.overflow.segment-size=4MB"})
+public class OverflowExecutorConfigTest {
+
+    private static final int TASK_COUNT = 20_000;
+    private static final LongAdder COMPLETED = new LongAdder();
+
+    @Autowired
+    @Qualifier("asyncExecutor")
+    Executor asyncExecutor;
+
+    @Autowired
+    OverflowRejectedExecutionHandler overflowRejectedExecutionHandler;
+
+    @Test
+    void testDrainsIntoLivePool() throws InterruptedException {
+        final ThreadPoolExecutor threadPoolExecutor = ((ThreadPoolTaskExecutor) asyncExecutor).getThreadPoolExecutor();
+        final long completedBefore = threadPoolExecutor.getCompletedTaskCount();
+        for (int i = 0; i < TASK_COUNT; i++) {
+            asyncExecutor.execute(new SpinTask());
+        }
+        final long deadline = System.currentTimeMillis() + 60_000;
+        while ((COMPLETED.sum() < TASK_COUNT || threadPoolExecutor.getCompletedTaskCount() - completedBefore < TASK_COUNT)
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assertions.assertThat(overflowRejectedExecutionHandler.getSpilledCount()).isPositive();
+        Assertions.assertThat(overflowRejectedExecutionHandler.getDrainedCount()).isEqualTo(overflowRejectedExecutionHandler.getSpilledCount());
+        Assertions.assertThat(COMPLETED.sum()).isEqualTo(TASK_COUNT);
+        // 回灌的任务同样在容器管理的线程池中执行
+        Assertions.assertThat(threadPoolExecutor.getCompletedTaskCount() - completedBefore).isEqualTo(TASK_COUNT);
+    }
+
+    private static final class SpinTask implements Runnable, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        public void run() {
+            final long end = System.nanoTime() + TimeUnit.MICROSECONDS.toNanos(50);
+            while (System.nanoTime() < end) {
+                Thread.onSpinWait();
+            }
+            COMPLETED.increment();
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package com.olinonee.springboot.core.task.test;
+
+import com.olinonee.springboot.core.task.executor.MappedOverflowQueue;
+import com.olinonee.springboot.core.task.executor.OverflowRejectedExecutionHandler;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 溢出队列与溢出拒绝策略测试（分段滚动与恢复、反序列化白名单、持续过载下的吞吐量和丢失数）
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class OverflowRejectedExecutionHandlerTest {
+
+    private final Logger logger = LoggerFactory.getLogger(OverflowRejectedExecutionHandlerTest.class);
+
+    private static final int TASK_COUNT = 50_000;
+
+    /**
+     * 测试任务在反序列化后是新的实例，因此用静态集合记录执行过的任务 id
+     */
+    private static final Set<Integer> COMPLETED_IDS = ConcurrentHashMap.newKeySet();
+
+    @Test
+    void testQueueRollsSegmentsAndRecovers(@TempDir Path directory) {
+        MappedOverflowQueue queue = new MappedOverflowQueue(directory, 4096, 64);
+        for (int i = 0; i < 1_000; i++) {
+            Assertions.assertThat(queue.offer(("record-" + i).getBytes(StandardCharsets.UTF_8))).isTrue();
+        }
+        Assertions.assertThat(queue.getSegmentCount()).isGreaterThan(1);
+        for (int i = 0; i < 400; i++) {
+            Assertions.assertThat(new String(queue.peek(), StandardCharsets.UTF_8)).isEqualTo("record-" + i);
+            queue.commit();
+        }
+        // 未提交的记录在重新打开后仍然可以读到
+        Assertions.assertThat(new String(queue.peek(), StandardCharsets.UTF_8)).isEqualTo("record-400");
+        queue.close();
+
+        queue = new MappedOverflowQueue(directory, 4096, 64);
+        Assertions.assertThat(queue.size()).isEqualTo(600);
+        for (int i = 400; i < 1_000; i++) {
+            Assertions.assertThat(new String(queue.peek(), StandardCharsets.UTF_8)).isEqualTo("record-" + i);
+            queue.commit();
+        }
+        Assertions.assertThat(queue.peek()).isNull();
+        Assertions.assertThat(queue.getSegmentCount()).isEqualTo(1);
+        queue.close();
+    }
+
+    @Test
+    void testRecoverTruncatesCorruptLength(@TempDir Path directory) throws IOException {
+        MappedOverflowQueue queue = new MappedOverflowQueue(directory, 4096, 64);
+        for (int i = 0; i < 3; i++) {
+            queue.offer(("record-" + i).getBytes(StandardCharsets.UTF_8));
+        }
+        queue.close();
+
+        // 第二条记录的长度被改写为超出分段范围的值
+        final int secondRecordPosition = 8 + 4 + "record-0".length();
+        writeInt(directory.resolve("overflow-0.seg"), secondRecordPosition, 1 << 20);
+
+        queue = new MappedOverflowQueue(directory, 4096, 64);
+        Assertions.assertThat(queue.size()).isEqualTo(1);
+        Assertions.assertThat(new String(queue.peek(), StandardCharsets.UTF_8)).isEqualTo("record-0");
+        queue.commit();
+        Assertions.assertThat(queue.peek()).isNull();
+
+        // 截断后可以继续写入
+        Assertions.assertThat(queue.offer("record-3".getBytes(StandardCharsets.UTF_8))).isTrue();
+        Assertions.assertThat(new String(queue.peek(), StandardCharsets.UTF_8)).isEqualTo("record-3");
+        queue.close();
+    }
+
+    @Test
+    void testPeekSkipsSegmentWithCorruptLength(@TempDir Path directory) throws IOException {
+        final MappedOverflowQueue queue = new MappedOverflowQueue(directory, 4096, 64);
+        int count = 0;
+        while (queue.getSegmentCount() < 2) {
+            queue.offer(("record-" + count++).getBytes(StandardCharsets.UTF_8));
+        }
+        final int recordsInFirstSegment = count - 1;
+
+        // 打开后第一个分段队首记录的长度被改写为负数
+        writeInt(directory.resolve("overflow-0.seg"), 8, -7);
+
+        Assertions.assertThat(new String(queue.peek(), StandardCharsets.UTF_8)).isEqualTo("record-" + recordsInFirstSegment);
+        Assertions.assertThat(queue.size()).isEqualTo(1);
+        Assertions.assertThat(queue.getSegmentCount()).isEqualTo(1);
+        queue.close();
+    }
+
+    @Test
+    void testDrainerDoesNotSpinWhenIdle(@TempDir Path directory) throws InterruptedException {
+        final OverflowRejectedExecutionHandler handler = new OverflowRejectedExecutionHandler(
+                new MappedOverflowQueue(directory, 4096, 4), new ThreadPoolExecutor.AbortPolicy());
+        final ThreadPoolTaskExecutor executor = newExecutor(handler);
+        handler.bind(executor.getThreadPoolExecutor());
+        try {
+            final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+            final Thread drainer = Thread.getAllStackTraces().keySet().stream()
+                    .filter(thread -> "overflowDrainer".equals(thread.getName()))
+                    .findFirst().orElseThrow(IllegalStateException::new);
+            Thread.sleep(100);
+            final long cpuBefore = threadMXBean.getThreadCpuTime(drainer.getId());
+            Thread.sleep(500);
+            final long cpuNanos = threadMXBean.getThreadCpuTime(drainer.getId()) - cpuBefore;
+            // 队列为空时阻塞等待信号，不消耗 CPU
+            Assertions.assertThat(cpuNanos).isLessThan(TimeUnit.MILLISECONDS.toNanos(50));
+            Assertions.assertThat(drainer.getState()).isEqualTo(Thread.State.TIMED_WAITING);
+        } finally {
+            handler.destroy();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testNoLossUnderSustainedOverload(@TempDir Path directory) throws InterruptedException {
+        COMPLETED_IDS.clear();
+        final OverflowRejectedExecutionHandler handler = new OverflowRejectedExecutionHandler(
+                new MappedOverflowQueue(directory, 1024 * 1024, 64), new ThreadPoolExecutor.AbortPolicy());
+        final ThreadPoolTaskExecutor executor = newExecutor(handler);
+        handler.bind(executor.getThreadPoolExecutor());
+        try {
+            final long start = System.nanoTime();
+            final long rejected = submitAll(executor);
+            final long deadline = System.currentTimeMillis() + 60_000;
+            while (COMPLETED_IDS.size() < TASK_COUNT && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            logger.info("[OverflowRejectedExecutionHandlerTest#testNoLossUnderSustainedOverload] - 溢出策略：提交 {} 个任务，" +
+                            "溢出 {} 个，回灌 {} 个，丢失 {} 个，耗时 {} ms（{} 个/秒）", TASK_COUNT, handler.getSpilledCount(),
+                    handler.getDrainedCount(), TASK_COUNT - COMPLETED_IDS.size(), elapsedMillis, TASK_COUNT * 1000L / Math.max(1, elapsedMillis));
+            Assertions.assertThat(rejected).isZero();
+            Assertions.assertThat(handler.getSpilledCount()).isPositive();
+            Assertions.assertThat(COMPLETED_IDS).hasSize(TASK_COUNT);
+            Assertions.assertThat(handler.getOverflowSize()).isZero();
+        } finally {
+            handler.destroy();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testDrainerRejectsClassesOutsideAllowlist(@TempDir Path directory) throws Exception {
+        COMPLETED_IDS.clear();
+        final OverflowRejectedExecutionHandler handler = new OverflowRejectedExecutionHandler(
+                new MappedOverflowQueue(directory, 1024 * 1024, 4), new ThreadPoolExecutor.AbortPolicy());
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("overflowFilterTest-");
+        executor.setRejectedExecutionHandler(handler);
+        executor.initialize();
+        handler.bind(executor.getThreadPoolExecutor());
+        final CountDownLatch release = new CountDownLatch(1);
+        try {
+            // 占满唯一的线程和队列，之后提交的任务全部溢出
+            for (int i = 0; i < 2; i++) {
+                executor.execute(() -> {
+                    try {
+                        release.await(10, TimeUnit.SECONDS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+            }
+            // java.net.URI 不在白名单中
+            executor.execute(new PayloadTask(1, URI.create("https://example.com")));
+            // 对象图深度超过限制
+            Node deep = null;
+            for (int i = 0; i < 100; i++) {
+                deep = new Node(deep);
+            }
+            executor.execute(new PayloadTask(2, deep));
+            executor.execute(new PayloadTask(3, "allowed"));
+            Assertions.assertThat(handler.getSpilledCount()).isEqualTo(3);
+            release.countDown();
+
+            final long deadline = System.currentTimeMillis() + 10_000;
+            while (handler.getOverflowSize() > 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            executor.getThreadPoolExecutor().shutdown();
+            Assertions.assertThat(executor.getThreadPoolExecutor().awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+            Assertions.assertThat(handler.getCorruptedCount()).isEqualTo(2);
+            Assertions.assertThat(handler.getDrainedCount()).isEqualTo(1);
+            Assertions.assertThat(COMPLETED_IDS).containsExactly(3);
+        } finally {
+            release.countDown();
+            handler.destroy();
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void testAbortPolicyForComparison() throws InterruptedException {
+        COMPLETED_IDS.clear();
+        final ThreadPoolTaskExecutor executor = newExecutor(new ThreadPoolExecutor.AbortPolicy());
+        try {
+            final long start = System.nanoTime();
+            final long rejected = submitAll(executor);
+            executor.getThreadPoolExecutor().shutdown();
+            executor.getThreadPoolExecutor().awaitTermination(60, TimeUnit.SECONDS);
+            final long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            logger.info("[OverflowRejectedExecutionHandlerTest#testAbortPolicyForComparison] - AbortPolicy：提交 {} 个任务，" +
+                    "丢失 {} 个，耗时 {} ms", TASK_COUNT, rejected, elapsedMillis);
+            Assertions.assertThat(COMPLETED_IDS.size() + rejected).isEqualTo(TASK_COUNT);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * 与 defaultTask- 线程池相同的队列容量，线程数较少以制造持续过载
+     */
+    private ThreadPoolTaskExecutor newExecutor(RejectedExecutionHandler rejectedExecutionHandler) {
+        final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(64);
+        executor.setThreadNamePrefix("overflowTest-");
+        executor.setRejectedExecutionHandler(rejectedExecutionHandler);
+        executor.initialize();
+        return executor;
+    }
+
+    private static void writeInt(Path file, int position, int value) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.write((ByteBuffer) ByteBuffer.allocate(4).putInt(value).flip(), position);
+        }
+    }
+
+    private long submitAll(ThreadPoolTaskExecutor executor) {
+        final LongAdder rejected = new LongAdder();
+        for (int i = 0; i < TASK_COUNT; i++) {
+            try {
+                executor.execute(new CountingTask(i));
+            } catch (RejectedExecutionException e) {
+                rejected.increment();
+            }
+        }
+        return rejected.sum();
+    }
+
+    private static final class PayloadTask implements Runnable, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int id;
+
+        private final Object payload;
+
+        private PayloadTask(int id, Object payload) {
+            this.id = id;
+            this.payload = payload;
+        }
+
+        @Override
+        public void run() {
+            COMPLETED_IDS.add(id);
+        }
+    }
+
+    private static final class Node implements Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Node next;
+
+        private Node(Node next) {
+            this.next = next;
+        }
+    }
+
+    private static final class CountingTask implements Runnable, Serializable {
+
+        private static final long serialVersionUID = 1L;
+
+        private final int id;
+
+        private CountingTask(int id) {
+            this.id = id;
+        }
+
+        @Override
+        public void run() {
+            final long end = System.nanoTime() + TimeUnit.MICROSECONDS.toNanos(20);
+            while (System.nanoTime() < end) {
+                Thread.onSpinWait();
+            }
+            COMPLETED_IDS.add(id);
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.olinonee.springboot.core.task.test;
+
+import com.olinonee.springboot.core.task.executor.LaneStats;
+import com.olinonee.springboot.core.task.executor.PriorityLaneExecutor;
+import com.olinonee.springboot.core.task.metrics.LatencyHistogram;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 多优先级通道执行器测试（批量负载下高优先级任务的排队时间、老化防饿死）
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class PriorityLaneExecutorTest {
+
+    private final Logger logger = LoggerFactory.getLogger(PriorityLaneExecutorTest.class);
+
+    private static final int WORKER_COUNT = 4;
+    private static final int BULK_TASK_COUNT = 4_000;
+    private static final int HIGH_TASK_COUNT = 100;
+
+    @Test
+    void testHighLaneP99StaysFlatUnderBulkLoad() throws InterruptedException {
+        final PriorityLaneExecutor laneExecutor = new PriorityLaneExecutor(weights(8, 4, 1), WORKER_COUNT, 100_000,
+                Duration.ofMillis(200), "laneTest-");
+        final long laneP99Micros;
+        try {
+            laneP99Micros = highPriorityWaitP99(laneExecutor.lane(PriorityLaneExecutor.Lane.BULK), laneExecutor.lane(PriorityLaneExecutor.Lane.HIGH));
+            final LaneStats highStats = laneExecutor.getLaneStats().get(0);
+            Assertions.assertThat(highStats.getLane()).isEqualTo("high");
+            Assertions.assertThat(highStats.getCompleted()).isEqualTo(HIGH_TASK_COUNT);
+        } finally {
+            laneExecutor.shutdown();
+        }
+
+        // 对比：所有任务共享一个 FIFO 队列
+        final ThreadPoolTaskExecutor fifoExecutor = new ThreadPoolTaskExecutor();
+        fifoExecutor.setCorePoolSize(WORKER_COUNT);
+        fifoExecutor.setMaxPoolSize(WORKER_COUNT);
+        fifoExecutor.setThreadNamePrefix("fifoTest-");
+        fifoExecutor.initialize();
+        final long fifoP99Micros;
+        try {
+            fifoP99Micros = highPriorityWaitP99(fifoExecutor, fifoExecutor);
+        } finally {
+            fifoExecutor.shutdown();
+        }
+        logger.info("[PriorityLaneExecutorTest#testHighLaneP99StaysFlatUnderBulkLoad] - {} 个批量任务积压时高优先级任务排队 P99：" +
+                "优先级通道 {} µs，FIFO {} µs", BULK_TASK_COUNT, laneP99Micros, fifoP99Micros);
+        Assertions.assertThat(laneP99Micros).isLessThan(fifoP99Micros);
+    }
+
+    @Test
+    void testAgingPreventsStarvation() throws InterruptedException {
+        // 权重悬殊且只有一个工作线程，没有老化时批量任务要等全部高优先级任务执行完
+        final PriorityLaneExecutor laneExecutor = new PriorityLaneExecutor(weights(1_000, 1, 1), 1, 100_000,
+                Duration.ofMillis(10), "agingTest-");
+        try {
+            final AtomicInteger highCompleted = new AtomicInteger();
+            final int highTaskCount = 5_000;
+            for (int i = 0; i < highTaskCount; i++) {
+                laneExecutor.execute(PriorityLaneExecutor.Lane.HIGH, () -> {
+                    spin(100);
+                    highCompleted.incrementAndGet();
+                });
+            }
+            final CountDownLatch bulkLatch = new CountDownLatch(10);
+            for (int i = 0; i < 10; i++) {
+                laneExecutor.execute(PriorityLaneExecutor.Lane.BULK, bulkLatch::countDown);
+            }
+            Assertions.assertThat(bulkLatch.await(30, TimeUnit.SECONDS)).isTrue();
+            final int highCompletedWhenBulkDone = highCompleted.get();
+            logger.info("[PriorityLaneExecutorTest#testAgingPreventsStarvation] - 批量任务全部完成时高优先级任务完成 {}/{}",
+                    highCompletedWhenBulkDone, highTaskCount);
+            Assertions.assertThat(highCompletedWhenBulkDone).isLessThan(highTaskCount);
+            Assertions.assertThat(laneExecutor.getLaneStats().get(2).getAged()).isPositive();
+        } finally {
+            laneExecutor.shutdown();
+        }
+    }
+
+    /**
+     * 先积压批量任务，再每隔 2 ms 提交一个高优先级任务，返回高优先级任务排队时间的 P99（微秒）
+     */
+    private long highPriorityWaitP99(Executor bulkExecutor, Executor highExecutor) throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(BULK_TASK_COUNT + HIGH_TASK_COUNT);
+        for (int i = 0; i < BULK_TASK_COUNT; i++) {
+            bulkExecutor.execute(() -> {
+                spin(500);
+                latch.countDown();
+            });
+        }
+        final LatencyHistogram waitMicros = new LatencyHistogram(4, 40);
+        for (int i = 0; i < HIGH_TASK_COUNT; i++) {
+            final long submitNanos = System.nanoTime();
+            highExecutor.execute(() -> {
+                waitMicros.record(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - submitNanos));
+                latch.countDown();
+            });
+            Thread.sleep(2);
+        }
+        Assertions.assertThat(latch.await(60, TimeUnit.SECONDS)).isTrue();
+        return waitMicros.getValueAtPercentile(0.99);
+    }
+
+    private static Map<PriorityLaneExecutor.Lane, Integer> weights(int high, int normal, int bulk) {
+        final Map<PriorityLaneExecutor.Lane, Integer> weights = new EnumMap<>(PriorityLaneExecutor.Lane.class);
+        weights.put(PriorityLaneExecutor.Lane.HIGH, high);
+        weights.put(PriorityLaneExecutor.Lane.NORMAL, normal);
+        weights.put(PriorityLaneExecutor.Lane.BULK, bulk);
+        return weights;
+    }
+
+    private static void spin(long micros) {
+        final long end = System.nanoTime() + TimeUnit.MICROSECONDS.toNanos(micros);
+        while (System.nanoTime() < end) {
+            Thread.onSpinWait();
+        }
+    }
+}
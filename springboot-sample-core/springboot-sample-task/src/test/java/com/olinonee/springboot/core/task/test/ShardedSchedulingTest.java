@@ -0,0 +1,217 @@
+package com.olinonee.springboot.core.task.test;
+
+import com.olinonee.springboot.core.task.MyApp;
+import com.olinonee.springboot.core.task.cluster.ConsistentHashRing;
+import com.olinonee.springboot.core.task.cluster.FileLockLeaseStore;
+import com.olinonee.springboot.core.task.cluster.LeaseShardCoordinator;
+import com.olinonee.springboot.core.task.id.SnowflakeIdGenerator;
+import com.olinonee.springboot.core.task.model.TaskItem;
+import com.olinonee.springboot.core.task.model.TaskItemResult;
+import com.olinonee.springboot.core.task.registry.FileLockTaskRegistry;
+import com.olinonee.springboot.core.task.registry.TaskRecord;
+import com.olinonee.springboot.core.task.service.TaskScheduleExtendedDemoService;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 多节点分片调度测试：在同一个 JVM 中启动多个应用上下文模拟多个节点，共享同一个集群目录（租约与任务注册表）
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class ShardedSchedulingTest {
+
+    private final Logger logger = LoggerFactory.getLogger(ShardedSchedulingTest.class);
+
+    private static final int TASK_COUNT = 300;
+
+    /**
+     * 归属保持不变多久视为再平衡已经收敛（心跳间隔为 200 ms）
+     */
+    private static final long STABLE_MILLIS = 2_000;
+
+    @TempDir
+    Path clusterDirectory;
+
+    @Test
+    void testShardsRebalanceWhenNodesJoinAndLeave() throws Exception {
+        final SnowflakeIdGenerator idGenerator = new SnowflakeIdGenerator(0);
+        final List<TaskItem> items = new ArrayList<>(TASK_COUNT);
+        for (int i = 0; i < TASK_COUNT; i++) {
+            items.add(new TaskItem(idGenerator.nextId(), "0 0 0 1 1 ?"));
+        }
+        final Set<Long> taskIds = items.stream().map(TaskItem::getTaskId).collect(Collectors.toCollection(TreeSet::new));
+        final Map<String, ConfigurableApplicationContext> nodes = new LinkedHashMap<>();
+        try {
+            for (String nodeName : Arrays.asList("node-1", "node-2", "node-3")) {
+                nodes.put(nodeName, startNode(nodeName));
+            }
+            // 每个任务只在一个节点上启动（大多不是负责调度它的节点），通过共享注册表同步后由负责的节点调度
+            final List<ConfigurableApplicationContext> startingNodes = new ArrayList<>(nodes.values());
+            for (int i = 0; i < startingNodes.size(); i++) {
+                final List<TaskItem> share = new ArrayList<>();
+                for (int j = i; j < TASK_COUNT; j += startingNodes.size()) {
+                    share.add(items.get(j));
+                }
+                Assertions.assertThat(service(startingNodes.get(i)).startAll(share)).allMatch(TaskItemResult::isSuccess);
+            }
+            awaitEachTaskScheduledOnce(nodes, taskIds);
+
+            // 节点退出：剩余节点接管其分片
+            nodes.remove("node-3").close();
+            awaitEachTaskScheduledOnce(nodes, taskIds);
+
+            // 节点加入：启动时从共享注册表加载全部任务，并从已有节点迁移一部分分片
+            nodes.put("node-4", startNode("node-4"));
+            awaitEachTaskScheduledOnce(nodes, taskIds);
+
+            // 在不负责调度的节点上停止一半任务，负责的节点随之停止调度
+            for (int i = 0; i < TASK_COUNT; i += 2) {
+                final Long taskId = items.get(i).getTaskId();
+                final ConfigurableApplicationContext node = nodes.values().stream()
+                        .filter(candidate -> !service(candidate).queryScheduledTaskIds().contains(taskId))
+                        .findFirst().orElseThrow(IllegalStateException::new);
+                Assertions.assertThat(service(node).stop(taskId)).isTrue();
+                taskIds.remove(taskId);
+            }
+            // 剩余任务较少，不再断言各节点的份额（前面已经断言过）
+            awaitEachTaskScheduledOnce(nodes, taskIds, 0);
+        } finally {
+            nodes.values().forEach(ConfigurableApplicationContext::close);
+        }
+    }
+
+    @Test
+    void testSharedRegistryIsVisibleToAllNodes() {
+        final FileLockTaskRegistry node1 = new FileLockTaskRegistry(clusterDirectory);
+        final FileLockTaskRegistry node2 = new FileLockTaskRegistry(clusterDirectory);
+        Assertions.assertThat(node2.version()).isZero();
+        Assertions.assertThat(node2.load()).isEmpty();
+
+        node1.recordAll(Arrays.asList(TaskRecord.start(1L, "0 0 * * * ?"), TaskRecord.start(2L, "0 0 0 * * ?")));
+        final long version = node2.version();
+        Assertions.assertThat(version).isPositive();
+        Assertions.assertThat(node2.load()).containsOnlyKeys(1L, 2L);
+
+        // 任意节点的重启和停止对其它节点可见，版本号随之递增
+        node2.record(TaskRecord.start(1L, "0/5 * * * * ?"));
+        node2.record(TaskRecord.stop(2L));
+        Assertions.assertThat(node1.version()).isGreaterThan(version);
+        Assertions.assertThat(node1.load()).containsOnly(Map.entry(1L, "0/5 * * * * ?"));
+    }
+
+    @Test
+    void testExpiredLeaseIsTakenOver() throws Exception {
+        final FileLockLeaseStore leaseStore = new FileLockLeaseStore(clusterDirectory);
+        final Duration ttl = Duration.ofMillis(300);
+        Assertions.assertThat(leaseStore.acquire("node-1", Arrays.asList(1, 2, 3), ttl)).containsExactly(1, 2, 3);
+        // 租约未到期时其它节点无法获取，持有者可以续约
+        Assertions.assertThat(leaseStore.acquire("node-2", Arrays.asList(2, 3, 4), ttl)).containsExactly(4);
+        Assertions.assertThat(leaseStore.acquire("node-1", Arrays.asList(1, 2, 3), ttl)).containsExactly(1, 2, 3);
+        leaseStore.release("node-1", Collections.singletonList(3));
+        Assertions.assertThat(leaseStore.acquire("node-2", Collections.singletonList(3), ttl)).containsExactly(3);
+        // 持有者宕机（不再续约），租约到期后被接管
+        Thread.sleep(ttl.toMillis() + 100);
+        Assertions.assertThat(leaseStore.acquire("node-2", Arrays.asList(1, 2), ttl)).containsExactly(1, 2);
+        Assertions.assertThat(leaseStore.heartbeat("node-2", ttl)).containsExactly("node-2");
+    }
+
+    @Test
+    void testConsistentHashMovesFewShards() {
+        final int shardCount = 1024;
+        final ConsistentHashRing three = new ConsistentHashRing(Arrays.asList("node-1", "node-2", "node-3"), 64);
+        final ConsistentHashRing four = new ConsistentHashRing(Arrays.asList("node-1", "node-2", "node-3", "node-4"), 64);
+        int moved = 0;
+        for (int shard = 0; shard < shardCount; shard++) {
+            final String before = three.ownerOf(shard);
+            final String after = four.ownerOf(shard);
+            if (!before.equals(after)) {
+                moved++;
+                // 只会迁移到新加入的节点
+                Assertions.assertThat(after).isEqualTo("node-4");
+            }
+        }
+        logger.info("[ShardedSchedulingTest#testConsistentHashMovesFewShards] - 3 -> 4 个节点，迁移分片 {}/{}", moved, shardCount);
+        Assertions.assertThat(moved).isBetween(shardCount / 8, shardCount * 3 / 8);
+    }
+
+    private static TaskScheduleExtendedDemoService service(ConfigurableApplicationContext node) {
+        return node.getBean(TaskScheduleExtendedDemoService.class);
+    }
+
+    private ConfigurableApplicationContext startNode(String nodeName) {
+        // 以命令行参数传入，覆盖 application.yml 中的配置；同一个 JVM 中的多个上下文不能注册同名的 MBean
+        return new SpringApplicationBuilder(MyApp.class)
+                .run("--spring.main.web-application-type=none",
+                        "--spring.jmx.enabled=false",
+                        "--task.schedule.cluster.enabled=true",
+                        "--task.schedule.cluster.node-name=" + nodeName,
+                        "--task.schedule.cluster.directory=" + clusterDirectory,
+                        "--task.schedule.cluster.lease-ttl=2s",
+                        "--task.schedule.cluster.heartbeat-interval=200ms");
+    }
+
+    /**
+     * 等待每个任务恰好在一个节点上调度、每个节点都已同步全部任务，并且分片分配已经收敛：每个节点都拿到了最低份额（默认为平均份额的 1/3），
+     * 或者归属连续 {@link #STABLE_MILLIS} 毫秒（多个心跳周期）不再变化，然后再断言各节点的份额
+     */
+    private void awaitEachTaskScheduledOnce(Map<String, ConfigurableApplicationContext> nodes, Set<Long> taskIds) throws InterruptedException {
+        awaitEachTaskScheduledOnce(nodes, taskIds, taskIds.size() / nodes.size() / 3);
+    }
+
+    private void awaitEachTaskScheduledOnce(Map<String, ConfigurableApplicationContext> nodes, Set<Long> taskIds, int minShare) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 20_000;
+        Map<String, List<Long>> scheduled = Collections.emptyMap();
+        Map<String, List<Long>> previous = null;
+        long stableSince = System.currentTimeMillis();
+        while (true) {
+            final Map<String, List<Long>> current = new LinkedHashMap<>();
+            boolean synchronizedEverywhere = true;
+            for (Map.Entry<String, ConfigurableApplicationContext> node : nodes.entrySet()) {
+                final List<Long> scheduledTaskIds = new ArrayList<>(service(node.getValue()).queryScheduledTaskIds());
+                Collections.sort(scheduledTaskIds);
+                current.put(node.getKey(), scheduledTaskIds);
+                synchronizedEverywhere &= service(node.getValue()).queryAll().size() == taskIds.size();
+            }
+            final long now = System.currentTimeMillis();
+            if (!current.equals(previous)) {
+                previous = current;
+                stableSince = now;
+            }
+            scheduled = current;
+            final int total = current.values().stream().mapToInt(List::size).sum();
+            final Set<Long> distinct = current.values().stream().flatMap(List::stream).collect(Collectors.toSet());
+            final boolean eachOnce = total == taskIds.size() && distinct.equals(taskIds);
+            final boolean balanced = current.values().stream().allMatch(scheduledTaskIds -> scheduledTaskIds.size() > minShare);
+            if (eachOnce && synchronizedEverywhere && (balanced || now - stableSince >= STABLE_MILLIS)) {
+                break;
+            }
+            Assertions.assertThat(now).as("等待再平衡完成，当前 %s", counts(current)).isLessThan(deadline);
+            Thread.sleep(50);
+        }
+        logger.info("[ShardedSchedulingTest#awaitEachTaskScheduledOnce] - {} 个节点调度的任务数 {}", nodes.size(), counts(scheduled));
+        for (List<Long> scheduledTaskIds : scheduled.values()) {
+            Assertions.assertThat(scheduledTaskIds).hasSizeGreaterThan(minShare);
+            for (Long taskId : scheduledTaskIds) {
+                Assertions.assertThat(LeaseShardCoordinator.shardOf(taskId, 64)).isBetween(0, 63);
+            }
+        }
+    }
+
+    private static Map<String, Integer> counts(Map<String, List<Long>> scheduled) {
+        final Map<String, Integer> counts = new LinkedHashMap<>();
+        scheduled.forEach((node, taskIds) -> counts.put(node, taskIds.size()));
+        return counts;
+    }
+}
@@ -0,0 +1,124 @@
+package com.olinonee.springboot.core.task.test;
+
+import com.olinonee.springboot.core.task.id.SnowflakeIdGenerator;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * 雪花算法 id 生成器测试（唯一性、有序性与时钟回拨），吞吐量对比见 benchmark 模块的 IdGeneratorBenchmark
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class SnowflakeIdGeneratorTest {
+
+    private static final int THREADS = 8;
+    private static final int IDS_PER_THREAD = 200_000;
+
+    @Test
+    void testIdLayout() {
+        final long now = System.currentTimeMillis();
+        final SnowflakeIdGenerator generator = new SnowflakeIdGenerator(517, () -> now);
+        final long id = generator.nextId();
+        Assertions.assertThat(id).isPositive();
+        Assertions.assertThat(SnowflakeIdGenerator.timestampOf(id)).isEqualTo(now);
+        Assertions.assertThat(SnowflakeIdGenerator.nodeIdOf(id)).isEqualTo(517);
+        Assertions.assertThat(id).isGreaterThanOrEqualTo(SnowflakeIdGenerator.minIdAt(now))
+                .isLessThan(SnowflakeIdGenerator.minIdAt(now + 1));
+        Assertions.assertThatIllegalArgumentException().isThrownBy(() -> new SnowflakeIdGenerator(1024));
+    }
+
+    @Test
+    void testUniqueAndIncreasingAcrossThreads() throws Exception {
+        final SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+        final long[][] ids = new long[THREADS][IDS_PER_THREAD];
+        run(THREADS, thread -> {
+            for (int i = 0; i < IDS_PER_THREAD; i++) {
+                ids[thread][i] = generator.nextId();
+            }
+        });
+        final Set<Long> unique = new HashSet<>(THREADS * IDS_PER_THREAD * 2);
+        for (long[] threadIds : ids) {
+            for (int i = 0; i < threadIds.length; i++) {
+                Assertions.assertThat(unique.add(threadIds[i])).isTrue();
+                if (i > 0) {
+                    // 同一线程内观察到的 id 严格递增
+                    Assertions.assertThat(threadIds[i]).isGreaterThan(threadIds[i - 1]);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testDifferentNodesNeverCollide() {
+        final long now = System.currentTimeMillis();
+        final SnowflakeIdGenerator node1 = new SnowflakeIdGenerator(1, () -> now);
+        final SnowflakeIdGenerator node2 = new SnowflakeIdGenerator(2, () -> now);
+        final Set<Long> unique = new HashSet<>();
+        for (int i = 0; i < 4_000; i++) {
+            Assertions.assertThat(unique.add(node1.nextId())).isTrue();
+            Assertions.assertThat(unique.add(node2.nextId())).isTrue();
+        }
+    }
+
+    @Test
+    void testClockBackwards() {
+        final AtomicLong time = new AtomicLong(System.currentTimeMillis());
+        final LongSupplier clock = time::get;
+        final SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3, clock);
+        long last = generator.nextId();
+        // 回拨 5 秒，期间生成的 id（包括序号用尽后借用下一毫秒）仍然递增且不重复
+        time.addAndGet(-5_000);
+        for (int i = 0; i < 10_000; i++) {
+            final long id = generator.nextId();
+            Assertions.assertThat(id).isGreaterThan(last);
+            last = id;
+        }
+        Assertions.assertThat(generator.getClockBackwardsCount()).isEqualTo(10_000);
+        // 时钟追上后恢复使用真实时间
+        time.addAndGet(10_000);
+        final long id = generator.nextId();
+        Assertions.assertThat(id).isGreaterThan(last);
+        Assertions.assertThat(SnowflakeIdGenerator.timestampOf(id)).isEqualTo(time.get());
+    }
+
+    private void run(int threads, ThreadBody body) throws Exception {
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final CountDownLatch ready = new CountDownLatch(threads);
+        final CountDownLatch start = new CountDownLatch(1);
+        final CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            final int thread = t;
+            executor.execute(() -> {
+                ready.countDown();
+                try {
+                    start.await();
+                    body.run(thread);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        ready.await();
+        start.countDown();
+        Assertions.assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+    }
+
+    @FunctionalInterface
+    private interface ThreadBody {
+        void run(int thread);
+    }
+}
@@ -0,0 +1,137 @@
+package com.olinonee.springboot.core.task.test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.olinonee.springboot.core.task.model.TaskItem;
+import com.olinonee.springboot.core.task.model.TaskPage;
+import com.olinonee.springboot.core.task.model.TaskView;
+import com.olinonee.springboot.core.task.service.TaskScheduleExtendedDemoService;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 定时任务批量启动、停止、重启接口测试（JSON 数组与 NDJSON 两种请求体）
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+public class TaskBatchTest {
+
+    private static final String HOURLY = "0 0 * * * ?";
+    private static final String DAILY = "0 0 0 * * ?";
+
+    @Autowired
+    TaskScheduleExtendedDemoService service;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    void testJsonBatchStartRestartStop() throws Exception {
+        final long first = service.generateTaskId();
+        final long second = first + 1;
+        final List<TaskItem> items = Arrays.asList(new TaskItem(first, HOURLY), new TaskItem(second, HOURLY));
+
+        final JsonNode started = this.postJson("/task/batch/start", items);
+        Assertions.assertThat(started).hasSize(2);
+        // 雪花 id 超过 2^53，按字符串输出
+        Assertions.assertThat(started.get(0).get("taskId").isTextual()).isTrue();
+        Assertions.assertThat(started.get(0).get("taskId").asText()).isEqualTo(String.valueOf(first));
+        started.forEach(result -> Assertions.assertThat(result.get("success").asBoolean()).isTrue());
+
+        // 重复启动同一个 id 失败
+        final JsonNode duplicated = this.postJson("/task/batch/start", items.subList(0, 1));
+        Assertions.assertThat(duplicated.get(0).get("success").asBoolean()).isFalse();
+
+        final JsonNode restarted = this.postJson("/task/batch/restart",
+                Arrays.asList(new TaskItem(first, DAILY), new TaskItem(second, null), new TaskItem(-1L, DAILY)));
+        Assertions.assertThat(restarted.get(0).get("success").asBoolean()).isTrue();
+        Assertions.assertThat(restarted.get(1).get("success").asBoolean()).isTrue();
+        Assertions.assertThat(restarted.get(2).get("success").asBoolean()).isFalse();
+        Assertions.assertThat(this.view(first).getCronExpression()).isEqualTo(DAILY);
+        // cronExpression 为空时沿用上一次的表达式
+        Assertions.assertThat(this.view(second).getCronExpression()).isEqualTo(HOURLY);
+
+        final JsonNode stopped = this.postJson("/task/batch/stop", items);
+        stopped.forEach(result -> Assertions.assertThat(result.get("success").asBoolean()).isTrue());
+        Assertions.assertThat(this.view(first)).isNull();
+        Assertions.assertThat(this.view(second)).isNull();
+    }
+
+    @Test
+    void testRestartWithInvalidCronKeepsSchedule() throws Exception {
+        final long taskId = service.generateTaskId();
+        Assertions.assertThat(service.start(taskId, HOURLY)).isTrue();
+        try {
+            final JsonNode restarted = this.postJson("/task/batch/restart", Arrays.asList(new TaskItem(taskId, "not a cron")));
+            Assertions.assertThat(restarted.get(0).get("success").asBoolean()).isFalse();
+
+            // 原调度和原表达式保持不变
+            final TaskView view = this.view(taskId);
+            Assertions.assertThat(view.getCronExpression()).isEqualTo(HOURLY);
+            Assertions.assertThat(view.getState()).isEqualTo(TaskView.State.SCHEDULED);
+        } finally {
+            service.stop(taskId);
+        }
+    }
+
+    @Test
+    void testNdjsonMalformedLineReturnsPerLineFailure() throws Exception {
+        final long first = service.generateTaskId();
+        final long second = first + 1;
+        final String body = objectMapper.writeValueAsString(new TaskItem(first, HOURLY)) + "\n"
+                + "{\"taskId\": oops\n"
+                + "\n"
+                + objectMapper.writeValueAsString(new TaskItem(second, HOURLY)) + "\n";
+        try {
+            final String response = mockMvc.perform(post("/task/batch/start").contentType(MediaType.APPLICATION_NDJSON).content(body))
+                    .andExpect(status().isOk())
+                    .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+            final JsonNode results = objectMapper.readTree(response);
+
+            // 结果顺序与行顺序一致，坏行前后的条目都照常执行
+            Assertions.assertThat(results).hasSize(3);
+            Assertions.assertThat(results.get(0).get("taskId").asLong()).isEqualTo(first);
+            Assertions.assertThat(results.get(0).get("success").asBoolean()).isTrue();
+            Assertions.assertThat(results.get(1).get("success").asBoolean()).isFalse();
+            Assertions.assertThat(results.get(1).get("message").asText()).contains("第 2 行");
+            Assertions.assertThat(results.get(2).get("taskId").asLong()).isEqualTo(second);
+            Assertions.assertThat(results.get(2).get("success").asBoolean()).isTrue();
+            Assertions.assertThat(this.view(first)).isNotNull();
+            Assertions.assertThat(this.view(second)).isNotNull();
+        } finally {
+            service.stop(first);
+            service.stop(second);
+        }
+    }
+
+    private JsonNode postJson(String path, List<TaskItem> items) throws Exception {
+        final String response = mockMvc.perform(post(path).contentType(MediaType.APPLICATION_JSON).content(objectMapper.writeValueAsString(items)))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString(StandardCharsets.UTF_8);
+        return objectMapper.readTree(response);
+    }
+
+    private TaskView view(long taskId) {
+        final TaskPage page = service.queryPage(taskId - 1, 1, null, null);
+        return page.getItems().isEmpty() || page.getItems().get(0).getTaskId() != taskId ? null : page.getItems().get(0);
+    }
+}
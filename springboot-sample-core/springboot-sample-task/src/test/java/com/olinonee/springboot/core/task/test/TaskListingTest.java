@@ -0,0 +1,133 @@
+package com.olinonee.springboot.core.task.test;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.olinonee.springboot.core.task.model.TaskItem;
+import com.olinonee.springboot.core.task.model.TaskItemResult;
+import com.olinonee.springboot.core.task.model.TaskPage;
+import com.olinonee.springboot.core.task.model.TaskView;
+import com.olinonee.springboot.core.task.service.TaskScheduleExtendedDemoService;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 定时任务分页、过滤与流式查询测试
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+public class TaskListingTest {
+
+    private static final int TASK_COUNT = 2500;
+    private static final String HOURLY = "0 0 * * * ?";
+    private static final String DAILY = "0 0 0 * * ?";
+
+    @Autowired
+    TaskScheduleExtendedDemoService service;
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Test
+    void testCursorPaginationFilterAndStream() throws Exception {
+        final List<TaskItem> items = new ArrayList<>(TASK_COUNT);
+        for (int i = 0; i < TASK_COUNT; i++) {
+            items.add(new TaskItem(service.generateTaskId(), i % 5 == 0 ? DAILY : HOURLY));
+        }
+        try {
+            Assertions.assertThat(service.startAll(items)).allMatch(TaskItemResult::isSuccess);
+
+            // 逐页翻完：id 严格递增、不重复、不遗漏
+            final Set<Long> seen = new HashSet<>();
+            long previous = Long.MIN_VALUE;
+            Long cursor = null;
+            int pages = 0;
+            do {
+                final TaskPage page = service.queryPage(cursor, 300, null, null);
+                for (TaskView view : page.getItems()) {
+                    Assertions.assertThat(view.getTaskId()).isGreaterThan(previous);
+                    Assertions.assertThat(view.getState()).isEqualTo(TaskView.State.SCHEDULED);
+                    Assertions.assertThat(view.getNextFireTime()).isNotNull();
+                    previous = view.getTaskId();
+                    seen.add(view.getTaskId());
+                }
+                cursor = page.getNextCursor();
+                pages++;
+            } while (cursor != null);
+            Assertions.assertThat(seen).containsAll(items.stream().map(TaskItem::getTaskId).collect(Collectors.toList()));
+            Assertions.assertThat(pages).isGreaterThanOrEqualTo(TASK_COUNT / 300);
+
+            // 按照 cron 过滤时忽略空白差异
+            final TaskPage daily = service.queryPage(null, 1000, " 0  0 0 * * ? ", TaskView.State.SCHEDULED);
+            Assertions.assertThat(daily.getItems()).hasSize(TASK_COUNT / 5).allMatch(view -> DAILY.equals(view.getCronExpression()));
+            Assertions.assertThat(daily.getNextCursor()).isNull();
+            Assertions.assertThat(service.queryPage(null, 10, HOURLY, TaskView.State.DORMANT).getItems()).isEmpty();
+
+            // REST 分页：limit 被截断到上限
+            final String body = mockMvc.perform(get("/task/list").param("limit", "5000").param("cronExpression", HOURLY))
+                    .andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+            final JsonNode restPage = objectMapper.readTree(body);
+            Assertions.assertThat(restPage.get("items")).hasSize(1000);
+            Assertions.assertThat(restPage.get("nextCursor").asLong()).isEqualTo(restPage.get("items").get(999).get("taskId").asLong());
+
+            // NDJSON 流式输出：每行一个任务
+            final MvcResult asyncResult = mockMvc.perform(get("/task/list/stream").param("cronExpression", DAILY))
+                    .andExpect(request().asyncStarted()).andReturn();
+            final String stream = mockMvc.perform(asyncDispatch(asyncResult))
+                    .andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+            final String[] lines = stream.split("\n");
+            Assertions.assertThat(lines).hasSize(TASK_COUNT / 5);
+            for (String line : lines) {
+                Assertions.assertThat(objectMapper.readValue(line, TaskView.class).getCronExpression()).isEqualTo(DAILY);
+            }
+        } finally {
+            service.stopAll(items);
+        }
+        Assertions.assertThat(service.queryPage(null, 10, DAILY, null).getItems()).isEmpty();
+    }
+
+    @Test
+    void testFilteredPageScanIsCapped() {
+        // 只有最后一个任务命中过滤条件，需要遍历的任务数超过每页的遍历上限
+        final String rare = "0 30 4 1 1 ?";
+        final List<TaskItem> items = new ArrayList<>(10_500);
+        for (int i = 0; i < 10_499; i++) {
+            items.add(new TaskItem(service.generateTaskId(), HOURLY));
+        }
+        items.add(new TaskItem(service.generateTaskId(), rare));
+        try {
+            Assertions.assertThat(service.startAll(items)).allMatch(TaskItemResult::isSuccess);
+            final TaskPage first = service.queryPage(items.get(0).getTaskId() - 1, 10, rare, null);
+            Assertions.assertThat(first.getItems()).isEmpty();
+            Assertions.assertThat(first.getNextCursor()).isNotNull();
+
+            final TaskPage second = service.queryPage(first.getNextCursor(), 10, rare, null);
+            Assertions.assertThat(second.getItems()).extracting(TaskView::getTaskId).containsExactly(items.get(items.size() - 1).getTaskId());
+            Assertions.assertThat(second.getNextCursor()).isNull();
+        } finally {
+            service.stopAll(items);
+        }
+    }
+}
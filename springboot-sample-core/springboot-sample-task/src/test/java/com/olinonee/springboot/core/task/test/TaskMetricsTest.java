@@ -0,0 +1,182 @@
+package com.olinonee.springboot.core.task.test;
+
+import com.olinonee.springboot.core.task.config.TaskScheduleProperties;
+import com.olinonee.springboot.core.task.metrics.LatencyHistogram;
+import com.olinonee.springboot.core.task.metrics.TaskMetricsRecorder;
+import com.olinonee.springboot.core.task.metrics.TaskMetricsRegistry;
+import com.olinonee.springboot.core.task.metrics.TaskMetricsSnapshot;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.support.SimpleTriggerContext;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 定时任务执行指标测试（直方图分桶与百分位、偏差、错过触发、重叠执行与失败计数）
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class TaskMetricsTest {
+
+    private static final long MISFIRE_THRESHOLD_MILLIS = 1000;
+
+    @Test
+    void testHistogramBucketBoundaries() {
+        // 4 个子桶位：0~31 精确记录，32 开始每个桶宽度翻倍
+        final LatencyHistogram histogram = new LatencyHistogram(4, 40);
+        Assertions.assertThat(histogram.getValueAtPercentile(0.99)).isZero();
+
+        histogram.record(15);
+        Assertions.assertThat(histogram.getValueAtPercentile(1)).isEqualTo(15);
+        histogram.record(31);
+        Assertions.assertThat(histogram.getValueAtPercentile(1)).isEqualTo(31);
+
+        // 32 和 33 落在同一个桶，百分位返回桶上界（但不超过最大值）
+        final LatencyHistogram shared = new LatencyHistogram(4, 40);
+        shared.record(32);
+        Assertions.assertThat(shared.getValueAtPercentile(1)).isEqualTo(32);
+        shared.record(100);
+        Assertions.assertThat(shared.getValueAtPercentile(0.5)).isEqualTo(33);
+        Assertions.assertThat(shared.getValueAtPercentile(1)).isEqualTo(100);
+
+        // 负数按 0 记录
+        final LatencyHistogram negative = new LatencyHistogram(4, 40);
+        negative.record(-5);
+        Assertions.assertThat(negative.getCount()).isEqualTo(1);
+        Assertions.assertThat(negative.getValueAtPercentile(1)).isZero();
+
+        // 超过可跟踪上限的值计入最后一个桶，百分位返回实际最大值
+        final LatencyHistogram overflow = new LatencyHistogram(4, 20);
+        overflow.record(1L << 30);
+        Assertions.assertThat(overflow.getValueAtPercentile(0.5)).isEqualTo(1L << 30);
+        Assertions.assertThat(overflow.getMax()).isEqualTo(1L << 30);
+    }
+
+    @Test
+    void testHistogramPercentileWithinRelativeError() {
+        final Random random = new Random(20261017L);
+        final LatencyHistogram histogram = new LatencyHistogram(4, 40);
+        final long[] values = new long[10_000];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = (long) Math.abs(random.nextGaussian() * 50_000);
+            histogram.record(values[i]);
+        }
+        Arrays.sort(values);
+        Assertions.assertThat(histogram.getCount()).isEqualTo(values.length);
+        Assertions.assertThat(histogram.getMax()).isEqualTo(values[values.length - 1]);
+        for (double percentile : new double[]{0.5, 0.9, 0.99, 0.999}) {
+            final long exact = values[(int) Math.ceil(percentile * values.length) - 1];
+            // 返回桶上界：不小于真实值，相对误差不超过 1/16
+            Assertions.assertThat(histogram.getValueAtPercentile(percentile))
+                    .isGreaterThanOrEqualTo(exact)
+                    .isLessThanOrEqualTo(exact + exact / 16 + 1);
+        }
+    }
+
+    @Test
+    void testDriftAndMisfireCounting() {
+        final TaskMetricsRegistry registry = newRegistry();
+        final TaskMetricsRecorder recorder = registry.recorder(1L);
+        final Runnable task = recorder.wrap(() -> {
+        });
+
+        // 计划时间在 5 秒前：偏差约 5 秒，超过阈值计为错过触发
+        plan(recorder, System.currentTimeMillis() - 5000);
+        task.run();
+        TaskMetricsSnapshot snapshot = recorder.snapshot();
+        Assertions.assertThat(snapshot.getRuns()).isEqualTo(1);
+        Assertions.assertThat(snapshot.getMisfires()).isEqualTo(1);
+        Assertions.assertThat(snapshot.getDriftMaxMillis()).isBetween(5000L, 5000L + MISFIRE_THRESHOLD_MILLIS);
+
+        // 计划时间就是现在：偏差在阈值内，不计为错过触发
+        plan(recorder, System.currentTimeMillis());
+        task.run();
+        snapshot = recorder.snapshot();
+        Assertions.assertThat(snapshot.getRuns()).isEqualTo(2);
+        Assertions.assertThat(snapshot.getMisfires()).isEqualTo(1);
+        Assertions.assertThat(snapshot.getDriftP50Millis()).isLessThan(MISFIRE_THRESHOLD_MILLIS);
+
+        Assertions.assertThat(registry.summary().getMisfires()).isEqualTo(1);
+        Assertions.assertThat(registry.summary().getRuns()).isEqualTo(2);
+    }
+
+    @Test
+    void testFailureAndOverlapCounting() throws Exception {
+        final TaskMetricsRegistry registry = newRegistry();
+        final TaskMetricsRecorder recorder = registry.recorder(2L);
+
+        // 失败：异常继续抛出，同时记录失败次数和最近一次异常
+        final Runnable failing = recorder.wrap(() -> {
+            throw new IllegalStateException("boom");
+        });
+        Assertions.assertThatThrownBy(failing::run).isInstanceOf(IllegalStateException.class);
+        Assertions.assertThat(recorder.getFailures()).isEqualTo(1);
+        Assertions.assertThat(recorder.getLastError()).contains("boom");
+
+        // 重叠：上一次执行尚未结束时再次开始
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final Runnable blocking = recorder.wrap(() -> {
+            started.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        final Thread first = new Thread(blocking);
+        first.start();
+        Assertions.assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Assertions.assertThat(recorder.getRunning()).isEqualTo(1);
+        recorder.wrap(() -> {
+        }).run();
+        release.countDown();
+        first.join(5000);
+
+        final TaskMetricsSnapshot snapshot = recorder.snapshot();
+        Assertions.assertThat(snapshot.getOverlaps()).isEqualTo(1);
+        Assertions.assertThat(snapshot.getRunning()).isZero();
+        Assertions.assertThat(snapshot.getRuns()).isEqualTo(3);
+        Assertions.assertThat(snapshot.getFailures()).isEqualTo(1);
+    }
+
+    @Test
+    void testRemoveKeepsSummary() {
+        final TaskMetricsRegistry registry = newRegistry();
+        registry.recorder(3L).wrap(() -> {
+        }).run();
+        registry.recorder(4L).wrap(() -> {
+        }).run();
+        // 重复获取沿用原有的记录器
+        Assertions.assertThat(registry.recorder(3L)).isSameAs(registry.find(3L));
+        Assertions.assertThat(registry.snapshots()).extracting(TaskMetricsSnapshot::getTaskId).containsExactly(3L, 4L);
+
+        registry.remove(3L);
+        Assertions.assertThat(registry.find(3L)).isNull();
+        Assertions.assertThat(registry.snapshot(3L)).isNull();
+        Assertions.assertThat(registry.getTaskCount()).isEqualTo(1);
+        Assertions.assertThat(registry.summary().getRuns()).isEqualTo(2);
+    }
+
+    private static TaskMetricsRegistry newRegistry() {
+        final TaskScheduleProperties properties = new TaskScheduleProperties();
+        properties.getMetrics().setMisfireThreshold(Duration.ofMillis(MISFIRE_THRESHOLD_MILLIS));
+        return new TaskMetricsRegistry(properties);
+    }
+
+    /**
+     * 通过带指标记录的触发器设置下一次计划触发时间
+     */
+    private static void plan(TaskMetricsRecorder recorder, long plannedTime) {
+        final Trigger trigger = recorder.wrap(triggerContext -> new Date(plannedTime));
+        trigger.nextExecutionTime(new SimpleTriggerContext());
+    }
+}
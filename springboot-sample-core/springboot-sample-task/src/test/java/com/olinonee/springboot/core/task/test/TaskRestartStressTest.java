@@ -0,0 +1,140 @@
+package com.olinonee.springboot.core.task.test;
+
+import com.olinonee.springboot.core.task.metrics.TaskMetricsRegistry;
+import com.olinonee.springboot.core.task.model.TaskItem;
+import com.olinonee.springboot.core.task.model.TaskItemResult;
+import com.olinonee.springboot.core.task.service.TaskScheduleExtendedDemoService;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 定时任务并发重启压力测试：重启过程中任务不漏触发、不重复触发，也不会遗留多余的调度
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+@SpringBootTest
+public class TaskRestartStressTest {
+
+    private final Logger logger = LoggerFactory.getLogger(TaskRestartStressTest.class);
+
+    private static final int TASK_COUNT = 200;
+    private static final int THREADS = 16;
+    private static final int SECONDS = 3;
+    /**
+     * 规范化后相同的写法：重新调度时从原调度最后一次触发的时间接续
+     */
+    private static final String[] EVERY_SECOND = {"* * * * * ?", " *  * * * * ? ", "* * * * * ?\t"};
+
+    @Autowired
+    TaskScheduleExtendedDemoService service;
+
+    @Autowired
+    TaskMetricsRegistry taskMetricsRegistry;
+
+    @Autowired
+    TaskScheduler threadPoolTaskScheduler;
+
+    @Test
+    void testConcurrentRestartsNeverMissOrDoubleFire() throws Exception {
+        final List<TaskItem> items = new ArrayList<>(TASK_COUNT);
+        for (int i = 0; i < TASK_COUNT; i++) {
+            items.add(new TaskItem(service.generateTaskId(), EVERY_SECOND[0]));
+        }
+        final int baselineQueueSize = queueSize();
+        try {
+            Assertions.assertThat(service.startAll(items)).allMatch(TaskItemResult::isSuccess);
+            Assertions.assertThat(queueSize()).isEqualTo(baselineQueueSize + TASK_COUNT);
+
+            // 在整秒之后 300 ms 记录执行次数，避开触发时刻
+            sleepUntilNextSecond(300);
+            final long windowStart = System.currentTimeMillis();
+            final Map<Long, Long> runsBefore = runs(items);
+            final long windowEnd = windowStart + SECONDS * 1000L;
+            final long stressEnd = windowEnd - 300;
+            final AtomicLong restarts = new AtomicLong();
+            final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+            final List<Future<?>> futures = new ArrayList<>(THREADS);
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    final ThreadLocalRandom random = ThreadLocalRandom.current();
+                    while (System.currentTimeMillis() < stressEnd) {
+                        final Long taskId = items.get(random.nextInt(TASK_COUNT)).getTaskId();
+                        // 在规范化后相同的 cron 表达式之间切换，确保触发器被真正替换
+                        final Boolean restarted = random.nextInt(4) == 0
+                                ? service.restart(taskId)
+                                : service.restart(taskId, EVERY_SECOND[random.nextInt(EVERY_SECOND.length)]);
+                        Assertions.assertThat(restarted).isTrue();
+                        restarts.incrementAndGet();
+                    }
+                }));
+            }
+            executor.shutdown();
+            // 工作线程中的断言失败通过 Future#get 抛出，不会被线程池吞掉
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+            Thread.sleep(Math.max(0, windowEnd - System.currentTimeMillis()));
+            final Map<Long, Long> runsAfter = runs(items);
+
+            logger.info("[TaskRestartStressTest#testConcurrentRestartsNeverMissOrDoubleFire] - {} 个线程在 {} 秒内重启 {} 次（{} 次/秒）",
+                    THREADS, SECONDS, restarts.get(), restarts.get() / SECONDS);
+            for (TaskItem item : items) {
+                final long fired = runsAfter.get(item.getTaskId()) - runsBefore.get(item.getTaskId());
+                Assertions.assertThat(fired).as("id 为 %s 的定时任务在 %s 秒内的执行次数", item.getTaskId(), SECONDS).isEqualTo(SECONDS);
+            }
+            // 被替换的旧调度都已取消并从队列中移除
+            Assertions.assertThat(queueSize()).isEqualTo(baselineQueueSize + TASK_COUNT);
+            Assertions.assertThat(service.queryScheduledTaskIds()).hasSize(TASK_COUNT);
+        } finally {
+            service.stopAll(items);
+        }
+        Assertions.assertThat(queueSize()).isEqualTo(baselineQueueSize);
+    }
+
+    @Test
+    void testRestartWithDifferentCronStartsFromNow() throws Exception {
+        final Long taskId = service.generateTaskId();
+        sleepUntilNextSecond(100);
+        // 新表达式只在登记时刻的下一秒触发，若从原调度登记的时间接续，这一秒会被当作已经到期而立即补触发
+        final int second = (int) (System.currentTimeMillis() / 1000 + 1) % 60;
+        try {
+            Assertions.assertThat(service.start(taskId, "0 0 0 1 1 ?")).isTrue();
+            Thread.sleep(1_500);
+            Assertions.assertThat(service.restart(taskId, second + " * * * * ?")).isTrue();
+            Thread.sleep(2_000);
+            Assertions.assertThat(taskMetricsRegistry.snapshot(taskId).getRuns()).isZero();
+        } finally {
+            service.stop(taskId);
+        }
+    }
+
+    private Map<Long, Long> runs(List<TaskItem> items) {
+        final Map<Long, Long> runs = new HashMap<>();
+        items.forEach(item -> runs.put(item.getTaskId(), taskMetricsRegistry.snapshot(item.getTaskId()).getRuns()));
+        return runs;
+    }
+
+    private int queueSize() {
+        return ((ThreadPoolTaskScheduler) threadPoolTaskScheduler).getScheduledThreadPoolExecutor().getQueue().size();
+    }
+
+    private static void sleepUntilNextSecond(long offsetMillis) throws InterruptedException {
+        final long now = System.currentTimeMillis();
+        Thread.sleep(1000 - now % 1000 + offsetMillis);
+    }
+}
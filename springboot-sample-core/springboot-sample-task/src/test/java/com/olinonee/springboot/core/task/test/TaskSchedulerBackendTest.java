@@ -0,0 +1,132 @@
+package com.olinonee.springboot.core.task.test;
+
+import com.olinonee.springboot.core.task.scheduler.HashedWheelTaskScheduler;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.support.PeriodicTrigger;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 调度器实现测试（ThreadPoolTaskScheduler 与 HashedWheelTaskScheduler 的调度、取消和触发精度）
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class TaskSchedulerBackendTest {
+
+    private static final int TASK_COUNT = 100_000;
+
+    @Test
+    void testTimingWheelFiresOneShotTasks() throws InterruptedException {
+        final HashedWheelTaskScheduler scheduler = newHashedWheelTaskScheduler();
+        try {
+            final CountDownLatch latch = new CountDownLatch(10);
+            for (int i = 0; i < 10; i++) {
+                scheduler.schedule(latch::countDown, new Date(System.currentTimeMillis() + 20L * i));
+            }
+            Assertions.assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+        } finally {
+            scheduler.destroy();
+        }
+    }
+
+    @Test
+    void testTimingWheelFireTimeSkewWithinTwoTicks() throws InterruptedException {
+        final HashedWheelTaskScheduler scheduler = newHashedWheelTaskScheduler();
+        try {
+            final int taskCount = 50;
+            final ConcurrentLinkedQueue<Long> skews = new ConcurrentLinkedQueue<>();
+            final CountDownLatch latch = new CountDownLatch(taskCount);
+            final long now = System.currentTimeMillis();
+            for (int i = 0; i < taskCount; i++) {
+                final long fireAt = now + 50 + 7L * i;
+                scheduler.schedule(() -> {
+                    skews.add(System.currentTimeMillis() - fireAt);
+                    latch.countDown();
+                }, new Date(fireAt));
+            }
+            Assertions.assertThat(latch.await(5, TimeUnit.SECONDS)).isTrue();
+            // 不会提前触发；延迟不超过两格（10ms/格），另外留出线程调度的余量
+            Assertions.assertThat(skews).allSatisfy(skew -> Assertions.assertThat(skew).isBetween(-1L, 2 * 10L + 30L));
+        } finally {
+            scheduler.destroy();
+        }
+    }
+
+    @Test
+    void testTimingWheelReschedulesByTrigger() throws InterruptedException {
+        final HashedWheelTaskScheduler scheduler = newHashedWheelTaskScheduler();
+        try {
+            final CountDownLatch latch = new CountDownLatch(3);
+            final ScheduledFuture<?> future = scheduler.schedule(latch::countDown, new PeriodicTrigger(20, TimeUnit.MILLISECONDS));
+            Assertions.assertThat(latch.await(2, TimeUnit.SECONDS)).isTrue();
+            Assertions.assertThat(future.cancel(true)).isTrue();
+            Assertions.assertThat(future.isCancelled()).isTrue();
+        } finally {
+            scheduler.destroy();
+        }
+    }
+
+    @Test
+    void testScheduleAndCancel100kTasks() throws InterruptedException {
+        final ThreadPoolTaskScheduler threadPoolTaskScheduler = new ThreadPoolTaskScheduler();
+        threadPoolTaskScheduler.setPoolSize(5);
+        threadPoolTaskScheduler.setRemoveOnCancelPolicy(true);
+        threadPoolTaskScheduler.initialize();
+        final HashedWheelTaskScheduler hashedWheelTaskScheduler = newHashedWheelTaskScheduler();
+        try {
+            scheduleAndCancel(threadPoolTaskScheduler, TASK_COUNT);
+            scheduleAndCancel(hashedWheelTaskScheduler, TASK_COUNT);
+            Assertions.assertThat(threadPoolTaskScheduler.getScheduledThreadPoolExecutor().getQueue()).isEmpty();
+
+            // 取消的任务由时间轮线程在后续 tick 中摘除
+            final long deadline = System.currentTimeMillis() + 5_000;
+            while (hashedWheelTaskScheduler.getPendingCount() > 0 && System.currentTimeMillis() < deadline) {
+                TimeUnit.MILLISECONDS.sleep(10);
+            }
+            Assertions.assertThat(hashedWheelTaskScheduler.getPendingCount()).isZero();
+        } finally {
+            threadPoolTaskScheduler.destroy();
+            hashedWheelTaskScheduler.destroy();
+        }
+    }
+
+    private void scheduleAndCancel(TaskScheduler scheduler, int taskCount) {
+        final AtomicInteger executed = new AtomicInteger();
+        final List<ScheduledFuture<?>> futures = new ArrayList<>(taskCount);
+        final long now = System.currentTimeMillis();
+        for (int i = 0; i < taskCount; i++) {
+            // 分散到未来 1 小时内，保证测试期间不会真正执行
+            futures.add(scheduler.schedule(executed::incrementAndGet, new Date(now + 3_600_000L + i % 60_000)));
+        }
+        int cancelled = 0;
+        for (ScheduledFuture<?> future : futures) {
+            if (future.cancel(false)) {
+                cancelled++;
+            }
+        }
+        Assertions.assertThat(cancelled).isEqualTo(taskCount);
+        Assertions.assertThat(executed.get()).isZero();
+    }
+
+    private HashedWheelTaskScheduler newHashedWheelTaskScheduler() {
+        final HashedWheelTaskScheduler scheduler = new HashedWheelTaskScheduler();
+        scheduler.setTickDuration(Duration.ofMillis(10));
+        scheduler.setTicksPerWheel(512);
+        scheduler.setWorkerPoolSize(5);
+        scheduler.initialize();
+        return scheduler;
+    }
+}
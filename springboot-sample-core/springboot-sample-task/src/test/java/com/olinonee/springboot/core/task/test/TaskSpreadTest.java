@@ -0,0 +1,130 @@
+package com.olinonee.springboot.core.task.test;
+
+import com.olinonee.springboot.core.task.cron.CronPlanCache;
+import com.olinonee.springboot.core.task.cron.SpreadTrigger;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.Trigger;
+import org.springframework.scheduling.TriggerContext;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.support.SimpleTriggerContext;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 错峰触发测试（正确性与就绪队列峰值对比）
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class TaskSpreadTest {
+
+    private final Logger logger = LoggerFactory.getLogger(TaskSpreadTest.class);
+
+    private static final String CRON_EXPRESSION = "0/5 * * * * ? ";
+    private static final int TASK_COUNT = 2_000;
+
+    @Test
+    void testSpreadKeepsCronPeriod() {
+        final CronPlanCache cronPlanCache = new CronPlanCache();
+        // 偏移量大于 cron 周期时也不能跳过或重复触发
+        for (long phaseOffset : new long[]{0, 1_234, 7_000}) {
+            final Trigger trigger = new SpreadTrigger(cronPlanCache.getTrigger(CRON_EXPRESSION), phaseOffset, 0);
+            final SimpleTriggerContext triggerContext = new SimpleTriggerContext();
+            Date previous = trigger.nextExecutionTime(triggerContext);
+            Assertions.assertThat(Math.floorMod(previous.getTime() - phaseOffset, 5_000L)).isZero();
+            for (int i = 0; i < 10; i++) {
+                triggerContext.update(previous, previous, new Date(previous.getTime() + 10));
+                final Date next = trigger.nextExecutionTime(triggerContext);
+                Assertions.assertThat(next.getTime() - previous.getTime()).isEqualTo(5_000L);
+                previous = next;
+            }
+        }
+        Assertions.assertThat(SpreadTrigger.phaseOffset(1L, 5_000)).isEqualTo(SpreadTrigger.phaseOffset(1L, 5_000));
+        Assertions.assertThat(SpreadTrigger.phaseOffset(1L, 5_000)).isBetween(0L, 4_999L);
+    }
+
+    @Test
+    void testPeakReadyQueueDepthWithAndWithoutSpread() throws InterruptedException {
+        final int peakWithoutSpread = peakReadyQueueDepth(false);
+        final int peakWithSpread = peakReadyQueueDepth(true);
+        logger.info("[TaskSpreadTest#testPeakReadyQueueDepthWithAndWithoutSpread] - {} 个 [{}] 任务、5 个调度线程：" +
+                "就绪队列峰值 不错峰 {}，错峰（相位 5s + 抖动 100ms） {}", TASK_COUNT, CRON_EXPRESSION, peakWithoutSpread, peakWithSpread);
+        Assertions.assertThat(peakWithSpread).isLessThan(peakWithoutSpread);
+    }
+
+    /**
+     * 运行一个 cron 周期，统计“已到计划时间但尚未开始执行”的任务数的峰值
+     */
+    private int peakReadyQueueDepth(boolean spread) throws InterruptedException {
+        final CronPlanCache cronPlanCache = new CronPlanCache();
+        final ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(5);
+        scheduler.setRemoveOnCancelPolicy(true);
+        scheduler.initialize();
+        // 每个元素为 {计划时间, 实际开始时间}
+        final Queue<long[]> events = new ConcurrentLinkedQueue<>();
+        final List<ScheduledFuture<?>> futures = new ArrayList<>(TASK_COUNT);
+        try {
+            for (long taskId = 1; taskId <= TASK_COUNT; taskId++) {
+                final Trigger cronTrigger = cronPlanCache.getTrigger(CRON_EXPRESSION);
+                final Trigger trigger = spread ? new SpreadTrigger(cronTrigger, SpreadTrigger.phaseOffset(taskId, 5_000), 100) : cronTrigger;
+                final PlannedTimeTrigger plannedTimeTrigger = new PlannedTimeTrigger(trigger);
+                futures.add(scheduler.schedule(() -> {
+                    events.add(new long[]{plannedTimeTrigger.plannedTime, System.currentTimeMillis()});
+                    // 模拟 50 微秒的业务处理
+                    final long end = System.nanoTime() + TimeUnit.MICROSECONDS.toNanos(50);
+                    while (System.nanoTime() < end) {
+                        Thread.onSpinWait();
+                    }
+                }, plannedTimeTrigger));
+            }
+            Thread.sleep(5_500);
+        } finally {
+            futures.forEach(future -> future.cancel(false));
+            scheduler.shutdown();
+        }
+        // 扫描线：计划时间 +1，开始时间 -1
+        final List<long[]> points = new ArrayList<>(events.size() * 2);
+        events.forEach(event -> {
+            points.add(new long[]{event[0], 1});
+            points.add(new long[]{Math.max(event[0], event[1]), -1});
+        });
+        points.sort((a, b) -> a[0] != b[0] ? Long.compare(a[0], b[0]) : Long.compare(b[1], a[1]));
+        int depth = 0;
+        int peak = 0;
+        for (long[] point : points) {
+            depth += point[1];
+            peak = Math.max(peak, depth);
+        }
+        return peak;
+    }
+
+    private static final class PlannedTimeTrigger implements Trigger {
+
+        private final Trigger delegate;
+        private volatile long plannedTime;
+
+        private PlannedTimeTrigger(Trigger delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Date nextExecutionTime(TriggerContext triggerContext) {
+            final Date next = delegate.nextExecutionTime(triggerContext);
+            if (next != null) {
+                plannedTime = next.getTime();
+            }
+            return next;
+        }
+    }
+}
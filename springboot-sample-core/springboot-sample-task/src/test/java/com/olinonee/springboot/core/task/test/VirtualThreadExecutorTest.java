@@ -0,0 +1,115 @@
+package com.olinonee.springboot.core.task.test;
+
+import com.olinonee.springboot.core.task.executor.ConcurrencyLimitedExecutor;
+import com.olinonee.springboot.core.task.executor.VirtualThreads;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 虚拟线程模式测试（JDK 版本回退、并发限制、阻塞 I/O 场景下与平台线程池的对比）
+ *
+ * @author olinH, olinone666@gmail.com
+ * @version v1.0.0
+ * @since 2026-10-17
+ */
+public class VirtualThreadExecutorTest {
+
+    private final Logger logger = LoggerFactory.getLogger(VirtualThreadExecutorTest.class);
+
+    private static final int TASK_COUNT = 2_000;
+    private static final long BLOCKING_MILLIS = 50;
+
+    @Test
+    void testFallbackDependsOnRuntimeVersion() {
+        final boolean expected = Runtime.version().feature() >= 21;
+        Assertions.assertThat(VirtualThreads.isSupported()).isEqualTo(expected);
+        if (!expected) {
+            Assertions.assertThatIllegalStateException().isThrownBy(() -> VirtualThreads.newVirtualThreadPerTaskExecutor("virtualTest-"));
+        }
+    }
+
+    @Test
+    void testConcurrencyLimit() throws InterruptedException {
+        final ExecutorService delegate = Executors.newCachedThreadPool();
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger peak = new AtomicInteger();
+        final CountDownLatch latch = new CountDownLatch(200);
+        try {
+            final Executor executor = new ConcurrencyLimitedExecutor(delegate, 8);
+            for (int i = 0; i < 200; i++) {
+                executor.execute(() -> {
+                    peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    sleep(5);
+                    running.decrementAndGet();
+                    latch.countDown();
+                });
+            }
+            Assertions.assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+            Assertions.assertThat(peak.get()).isLessThanOrEqualTo(8);
+        } finally {
+            delegate.shutdownNow();
+        }
+    }
+
+    @Test
+    void testBlockingIoBenchmark() throws InterruptedException {
+        // 平台线程池：与 defaultTask- 的最大线程数一致（64），队列不设上限以避免拒绝
+        final ThreadPoolTaskExecutor platform = new ThreadPoolTaskExecutor();
+        platform.setCorePoolSize(64);
+        platform.setMaxPoolSize(64);
+        platform.setThreadNamePrefix("platformTest-");
+        platform.initialize();
+        try {
+            final long platformMillis = runBlockingTasks(platform);
+            logger.info("[VirtualThreadExecutorTest#testBlockingIoBenchmark] - {} 个阻塞 {} ms 的任务：平台线程池（64 线程）耗时 {} ms",
+                    TASK_COUNT, BLOCKING_MILLIS, platformMillis);
+        } finally {
+            platform.shutdown();
+        }
+        if (!VirtualThreads.isSupported()) {
+            logger.info("[VirtualThreadExecutorTest#testBlockingIoBenchmark] - 当前运行时 JDK {} 不支持虚拟线程，跳过虚拟线程对比",
+                    Runtime.version().feature());
+            return;
+        }
+        final ExecutorService virtual = VirtualThreads.newVirtualThreadPerTaskExecutor("virtualTest-");
+        try {
+            final long virtualMillis = runBlockingTasks(new ConcurrencyLimitedExecutor(virtual, 1_000));
+            logger.info("[VirtualThreadExecutorTest#testBlockingIoBenchmark] - {} 个阻塞 {} ms 的任务：虚拟线程（并发上限 1000）耗时 {} ms",
+                    TASK_COUNT, BLOCKING_MILLIS, virtualMillis);
+        } finally {
+            virtual.shutdown();
+        }
+    }
+
+    private long runBlockingTasks(Executor executor) throws InterruptedException {
+        final CountDownLatch latch = new CountDownLatch(TASK_COUNT);
+        final long start = System.nanoTime();
+        for (int i = 0; i < TASK_COUNT; i++) {
+            executor.execute(() -> {
+                // 模拟阻塞 I/O
+                sleep(BLOCKING_MILLIS);
+                latch.countDown();
+            });
+        }
+        Assertions.assertThat(latch.await(60, TimeUnit.SECONDS)).isTrue();
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}